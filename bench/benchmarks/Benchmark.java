@@ -0,0 +1,61 @@
+package benchmarks;
+
+import java.io.File;
+
+/**
+ * A benchmark of a phase of the compiler. Each operation is prepared by
+ * {@link #setUp(File, String)}, that is not measured, and then performed by
+ * {@link #run(Object)}, that is measured.
+ *
+ * @param <S> the type of the state prepared for each operation
+ */
+
+public abstract class Benchmark<S> {
+
+	/**
+	 * The name of this benchmark.
+	 */
+
+	private final String name;
+
+	/**
+	 * Builds a benchmark with the given name.
+	 *
+	 * @param name the name
+	 */
+
+	protected Benchmark(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Yields the name of this benchmark.
+	 *
+	 * @return the name
+	 */
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Prepares the state of an operation of this benchmark.
+	 *
+	 * @param sourceDir the directory of the source files
+	 * @param className the name of the class the operation works on
+	 * @return the state
+	 * @throws Exception if the state cannot be prepared
+	 */
+
+	protected abstract S setUp(File sourceDir, String className) throws Exception;
+
+	/**
+	 * Performs an operation of this benchmark.
+	 *
+	 * @param state the state prepared for the operation
+	 * @return the number of items processed by the operation, such as tokens
+	 * @throws Exception if the operation fails
+	 */
+
+	protected abstract long run(S state) throws Exception;
+}
@@ -0,0 +1,360 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import errorMsg.ErrorMsg;
+import javaBytecodeGenerator.JavaClassGenerator;
+import javaBytecodeGenerator.TestClassGenerator;
+import lexical.Lexer;
+import lexical.LexerKind;
+import lexical.Scanner;
+import syntactical.Parser;
+import syntactical.ParserKind;
+import syntactical.sym;
+import translation.Program;
+import types.ClassLoadingScheduler;
+import types.ClassType;
+import types.CompilationContext;
+
+/**
+ * The benchmarks of the phases of the compiler: lexing, parsing, type-checking,
+ * translation into Kitten bytecode, clean-up of the Kitten bytecode and
+ * generation of the Java bytecode. They are run on every class of a directory
+ * of sources that compiles without errors. Usage:
+ * <pre>
+ * java benchmarks.CompilerBenchmarks [sourceDir] [warmup=N] [iterations=N] [time=ms] [only=benchmark]
+ *      [synthetic=N] [statements=N]
+ * </pre>
+ * The default source directory is {@code testcases}. With {@code synthetic},
+ * the benchmarks are run, instead, on a program of {@code N} classes built by
+ * the {@link ProgramGenerator}, in a temporary directory that also holds a copy
+ * of the {@code Object} and {@code String} classes of the source directory.
+ * They are run on the first generated class and on the class that refers to
+ * all others. With {@code statements}, the methods of the generated classes
+ * have the given number of statements, so that their source files can be
+ * as large as needed.
+ */
+
+public class CompilerBenchmarks {
+
+	/**
+	 * Lexes the whole source of a class with the analyser generated by JLex.
+	 */
+
+	public final static Benchmark<Scanner> LEX = lex("lex", LexerKind.JLEX);
+
+	/**
+	 * Lexes the whole source of a class with the hand-written analyser.
+	 */
+
+	public final static Benchmark<Scanner> LEX_DFA = lex("lexDFA", LexerKind.DFA);
+
+	/**
+	 * Lexes and parses the source of a class.
+	 */
+
+	public final static Benchmark<Parser> PARSE = new Benchmark<Parser>("parse") {
+
+		@Override
+		protected Parser setUp(File sourceDir, String className) throws Exception {
+			return new Parser(new Lexer(sourceDir, className));
+		}
+
+		@Override
+		protected long run(Parser parser) throws Exception {
+			parser.parse();
+			return 1L;
+		}
+	};
+
+	/**
+	 * Lexes and parses the source of a class with the hand-written syntactical analyser.
+	 */
+
+	public final static Benchmark<Parser> PARSE_DESCENT = new Benchmark<Parser>("parseDescent") {
+
+		@Override
+		protected Parser setUp(File sourceDir, String className) throws Exception {
+			return ParserKind.DESCENT.mk(new Lexer(sourceDir, className));
+		}
+
+		@Override
+		protected long run(Parser parser) throws Exception {
+			parser.parse();
+			return 1L;
+		}
+	};
+
+	/**
+	 * Type-checks a class and all classes it references, already parsed.
+	 */
+
+	public final static Benchmark<CompilationContext> TYPE_CHECK = new Benchmark<CompilationContext>("typeCheck") {
+
+		@Override
+		protected CompilationContext setUp(File sourceDir, String className) {
+			CompilationContext context = new CompilationContext(sourceDir);
+			load(context, className);
+			return context;
+		}
+
+		@Override
+		protected long run(CompilationContext context) {
+			List<ClassType> classes = new ArrayList<>(context.getClassTypes());
+			for (ClassType clazz: classes)
+				clazz.typeCheck();
+
+			return classes.size();
+		}
+	};
+
+	/**
+	 * Translates a type-checked class into Kitten bytecode. This
+	 * includes the clean-up of the resulting program.
+	 */
+
+	public final static Benchmark<ClassType> TRANSLATE = new Benchmark<ClassType>("translate") {
+
+		@Override
+		protected ClassType setUp(File sourceDir, String className) {
+			return typeChecked(sourceDir, className);
+		}
+
+		@Override
+		protected long run(ClassType clazz) {
+			return clazz.translate().getSigs().size();
+		}
+	};
+
+	/**
+	 * Cleans-up the Kitten bytecode of an already translated program.
+	 * Since the program was already cleaned-up once, this measures the
+	 * traversal of the code rather than the removal of useless bytecodes.
+	 */
+
+	public final static Benchmark<Program> CLEAN_UP = new Benchmark<Program>("cleanUp") {
+
+		@Override
+		protected Program setUp(File sourceDir, String className) {
+			return typeChecked(sourceDir, className).translate();
+		}
+
+		@Override
+		protected long run(Program program) {
+			if (program.getStart() != null)
+				program.cleanUp();
+
+			return program.getSigs().size();
+		}
+	};
+
+	/**
+	 * Generates the Java bytecode of all classes of a translated program.
+	 */
+
+	public final static Benchmark<Program> JAVA_CLASS_GENERATOR = new Benchmark<Program>("javaClassGenerator") {
+
+		@Override
+		protected Program setUp(File sourceDir, String className) {
+			return typeChecked(sourceDir, className).translate();
+		}
+
+		@Override
+		protected long run(Program program) {
+			long classes = 0L;
+
+			for (ClassType clazz: program.getContext().getClassTypes()) {
+				new JavaClassGenerator(clazz, program.getSigs()).getJavaClass();
+				classes++;
+
+				if (!clazz.getTests().isEmpty()) {
+					new TestClassGenerator(clazz, program.getSigs()).getJavaClass();
+					classes++;
+				}
+			}
+
+			return classes;
+		}
+	};
+
+	/**
+	 * All benchmarks, in the order of the phases of the compiler.
+	 */
+
+	public final static List<Benchmark<?>> ALL = Collections.unmodifiableList(Arrays.<Benchmark<?>>asList
+		(LEX, LEX_DFA, PARSE, PARSE_DESCENT, TYPE_CHECK, TRANSLATE, CLEAN_UP, JAVA_CLASS_GENERATOR));
+
+	public static void main(String[] args) throws Exception {
+		File sourceDir = new File("testcases");
+		int warmup = 5, iterations = 5;
+		long time = 200L;
+		String only = null;
+		int synthetic = 0, statements = 20;
+
+		for (String arg: args)
+			if (arg.startsWith("warmup="))
+				warmup = Integer.parseInt(arg.substring("warmup=".length()));
+			else if (arg.startsWith("iterations="))
+				iterations = Integer.parseInt(arg.substring("iterations=".length()));
+			else if (arg.startsWith("time="))
+				time = Long.parseLong(arg.substring("time=".length()));
+			else if (arg.startsWith("only="))
+				only = arg.substring("only=".length());
+			else if (arg.startsWith("synthetic="))
+				synthetic = Integer.parseInt(arg.substring("synthetic=".length()));
+			else if (arg.startsWith("statements="))
+				statements = Integer.parseInt(arg.substring("statements=".length()));
+			else
+				sourceDir = new File(arg);
+
+		List<String> classes;
+		if (synthetic > 0) {
+			File dir = Files.createTempDirectory("kitten-synthetic").toFile();
+			ProgramGenerator.copyRuntime(sourceDir, dir);
+			String main = new ProgramGenerator("Synthetic", synthetic, 5, 5, 2, statements, 4, 2, 1).generate(dir);
+			classes = Arrays.asList("Synthetic0", main);
+			sourceDir = dir;
+		}
+		else
+			classes = correctClassesIn(sourceDir);
+
+		if (classes.isEmpty()) {
+			System.out.println("No correct Kitten classes in " + sourceDir);
+			return;
+		}
+
+		Harness harness = new Harness(warmup, iterations, time);
+		System.out.println(Harness.Result.header());
+
+		for (Benchmark<?> benchmark: ALL)
+			if (only == null || only.equals(benchmark.getName()))
+				for (String className: classes)
+					System.out.println(harness.measure(benchmark, sourceDir, className));
+	}
+
+	/**
+	 * Yields a benchmark that lexes the whole source of a class with the given kind of analyser.
+	 *
+	 * @param name the name of the benchmark
+	 * @param kind the kind of analyser
+	 * @return the benchmark
+	 */
+
+	private static Benchmark<Scanner> lex(String name, LexerKind kind) {
+		return new Benchmark<Scanner>(name) {
+
+			@Override
+			protected Scanner setUp(File sourceDir, String className) throws Exception {
+				return kind.mk(sourceDir, className);
+			}
+
+			@Override
+			protected long run(Scanner lexer) throws Exception {
+				long tokens = 0L;
+				while (lexer.nextToken().sym != sym.EOF)
+					tokens++;
+
+				return tokens;
+			}
+		};
+	}
+
+	/**
+	 * Creates, in the given context, the class type for the given class and
+	 * for all classes it references, transitively, without type-checking them.
+	 *
+	 * @param context the context
+	 * @param className the name of the class
+	 * @return the class type for {@code className}
+	 */
+
+	private static ClassType load(CompilationContext context, String className) {
+		ClassType result = ClassType.mk(context, className);
+
+		// the classes referenced only from code are created during type-checking,
+		// hence we create them before
+		List<String> workList = new ArrayList<>();
+		Set<String> seen = new HashSet<>();
+		workList.add(className);
+
+		while (!workList.isEmpty()) {
+			String name = workList.remove(workList.size() - 1);
+			if (seen.add(name))
+				workList.addAll(ClassType.mk(context, name).getReferencedClasses());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Yields the type-checked class type for the given class, in a fresh context.
+	 *
+	 * @param sourceDir the directory of the source files
+	 * @param className the name of the class
+	 * @return the class type
+	 */
+
+	private static ClassType typeChecked(File sourceDir, String className) {
+		return ClassType.mkFromFileName(new CompilationContext(sourceDir), className);
+	}
+
+	/**
+	 * Yields the names of the classes in the given directory whose compilation
+	 * reports no errors. The diagnostics of the compilation are discarded.
+	 *
+	 * @param sourceDir the directory
+	 * @return the names of the classes, in alphabetical order
+	 */
+
+	private static List<String> correctClassesIn(File sourceDir) {
+		List<String> result = new ArrayList<>();
+		File[] files = sourceDir.listFiles();
+		if (files == null)
+			return result;
+
+		for (File file: files)
+			if (file.isFile() && file.getName().endsWith(".kit"))
+				result.add(file.getName().substring(0, file.getName().length() - 4));
+
+		Collections.sort(result);
+
+		PrintStream originalOut = System.out, originalErr = System.err, discard = new PrintStream(new OutputStream() {
+
+			@Override
+			public void write(int b) {}
+		});
+
+		System.setOut(discard);
+		System.setErr(discard);
+
+		try {
+			for (int pos = result.size() - 1; pos >= 0; pos--) {
+				ErrorMsg errorMsg;
+				try {
+					errorMsg = new ClassLoadingScheduler(new CompilationContext(sourceDir)).load(result.get(pos)).getErrorMsg();
+				}
+				catch (RuntimeException e) {
+					errorMsg = null;
+				}
+
+				if (errorMsg == null || errorMsg.anyErrors())
+					result.remove(pos);
+			}
+		}
+		finally {
+			System.setOut(originalOut);
+			System.setErr(originalErr);
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,150 @@
+package benchmarks;
+
+import java.io.File;
+
+import metrics.Metrics;
+
+/**
+ * A harness that measures benchmarks in the style of JMH: some warm-up
+ * iterations, whose results are discarded, are followed by some measurement
+ * iterations. Each iteration repeats the operation of the benchmark for a
+ * fixed amount of time. The result is the average time per operation and
+ * the average number of bytes allocated per operation.
+ */
+
+public class Harness {
+
+	/**
+	 * The number of warm-up iterations.
+	 */
+
+	private final int warmupIterations;
+
+	/**
+	 * The number of measurement iterations.
+	 */
+
+	private final int measurementIterations;
+
+	/**
+	 * The duration of each iteration, in nanoseconds.
+	 */
+
+	private final long iterationTime;
+
+	/**
+	 * Builds a harness.
+	 *
+	 * @param warmupIterations the number of warm-up iterations
+	 * @param measurementIterations the number of measurement iterations
+	 * @param iterationMillis the duration of each iteration, in milliseconds
+	 */
+
+	public Harness(int warmupIterations, int measurementIterations, long iterationMillis) {
+		this.warmupIterations = warmupIterations;
+		this.measurementIterations = measurementIterations;
+		this.iterationTime = iterationMillis * 1000000L;
+	}
+
+	/**
+	 * Measures a benchmark on a class.
+	 *
+	 * @param <S> the type of the state of the operations of the benchmark
+	 * @param benchmark the benchmark
+	 * @param sourceDir the directory of the source files
+	 * @param className the name of the class
+	 * @return the result of the measurement
+	 * @throws Exception if the benchmark fails
+	 */
+
+	public <S> Result measure(Benchmark<S> benchmark, File sourceDir, String className) throws Exception {
+		for (int i = 0; i < warmupIterations; i++)
+			iteration(benchmark, sourceDir, className);
+
+		double[] scores = new double[measurementIterations];
+		long operations = 0L, bytes = 0L, items = 0L;
+
+		for (int i = 0; i < measurementIterations; i++) {
+			long[] iteration = iteration(benchmark, sourceDir, className);
+			scores[i] = (double) iteration[1] / iteration[0];
+			operations += iteration[0];
+			bytes += iteration[2];
+			items += iteration[3];
+		}
+
+		return new Result(benchmark.getName(), className, scores,
+			operations > 0 ? bytes / operations : 0L, operations > 0 ? items / operations : 0L);
+	}
+
+	/**
+	 * Performs an iteration of a benchmark.
+	 *
+	 * @return the number of operations, their total time, the bytes they
+	 *         allocated and the items they processed
+	 */
+
+	private <S> long[] iteration(Benchmark<S> benchmark, File sourceDir, String className) throws Exception {
+		long operations = 0L, time = 0L, bytes = 0L, items = 0L;
+
+		do {
+			S state = benchmark.setUp(sourceDir, className);
+
+			long startBytes = Metrics.allocatedBytes(), start = System.nanoTime();
+			items += benchmark.run(state);
+			time += System.nanoTime() - start;
+			bytes += Metrics.allocatedBytes() - startBytes;
+			operations++;
+		}
+		while (time < iterationTime);
+
+		return new long[] { operations, time, bytes, items };
+	}
+
+	/**
+	 * The result of the measurement of a benchmark on a class.
+	 */
+
+	public static class Result {
+		private final String benchmark;
+		private final String className;
+		private final double score;
+		private final double error;
+		private final long bytesPerOperation;
+		private final long itemsPerOperation;
+
+		private Result(String benchmark, String className, double[] scores, long bytesPerOperation, long itemsPerOperation) {
+			this.benchmark = benchmark;
+			this.className = className;
+			this.bytesPerOperation = bytesPerOperation;
+			this.itemsPerOperation = itemsPerOperation;
+
+			double sum = 0.0;
+			for (double score: scores)
+				sum += score;
+
+			this.score = sum / scores.length;
+
+			double squares = 0.0;
+			for (double score: scores)
+				squares += (score - this.score) * (score - this.score);
+
+			this.error = scores.length > 1 ? Math.sqrt(squares / (scores.length - 1)) : 0.0;
+		}
+
+		/**
+		 * Yields the header of the table of the results.
+		 *
+		 * @return the header
+		 */
+
+		public static String header() {
+			return String.format("%-22s %-24s %14s %12s %14s %10s", "Benchmark", "Class", "Score(us/op)", "Error", "Alloc(B/op)", "Items/op");
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%-22s %-24s %14.3f %12.3f %14d %10d", benchmark, className,
+				score / 1000.0, error / 1000.0, bytesPerOperation, itemsPerOperation);
+		}
+	}
+}
@@ -0,0 +1,304 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import types.ClassType;
+import types.CompilationContext;
+import types.Type;
+
+/**
+ * A benchmark of the subtype tests and of the least common supertypes
+ * of class types, on deep hierarchies. For each of the given depths, a
+ * hierarchy is built with the given number of chains of subclasses of
+ * {@code Object}, each of that depth. Then random pairs of classes of the
+ * hierarchy are compared through {@link ClassType#subclass(ClassType)} and
+ * {@link ClassType#leastCommonSupertype(Type)}, and through a walk up the
+ * chain of the superclasses, as those methods were implemented before
+ * they used the displays of the classes. The results of both are checked
+ * to coincide. Usage:
+ * <pre>
+ * java benchmarks.HierarchyBenchmark [depths=N,N,...] [chains=N] [pairs=N] [time=ms] [runtime=dir]
+ * </pre>
+ * where {@code runtime} is the directory where the source of {@code Object}
+ * is copied from ({@code testcases} by default).
+ */
+
+public class HierarchyBenchmark {
+
+	public static void main(String[] args) throws IOException {
+		int[] depths = { 10, 100, 1000 };
+		int chains = 4, pairs = 1000;
+		long time = 200L;
+		File runtime = new File("testcases");
+
+		for (String arg: args)
+			if (arg.startsWith("depths=")) {
+				String[] values = arg.substring("depths=".length()).split(",");
+				depths = new int[values.length];
+				for (int pos = 0; pos < values.length; pos++)
+					depths[pos] = Integer.parseInt(values[pos]);
+			}
+			else if (arg.startsWith("chains="))
+				chains = Integer.parseInt(arg.substring("chains=".length()));
+			else if (arg.startsWith("pairs="))
+				pairs = Integer.parseInt(arg.substring("pairs=".length()));
+			else if (arg.startsWith("time="))
+				time = Long.parseLong(arg.substring("time=".length()));
+			else if (arg.startsWith("runtime="))
+				runtime = new File(arg.substring("runtime=".length()));
+
+		System.out.printf("%7s %7s %18s %18s %18s %18s%n", "Depth", "Classes",
+			"Subclass(ns/op)", "Walk(ns/op)", "LCS(ns/op)", "WalkLCS(ns/op)");
+		int failures = 0;
+
+		for (int depth: depths) {
+			File dir = Files.createTempDirectory("kitten-hierarchy").toFile();
+			try {
+				ClassType[] classes = build(dir, runtime, depth, chains);
+
+				Random random = new Random(42);
+				ClassType[] left = new ClassType[pairs], right = new ClassType[pairs];
+				for (int pos = 0; pos < pairs; pos++) {
+					left[pos] = classes[random.nextInt(classes.length)];
+					right[pos] = classes[random.nextInt(classes.length)];
+				}
+
+				failures += check(left, right);
+
+				System.out.printf("%7d %7d %18.1f %18.1f %18.1f %18.1f%n", depth, classes.length,
+					measure(Operation.SUBCLASS, left, right, time), measure(Operation.WALK, left, right, time),
+					measure(Operation.LCS, left, right, time), measure(Operation.WALK_LCS, left, right, time));
+			}
+			finally {
+				for (File file: dir.listFiles())
+					file.delete();
+
+				dir.delete();
+			}
+		}
+
+		System.out.println(failures + " failures");
+
+		if (failures > 0)
+			System.exit(1);
+	}
+
+	/**
+	 * Writes the source files of the hierarchy in the given directory and loads
+	 * its classes. Each class is loaded after its superclass, so that the loading
+	 * of deep hierarchies does not recur deeply.
+	 *
+	 * @return the classes of the hierarchy, including {@code Object}
+	 */
+
+	private static ClassType[] build(File dir, File runtime, int depth, int chains) throws IOException {
+		Files.copy(new File(runtime, "Object.kit").toPath(), new File(dir, "Object.kit").toPath());
+
+		for (int chain = 0; chain < chains; chain++)
+			for (int level = 0; level < depth; level++) {
+				String source = "class " + name(chain, level) + (level == 0 ? "" : " extends " + name(chain, level - 1))
+					+ " {\n  constructor() {}\n}\n";
+				Files.write(new File(dir, name(chain, level) + ".kit").toPath(), source.getBytes(Charset.defaultCharset()));
+			}
+
+		CompilationContext context = new CompilationContext(dir);
+		List<ClassType> classes = new ArrayList<>();
+		classes.add(ClassType.mk(context, "Object"));
+
+		for (int chain = 0; chain < chains; chain++)
+			for (int level = 0; level < depth; level++)
+				classes.add(ClassType.mk(context, name(chain, level)));
+
+		return classes.toArray(new ClassType[classes.size()]);
+	}
+
+	/**
+	 * Yields the name of the class at the given level of the given chain.
+	 */
+
+	private static String name(int chain, int level) {
+		return "H" + chain + "_" + level;
+	}
+
+	/**
+	 * Checks that the subtype tests and the least common supertypes of the
+	 * given pairs of classes coincide with those computed by walking
+	 * up the chain of the superclasses.
+	 *
+	 * @return the number of failures
+	 */
+
+	private static int check(ClassType[] left, ClassType[] right) {
+		int failures = 0;
+
+		for (int pos = 0; pos < left.length; pos++) {
+			if (left[pos].subclass(right[pos]) != walk(left[pos], right[pos])) {
+				failures++;
+				System.out.println("wrong subclass test for " + left[pos] + " and " + right[pos]);
+			}
+
+			if (left[pos].leastCommonSupertype(right[pos]) != walkLCS(left[pos], right[pos])) {
+				failures++;
+				System.out.println("wrong least common supertype for " + left[pos] + " and " + right[pos]);
+			}
+		}
+
+		return failures;
+	}
+
+	/**
+	 * Runs an operation on the given pairs of classes for the given amount of time.
+	 *
+	 * @return the time per operation, in nanoseconds
+	 */
+
+	private static double measure(Operation operation, ClassType[] left, ClassType[] right, long millis) {
+		// warm-up
+		repeat(operation, left, right, millis / 2);
+
+		long[] result = repeat(operation, left, right, millis);
+
+		return result[1] / (double) result[0];
+	}
+
+	/**
+	 * Runs an operation on the given pairs of classes for the given amount of time.
+	 *
+	 * @return the number of operations and their time
+	 */
+
+	private static long[] repeat(Operation operation, ClassType[] left, ClassType[] right, long millis) {
+		long operations = 0L, time = 0L, deadline = millis * 1000000L;
+		int hits = 0;
+
+		do {
+			long start = System.nanoTime();
+			hits += operation.run(left, right);
+			time += System.nanoTime() - start;
+			operations += left.length;
+		}
+		while (time < deadline);
+
+		// the results must not be optimised away
+		if (hits < 0)
+			System.out.println(hits);
+
+		return new long[] { operations, time };
+	}
+
+	/**
+	 * Determines if a class is a subclass of another by walking up
+	 * the chain of its superclasses.
+	 */
+
+	private static boolean walk(ClassType clazz, ClassType other) {
+		for (ClassType cursor = clazz; cursor != null; cursor = cursor.getSuperclass())
+			if (cursor == other)
+				return true;
+
+		return false;
+	}
+
+	/**
+	 * Computes the least common superclass of two classes by walking up
+	 * the chain of the superclasses of the first, looking for a superclass
+	 * of the second.
+	 */
+
+	private static ClassType walkLCS(ClassType clazz, ClassType other) {
+		ClassType cursor = clazz;
+		while (!walk(other, cursor))
+			cursor = cursor.getSuperclass();
+
+		return cursor;
+	}
+
+	/**
+	 * The measured operations.
+	 */
+
+	private enum Operation {
+
+		/**
+		 * The subtype test through the displays of the classes.
+		 */
+
+		SUBCLASS {
+
+			@Override
+			int run(ClassType[] left, ClassType[] right) {
+				int hits = 0;
+				for (int pos = 0; pos < left.length; pos++)
+					if (left[pos].subclass(right[pos]))
+						hits++;
+
+				return hits;
+			}
+		},
+
+		/**
+		 * The subtype test by walking up the chain of the superclasses.
+		 */
+
+		WALK {
+
+			@Override
+			int run(ClassType[] left, ClassType[] right) {
+				int hits = 0;
+				for (int pos = 0; pos < left.length; pos++)
+					if (walk(left[pos], right[pos]))
+						hits++;
+
+				return hits;
+			}
+		},
+
+		/**
+		 * The least common supertype through the displays of the classes.
+		 */
+
+		LCS {
+
+			@Override
+			int run(ClassType[] left, ClassType[] right) {
+				int hits = 0;
+				for (int pos = 0; pos < left.length; pos++)
+					if (left[pos].leastCommonSupertype(right[pos]) == left[pos])
+						hits++;
+
+				return hits;
+			}
+		},
+
+		/**
+		 * The least common supertype by walking up the chains of the superclasses.
+		 */
+
+		WALK_LCS {
+
+			@Override
+			int run(ClassType[] left, ClassType[] right) {
+				int hits = 0;
+				for (int pos = 0; pos < left.length; pos++)
+					if (walkLCS(left[pos], right[pos]) == left[pos])
+						hits++;
+
+				return hits;
+			}
+		};
+
+		/**
+		 * Runs this operation on the given pairs of classes.
+		 *
+		 * @return the number of pairs for which the result involves the first class of the pair
+		 */
+
+		abstract int run(ClassType[] left, ClassType[] right);
+	}
+}
@@ -0,0 +1,291 @@
+package benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.apache.bcel.classfile.ClassParser;
+import org.apache.bcel.classfile.Code;
+import org.apache.bcel.classfile.Field;
+import org.apache.bcel.classfile.JavaClass;
+import org.apache.bcel.classfile.Method;
+import org.apache.bcel.classfile.Utility;
+
+import absyn.ClassDefinition;
+import absyn.ClassMemberDeclaration;
+import absyn.CodeDeclaration;
+import errorMsg.ErrorMsg;
+import lexical.Lexer;
+import lexical.LexerKind;
+import syntactical.IncrementalParser;
+import syntactical.Parser;
+import syntactical.ParserKind;
+import types.ClassLoadingScheduler;
+import types.ClassType;
+import types.CompilationContext;
+
+/**
+ * A check that the incremental parsing of the edited bodies of methods,
+ * constructors, tests and fixtures yields the same diagnostics and the same
+ * class files as the parsing of the whole edited source files. Every source
+ * file of a directory is edited at random positions, by insertions and
+ * deletions of characters, and each edit is compiled with a cache of the parsed
+ * classes, that parses again only the edited body when possible, and without.
+ * Edits that introduce errors are undone, which is an edit as well. Then the
+ * time of the incremental parsing of an edit inside the last body of each
+ * file is compared with that of the parsing of the whole file. Usage:
+ * <pre>
+ * java benchmarks.IncrementalParsing [sourceDir] [edits=N] [iterations=N]
+ * </pre>
+ * The default source directory is {@code testcases}. Large source files
+ * can be built with the {@link ProgramGenerator}.
+ */
+
+public class IncrementalParsing {
+
+	/**
+	 * The insertions performed by the edits. Edits might also delete a character.
+	 */
+
+	private final static String[] INSERTIONS = {
+		" ", "\n", "/* an\nedit */", "x", "1", "@", "}", "{", "\"", ";"
+	};
+
+	public static void main(String[] args) throws Exception {
+		File sourceDir = new File("testcases");
+		int edits = 20, iterations = 20;
+
+		for (String arg: args)
+			if (arg.startsWith("edits="))
+				edits = Integer.parseInt(arg.substring("edits=".length()));
+			else if (arg.startsWith("iterations="))
+				iterations = Integer.parseInt(arg.substring("iterations=".length()));
+			else
+				sourceDir = new File(arg);
+
+		File dir = Files.createTempDirectory("kitten-incremental").toFile();
+		List<String> classes = new ArrayList<>();
+		File[] contents = sourceDir.listFiles();
+		if (contents != null)
+			for (File file: contents)
+				if (file.isFile() && file.getName().endsWith(".kit")) {
+					Files.copy(file.toPath(), new File(dir, file.getName()).toPath());
+					classes.add(file.getName().substring(0, file.getName().length() - 4));
+				}
+
+		Collections.sort(classes);
+
+		Random random = new Random(42);
+		int checks = 0, failures = 0;
+		ClassLoadingScheduler.Cache cache = new ClassLoadingScheduler.Cache();
+
+		for (String className: classes) {
+			File file = new File(dir, className + ".kit");
+			String original = new String(Files.readAllBytes(file.toPath()), Charset.defaultCharset());
+			String text = original;
+			compile(dir, className, cache);
+
+			for (int edit = 0; edit < edits; edit++) {
+				String edited = edit(text, random);
+				String failure = check(dir, className, file, edited, cache);
+				checks++;
+
+				if (failure == null && compile(dir, className, null).startsWith("errors"))
+					// the edit is undone
+					failure = check(dir, className, file, text, cache);
+				else
+					text = edited;
+
+				if (failure != null) {
+					failures++;
+					System.out.println(className + " after edit #" + edit + ": " + failure);
+				}
+			}
+
+			Files.write(file.toPath(), original.getBytes(Charset.defaultCharset()));
+		}
+
+		System.out.println(checks + " checks on " + classes.size() + " files, "
+			+ cache.getReparsedBodies() + " reparsed bodies, " + failures + " failures");
+
+		for (String className: classes)
+			measure(dir, className, iterations);
+
+		for (File file: dir.listFiles())
+			file.delete();
+
+		dir.delete();
+
+		if (failures > 0)
+			System.exit(1);
+	}
+
+	/**
+	 * Writes the given text in the source file of a class and compiles it
+	 * with and without the cache.
+	 *
+	 * @return the description of the difference, or {@code null} if there is none
+	 */
+
+	private static String check(File dir, String className, File file, String text, ClassLoadingScheduler.Cache cache) throws IOException {
+		long lastModified = file.lastModified();
+		Files.write(file.toPath(), text.getBytes(Charset.defaultCharset()));
+		// the cache must notice the edit, even if the length of the file did not change
+		file.setLastModified(lastModified + 1000L);
+
+		String expected = compile(dir, className, null);
+		String actual = compile(dir, className, cache);
+
+		return expected.equals(actual) ? null : actual + "instead of\n" + expected;
+	}
+
+	/**
+	 * Yields the source code after a random edit.
+	 */
+
+	private static String edit(String text, Random random) {
+		int pos = random.nextInt(text.length() + 1);
+		if (pos < text.length() && random.nextInt(INSERTIONS.length + 1) == 0)
+			return text.substring(0, pos) + text.substring(pos + 1);
+		else
+			return text.substring(0, pos) + INSERTIONS[random.nextInt(INSERTIONS.length)] + text.substring(pos);
+	}
+
+	/**
+	 * Compiles a class and all classes reachable from it in memory.
+	 *
+	 * @param cache the cache of the parsed classes, or {@code null}
+	 * @return the diagnostics of the compilation and the fingerprints
+	 *         of the class files, if there are no errors
+	 */
+
+	private static String compile(File dir, String className, ClassLoadingScheduler.Cache cache) {
+		PrintStream originalOut = System.out;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(output, true));
+
+		StringBuilder sb = new StringBuilder();
+		try {
+			CompilationContext context = new CompilationContext(dir);
+			ClassType clazz = new ClassLoadingScheduler(context, 1, cache).load(className);
+			ErrorMsg errorMsg = clazz.getErrorMsg();
+
+			if (errorMsg == null || errorMsg.anyErrors())
+				sb.append("errors\n");
+			else
+				for (Map.Entry<String, byte[]> entry: new TreeMap<>(clazz.translate().generateClassBytes()).entrySet())
+					sb.append(entry.getKey()).append(' ').append(fingerprint(entry.getKey(), entry.getValue())).append('\n');
+		}
+		finally {
+			System.setOut(originalOut);
+		}
+
+		return sb.append(output).toString();
+	}
+
+	/**
+	 * Yields a fingerprint of a class file that does not depend on the order
+	 * of its members nor on that of its constant pool, which are not
+	 * deterministic.
+	 */
+
+	private static int fingerprint(String className, byte[] bytes) {
+		try {
+			JavaClass clazz = new ClassParser(new ByteArrayInputStream(bytes), className).parse();
+			List<String> members = new ArrayList<>();
+			for (Field field: clazz.getFields())
+				members.add(field.toString());
+
+			for (Method method: clazz.getMethods()) {
+				Code code = method.getCode();
+				members.add(method + (code == null ? "" : Utility.codeToString(code.getCode(), clazz.getConstantPool(), 0, -1, false)));
+			}
+
+			Collections.sort(members);
+
+			return (clazz.getSuperclassName() + members).hashCode();
+		}
+		catch (IOException | RuntimeException e) {
+			// the class file cannot be parsed by BCEL, as for the Java runtime of Kitten
+			return Arrays.hashCode(bytes);
+		}
+	}
+
+	/**
+	 * Measures the parsing of an edit inside the last body of a class,
+	 * incrementally and from scratch.
+	 */
+
+	private static void measure(File dir, String className, int iterations) throws Exception {
+		File file = new File(dir, className + ".kit");
+		char[] before = Lexer.readSource(file);
+		CodeDeclaration last = null;
+		ClassDefinition definition;
+		try {
+			Parser parser = new Parser(LexerKind.JLEX.mk(dir, className));
+			// the errors are not printed
+			parser.getErrorMsg().deferMessages();
+			definition = (ClassDefinition) parser.parse().value;
+		}
+		catch (Exception e) {
+			// the class contains syntax errors
+			return;
+		}
+
+		for (ClassMemberDeclaration member: definition.getDeclarations())
+			if (member instanceof CodeDeclaration && ((CodeDeclaration) member).getBodyEnd() >= 0
+					&& before[((CodeDeclaration) member).getBody().getPos()] == '{')
+				last = (CodeDeclaration) member;
+
+		if (last == null)
+			return;
+
+		int pos = last.getBody().getPos() + 1;
+		char[] after = new char[before.length + 1];
+		System.arraycopy(before, 0, after, 0, pos);
+		after[pos] = ' ';
+		System.arraycopy(before, pos, after, pos + 1, before.length - pos);
+		Files.write(file.toPath(), new String(after).getBytes(Charset.defaultCharset()));
+
+		long full = 0L, incremental = 0L;
+		int reparsed = 0;
+
+		// the first half of the iterations is a warm-up
+		for (int iteration = -iterations / 2; iteration < iterations; iteration++) {
+			long start = System.nanoTime();
+			new Parser(LexerKind.JLEX.mk(dir, className)).parse();
+			long time = System.nanoTime() - start;
+			if (iteration >= 0)
+				full += time;
+
+			Parser original = new Parser(LexerKind.JLEX.mk(new ErrorMsg(className + ".kit"), before, 0));
+			ClassDefinition clazz = (ClassDefinition) original.parse().value;
+
+			start = System.nanoTime();
+			ErrorMsg errorMsg = IncrementalParser.reparse(clazz, original.getErrorMsg(), LexerKind.JLEX, ParserKind.LALR,
+				before, Lexer.readSource(file));
+			time = System.nanoTime() - start;
+			if (iteration >= 0) {
+				incremental += time;
+				if (errorMsg != null)
+					reparsed++;
+			}
+		}
+
+		Files.write(file.toPath(), new String(before).getBytes(Charset.defaultCharset()));
+
+		System.out.printf("%-20s %8d chars  full %9.1f us  incremental %9.1f us  (%d/%d reparsed)%n", className, before.length,
+			full / 1e3 / Math.max(1, iterations), incremental / 1e3 / Math.max(1, iterations), reparsed, iterations);
+	}
+}
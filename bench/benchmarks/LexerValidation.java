@@ -0,0 +1,248 @@
+package benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import java_cup.runtime.Symbol;
+
+import errorMsg.ErrorMsg;
+import lexical.LexerKind;
+import lexical.Scanner;
+import syntactical.sym;
+
+/**
+ * A check that all lexical analysers yield the same tokens, with the same
+ * positions and lexical values, report the same errors and record the same new
+ * lines as the analyser generated by JLex. The check is performed on every source
+ * file of a directory, on the portions of those files that start at each opening
+ * brace and on a set of snippets that exercise the corner cases of the lexical
+ * rules. Then the throughput of each analyser is measured on the source files.
+ * Usage:
+ * <pre>
+ * java benchmarks.LexerValidation [sourceDir] [iterations=N]
+ * </pre>
+ * The default source directory is {@code testcases}.
+ */
+
+public class LexerValidation {
+
+	/**
+	 * The snippets that exercise the corner cases of the lexical rules.
+	 */
+
+	private final static String[] SNIPPETS = {
+		"", " ", "\n\n", "class A extends B { field int f }",
+		"whilex while_ while1 for fort as assert asserts nil nilx true false",
+		"1 12 123456789 1234567890 0 007 1.5 .5 1. 1..2 1.2.3 ..5 a.b 1.a",
+		"a[]b [ ] [] [[]] := : = != ! <= < >= > & | + - * / */ /* */",
+		"/* a /* nested */ comment */ x /* unclosed", "/* /*/ */ */ y */",
+		"\"plain\" \"esc \\n \\t \\\\ \\\" \\' end\" \"\\065\\066\\999\\12x\"",
+		"\"a\\   \n  \\b\" \"c\\ d\" \"e\\\" \"f\\", "\"multi\nline\nstring\"",
+		"\"unclosed string\n", "# $ % ^ ~ ` ? @ \\ ' ; , ( ) { } \r\t\f",
+		"x1_y2 Z_ _a a__b", "*"
+	};
+
+	public static void main(String[] args) throws Exception {
+		File sourceDir = new File("testcases");
+		int iterations = 20;
+
+		for (String arg: args)
+			if (arg.startsWith("iterations="))
+				iterations = Integer.parseInt(arg.substring("iterations=".length()));
+			else
+				sourceDir = new File(arg);
+
+		List<String> files = new ArrayList<>();
+		File[] contents = sourceDir.listFiles();
+		if (contents != null)
+			for (File file: contents)
+				if (file.isFile() && file.getName().endsWith(".kit"))
+					files.add(file.getName());
+
+		Collections.sort(files);
+
+		int checks = 0, failures = 0;
+
+		for (String fileName: files)
+			for (LexerKind kind: LexerKind.values())
+				if (kind != LexerKind.JLEX) {
+					checks++;
+					String failure = compareFile(sourceDir, fileName, kind);
+					if (failure != null) {
+						failures++;
+						System.out.println(fileName + " [" + kind + "]: " + failure);
+					}
+				}
+
+		for (int pos = 0; pos < SNIPPETS.length; pos++)
+			for (LexerKind kind: LexerKind.values())
+				if (kind != LexerKind.JLEX) {
+					checks++;
+					String failure = compare(SNIPPETS[pos].toCharArray(), 0, kind);
+					if (failure != null) {
+						failures++;
+						System.out.println("snippet #" + pos + " [" + kind + "]: " + failure);
+					}
+				}
+
+		System.out.println(checks + " checks on " + files.size() + " files and "
+			+ SNIPPETS.length + " snippets, " + failures + " failures");
+
+		for (LexerKind kind: LexerKind.values())
+			measure(sourceDir, files, kind, iterations);
+
+		if (failures > 0)
+			System.exit(1);
+	}
+
+	/**
+	 * Compares the whole source file and its portions starting at each
+	 * opening brace, as analysed by JLex and by the given kind of analyser.
+	 *
+	 * @return the description of the first difference, or {@code null} if there is none
+	 */
+
+	private static String compareFile(File sourceDir, String fileName, LexerKind kind) throws Exception {
+		Run expected = new Run(LexerKind.JLEX.mk(sourceDir, fileName));
+		Run actual = new Run(kind.mk(sourceDir, fileName));
+		String failure = expected.compareTo(actual);
+		if (failure != null)
+			return failure;
+
+		// the new lines are compared through the line and column of every position
+		for (int pos = -1; pos <= expected.end + 1; pos++) {
+			String expectedLine = expected.errorMsg.getLineAndChar(pos);
+			String actualLine = actual.errorMsg.getLineAndChar(pos);
+			if (!expectedLine.equals(actualLine))
+				return "position " + pos + " is at " + actualLine + " instead of " + expectedLine;
+		}
+
+		char[] source = kind.mk(sourceDir, fileName).getSource(0, expected.end);
+		for (Symbol token: expected.tokens)
+			if (token.sym == sym.LBRACE) {
+				failure = compare(Arrays.copyOfRange(source, token.left, source.length), token.left, kind);
+				if (failure != null)
+					return "from " + token.left + ": " + failure;
+			}
+
+		return null;
+	}
+
+	/**
+	 * Compares a portion of a source file, as analysed by JLex and by the given kind of analyser.
+	 * Both analysers scan the given array, that they must leave untouched.
+	 *
+	 * @return the description of the first difference, or {@code null} if there is none
+	 */
+
+	private static String compare(char[] source, int offset, LexerKind kind) throws Exception {
+		char[] original = source.clone();
+		Run expected = new Run(LexerKind.JLEX.mk(new ErrorMsg("Snippet.kit"), source, offset));
+		if (!Arrays.equals(source, original))
+			return "the source has been modified by " + LexerKind.JLEX;
+
+		String failure = expected.compareTo(new Run(kind.mk(new ErrorMsg("Snippet.kit"), source, offset)));
+		if (failure == null && !Arrays.equals(source, original))
+			return "the source has been modified by " + kind;
+
+		return failure;
+	}
+
+	/**
+	 * Measures the throughput of the given kind of analyser on the given files.
+	 */
+
+	private static void measure(File sourceDir, List<String> files, LexerKind kind, int iterations) throws Exception {
+		long tokens = 0L, chars = 0L, time = 0L;
+
+		// the first half of the iterations is a warm-up
+		for (int iteration = -iterations / 2; iteration < iterations; iteration++)
+			for (String fileName: files) {
+				Scanner scanner = kind.mk(sourceDir, fileName);
+				long start = System.nanoTime();
+				Symbol token;
+				long count = 0L;
+				do {
+					token = scanner.nextToken();
+					count++;
+				}
+				while (token.sym != sym.EOF);
+
+				if (iteration >= 0) {
+					time += System.nanoTime() - start;
+					tokens += count;
+					chars += token.right;
+				}
+			}
+
+		System.out.printf("%-5s %12.0f tokens/s %14.0f chars/s%n", kind,
+			tokens * 1e9 / Math.max(1L, time), chars * 1e9 / Math.max(1L, time));
+	}
+
+	/**
+	 * The tokens yielded by an analyser, up to the end of the file, and
+	 * the errors that it reported meanwhile.
+	 */
+
+	private static class Run {
+		private final List<Symbol> tokens = new ArrayList<>();
+		private final ErrorMsg errorMsg;
+		private final String errors;
+		private final int end;
+
+		private Run(Scanner scanner) throws Exception {
+			this.errorMsg = scanner.getErrorMsg();
+
+			PrintStream originalOut = System.out;
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			System.setOut(new PrintStream(output, true));
+
+			try {
+				Symbol token;
+				do {
+					token = scanner.nextToken();
+					tokens.add(token);
+				}
+				while (token.sym != sym.EOF);
+			}
+			finally {
+				System.setOut(originalOut);
+			}
+
+			this.errors = output.toString();
+			this.end = tokens.get(tokens.size() - 1).right;
+		}
+
+		/**
+		 * Yields the description of the first difference between the
+		 * tokens or errors of this run and those of another run.
+		 */
+
+		private String compareTo(Run other) {
+			for (int pos = 0; pos < Math.min(tokens.size(), other.tokens.size()); pos++) {
+				Symbol expected = tokens.get(pos), actual = other.tokens.get(pos);
+				if (expected.sym != actual.sym || expected.left != actual.left || expected.right != actual.right
+						|| !Objects.equals(expected.value, actual.value))
+					return "token #" + pos + " is " + describe(actual) + " instead of " + describe(expected);
+			}
+
+			if (tokens.size() != other.tokens.size())
+				return other.tokens.size() + " tokens instead of " + tokens.size();
+
+			if (!errors.equals(other.errors))
+				return "errors\n" + other.errors + "instead of\n" + errors;
+
+			return null;
+		}
+
+		private static String describe(Symbol token) {
+			return token.sym + "(" + token.value + ") from " + token.left + " to " + token.right;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+
+import java_cup.runtime.lr_parser;
+import lexical.LexerKind;
+import lexical.Scanner;
+import syntactical.Parser;
+import syntactical.sym;
+
+/**
+ * A benchmark of the initialization of the {@link Parser} class, that is paid
+ * by every run of the compiler. It is measured in fresh virtual machines, after
+ * a source file has been lexed as the compiler does, and then repeatedly in the
+ * same virtual machine, by loading the parser and the runtime of JavaCup from
+ * scratch in a fresh class loader. In both cases, the runtime of JavaCup is
+ * loaded before the measurement, so that only the parser is measured. Usage:
+ * <pre>
+ * java benchmarks.ParserStartup [forks=N] [iterations=N]
+ * </pre>
+ */
+
+public class ParserStartup {
+
+	public static void main(String[] args) throws Exception {
+		int forks = 20, iterations = 200;
+
+		for (String arg: args)
+			if (arg.equals("fork")) {
+				fork();
+				return;
+			}
+			else if (arg.startsWith("forks="))
+				forks = Integer.parseInt(arg.substring("forks=".length()));
+			else if (arg.startsWith("iterations="))
+				iterations = Integer.parseInt(arg.substring("iterations=".length()));
+
+		long[] cold = new long[forks];
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		for (int pos = 0; pos < forks; pos++) {
+			Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), ParserStartup.class.getName(), "fork")
+				.redirectErrorStream(true).start();
+
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+				cold[pos] = Long.parseLong(reader.readLine().trim());
+			}
+
+			process.waitFor();
+		}
+
+		report("cold", cold);
+
+		URL[] classpath = {
+			Parser.class.getProtectionDomain().getCodeSource().getLocation(),
+			lr_parser.class.getProtectionDomain().getCodeSource().getLocation()
+		};
+
+		long[] warm = new long[iterations];
+
+		for (int iteration = 0; iteration < iterations; iteration++)
+			// the parent is the class loader of the platform, that cannot see the compiler
+			try (URLClassLoader loader = new URLClassLoader(classpath, ClassLoader.getSystemClassLoader().getParent())) {
+				Class.forName(lr_parser.class.getName(), true, loader);
+
+				long start = System.nanoTime();
+				Class.forName(Parser.class.getName(), true, loader);
+				warm[iteration] = System.nanoTime() - start;
+			}
+
+		// the first half of the iterations is a warm-up
+		report("warm", Arrays.copyOfRange(warm, iterations / 2, iterations));
+	}
+
+	/**
+	 * Measures the initialization of the parser in this virtual machine,
+	 * that must be fresh, and prints it in nanoseconds.
+	 */
+
+	private static void fork() throws Exception {
+		Scanner scanner = LexerKind.JLEX.mk(new File("testcases"), "Object");
+		while (scanner.nextToken().sym != sym.EOF);
+
+		Class.forName("java_cup.runtime.lr_parser");
+
+		long start = System.nanoTime();
+		Class.forName("syntactical.Parser");
+		System.out.println(System.nanoTime() - start);
+	}
+
+	private static void report(String name, long[] times) {
+		Arrays.sort(times);
+		System.out.printf("%-5s min %8.1f us  median %8.1f us%n", name, times[0] / 1e3, times[times.length / 2] / 1e3);
+	}
+}
@@ -0,0 +1,473 @@
+package benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import java_cup.runtime.Symbol;
+
+import absyn.Absyn;
+import errorMsg.ErrorMsg;
+import lexical.Lexer;
+import lexical.LexerKind;
+import lexical.Scanner;
+import metrics.Metrics;
+import syntactical.LazyBody;
+import syntactical.Parser;
+import syntactical.ParserKind;
+import syntactical.sym;
+
+/**
+ * A check that all syntactical analysers build the same abstract syntax as
+ * the analyser generated by JavaCup, with the same positions and in the same
+ * order, reference the same classes in the same order and report the same
+ * errors. The check is performed on every source file of a directory, on random
+ * mutations of their tokens and on random snippets that combine commands and
+ * operators, eagerly and with lazy bodies, that are parsed as well. Then the
+ * throughput and the allocation of each analyser are measured on the source
+ * files. Usage:
+ * <pre>
+ * java benchmarks.ParserValidation [sourceDir] [mutations=N] [snippets=N] [iterations=N]
+ * </pre>
+ * The default source directory is {@code testcases}.
+ */
+
+public class ParserValidation {
+
+	/**
+	 * The tokens inserted by the mutations.
+	 */
+
+	private final static String[] TOKENS = {
+		"class", "extends", "field", "method", "constructor", "test", "fixture", "new", "int", "float",
+		"boolean", "void", "if", "then", "else", "while", "for", "return", "assert", "as", "nil", "true",
+		"false", ",", ";", "(", ")", "[]", "[", "]", "{", "}", ".", "+", "-", "*", "/", "=", "!=", "<", "<=",
+		">", ">=", "&", "|", "!", ":=", "x", "C", "1", "2.5", "\"s\""
+	};
+
+	/**
+	 * The binary operators used in the random snippets.
+	 */
+
+	private final static String[] OPERATORS = {
+		"+", "-", "*", "/", "=", "!=", "<", "<=", ">", ">=", "&", "|"
+	};
+
+	public static void main(String[] args) throws Exception {
+		File sourceDir = new File("testcases");
+		int mutations = 20, snippets = 2000, iterations = 20;
+
+		for (String arg: args)
+			if (arg.startsWith("mutations="))
+				mutations = Integer.parseInt(arg.substring("mutations=".length()));
+			else if (arg.startsWith("snippets="))
+				snippets = Integer.parseInt(arg.substring("snippets=".length()));
+			else if (arg.startsWith("iterations="))
+				iterations = Integer.parseInt(arg.substring("iterations=".length()));
+			else
+				sourceDir = new File(arg);
+
+		List<File> files = new ArrayList<>();
+		File[] contents = sourceDir.listFiles();
+		if (contents != null)
+			for (File file: contents)
+				if (file.isFile() && file.getName().endsWith(".kit"))
+					files.add(file);
+
+		Collections.sort(files);
+
+		Random random = new Random(42);
+		int checks = 0, failures = 0;
+		List<char[]> sources = new ArrayList<>();
+
+		for (File file: files) {
+			char[] source = Lexer.readSource(file);
+			sources.add(source);
+
+			String count = countNodes(source);
+			checks++;
+			if (count != null) {
+				failures++;
+				System.out.println(file.getName() + ": " + count);
+			}
+
+			for (int mutation = 0; mutation <= mutations; mutation++) {
+				char[] mutated = mutation == 0 ? source : mutate(source, random);
+				String failure = compare(mutated);
+				checks++;
+				if (failure != null) {
+					failures++;
+					System.out.println(file.getName() + " mutation #" + mutation + ": " + failure + "\n" + new String(mutated));
+				}
+			}
+		}
+
+		for (int snippet = 0; snippet < snippets; snippet++) {
+			char[] source = snippet(random).toCharArray();
+			if (snippet % 2 == 1)
+				source = mutate(source, random);
+
+			String failure = compare(source);
+			checks++;
+			if (failure != null) {
+				failures++;
+				System.out.println("snippet #" + snippet + ": " + failure + "\n" + new String(source));
+			}
+		}
+
+		System.out.println(checks + " checks on " + files.size() + " files and "
+			+ snippets + " snippets, " + failures + " failures");
+
+		for (ParserKind kind: ParserKind.values())
+			measure(sources, kind, iterations);
+
+		if (failures > 0)
+			System.exit(1);
+	}
+
+	/**
+	 * Compares the parsing of a source by the generated analyser and by
+	 * the other analysers, eagerly and with lazy bodies.
+	 *
+	 * @return the description of the first difference, or {@code null} if there is none
+	 */
+
+	private static String compare(char[] source) {
+		for (boolean lazy: new boolean[] { false, true }) {
+			String expected = run(ParserKind.LALR, source, lazy);
+			for (ParserKind kind: ParserKind.values())
+				if (kind != ParserKind.LALR) {
+					String actual = run(kind, source, lazy);
+					if (!expected.equals(actual))
+						return "[" + kind + (lazy ? ", lazy" : "") + "]\n" + actual + "\ninstead of\n" + expected;
+				}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Checks that the number of nodes of the abstract syntax of a source, as
+	 * reported in the metrics of the compiler, is that of the nodes reachable
+	 * from the root of the abstract syntax, including those held in arrays.
+	 *
+	 * @return the description of the difference, or {@code null} if there is none
+	 */
+
+	private static String countNodes(char[] source) {
+		PrintStream originalOut = System.out, originalErr = System.err;
+		PrintStream discard = new PrintStream(new ByteArrayOutputStream(), true);
+		System.setOut(discard);
+		System.setErr(discard);
+
+		Object result;
+		try {
+			result = ParserKind.LALR.mk(LexerKind.JLEX.mk(new ErrorMsg("Count.kit"), source, 0)).parse().value;
+		}
+		catch (Exception e) {
+			// some sources contain syntax errors on purpose: there is nothing to count
+			return null;
+		}
+		finally {
+			System.setOut(originalOut);
+			System.setErr(originalErr);
+		}
+
+		if (!(result instanceof Absyn))
+			return "no abstract syntax";
+
+		List<Absyn> nodes = new ArrayList<>();
+		collect(result, nodes, new IdentityHashMap<>());
+		long counted = Metrics.countNodes((Absyn) result);
+
+		return counted == nodes.size() && counted > 1 ? null : "counted " + counted + " nodes instead of " + nodes.size();
+	}
+
+	/**
+	 * Parses a source and describes the result: the abstract syntax or the
+	 * exception, the referenced classes and the messages that have been printed.
+	 */
+
+	private static String run(ParserKind kind, char[] source, boolean lazy) {
+		PrintStream originalOut = System.out, originalErr = System.err;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrintStream capture = new PrintStream(output, true);
+		System.setOut(capture);
+		System.setErr(capture);
+
+		StringBuilder sb = new StringBuilder();
+		try {
+			Parser parser = kind.mk(LexerKind.JLEX.mk(new ErrorMsg("Snippet.kit"), source, 0));
+			if (lazy)
+				parser.parseBodiesLazily();
+
+			try {
+				Object result = parser.parse().value;
+				describe(result, sb, ranks(result), new IdentityHashMap<>());
+				sb.append("\nreferenced: ").append(parser.getReferencedClasses());
+			}
+			catch (Exception e) {
+				sb.append(e);
+			}
+		}
+		finally {
+			System.setOut(originalOut);
+			System.setErr(originalErr);
+		}
+
+		return sb.append('\n').append(output).toString();
+	}
+
+	/**
+	 * Yields the rank of each node of abstract syntax reachable from the given
+	 * object, in order of creation. This is the same for all analysers if they
+	 * build the nodes in the same order.
+	 */
+
+	private static Map<Object, Integer> ranks(Object root) {
+		List<Absyn> nodes = new ArrayList<>();
+		collect(root, nodes, new IdentityHashMap<>());
+		nodes.sort((node1, node2) -> Integer.compare(identifier(node1), identifier(node2)));
+
+		Map<Object, Integer> ranks = new IdentityHashMap<>();
+		for (Absyn node: nodes)
+			ranks.put(node, ranks.size());
+
+		return ranks;
+	}
+
+	private static void collect(Object object, List<Absyn> nodes, Map<Object, Boolean> seen) {
+		if (object instanceof Absyn && seen.put(object, true) == null) {
+			nodes.add((Absyn) object);
+			for (Field field: fields(object.getClass()))
+				collect(get(field, object), nodes, seen);
+		}
+		else if (object instanceof Object[])
+			for (Object element: (Object[]) object)
+				collect(element, nodes, seen);
+	}
+
+	/**
+	 * Describes an object of abstract syntax through all its fields. The
+	 * bodies whose parsing has been deferred are parsed and described as well.
+	 */
+
+	private static void describe(Object object, StringBuilder sb, Map<Object, Integer> ranks, Map<Object, Boolean> seen) {
+		if (object == null || object instanceof Number || object instanceof Boolean)
+			sb.append(object);
+		else if (object instanceof String)
+			sb.append('"').append(object).append('"');
+		else if (object instanceof Absyn) {
+			sb.append(object.getClass().getSimpleName()).append('#').append(ranks.get(object));
+			if (seen.put(object, true) != null)
+				return;
+
+			sb.append('(');
+			for (Field field: fields(object.getClass()))
+				if (!field.getName().equals("identifier")) {
+					sb.append(field.getName()).append('=');
+					describe(get(field, object), sb, ranks, seen);
+					sb.append(' ');
+				}
+
+			sb.append(')');
+		}
+		else if (object instanceof Object[]) {
+			sb.append('[');
+			for (Object element: (Object[]) object) {
+				describe(element, sb, ranks, seen);
+				sb.append(' ');
+			}
+
+			sb.append(']');
+		}
+		else if (object instanceof int[])
+			sb.append(Arrays.toString((int[]) object));
+		else if (object instanceof LazyBody) {
+			Object body = ((LazyBody) object).parse();
+			sb.append("LazyBody(");
+			describe(body, sb, ranks(body), new IdentityHashMap<>());
+			sb.append(')');
+		}
+		else
+			// the error reporting utilities, the kinds of analyser and the like are not compared
+			sb.append(object.getClass().getSimpleName());
+	}
+
+	private static List<Field> fields(Class<?> clazz) {
+		List<Field> result = new ArrayList<>();
+		for (; clazz != null; clazz = clazz.getSuperclass())
+			for (Field field: clazz.getDeclaredFields())
+				if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+					field.setAccessible(true);
+					result.add(field);
+				}
+
+		return result;
+	}
+
+	private static Object get(Field field, Object object) {
+		try {
+			return field.get(object);
+		}
+		catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static int identifier(Absyn node) {
+		try {
+			Field identifier = Absyn.class.getDeclaredField("identifier");
+			identifier.setAccessible(true);
+			return identifier.getInt(node);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Yields a source after one to three random deletions, duplications,
+	 * swaps or insertions of tokens.
+	 */
+
+	private static char[] mutate(char[] source, Random random) {
+		List<String> tokens = new ArrayList<>();
+		Scanner scanner = LexerKind.JLEX.mk(new ErrorMsg("Mutated.kit"), source, 0);
+		PrintStream originalOut = System.out;
+		System.setOut(new PrintStream(new ByteArrayOutputStream()));
+
+		try {
+			Symbol token;
+			while ((token = scanner.nextToken()).sym != sym.EOF)
+				tokens.add(new String(source, token.left, token.right - token.left));
+		}
+		catch (Exception e) {
+			// the tokens read so far are mutated
+		}
+		finally {
+			System.setOut(originalOut);
+		}
+
+		for (int edits = 1 + random.nextInt(3); edits > 0; edits--) {
+			int pos = random.nextInt(tokens.size() + 1);
+			String inserted = TOKENS[random.nextInt(TOKENS.length)];
+
+			switch (tokens.isEmpty() ? 3 : random.nextInt(4)) {
+			case 0:
+				tokens.remove(Math.min(pos, tokens.size() - 1));
+				break;
+			case 1:
+				pos = Math.min(pos, tokens.size() - 1);
+				tokens.add(pos, tokens.get(pos));
+				break;
+			case 2:
+				if (pos + 1 < tokens.size())
+					tokens.add(pos + 1, tokens.remove(pos));
+				break;
+			default:
+				tokens.add(pos, inserted);
+			}
+		}
+
+		return String.join(" ", tokens).toCharArray();
+	}
+
+	/**
+	 * Yields a random class whose method bodies combine commands and operators.
+	 */
+
+	private static String snippet(Random random) {
+		return "class R extends S { field int f method C[] m(int a, D b) { " + command(random, 3)
+			+ "; " + command(random, 3) + " } test t " + command(random, 2) + " fixture " + command(random, 1)
+			+ " constructor() " + command(random, 2) + " }";
+	}
+
+	private static String command(Random random, int depth) {
+		switch (depth == 0 ? random.nextInt(6) : random.nextInt(11)) {
+		case 0: return expression(random, 3) + " := " + expression(random, 3);
+		case 1: return expression(random, 3) + ".m(" + expression(random, 1) + ")";
+		case 2: return type(random) + " y := " + expression(random, 3);
+		case 3: return random.nextBoolean() ? "return" : "return " + expression(random, 3);
+		case 4: return expression(random, 3);
+		case 5: return "assert(" + expression(random, 2) + ")";
+		case 6: return "if (" + expression(random, 2) + ") then " + command(random, depth - 1)
+			+ (random.nextBoolean() ? " else " + command(random, depth - 1) : "");
+		case 7: return "while (" + expression(random, 2) + ") " + command(random, depth - 1);
+		case 8: return "for (" + command(random, 0) + "; " + expression(random, 2) + "; "
+			+ command(random, 0) + ") " + command(random, depth - 1);
+		case 9: return random.nextBoolean() ? "{}" : "{ " + command(random, depth - 1) + " }";
+		default: return "{ " + command(random, depth - 1) + "; " + command(random, depth - 1) + " }";
+		}
+	}
+
+	private static String expression(Random random, int depth) {
+		switch (depth == 0 ? 7 + random.nextInt(3) : random.nextInt(10)) {
+		case 0: return (random.nextBoolean() ? "-" : "!") + expression(random, depth - 1);
+		case 1: case 2: return expression(random, depth - 1) + " " + OPERATORS[random.nextInt(OPERATORS.length)]
+			+ " " + expression(random, depth - 1);
+		case 3: return expression(random, depth - 1) + " as " + type(random);
+		case 4: return expression(random, depth - 1) + (random.nextBoolean() ? ".f" : ".n(" + expression(random, depth - 1) + ")");
+		case 5: return expression(random, depth - 1) + "[" + expression(random, depth - 1) + "]";
+		case 6: return "(" + expression(random, depth - 1) + ")";
+		case 7: return random.nextBoolean() ? "x" : "1";
+		case 8: return random.nextBoolean() ? "\"s\"" : random.nextBoolean() ? "nil" : "2.5";
+		default: return random.nextBoolean() ? "new E(" + (random.nextBoolean() ? "" : "x, 1") + ")" : "new " + type(random) + "[3]";
+		}
+	}
+
+	private static String type(Random random) {
+		String element = random.nextBoolean() ? "int" : random.nextBoolean() ? "F" : "boolean";
+		return random.nextBoolean() ? element : element + "[]";
+	}
+
+	/**
+	 * Measures the throughput and the allocation of the given kind of analyser on the given sources.
+	 */
+
+	private static void measure(List<char[]> sources, ParserKind kind, int iterations) {
+		long chars = 0L, time = 0L, bytes = 0L;
+
+		PrintStream originalOut = System.out, originalErr = System.err;
+		PrintStream discard = new PrintStream(new ByteArrayOutputStream());
+		System.setOut(discard);
+		System.setErr(discard);
+
+		try {
+			// the first half of the iterations is a warm-up
+			for (int iteration = -iterations / 2; iteration < iterations; iteration++)
+				for (char[] source: sources) {
+					Parser parser = kind.mk(LexerKind.JLEX.mk(new ErrorMsg("Source.kit"), source, 0));
+					long startBytes = Metrics.allocatedBytes(), start = System.nanoTime();
+					try {
+						parser.parse();
+					}
+					catch (Exception e) {
+						// the source contains syntax errors
+					}
+
+					if (iteration >= 0) {
+						time += System.nanoTime() - start;
+						bytes += Metrics.allocatedBytes() - startBytes;
+						chars += source.length;
+					}
+				}
+		}
+		finally {
+			System.setOut(originalOut);
+			System.setErr(originalErr);
+		}
+
+		System.out.printf("%-8s %14.0f chars/s %12.1f bytes/char%n", kind,
+			chars * 1e9 / Math.max(1L, time), bytes / (double) Math.max(1L, chars));
+	}
+}
@@ -0,0 +1,309 @@
+package benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Random;
+
+/**
+ * A generator of large, valid Kitten programs, used to expose the parts of
+ * the compiler whose cost grows superlinearly with the size of the program.
+ * The classes of a generated program form chains of subclasses of the given
+ * depth. Every class has the given number of method names, each overloaded
+ * the given number of times with an increasing number of parameters, so that
+ * subclasses redefine the methods of their superclasses. The body of a method
+ * is a sequence of the given number of statements (assignments, loops,
+ * conditionals and calls to the methods with a smaller name), whose expressions
+ * are nested up to the given depth. Every class has also tests and fixtures.
+ * An extra class, whose name ends with {@code Main}, refers to all other
+ * classes from its {@code main} method. Generation is deterministic. Usage:
+ * <pre>
+ * java benchmarks.ProgramGenerator outputDir [prefix=P] [classes=N] [depth=N] [methods=N]
+ *      [overloads=N] [statements=N] [nesting=N] [tests=N] [fixtures=N] [runtime=dir]
+ * </pre>
+ * where {@code runtime} is the directory where the sources of {@code Object}
+ * and {@code String} are copied from ({@code testcases} by default).
+ */
+
+public class ProgramGenerator {
+
+	/**
+	 * The prefix of the names of the generated classes.
+	 */
+
+	private final String prefix;
+
+	/**
+	 * The number of classes, besides the one holding the {@code main} method.
+	 */
+
+	private final int classes;
+
+	/**
+	 * The length of the chains of subclasses.
+	 */
+
+	private final int depth;
+
+	/**
+	 * The number of method names per class.
+	 */
+
+	private final int methods;
+
+	/**
+	 * The number of overloads per method name.
+	 */
+
+	private final int overloads;
+
+	/**
+	 * The number of statements per method.
+	 */
+
+	private final int statements;
+
+	/**
+	 * The maximal nesting depth of the expressions.
+	 */
+
+	private final int nesting;
+
+	/**
+	 * The number of tests per class.
+	 */
+
+	private final int tests;
+
+	/**
+	 * The number of fixtures per class.
+	 */
+
+	private final int fixtures;
+
+	/**
+	 * Builds a generator.
+	 *
+	 * @param prefix the prefix of the names of the generated classes
+	 * @param classes the number of classes, besides the one holding the {@code main} method
+	 * @param depth the length of the chains of subclasses
+	 * @param methods the number of method names per class
+	 * @param overloads the number of overloads per method name
+	 * @param statements the number of statements per method
+	 * @param nesting the maximal nesting depth of the expressions
+	 * @param tests the number of tests per class
+	 * @param fixtures the number of fixtures per class
+	 */
+
+	public ProgramGenerator(String prefix, int classes, int depth, int methods, int overloads,
+			int statements, int nesting, int tests, int fixtures) {
+
+		if (classes < 1 || depth < 1 || methods < 1 || overloads < 1 || statements < 0
+				|| nesting < 0 || tests < 0 || fixtures < 0)
+			throw new IllegalArgumentException("illegal parameters for the generation of a program");
+
+		this.prefix = prefix;
+		this.classes = classes;
+		this.depth = depth;
+		this.methods = methods;
+		this.overloads = overloads;
+		this.statements = statements;
+		this.nesting = nesting;
+		this.tests = tests;
+		this.fixtures = fixtures;
+	}
+
+	/**
+	 * Writes the source files of the program in the given directory.
+	 *
+	 * @param dir the directory, that gets created if missing
+	 * @return the name of the class holding the {@code main} method
+	 * @throws IOException if the files cannot be written
+	 */
+
+	public String generate(File dir) throws IOException {
+		dir.mkdirs();
+
+		for (int i = 0; i < classes; i++)
+			try (Writer writer = new BufferedWriter(new FileWriter(new File(dir, prefix + i + ".kit")))) {
+				writer.write(generateClass(i));
+			}
+
+		String main = prefix + "Main";
+		try (Writer writer = new BufferedWriter(new FileWriter(new File(dir, main + ".kit")))) {
+			writer.write(generateMain(main));
+		}
+
+		return main;
+	}
+
+	/**
+	 * Copies the sources of {@code Object} and {@code String}, needed by every
+	 * program, from a directory to another.
+	 *
+	 * @param from the source directory
+	 * @param to the destination directory
+	 * @throws IOException if the files cannot be copied
+	 */
+
+	public static void copyRuntime(File from, File to) throws IOException {
+		to.mkdirs();
+
+		for (String name: new String[] { "Object.kit", "String.kit" })
+			Files.copy(new File(from, name).toPath(), new File(to, name).toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Yields the source of the {@code i}th class.
+	 */
+
+	private String generateClass(int i) {
+		Random random = new Random(i);
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("class ").append(prefix).append(i);
+		if (i % depth != 0)
+			sb.append(" extends ").append(prefix).append(i - 1);
+
+		sb.append(" {\n\n  field int f").append(i).append("\n\n  constructor() {}\n");
+
+		for (int j = 0; j < methods; j++)
+			for (int arity = 1; arity <= overloads; arity++)
+				generateMethod(sb, i, j, arity, random);
+
+		for (int k = 0; k < tests; k++)
+			sb.append("\n  test t").append(k).append(" assert(this.m0(").append(k).append(") = this.m0(").append(k).append("))\n");
+
+		for (int k = 0; k < fixtures; k++)
+			sb.append("\n  fixture this.f").append(i).append(" := ").append(k).append('\n');
+
+		return sb.append("}\n").toString();
+	}
+
+	/**
+	 * Appends to the given source a method of the {@code i}th class.
+	 */
+
+	private void generateMethod(StringBuilder sb, int i, int j, int arity, Random random) {
+		sb.append("\n  method int m").append(j).append('(');
+		for (int a = 0; a < arity; a++)
+			sb.append(a > 0 ? ", " : "").append("int a").append(a);
+
+		sb.append(") {\n    int x := a0;\n");
+
+		for (int s = 0; s < statements; s++) {
+			sb.append("    ");
+
+			switch (s % 4) {
+			case 0:
+				sb.append("x := ").append(expression(i, arity, nesting, random));
+				break;
+			case 1:
+				sb.append("int v").append(s).append(" := 0;\n    while (v").append(s).append(" < 3) v")
+					.append(s).append(" := v").append(s).append(" + 1");
+				break;
+			case 2:
+				sb.append("if (x < ").append(random.nextInt(100)).append(") then x := ")
+					.append(expression(i, arity, nesting, random)).append(" else x := x - 1");
+				break;
+			default:
+				if (j > 0) {
+					// only methods with a smaller name are called, so that there is no recursion
+					int callee = random.nextInt(j), calleeArity = 1 + random.nextInt(overloads);
+					sb.append("x := x + this.m").append(callee).append('(');
+					for (int a = 0; a < calleeArity; a++)
+						sb.append(a > 0 ? ", " : "").append(expression(i, arity, random.nextInt(nesting + 1), random));
+
+					sb.append(')');
+				}
+				else
+					sb.append("x := x + 1");
+			}
+
+			sb.append(";\n");
+		}
+
+		sb.append("    return x\n  }\n");
+	}
+
+	/**
+	 * Yields an integer expression, nested up to the given depth, that can
+	 * be used inside a method with the given arity of the {@code i}th class.
+	 */
+
+	private String expression(int i, int arity, int depth, Random random) {
+		if (depth == 0)
+			switch (random.nextInt(4)) {
+			case 0: return "x";
+			case 1: return "a" + random.nextInt(arity);
+			case 2: return "this.f" + i;
+			default: return String.valueOf(random.nextInt(100));
+			}
+
+		String[] operators = { " + ", " - ", " * " };
+		return "(" + expression(i, arity, depth - 1, random) + operators[random.nextInt(operators.length)]
+			+ expression(i, arity, 0, random) + ")";
+	}
+
+	/**
+	 * Yields the source of the class holding the {@code main} method.
+	 */
+
+	private String generateMain(String name) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("class ").append(name).append(" {\n\n  constructor() {}\n\n  method void main() {\n    int r := 0;\n");
+
+		for (int i = 0; i < classes; i++)
+			sb.append("    r := r + new ").append(prefix).append(i).append("().m0(").append(i).append(");\n");
+
+		return sb.append("    \"result: \".concat(r).output();\n    \"\\n\".output()\n  }\n}\n").toString();
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0) {
+			System.out.println("You must specify the directory where the program must be generated");
+			return;
+		}
+
+		String prefix = "Synthetic";
+		int classes = 100, depth = 5, methods = 5, overloads = 2, statements = 20, nesting = 4, tests = 2, fixtures = 1;
+		File runtime = new File("testcases");
+
+		for (int pos = 1; pos < args.length; pos++) {
+			String arg = args[pos];
+			String value = arg.substring(arg.indexOf('=') + 1);
+
+			if (arg.startsWith("prefix="))
+				prefix = value;
+			else if (arg.startsWith("classes="))
+				classes = Integer.parseInt(value);
+			else if (arg.startsWith("depth="))
+				depth = Integer.parseInt(value);
+			else if (arg.startsWith("methods="))
+				methods = Integer.parseInt(value);
+			else if (arg.startsWith("overloads="))
+				overloads = Integer.parseInt(value);
+			else if (arg.startsWith("statements="))
+				statements = Integer.parseInt(value);
+			else if (arg.startsWith("nesting="))
+				nesting = Integer.parseInt(value);
+			else if (arg.startsWith("tests="))
+				tests = Integer.parseInt(value);
+			else if (arg.startsWith("fixtures="))
+				fixtures = Integer.parseInt(value);
+			else if (arg.startsWith("runtime="))
+				runtime = new File(value);
+			else
+				System.out.println("Ignoring unknown option " + arg);
+		}
+
+		File dir = new File(args[0]);
+		copyRuntime(runtime, dir);
+		String main = new ProgramGenerator(prefix, classes, depth, methods, overloads, statements, nesting, tests, fixtures).generate(dir);
+		System.out.println("Generated " + (classes + 1) + " classes in " + dir + ", starting from " + main);
+	}
+}
@@ -0,0 +1,298 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import metrics.Metrics;
+import tables.Symbols;
+import tables.Table;
+
+/**
+ * A benchmark of the symbol tables used for the local variables during
+ * type-checking. A scope of the given sizes is built by binding its variables
+ * one after the other, as local declarations do, and then each variable is
+ * looked up in the resulting table. The variables are named as in generated code
+ * ({@code a1}, {@code a2}...) and bound in that order or in random order.
+ * The persistent red-black trees of {@link Table} are compared with an
+ * unbalanced binary search tree, as {@link Table} was before, whose height
+ * grows linearly when the variables are bound in order. The results of the
+ * lookups are checked as well. Usage:
+ * <pre>
+ * java benchmarks.TableBenchmark [sizes=N,N,...] [time=ms]
+ * </pre>
+ */
+
+public class TableBenchmark {
+
+	public static void main(String[] args) {
+		int[] sizes = { 10, 100, 1000, 10000 };
+		long time = 200L;
+
+		for (String arg: args)
+			if (arg.startsWith("sizes=")) {
+				String[] values = arg.substring("sizes=".length()).split(",");
+				sizes = new int[values.length];
+				for (int pos = 0; pos < values.length; pos++)
+					sizes[pos] = Integer.parseInt(values[pos]);
+			}
+			else if (arg.startsWith("time="))
+				time = Long.parseLong(arg.substring("time=".length()));
+
+		System.out.printf("%-11s %-11s %7s %15s %14s %15s%n", "Table", "Order", "Size", "Insert(ns/op)", "Alloc(B/op)", "Lookup(ns/op)");
+		int failures = 0;
+
+		for (boolean random: new boolean[] { false, true })
+			for (int size: sizes) {
+				Symbols symbols = new Symbols();
+				List<String> keys = new ArrayList<>();
+				for (int pos = 1; pos <= size; pos++)
+					keys.add(symbols.intern("a" + pos));
+
+				if (random)
+					Collections.shuffle(keys, new Random(42));
+
+				String[] names = keys.toArray(new String[size]);
+				// the lookups use other strings than the keys, as when they are not interned
+				String[] copies = new String[size];
+				for (int pos = 0; pos < size; pos++)
+					copies[pos] = new String(names[pos]);
+
+				for (Implementation implementation: Implementation.values()) {
+					failures += implementation.check(names, copies);
+					measure(implementation, random ? "random" : "sequential", names, copies, time);
+				}
+			}
+
+		System.out.println(failures + " failures");
+
+		if (failures > 0)
+			System.exit(1);
+	}
+
+	/**
+	 * Measures the insertions and the lookups of the given keys in a table.
+	 */
+
+	private static void measure(Implementation implementation, String order, String[] keys, String[] lookups, long time) {
+		// warm-up
+		repeat(implementation, keys, lookups, time / 2, false);
+		repeat(implementation, keys, lookups, time / 2, true);
+
+		long[] insert = repeat(implementation, keys, lookups, time, false);
+		long[] lookup = repeat(implementation, keys, lookups, time, true);
+
+		System.out.printf("%-11s %-11s %7d %15.1f %14.1f %15.1f%n", implementation.name().toLowerCase(), order, keys.length,
+			insert[1] / (double) insert[0], insert[2] / (double) insert[0], lookup[1] / (double) lookup[0]);
+	}
+
+	/**
+	 * Builds tables with the given keys, or looks up the given keys in such a
+	 * table, for the given amount of time.
+	 *
+	 * @return the number of insertions or lookups, their time and the bytes they allocated
+	 */
+
+	private static long[] repeat(Implementation implementation, String[] keys, String[] lookups, long millis, boolean lookup) {
+		Object table = implementation.build(keys);
+		long operations = 0L, time = 0L, bytes = 0L, deadline = millis * 1000000L;
+		int found = 0;
+
+		do {
+			long startBytes = Metrics.allocatedBytes(), start = System.nanoTime();
+			if (lookup)
+				found += implementation.lookUp(table, lookups);
+			else
+				table = implementation.build(keys);
+
+			time += System.nanoTime() - start;
+			bytes += Metrics.allocatedBytes() - startBytes;
+			operations += keys.length;
+		}
+		while (time < deadline);
+
+		// the lookups must not be optimised away
+		if (found < 0)
+			System.out.println(table);
+
+		return new long[] { operations, time, bytes };
+	}
+
+	/**
+	 * The compared implementations of symbol tables.
+	 */
+
+	private enum Implementation {
+
+		/**
+		 * The persistent red-black trees of {@link Table}.
+		 */
+
+		BALANCED {
+
+			@Override
+			Object build(String[] keys) {
+				Table<Integer> table = Table.empty();
+				for (int pos = 0; pos < keys.length; pos++)
+					table = table.put(keys[pos], pos);
+
+				return table;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			Integer get(Object table, String key) {
+				return ((Table<Integer>) table).get(key);
+			}
+		},
+
+		/**
+		 * Unbalanced persistent binary search trees.
+		 */
+
+		UNBALANCED {
+
+			@Override
+			Object build(String[] keys) {
+				UnbalancedTable table = null;
+				for (int pos = 0; pos < keys.length; pos++)
+					table = UnbalancedTable.put(table, keys[pos], pos);
+
+				return table;
+			}
+
+			@Override
+			Integer get(Object table, String key) {
+				return UnbalancedTable.get((UnbalancedTable) table, key);
+			}
+		};
+
+		/**
+		 * Builds a table that binds each key to its index.
+		 */
+
+		abstract Object build(String[] keys);
+
+		/**
+		 * Looks up a key in a table.
+		 */
+
+		abstract Integer get(Object table, String key);
+
+		/**
+		 * Looks up all the given keys in a table.
+		 *
+		 * @return the number of keys found
+		 */
+
+		int lookUp(Object table, String[] keys) {
+			int found = 0;
+			for (String key: keys)
+				if (get(table, key) != null)
+					found++;
+
+			return found;
+		}
+
+		/**
+		 * Checks that the given keys, and the given copies of the keys,
+		 * are bound to their index, and that a table built with only
+		 * the first half of the keys does not bind the others.
+		 *
+		 * @return the number of failures
+		 */
+
+		int check(String[] keys, String[] copies) {
+			int failures = 0;
+			Object table = build(keys);
+			for (int pos = 0; pos < keys.length; pos++)
+				if (!Integer.valueOf(pos).equals(get(table, keys[pos])) || !Integer.valueOf(pos).equals(get(table, copies[pos]))) {
+					failures++;
+					System.out.println(name().toLowerCase() + ": wrong binding for " + keys[pos]);
+				}
+
+			Object half = build(Arrays.copyOf(keys, keys.length / 2));
+			for (int pos = 0; pos < keys.length; pos++)
+				if (pos < keys.length / 2 ? get(half, copies[pos]) == null : get(half, copies[pos]) != null) {
+					failures++;
+					System.out.println(name().toLowerCase() + ": wrong binding for " + keys[pos] + " in a smaller scope");
+				}
+
+			if (get(table, "missing") != null) {
+				failures++;
+				System.out.println(name().toLowerCase() + ": binding for a missing key");
+			}
+
+			return failures;
+		}
+	}
+
+	/**
+	 * A persistent binary search tree without balancing, as
+	 * {@code tables.NonEmptyTable} was before it became a red-black tree.
+	 * It is scanned by iteration, so that its height does not overflow the stack.
+	 */
+
+	private static class UnbalancedTable {
+		private final String key;
+		private final Integer value;
+		private final UnbalancedTable left;
+		private final UnbalancedTable right;
+
+		private UnbalancedTable(String key, Integer value, UnbalancedTable left, UnbalancedTable right) {
+			this.key = key;
+			this.value = value;
+			this.left = left;
+			this.right = right;
+		}
+
+		private static Integer get(UnbalancedTable table, String key) {
+			while (table != null) {
+				if (table.key == key)
+					return table.value;
+
+				int comp = table.key.compareTo(key);
+				if (comp < 0)
+					table = table.left;
+				else if (comp == 0)
+					return table.value;
+				else
+					table = table.right;
+			}
+
+			return null;
+		}
+
+		private static UnbalancedTable put(UnbalancedTable table, String key, Integer value) {
+			// the path to the key is copied from the bottom
+			List<UnbalancedTable> path = new ArrayList<>();
+			List<Boolean> lefts = new ArrayList<>();
+			UnbalancedTable result = null;
+
+			while (table != null) {
+				int comp = table.key.compareTo(key);
+				if (comp == 0) {
+					result = new UnbalancedTable(key, value, table.left, table.right);
+					break;
+				}
+
+				path.add(table);
+				lefts.add(comp < 0);
+				table = comp < 0 ? table.left : table.right;
+			}
+
+			if (result == null)
+				result = new UnbalancedTable(key, value, null, null);
+
+			for (int pos = path.size() - 1; pos >= 0; pos--) {
+				UnbalancedTable node = path.get(pos);
+				result = lefts.get(pos) ? new UnbalancedTable(node.key, node.value, result, node.right)
+					: new UnbalancedTable(node.key, node.value, node.left, result);
+			}
+
+			return result;
+		}
+	}
+}
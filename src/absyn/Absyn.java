@@ -1,7 +1,8 @@
 package absyn;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import semantical.TypeChecker;
 
@@ -28,10 +29,10 @@ public abstract class Absyn {
 
 	/**
 	 * A counter used to assign distinct values to the <tt>identifier</tt>
-	 * field.
+	 * field. It is atomic since classes might be parsed in parallel.
 	 */
 
-	private static int counter = 0;
+	private static final AtomicInteger counter = new AtomicInteger();
 
 	/**
 	 * A type error that occurred in this node during type-checking.
@@ -51,7 +52,7 @@ public abstract class Absyn {
 		this.pos = pos;
 
 		// we assign a unique identifier to this node of abstract syntax
-		this.identifier = counter++;
+		this.identifier = counter.getAndIncrement();
 
 		// no type-checking error at the beginning
 		this.typeError = null;
@@ -102,7 +103,7 @@ public abstract class Absyn {
 	 * @return the string representing this node in the dot file
 	 */
 
-	protected String toDot(String symbol, FileWriter where) throws IOException {
+	protected String toDot(String symbol, Writer where) throws IOException {
 		String id = "symbol_" + symbol.toString();
 		where.write(id + " [label = \"" + symbol.toString() + "\" fontname = \"Times-Italic\" shape = box]\n");
 
@@ -118,7 +119,7 @@ public abstract class Absyn {
 	 * @param where the dot file where this arc should be written
 	 */
 
-	protected final void linkToNode(String name, String to, FileWriter where) throws java.io.IOException {
+	protected final void linkToNode(String name, String to, Writer where) throws java.io.IOException {
 		where.write(dotNodeName() + " -> " + to + " [label = \"" + name + "\" fontsize = 8]\n");
 	}
 
@@ -132,7 +133,7 @@ public abstract class Absyn {
 	 * @param where the dot file where this arc should be written
 	 */
 
-	protected final void boldLinkToNode(String name, String to, FileWriter where) throws java.io.IOException {
+	protected final void boldLinkToNode(String name, String to, Writer where) throws java.io.IOException {
 		where.write(dotNodeName() + " -> " + to + " [label = \"" + name + "\" fontsize = 8 style = bold]\n");
 	}
 
@@ -145,6 +146,20 @@ public abstract class Absyn {
 	 */
 
 	protected void error(TypeChecker checker, String msg) {
+		error(checker, pos, msg);
+	}
+
+	/**
+	 * Outputs an error message to the user, during the type-checking
+	 * performed with a given type checker, at a given position inside the
+	 * concrete syntax represented by this abstract syntax.
+	 *
+	 * @param checker the type checker which signals the error
+	 * @param pos the position in the source file where the error occurs
+	 * @param msg the message to be output
+	 */
+
+	protected void error(TypeChecker checker, int pos, String msg) {
 		checker.error(pos, msg);
 
 		typeError = msg;
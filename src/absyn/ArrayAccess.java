@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import types.Type;
 import types.ArrayType;
@@ -85,7 +85,7 @@ public class ArrayAccess extends Lvalue {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("array", array.toDot(where), where);
 		linkToNode("index", index.toDot(where), where);
 	}
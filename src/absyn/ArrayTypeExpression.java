@@ -1,9 +1,10 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
-import types.Type;
 import types.ArrayType;
+import types.CompilationContext;
+import types.Type;
 
 /**
  * A node of abstract syntax representing a Kitten array type.
@@ -38,25 +39,27 @@ public class ArrayTypeExpression extends TypeExpression {
 	 * Type-checks this array type expression. It type-checks the elements
 	 * of the array and then returns the array type for such an elements type.
 	 *
+	 * @param context the compilation where the array type is looked for
 	 * @return the semantical array type corresponding to this
 	 *         array type expression
 	 */
 
 	@Override
-	protected Type typeCheckAux() {
-		return ArrayType.mk(elementsType.typeCheck());
+	protected Type typeCheckAux(CompilationContext context) {
+		return ArrayType.mk(context, elementsType.typeCheck(context));
 	}
 
 	/**
 	 * Auxiliary method that yields the semantical type corresponding
 	 * to this type expression.
 	 *
+	 * @param context the compilation where the array type is looked for
 	 * @return the semantical array type corresponding to this array type expression
 	 */
 
 	@Override
-	protected Type toTypeAux() {
-		return ArrayType.mk(elementsType.toType());
+	protected Type toTypeAux(CompilationContext context) {
+		return ArrayType.mk(context, elementsType.toType(context));
 	}
 
 	/**
@@ -68,7 +71,7 @@ public class ArrayTypeExpression extends TypeExpression {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("elementsType", elementsType.toDot(where), where);
 	}
 
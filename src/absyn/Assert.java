@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import bytecode.CONST;
 import bytecode.LOAD;
@@ -36,14 +36,14 @@ public class Assert extends Command {
 			error("Assert only allowed in Test");
 		}
 		
-		this.erroreAssert="@"+checker.getErrorMsg().getFileName()
-				+".kit:"+checker.getErrorMsg().getLineAndChar(this.getPos());
 		this.lineAndChar=checker.getErrorMsg().getLineAndChar(this.getPos());
+		this.erroreAssert="@"+checker.getErrorMsg().getFileName()
+				+".kit:"+this.lineAndChar;
 		return checker;
 	}
 
 	@Override
-	public boolean checkForDeadcode() {
+	public boolean checkForDeadcode(TypeChecker checker) {
 		// TODO Auto-generated method stub
 		return false;
 	}
@@ -53,12 +53,12 @@ public class Assert extends Command {
 		continuation.doNotMerge();
 		//ritorno la posizione dell'assert che fallisce per indicare dove e fallito il test
 		Block no=new NEWSTRING(this.lineAndChar)	
-		.followedBy(new Block(new RETURN(ClassType.mk("String"))));
+		.followedBy(new Block(new RETURN(ClassType.mk(where.getDefiningClass().getContext(), "String")), where));
 		return this.condition.translateAsTest(where, continuation, no);
 	}
 	
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("condition", condition.toDot(where), where);
 	}
 
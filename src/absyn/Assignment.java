@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import semantical.TypeChecker;
 import types.Type;
@@ -76,7 +76,7 @@ public class Assignment extends Command {
      */
 
     @Override
-    protected void toDotAux(FileWriter where) throws java.io.IOException {
+    protected void toDotAux(Writer where) throws java.io.IOException {
     	linkToNode("lvalue", lvalue.toDot(where), where);
     	linkToNode("rvalue", rvalue.toDot(where), where);
     }
@@ -112,11 +112,12 @@ public class Assignment extends Command {
      * Checks that this assignment does not contain <i>dead-code</i>, that is,
      * commands which can never be executed. This is always true for assignments.
      *
+     * @param checker the type-checker used to report dead-code errors
      * @return false, since this command never terminates with a {@code return}
      */
 
     @Override
-    public boolean checkForDeadcode() {
+    public boolean checkForDeadcode(TypeChecker checker) {
     	return false;
     }
 
@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import types.Type;
 import types.CodeSignature;
@@ -73,7 +73,7 @@ public abstract class BinOp extends Expression {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("left", left.toDot(where), where);
 		linkToNode("right", right.toDot(where), where);
 	}
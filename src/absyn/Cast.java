@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import types.Type;
 import types.NumericalType;
@@ -76,7 +76,7 @@ public class Cast extends Expression {
      */
 
     @Override
-    protected void toDotAux(FileWriter where) throws java.io.IOException {
+    protected void toDotAux(Writer where) throws java.io.IOException {
     	linkToNode("type", type.toDot(where), where);
     	linkToNode("expression", expression.toDot(where), where);
     }
@@ -100,7 +100,7 @@ public class Cast extends Expression {
     @Override
     protected Type typeCheckAux(TypeChecker checker) {
     	Type fromType = expression.typeCheck(checker);
-    	Type intoType = type.typeCheck();
+    	Type intoType = type.typeCheck(checker.getContext());
 
     	if (fromType == intoType)
     		error("You do not need to cast a " + fromType + " into itself");
@@ -1,9 +1,14 @@
 package absyn;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import translation.Program;
@@ -35,10 +40,10 @@ public class ClassDefinition extends Absyn {
     private final String superclassName;
 
     /**
-     * The sequence of fields or methods declarations. This might be {@code null}.
+     * The fields, constructors and methods declarations, in order of occurrence.
      */
 
-    private final ClassMemberDeclaration declarations;
+    private final ClassMemberDeclaration[] declarations;
 
     /**
      * The class type of this class definition. This is {@code null} if
@@ -54,16 +59,16 @@ public class ClassDefinition extends Absyn {
      *            the concrete syntax represented by this abstract syntax
      * @param name the name of the class
      * @param superclassName the name of the superclass
-     * @param declarations the sequence of fields or methods declarations.
-     *                     This might be {@code null}
+     * @param declarations the fields, constructors and methods declarations,
+     *                     in order of occurrence
      */
 
-    public ClassDefinition(int pos, String name, String superclassName, ClassMemberDeclaration declarations) {
+    public ClassDefinition(int pos, String name, String superclassName, List<ClassMemberDeclaration> declarations) {
     	super(pos);
 
     	this.name = name;
     	this.superclassName = superclassName;
-    	this.declarations = declarations;
+    	this.declarations = declarations.toArray(new ClassMemberDeclaration[declarations.size()]);
     }
 
     /**
@@ -89,16 +94,16 @@ public class ClassDefinition extends Absyn {
     }
 
     /**
-     * Yields the abstract syntax of the sequence of fields and methods
-     * declarations in this class definition, if any.
+     * Yields the abstract syntax of the fields, constructors and methods
+     * declarations in this class definition.
      *
-     * @return the abstract syntax of the sequence of fields and methods
-     *         declarations in this class definition, if any. Returns
-     *         {@code null} if there is no declaration inside this class definition
+     * @return the abstract syntax of the fields, constructors and methods
+     *         declarations in this class definition, in order of occurrence.
+     *         This list cannot be modified
      */
 
-    public ClassMemberDeclaration getDeclarations() {
-    	return declarations;
+    public List<ClassMemberDeclaration> getDeclarations() {
+    	return Collections.unmodifiableList(Arrays.asList(declarations));
     }
 
     /**
@@ -117,14 +122,15 @@ public class ClassDefinition extends Absyn {
      * syntax of this class. It writes the prefix specifying the paper
      * size and orientation, then puts a node for this class definition,
      * with three children corresponding to {@link #name},
-     * {@link #superclassName} and {@link #declarations}, if any. Then
-     * it builds the subtrees rooted at those children.
+     * {@link #superclassName} and the first of the {@link #declarations}, if any.
+     * Then it builds the subtrees rooted at those children. Each declaration
+     * is linked to the subsequent one through a bold arc.
      *
      * @param where the file where the dot representation must be written
      * @throws IOException if there is an error while writing into {@code where}
      */
 
-    public final void toDot(FileWriter where) throws IOException {
+    public final void toDot(Writer where) throws IOException {
     	where.write("digraph " + name + " {\n");
 
     	// the size of a standard A4 sheet (in inches)
@@ -140,8 +146,14 @@ public class ClassDefinition extends Absyn {
     	linkToNode("name", toDot(name, where), where);
     	if (superclassName != null)
     		linkToNode("superclassName", toDot(superclassName, where), where);
-    	if (declarations != null)
-    		linkToNode("declarations", declarations.toDot(where), where);
+
+    	for (int i = 0; i < declarations.length; i++) {
+    		String declaration = declarations[i].toDot(where);
+    		if (i == 0)
+    			linkToNode("declarations", declaration, where);
+    		else
+    			declarations[i - 1].boldLinkToNode("next", declaration, where);
+    	}
 
     	where.write("}");
     }
@@ -155,9 +167,8 @@ public class ClassDefinition extends Absyn {
      */
 
     public final void dumpDot(String directory) throws IOException {
-    	try (FileWriter dot = new FileWriter(directory + File.separatorChar + name + ".dot")) {
+    	try (Writer dot = new BufferedWriter(new FileWriter(directory + File.separatorChar + name + ".dot"))) {
     		toDot(dot);
-    		dot.flush();
     	}
     }
 
@@ -170,8 +181,8 @@ public class ClassDefinition extends Absyn {
      */
 
     public void addMembersTo(ClassType clazz) {
-    	if (declarations != null)
-    		declarations.addMembersTo(clazz);
+    	for (ClassMemberDeclaration declaration: declarations)
+    		declaration.addTo(clazz);
     }
 
     /**
@@ -185,8 +196,8 @@ public class ClassDefinition extends Absyn {
     public void typeCheck(ClassType currentClass) {
     	staticType = currentClass;
 
-    	if (declarations != null)
-    		declarations.typeCheck(currentClass);
+    	for (ClassMemberDeclaration declaration: declarations)
+    		declaration.typeCheck(currentClass);
     }
 
     /**
@@ -198,7 +209,22 @@ public class ClassDefinition extends Absyn {
 
     public Program translate() {
     	Set<ClassMemberSignature> done = new HashSet<>();
+    	MethodSignature main = translateEntryPoints(done);
+
+    	return new Program(staticType.getContext(), done, main);
+    }
+
+    /**
+     * Translates into intermediate Kitten code the {@code main} method of this
+     * class definition, if any, its fixtures and its tests, together with
+     * everything that is reachable from them.
+     *
+     * @param done the set of class members that have been already translated.
+     *             It gets enlarged with those translated by this method
+     * @return the {@code main} method of this class, or {@code null} if it has none
+     */
 
+    public MethodSignature translateEntryPoints(Set<ClassMemberSignature> done) {
     	// we look up for the main method, if any
     	MethodSignature main = staticType.methodLookup("main", TypeList.EMPTY);
 
@@ -213,6 +239,6 @@ public class ClassDefinition extends Absyn {
     		ts.getAbstractSyntax().translate(done);
     	}
 
-    	return new Program(done, main);
+    	return main;
     }
 }
\ No newline at end of file
@@ -1,8 +1,14 @@
 package absyn;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import errorMsg.ErrorMsg;
+import metrics.Metrics;
+import syntactical.LazyBody;
 import translation.Block;
 import types.ClassMemberSignature;
 import types.ClassType;
@@ -39,9 +45,38 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 
 	/**
 	 * The abstract syntax of the body of the constructor or method.
+	 * This is {@code null} until a lazy body gets parsed.
 	 */
 
-	private final Command body;
+	private Command body;
+
+	/**
+	 * The position in the source file just after the body of the constructor
+	 * or method. This is -1 if it is unknown, as for lazily parsed bodies.
+	 */
+
+	private int bodyEnd = -1;
+
+	/**
+	 * The names of the classes referenced from the body, in order of first
+	 * occurrence. This is {@code null} if they are unknown, as for lazily parsed bodies.
+	 */
+
+	private List<String> referencedClasses;
+
+	/**
+	 * The body of the constructor or method, if its parsing has been deferred
+	 * and it has not been parsed yet. This is {@code null} otherwise.
+	 */
+
+	private LazyBody lazyBody;
+
+	/**
+	 * True if and only if the body has been parsed lazily and has not been
+	 * type-checked yet. Such a body is type-checked only when translated.
+	 */
+
+	private boolean bodyDeferred;
 
 	/**
 	 * The signature of this constructor or method. This is {@code null} if this
@@ -61,19 +96,37 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 	 *            constructor or method
 	 * @param body
 	 *            the abstract syntax of the body of the constructor or method
-	 * @param next
-	 *            the abstract syntax of the declaration of the next class
-	 *            member, if any
 	 */
 
-	protected CodeDeclaration(int pos, FormalParameters formals, Command body,
-			ClassMemberDeclaration next) {
-		super(pos, next);
+	protected CodeDeclaration(int pos, FormalParameters formals, Command body) {
+		super(pos);
 
 		this.formals = formals;
 		this.body = body;
 	}
 
+	/**
+	 * Constructs the abstract syntax of a constructor or method declaration
+	 * whose body is parsed and type-checked only when needed.
+	 *
+	 * @param pos
+	 *            the starting position in the source file of the concrete
+	 *            syntax represented by this abstract syntax
+	 * @param formals
+	 *            the abstract syntax of the formal parameters of the
+	 *            constructor or method
+	 * @param body
+	 *            the body of the constructor or method, not parsed yet
+	 */
+
+	protected CodeDeclaration(int pos, FormalParameters formals, LazyBody body) {
+		super(pos);
+
+		this.formals = formals;
+		this.lazyBody = body;
+		this.bodyDeferred = true;
+	}
+
 	/**
 	 * Yields the abstract syntax of the formal parameters of the constructor or
 	 * method.
@@ -88,14 +141,110 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 
 	/**
 	 * Yields the abstract syntax of the body of the constructor or method.
+	 * If its parsing has been deferred, it is parsed now.
 	 *
 	 * @return the abstract syntax of the body of the constructor or method
 	 */
 
-	public Command getBody() {
+	public synchronized Command getBody() {
+		if (lazyBody != null) {
+			Metrics metrics = sig != null ? sig.getDefiningClass().getContext().getMetrics() : Metrics.DISABLED;
+			String className = sig != null ? sig.getDefiningClass().getName() : null;
+			Metrics.Measure measure = metrics.begin(Metrics.Phase.PARSE, className, String.valueOf(sig));
+
+			try {
+				body = lazyBody.parse();
+			}
+			finally {
+				// the lexer is run on demand by the parser, hence we separate its time
+				measure.endExcluding(lazyBody.getLexingTime());
+				metrics.record(Metrics.Phase.LEX, className, String.valueOf(sig), lazyBody.getLexingTime(), 0L);
+				lazyBody = null;
+			}
+		}
+
 		return body;
 	}
 
+	/**
+	 * Yields the position in the source file just after the body of
+	 * the constructor or method.
+	 *
+	 * @return the position, or -1 if it is unknown
+	 */
+
+	public int getBodyEnd() {
+		return bodyEnd;
+	}
+
+	/**
+	 * Yields the names of the classes referenced from the body of the
+	 * constructor or method, as recorded when the body was parsed.
+	 *
+	 * @return the names, in order of first occurrence, or {@code null} if they are unknown
+	 */
+
+	public List<String> getReferencedClasses() {
+		return referencedClasses;
+	}
+
+	/**
+	 * Takes note of the position in the source file just after the body of
+	 * the constructor or method and of the classes referenced from the body.
+	 * This is called by the parser, so that the body can be parsed again alone,
+	 * after an edit of the source file.
+	 *
+	 * @param bodyEnd the position
+	 * @param referencedClasses the names of the classes referenced from the body,
+	 *                          in order of first occurrence
+	 */
+
+	public void setBodyEnd(int bodyEnd, List<String> referencedClasses) {
+		this.bodyEnd = bodyEnd;
+		this.referencedClasses = referencedClasses;
+	}
+
+	/**
+	 * Replaces the body of the constructor or method with one parsed again
+	 * after an edit of the source file, while the rest of the abstract
+	 * syntax of the class is kept.
+	 *
+	 * @param body the abstract syntax of the new body
+	 * @param bodyEnd the position in the source file just after the new body
+	 * @param referencedClasses the names of the classes referenced from the new body,
+	 *                          in order of first occurrence
+	 */
+
+	public synchronized void replaceBody(Command body, int bodyEnd, List<String> referencedClasses) {
+		this.body = body;
+		this.bodyEnd = bodyEnd;
+		this.referencedClasses = referencedClasses;
+		this.lazyBody = null;
+		this.bodyDeferred = false;
+	}
+
+	/**
+	 * Determines if the type-checking of the body of the constructor or method
+	 * is deferred until its translation. This is the case for lazily parsed bodies.
+	 *
+	 * @return true if and only if the type-checking of the body is deferred
+	 */
+
+	protected final boolean isBodyDeferred() {
+		return bodyDeferred;
+	}
+
+	/**
+	 * Type-checks the body of the constructor or method. This is called
+	 * during the type-checking of this declaration or, if the body is
+	 * deferred, before its translation. Subclasses whose body can be
+	 * deferred must redefine this method.
+	 *
+	 * @param clazz the semantical type of the class where this code occurs
+	 */
+
+	protected void typeCheckBody(ClassType clazz) {}
+
 	/**
 	 * Specifies the code signature of this declaration.
 	 *
@@ -132,6 +281,14 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 	public void translate(Set<ClassMemberSignature> done) {
 		if (done.add(sig)) {
 			this.process(sig.getDefiningClass(), done);
+
+			if (bodyDeferred && !typeCheckDeferredBody()) {
+				// the body is wrong and cannot be translated: the errors
+				// have been reported and we just keep the code well-formed
+				sig.setCode(new Block(new RETURN(VoidType.INSTANCE), sig));
+				return;
+			}
+
 			// we translate the body of the constructor or
 			// method with a block containing RETURN as continuation. This way,
 			// all methods returning void and
@@ -140,8 +297,15 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 			// precaution is useless since we know that every execution path
 			// ends with a return command, as guaranteed by
 			// checkForDeadCode() (see typeCheck() in MethodDeclaration.java)
-			sig.setCode(getBody().translate(sig,
-					new Block(new RETURN(VoidType.INSTANCE))));
+			Metrics.Measure measure = sig.getDefiningClass().getContext().getMetrics()
+				.begin(Metrics.Phase.TRANSLATE, sig.getDefiningClass().getName(), sig.toString());
+			try {
+				sig.setCode(getBody().translate(sig,
+						new Block(new RETURN(VoidType.INSTANCE), sig)));
+			}
+			finally {
+				measure.end();
+			}
 
 			// we translate all methods and constructors that are referenced
 			// from the code we have generated
@@ -149,10 +313,36 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 		}
 	}
 
+	/**
+	 * Type-checks the body of the constructor or method, whose type-checking
+	 * has been deferred until its translation.
+	 *
+	 * @return true if and only if no error has been reported for the
+	 *         class of the constructor or method
+	 */
+
+	private boolean typeCheckDeferredBody() {
+		bodyDeferred = false;
+
+		ClassType clazz = sig.getDefiningClass();
+		Metrics.Measure measure = clazz.getContext().getMetrics()
+			.begin(Metrics.Phase.TYPE_CHECK, clazz.getName(), sig.toString());
+		try {
+			typeCheckBody(clazz);
+		}
+		finally {
+			measure.end();
+		}
+
+		ErrorMsg errorMsg = clazz.getErrorMsg();
+		return errorMsg == null || !errorMsg.anyErrors();
+	}
+
 	/**
 	 * Auxiliary method that translates into Kitten bytecode all class members
 	 * that are referenced from the given block and the blocks reachable from
-	 * it.
+	 * it. The blocks are visited in depth-first order with an explicit stack,
+	 * since long constructors or methods have many nested blocks.
 	 *
 	 * @param block
 	 *            the block
@@ -164,34 +354,42 @@ public abstract class CodeDeclaration extends ClassMemberDeclaration {
 
 	protected void translateReferenced(Block block,
 			Set<ClassMemberSignature> done, Set<Block> blocksDone) {
-		// if we already processed the block, we return immediately
-		if (!blocksDone.add(block))
-			return;
-
-		for (BytecodeList cursor = block.getBytecode(); cursor != null; cursor = cursor
-				.getTail()) {
-			Bytecode h = cursor.getHead();
-
-			if (h instanceof GETFIELD) {
-				FieldSignature field = ((GETFIELD) h).getField();
-				this.process(field.getDefiningClass(), done);
-				done.add(field);
-			} else if (h instanceof PUTFIELD) {
-				FieldSignature field = ((PUTFIELD) h).getField();
-				this.process(field.getDefiningClass(), done);
-				done.add(field);
-			}
+		Deque<Block> pending = new ArrayDeque<>();
+		pending.push(block);
+
+		while (!pending.isEmpty()) {
+			block = pending.pop();
+
+			// if we already processed the block, we skip it
+			if (!blocksDone.add(block))
+				continue;
 
-			else if (h instanceof CALL)
-				for (CodeSignature callee : ((CALL) h).getDynamicTargets()) {
-					this.process(callee.getDefiningClass(), done);
-					callee.getAbstractSyntax().translate(done);
+			for (BytecodeList cursor = block.getBytecode(); cursor != null; cursor = cursor
+					.getTail()) {
+				Bytecode h = cursor.getHead();
+
+				if (h instanceof GETFIELD) {
+					FieldSignature field = ((GETFIELD) h).getField();
+					this.process(field.getDefiningClass(), done);
+					done.add(field);
+				} else if (h instanceof PUTFIELD) {
+					FieldSignature field = ((PUTFIELD) h).getField();
+					this.process(field.getDefiningClass(), done);
+					done.add(field);
 				}
-		}
 
-		// we continue with the following blocks
-		for (Block follow : block.getFollows())
-			translateReferenced(follow, done, blocksDone);
+				else if (h instanceof CALL)
+					for (CodeSignature callee : ((CALL) h).getDynamicTargets()) {
+						this.process(callee.getDefiningClass(), done);
+						callee.getAbstractSyntax().translate(done);
+					}
+			}
+
+			// we continue with the following blocks, in their order
+			List<Block> follows = block.getFollows();
+			for (int i = follows.size() - 1; i >= 0; i--)
+				pending.push(follows.get(i));
+		}
 	}
 
 	protected void process(ClassType clazz, Set<ClassMemberSignature> done) {
@@ -1,7 +1,7 @@
 package absyn;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 
 import types.CodeSignature;
 import semantical.TypeChecker;
@@ -17,8 +17,10 @@ import translation.Block;
 public abstract class Command extends Absyn {
 
 	/**
-	 * The type-checker resulting after the last type-checking of this command.
-	 * This is {@code null} if this command has not been type-checked yet.
+	 * The type-checker used for the type-checking of this command, while it
+	 * is in progress, in order to report errors. This is {@code null} otherwise,
+	 * since the information needed for translation, such as the numbers of the
+	 * local variables, is recorded in the nodes during type-checking.
 	 */
 
 	private TypeChecker checker;
@@ -34,22 +36,11 @@ public abstract class Command extends Absyn {
 		super(pos);
 	}
 
-	/**
-	 * Yields the type-checker resulting from the last type-checking of this command.
-	 *
-	 * @return The type-checker resulting from the last type-checking of this
-	 *         command. Yields {@code null} if this command has not been type-checked yet
-	 */
-
-	public TypeChecker getTypeChecker() {
-		return checker;
-	}
-
 	/**
 	 * Writes in the specified file a dot representation of the abstract
 	 * syntax of this command. By default, it writes a single dot node for this
 	 * node of abstract syntax and it calls the auxiliary
-	 * {@code #toDotAux(FileWriter)} method. Subclasses should redefine the latter
+	 * {@code #toDotAux(Writer)} method. Subclasses should redefine the latter
 	 * in order to consider components of commands.
 	 * It then calls itself recursively on the subsequent command, if any.
 	 *
@@ -58,7 +49,7 @@ public abstract class Command extends Absyn {
 	 * @throws IOException if there is a problem while writing the file
 	 */
 
-	public final String toDot(FileWriter where) throws IOException {
+	public final String toDot(Writer where) throws IOException {
 		// dumps in the file the name of the node in the dot file,
 		// followed by the label used to show the node to the user of dot
 		where.write(dotNodeName() + " [ label = \"" + label() + "\"];\n");
@@ -76,7 +67,7 @@ public abstract class Command extends Absyn {
 	 * @param where the file where the dot representation must be written
 	 */
 
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		// nothing, by default
 	}
 
@@ -92,9 +83,14 @@ public abstract class Command extends Absyn {
 	 */
 
 	public final TypeChecker typeCheck(TypeChecker checker) {
-		// we perform the command-specific type-checking and record
-		// the resulting type-checker
-		return this.checker = checker = typeCheckAux(this.checker = checker);
+		// we perform the command-specific type-checking; the type-checker
+		// is not kept afterwards, so that its environment can be reclaimed
+		try {
+			return typeCheckAux(this.checker = checker);
+		}
+		finally {
+			this.checker = null;
+		}
 	}
 
 	/**
@@ -115,11 +111,12 @@ public abstract class Command extends Absyn {
 	 * found, then it really is dead-code. The converse might not hold
 	 * (semantically correct but incomplete behavior).
 	 *
+	 * @param checker the type-checker used to report dead-code errors
 	 * @return true if and only if every syntactical execution path in this
 	 *         command ends with a {@code return} command
 	 */
 
-	public abstract boolean checkForDeadcode();
+	public abstract boolean checkForDeadcode(TypeChecker checker);
 
 	/**
 	 * Translates this command into its intermediate Kitten code. The result is
@@ -135,7 +132,7 @@ public abstract class Command extends Absyn {
 
 	/**
 	 * Outputs an error message to the user, by using the type-checker
-	 * used during the last type-checking.
+	 * of the type-checking in progress.
 	 *
 	 * @param msg the message to be output
 	 */
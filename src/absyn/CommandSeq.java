@@ -1,14 +1,17 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
+import java.util.Arrays;
 
 import types.CodeSignature;
 import semantical.TypeChecker;
 import translation.Block;
 
 /**
- * A node of abstract syntax representing a sequence of two commands.
- * Local declarations are not visible after the sequence.
+ * A node of abstract syntax representing a sequence of two or more commands,
+ * separated by semicolons. Local declarations are not visible after the sequence.
+ * The commands are kept in an array, so that very long sequences are
+ * processed iteratively, without deep recursion.
  *
  * @author <A HREF="mailto:fausto.spoto@univr.it">Fausto Spoto</A>
  */
@@ -16,22 +19,29 @@ import translation.Block;
 public class CommandSeq extends Command {
 
 	/**
-	 * The first command in the sequence.
+	 * The commands in the sequence. Only the first {@link #size} elements are used.
 	 */
 
-	private final Command first;
+	private Command[] commands;
 
 	/**
-	 * The second command in the sequence.
+	 * The positions in the source file of the semicolons in the sequence.
+	 * The semicolon at index {@code i} follows the command at index {@code i}.
 	 */
 
-	private final Command second;
+	private int[] semicolons;
+
+	/**
+	 * The number of commands in the sequence.
+	 */
+
+	private int size;
 
 	/**
 	 * Constructs the abstract syntax of a sequence of two commands.
 	 *
-	 * @param pos the position in the source file where it starts
-	 *            the concrete syntax represented by this abstract syntax
+	 * @param pos the position in the source file of the semicolon
+	 *            between the two commands
 	 * @param first the first component of the sequence
 	 * @param second the second component of the sequence
 	 */
@@ -39,62 +49,115 @@ public class CommandSeq extends Command {
 	public CommandSeq(int pos, Command first, Command second) {
 		super(pos);
 
-		this.first = first;
-		this.second = second;
+		this.commands = new Command[] { first, second };
+		this.semicolons = new int[] { pos, 0 };
+		this.size = 2;
+	}
+
+	/**
+	 * Appends a command at the end of this sequence. This is called by the
+	 * parser, while it builds the sequence from left to right.
+	 *
+	 * @param semicolon the position in the source file of the semicolon
+	 *                  between the last command of this sequence and {@code command}
+	 * @param command the appended command
+	 * @return this same sequence
+	 */
+
+	public CommandSeq add(int semicolon, Command command) {
+		if (size == commands.length) {
+			commands = Arrays.copyOf(commands, size * 2);
+			semicolons = Arrays.copyOf(semicolons, size * 2);
+		}
+
+		semicolons[size - 1] = semicolon;
+		commands[size++] = command;
+
+		return this;
+	}
+
+	/**
+	 * Yields the number of commands in this sequence.
+	 *
+	 * @return the number of commands, at least two
+	 */
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Yields the command at the given index in this sequence.
+	 *
+	 * @param index the index, between 0 (inclusive) and {@link #size()} (exclusive)
+	 * @return the command at that index
+	 */
+
+	public Command get(int index) {
+		if (index >= size)
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+
+		return commands[index];
 	}
 
 	/**
 	 * Adds abstract syntax class-specific information in the dot file
-	 * representing the abstract syntax of a sequence of two commands.
+	 * representing the abstract syntax of a sequence of commands.
 	 * This amounts to adding arcs from the node for the sequence
-	 * command to the abstract syntax for {@link #first} and {@link #second}.
+	 * command to the abstract syntax of each command, labelled with its index.
 	 *
 	 * @param where the file where the dot representation must be written
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
-		linkToNode("first", first.toDot(where), where);
-		linkToNode("second", second.toDot(where), where);
+	protected void toDotAux(Writer where) throws java.io.IOException {
+		for (int i = 0; i < size; i++)
+			linkToNode(String.valueOf(i), commands[i].toDot(where), where);
 	}
 
 	/**
-	 * Performs the type-checking of the sequence of two commands
-	 * by using a given type-checker. It type-checks the second command in
-	 * the type-checker resulting from the type-checking of the first command.
-	 * It returns the type-checker resulting from the type-checking of the second command.
+	 * Performs the type-checking of the sequence of commands
+	 * by using a given type-checker. It type-checks each command in
+	 * the type-checker resulting from the type-checking of the previous one.
+	 * It returns the type-checker resulting from the type-checking of the last command.
 	 *
 	 * @param checker the type-checker to be used for type-checking
-	 * @return the type-checker resulting from the type-checking of the second command
+	 * @return the type-checker resulting from the type-checking of the last command
 	 */
 
 	@Override
 	protected TypeChecker typeCheckAux(TypeChecker checker) {
-		return second.typeCheck(first.typeCheck(checker));
+		for (int i = 0; i < size; i++)
+			checker = commands[i].typeCheck(checker);
+
+		return checker;
 	}
 
 	/**
-	 * Checks that this conditional does not contain <i>dead-code</i>, that is,
+	 * Checks that this sequence does not contain <i>dead-code</i>, that is,
 	 * commands which can never be executed. It checks that there is no
-	 * dead-code in any of the two commands. If the first command ends with
-	 * a {@code return}, it issues an error.
+	 * dead-code in any of the commands. If a command but the last ends with
+	 * a {@code return}, it issues an error at the semicolon that follows it.
 	 *
-	 * @return true if and only if every execution path in both branches of the
-	 *         conditional ends with a {@code return} command
+	 * @param checker the type-checker used to report dead-code errors
+	 * @return true if and only if every execution path in the last command
+	 *         ends with a {@code return} command
 	 */
 
 	@Override
-	public boolean checkForDeadcode() {
-		if (first.checkForDeadcode())
-			error("dead-code after this statement");
+	public boolean checkForDeadcode(TypeChecker checker) {
+		for (int i = 0; i < size - 1; i++)
+			if (commands[i].checkForDeadcode(checker))
+				error(checker, semicolons[i], "dead-code after this statement");
 
-		return second.checkForDeadcode();
+		return commands[size - 1].checkForDeadcode(checker);
 	}
 
 	/**
 	 * Translates this command into intermediate Kitten bytecode. Namely, it
-	 * translates the first command by using as continuation the translation of
-	 * the second command by using the given {@code continuation}.
+	 * translates the last command by using the given {@code continuation}
+	 * and then, backwards, each command by using as continuation the
+	 * translation of the subsequent one.
 	 *
 	 * @param where the method or constructor where this expression occurs
 	 * @param continuation the continuation to be executed after this sequence of commands
@@ -103,6 +166,9 @@ public class CommandSeq extends Command {
 
 	@Override
 	public Block translate(CodeSignature where, Block continuation) {
-		return first.translate(where,second.translate(where,continuation));
+		for (int i = size - 1; i >= 0; i--)
+			continuation = commands[i].translate(where, continuation);
+
+		return continuation;
 	}
-}
\ No newline at end of file
+}
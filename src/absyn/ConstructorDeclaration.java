@@ -1,8 +1,9 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import semantical.TypeChecker;
+import syntactical.LazyBody;
 import types.ClassType;
 import types.ConstructorSignature;
 import types.TypeList;
@@ -25,12 +26,25 @@ public class ConstructorDeclaration extends CodeDeclaration {
 	 * @param formals the abstract syntax of the formal parameters
 	 *                of the constructor
 	 * @param body the abstract syntax of the body of the constructor
-	 * @param next the abstract syntax of the declaration of the
-	 *             subsequent class member, if any
 	 */
 
-	public ConstructorDeclaration(int pos, FormalParameters formals, Command body, ClassMemberDeclaration next) {
-		super(pos, formals, body, next);
+	public ConstructorDeclaration(int pos, FormalParameters formals, Command body) {
+		super(pos, formals, body);
+	}
+
+	/**
+	 * Constructs the abstract syntax of a constructor declaration whose body
+	 * is parsed and type-checked only when needed.
+	 *
+	 * @param pos the starting position in the source file of
+	 *            the concrete syntax represented by this abstract syntax
+	 * @param formals the abstract syntax of the formal parameters
+	 *                of the constructor
+	 * @param body the body of the constructor, not parsed yet
+	 */
+
+	public ConstructorDeclaration(int pos, FormalParameters formals, LazyBody body) {
+		super(pos, formals, body);
 	}
 
 	/**
@@ -52,7 +66,7 @@ public class ConstructorDeclaration extends CodeDeclaration {
 	 * @param where the file where the dot representation must be written
 	 */
 
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		if (getFormals() != null)
 			linkToNode("formals", getFormals().toDot(where), where);
 
@@ -69,7 +83,7 @@ public class ConstructorDeclaration extends CodeDeclaration {
 	@Override
 	protected void addTo(ClassType clazz) {
 		ConstructorSignature cSig = new ConstructorSignature
-			(clazz, getFormals() != null ? getFormals().toType() : TypeList.EMPTY, this);
+			(clazz, getFormals() != null ? getFormals().toType(clazz.getContext()) : TypeList.EMPTY, this);
 
 		clazz.addConstructor(cSig);
 
@@ -82,16 +96,43 @@ public class ConstructorDeclaration extends CodeDeclaration {
 	 * whose only variable in scope is {@code this} of the defining class of the
 	 * constructor, and where only return instructions of type {@code void} are allowed.
 	 * It then type-checks the body of the constructor in that type-checker
-	 * and checks that it does not contain any dead-code.
+	 * and checks that it does not contain any dead-code, unless its parsing
+	 * has been deferred.
 	 *
 	 * @param clazz the semantical type of the class where this constructor occurs.
 	 */
 
 	@Override
 	protected void typeCheckAux(ClassType clazz) {
+		// a lazily parsed body is type-checked only if it gets translated
+		if (!isBodyDeferred())
+			typeCheckBody(clazz);
+
+		TypeChecker checker = new TypeChecker(clazz.getContext(), VoidType.INSTANCE, clazz.getErrorMsg());
+
+		// if our superclass exists, it must contain an empty constructor,
+		// that will be chained to this constructor
+		if (clazz.getSuperclass() != null && clazz.getSuperclass().constructorLookup(TypeList.EMPTY) == null)
+			error(checker, clazz.getSuperclass() + " has no empty constructor");
+
+		// constructors return nothing, so that we do not check whether
+		// a return statement is always present at the end of every
+		// syntactical execution path in the body of a constructor
+	}
+
+	/**
+	 * Type-checks the body of this constructor in a type-checker whose only
+	 * variables in scope are {@code this} and the parameters of the constructor,
+	 * and checks that it does not contain any dead-code.
+	 *
+	 * @param clazz the semantical type of the class where this constructor occurs
+	 */
+
+	@Override
+	protected void typeCheckBody(ClassType clazz) {
 		FormalParameters formals = getFormals();
 
-		TypeChecker checker = new TypeChecker(VoidType.INSTANCE, clazz.getErrorMsg());
+		TypeChecker checker = new TypeChecker(clazz.getContext(), VoidType.INSTANCE, clazz.getErrorMsg());
 		checker = checker.putVar("this", clazz);
 		// we enrich the type-checker with the formal parameters
 		if (formals != null)
@@ -101,15 +142,6 @@ public class ConstructorDeclaration extends CodeDeclaration {
 		getBody().typeCheck(checker);
 
 		// we check that there is no dead-code in the body of the constructor
-		getBody().checkForDeadcode();
-
-		// if our superclass exists, it must contain an empty constructor,
-		// that will be chained to this constructor
-		if (clazz.getSuperclass() != null && clazz.getSuperclass().constructorLookup(TypeList.EMPTY) == null)
-			error(checker, clazz.getSuperclass() + " has no empty constructor");
-
-		// constructors return nothing, so that we do not check whether
-		// a return statement is always present at the end of every
-		// syntactical execution path in the body of a constructor
+		getBody().checkForDeadcode(checker);
 	}
 }
\ No newline at end of file
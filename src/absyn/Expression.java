@@ -1,7 +1,7 @@
 package absyn;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 
 import semantical.TypeChecker;
 import types.BooleanType;
@@ -30,9 +30,8 @@ public abstract class Expression extends Absyn {
 	private Type staticType;
 
 	/**
-	 * The type-checker used during the last type-checking of this
-	 * expression. This is {@code null} if this expression has never
-	 * been type-checked before.
+	 * The type-checker used for the type-checking of this expression, while
+	 * it is in progress, in order to report errors. This is {@code null} otherwise.
 	 */
 
 	private TypeChecker checker;
@@ -77,7 +76,7 @@ public abstract class Expression extends Absyn {
 
 	protected void mustBeBoolean(TypeChecker checker) {
 		if (typeCheck(checker) != BooleanType.INSTANCE)
-			error("boolean expected");
+			error(checker, "boolean expected");
 	}
 
 	/**
@@ -89,7 +88,7 @@ public abstract class Expression extends Absyn {
 
 	protected void mustBeInt(TypeChecker checker) {
 		if (typeCheck(checker) != IntType.INSTANCE)
-			error("integer expected");
+			error(checker, "integer expected");
 	}
 
 	/**
@@ -104,23 +103,11 @@ public abstract class Expression extends Absyn {
 		return staticType;
 	}
 
-	/**
-	 * Yields the type-checker used during the last type-checking of this expression.
-	 *
-	 * @return the type-checker used during the last type-checking of this
-	 *         expression. Yields {@code null} if this expression has not
-	 *         been type-checked yet
-	 */
-
-	public final TypeChecker getTypeChecker() {
-		return checker;
-	}
-
 	/**
 	 * Writes in the specified file a dot representation of the abstract syntax
 	 * of this expression. By default, it writes a single dot node for this
 	 * node of abstract syntax and it calls the auxiliary method
-	 * {@link #toDotAux(FileWriter)}. Subclasses should redefine the latter
+	 * {@link #toDotAux(Writer)}. Subclasses should redefine the latter
 	 * in order to consider components of expressions.
 	 *
 	 * @param where the file where the dot representation must be written
@@ -129,7 +116,7 @@ public abstract class Expression extends Absyn {
 	 * @throws IOException if there is a problem while writing into the file
 	 */
 
-	public final String toDot(FileWriter where) throws IOException {
+	public final String toDot(Writer where) throws IOException {
 		// dumps in the file the name of the node in the dot file,
 		// followed by the label used to show the node to the user of dot
 		where.write(dotNodeName() + " [ label = \"" + label() + "\"];\n");
@@ -147,7 +134,7 @@ public abstract class Expression extends Absyn {
 	 * @param where the file where the dot representation must be written
 	 */
 
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		// nothing, by default
 	}
 
@@ -156,14 +143,19 @@ public abstract class Expression extends Absyn {
 	 * by using a given type-checker. It calls the expression-specific
 	 * type-checking method {@link #typeCheckAux(TypeChecker)} and then stores
 	 * the static type of the expression into {@link #staticType}. It records
-	 * the type-checker inside {@link #checker}.
+	 * the type-checker inside {@link #checker} while the type-checking is in progress.
 	 *
 	 * @param checker the type-checker to be used for type-checking
 	 * @return the static type of the expression, as computed by the type-checker
 	 */
 
 	public final Type typeCheck(TypeChecker checker) {
-		return staticType = typeCheckAux(this.checker = checker);
+		try {
+			return staticType = typeCheckAux(this.checker = checker);
+		}
+		finally {
+			this.checker = null;
+		}
 	}
 
 	/**
@@ -232,7 +224,7 @@ public abstract class Expression extends Absyn {
 
 	/**
 	 * Outputs an error message to the user, by using the type-checker
-	 * used during the last type-checking. Returns a default type
+	 * of the type-checking in progress. Returns a default type
 	 * which is used to continue the type-checking anyway.
 	 *
 	 * @param msg the message to be output
@@ -1,15 +1,19 @@
 package absyn;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
 
 import semantical.TypeChecker;
 import translation.Block;
 import types.CodeSignature;
+import types.Type;
 import types.TypeList;
 
 /**
  * A node of abstract syntax representing a sequence (list) of Kitten expressions.
+ * The expressions are kept in an array, so that very long sequences are
+ * processed iteratively, without deep recursion.
  *
  * @author <A HREF="mailto:fausto.spoto@univr.it">Fausto Spoto</A>
  */
@@ -17,52 +21,71 @@ import types.TypeList;
 public class ExpressionSeq extends Absyn {
 
 	/**
-	 * The head of the list.
+	 * The expressions in the list. Only the first {@link #size} elements are used.
 	 */
 
-	private final Expression head;
+	private Expression[] expressions;
 
 	/**
-	 * The tail of the list.
+	 * The number of expressions in the list.
 	 */
 
-	private final ExpressionSeq tail;
+	private int size;
 
 	/**
-	 * Constructs the abstract syntax of a non-empty sequence (list) of expressions.
+	 * Constructs the abstract syntax of a sequence (list) of a single expression.
 	 *
 	 * @param pos the starting position in the source file of
 	 *            the concrete syntax represented by this abstract syntax
-	 * @param head the head of the list
-	 * @param tail the tail of the list. This might be {@code null}
+	 * @param head the only expression in the list
 	 */
 
-	public ExpressionSeq(int pos, Expression head, ExpressionSeq tail) {
+	public ExpressionSeq(int pos, Expression head) {
 		super(pos);
 
-		this.head = head;
-		this.tail = tail;
+		this.expressions = new Expression[] { head };
+		this.size = 1;
 	}
 
 	/**
-	 * Yields the head of this sequence of expressions.
+	 * Appends an expression at the end of this sequence. This is called by
+	 * the parser, while it builds the sequence from left to right.
 	 *
-	 * @return the head of this sequence of expressions
+	 * @param expression the appended expression
+	 * @return this same sequence
 	 */
 
-	public Expression getHead() {
-		return head;
+	public ExpressionSeq add(Expression expression) {
+		if (size == expressions.length)
+			expressions = Arrays.copyOf(expressions, size * 2);
+
+		expressions[size++] = expression;
+
+		return this;
+	}
+
+	/**
+	 * Yields the number of expressions in this sequence.
+	 *
+	 * @return the number of expressions, at least one
+	 */
+
+	public int size() {
+		return size;
 	}
 
 	/**
-	 * Yields the tail of this sequence of expressions, if any.
+	 * Yields the expression at the given index in this sequence.
 	 *
-	 * @return the tail of this sequence of expressions, if any. Yields {@code null}
-	 *         if there is no tail
+	 * @param index the index, between 0 (inclusive) and {@link #size()} (exclusive)
+	 * @return the expression at that index
 	 */
 
-	public ExpressionSeq getTail() {
-		return tail;
+	public Expression get(int index) {
+		if (index >= size)
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+
+		return expressions[index];
 	}
 
 	/**
@@ -74,32 +97,32 @@ public class ExpressionSeq extends Absyn {
 	 * @throws IOException if there is a problem while writing into the file
 	 */
 
-	public final String toDot(FileWriter where) throws IOException {
+	public final String toDot(Writer where) throws IOException {
 		// dumps in the file the name of the node in the dot file,
 		// followed by the label used to show the node to the user of dot
 		where.write(dotNodeName() + " [ label = \"" + label() + "\"];\n");
 
-		// links this node with the node for the abstract syntax of the head
-		linkToNode("head", head.toDot(where), where);
-
-		// links this node to the node for the abstract syntax of the tail
-		if (tail != null)
-			boldLinkToNode("tail", tail.toDot(where), where);
+		// links this node with the nodes for the abstract syntax of the
+		// expressions, labelled with their index
+		for (int i = 0; i < size; i++)
+			linkToNode(String.valueOf(i), expressions[i].toDot(where), where);
 
 		return dotNodeName();
 	}
 
 	/**
-	 * Type-checks the expressions in this sequence.
+	 * Type-checks the expressions in this sequence, from the last to the first.
 	 *
 	 * @param checker the type-checker used for type-checking
 	 * @return the list of the Kitten types of the elements in this sequence
 	 */
 
 	public TypeList typeCheck(TypeChecker checker) {
-		TypeList result = tail != null ? tail.typeCheck(checker) : TypeList.EMPTY;
+		TypeList result = TypeList.EMPTY;
+		for (int i = size - 1; i >= 0; i--)
+			result = result.push(expressions[i].typeCheck(checker));
 
-		return result.push(head.typeCheck(checker));
+		return result;
 	}
 
 	/**
@@ -110,8 +133,8 @@ public class ExpressionSeq extends Absyn {
 	 * is an intermediate Kitten code which loads on the stack the values
 	 * of the expressions, with the value of the last expression on top, and
 	 * then continues with the given {@code continuation}.
-	 * This methods calls itself recursively on {@link #tail} and then calls
-	 * {@code absyn.Expression.translateAs} on {@link #head}.
+	 * This methods calls {@code absyn.Expression.translateAs} on the
+	 * expressions, from the last to the first.
 	 *
 	 * @param where the method or constructor where this expression occurs
 	 * @param types the list of types of the values which must be left onto the
@@ -123,7 +146,13 @@ public class ExpressionSeq extends Absyn {
 	 */
 
 	public Block translateAs(CodeSignature where, TypeList types, Block continuation) {
-		return head.translateAs(where, types.getHead(),
-			tail != null ? tail.translateAs(where, types.getTail(), continuation) : continuation);
+		Type[] expected = new Type[size];
+		for (int i = 0; i < size; i++, types = types.getTail())
+			expected[i] = types.getHead();
+
+		for (int i = size - 1; i >= 0; i--)
+			continuation = expressions[i].translateAs(where, expected[i], continuation);
+
+		return continuation;
 	}
-}
\ No newline at end of file
+}
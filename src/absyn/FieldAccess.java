@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import types.Type;
 import types.ClassType;
@@ -115,7 +115,7 @@ public class FieldAccess extends Lvalue {
      */
 
     @Override
-    protected void toDotAux(FileWriter where) throws java.io.IOException {
+    protected void toDotAux(Writer where) throws java.io.IOException {
     	linkToNode("receiver", receiver.toDot(where), where);
     	linkToNode("name", toDot(name, where), where);
     }
@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import types.FieldSignature;
 import types.ClassType;
@@ -39,12 +39,10 @@ public class FieldDeclaration extends ClassMemberDeclaration {
 	 *            the concrete syntax represented by this abstract syntax
 	 * @param type the abstract syntax of the type of the field
 	 * @param name the name of the field
-	 * @param next the abstract syntax of the declaration of the
-	 *             subsequent class member, if any
 	 */
 
-	public FieldDeclaration(int pos, TypeExpression type, String name, ClassMemberDeclaration next) {
-		super(pos,next);
+	public FieldDeclaration(int pos, TypeExpression type, String name) {
+		super(pos);
 
 		this.type = type;
 		this.name = name;
@@ -77,7 +75,7 @@ public class FieldDeclaration extends ClassMemberDeclaration {
 	 * @param where the file where the dot representation must be written
 	 */
 
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("type", type.toDot(where), where);
 		linkToNode("name", toDot(name, where), where);
 	}
@@ -91,7 +89,7 @@ public class FieldDeclaration extends ClassMemberDeclaration {
 
 	@Override
 	protected void addTo(ClassType clazz) {
-		this.sig = new FieldSignature(clazz, type.toType(), name, this);
+		this.sig = new FieldSignature(clazz, type.toType(clazz.getContext()), name, this);
 		clazz.addField(name, this.sig);
 	}
 
@@ -103,7 +101,7 @@ public class FieldDeclaration extends ClassMemberDeclaration {
 
 	@Override
 	protected void typeCheckAux(ClassType currentClass) {
-		type.typeCheck();
+		type.typeCheck(currentClass.getContext());
 	}
 
 	/**
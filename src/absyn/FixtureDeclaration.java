@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 import semantical.TypeChecker;
 import types.ClassType;
 import types.FixtureSignature;
@@ -8,13 +8,13 @@ import types.VoidType;
 
 public class FixtureDeclaration extends CodeDeclaration {
 
-	public FixtureDeclaration(int pos, Command body,ClassMemberDeclaration next) {
-		super(pos, null, body, next);
+	public FixtureDeclaration(int pos, Command body) {
+		super(pos, null, body);
 		// TODO Auto-generated constructor stub
 	}
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("body", getBody().toDot(where), where);
 	}
 
@@ -27,10 +27,10 @@ public class FixtureDeclaration extends CodeDeclaration {
 
 	@Override
 	protected void typeCheckAux(ClassType currentClass) {
-		TypeChecker checker = new TypeChecker(VoidType.INSTANCE, currentClass.getErrorMsg());
+		TypeChecker checker = new TypeChecker(currentClass.getContext(), VoidType.INSTANCE, currentClass.getErrorMsg());
 		checker = checker.putVar("this", currentClass);
 		getBody().typeCheck(checker);
-		getBody().checkForDeadcode();
+		getBody().checkForDeadcode(checker);
 	}
 
 }
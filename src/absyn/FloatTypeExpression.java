@@ -1,5 +1,6 @@
 package absyn;
 
+import types.CompilationContext;
 import types.FloatType;
 import types.Type;
 
@@ -23,12 +24,12 @@ public class FloatTypeExpression extends TypeExpression {
 	}
 
 	@Override
-	protected Type typeCheckAux() {
+	protected Type typeCheckAux(CompilationContext context) {
 		return FloatType.INSTANCE;
 	}
 
 	@Override
-	protected Type toTypeAux() {
+	protected Type toTypeAux(CompilationContext context) {
 		return FloatType.INSTANCE;
 	}
 
@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import types.CodeSignature;
 import semantical.TypeChecker;
@@ -69,7 +69,7 @@ public class For extends Command {
      */
 
     @Override
-    protected void toDotAux(FileWriter where) throws java.io.IOException {
+    protected void toDotAux(Writer where) throws java.io.IOException {
     	linkToNode("initialisation", initialisation.toDot(where), where);
     	linkToNode("condition", condition.toDot(where), where);
     	linkToNode("update", update.toDot(where), where);
@@ -125,6 +125,7 @@ public class For extends Command {
      * dead-code only if every syntactical execution path in {@link #initialisation}
      * ends with a {@code return}, {@code break} or {@code continue} command.
      *
+     * @param checker the type-checker used to report dead-code errors
      * @return true if and only if every syntactical execution path in
      *         {@link #initialisation} ends with a {@code return}, {@code break} or
      *         {@code continue} command. Note that it returns false otherwise, since we
@@ -132,12 +133,12 @@ public class For extends Command {
      */
 
     @Override
-    public boolean checkForDeadcode() {
-    	update.checkForDeadcode();
-    	body.checkForDeadcode();
+    public boolean checkForDeadcode(TypeChecker checker) {
+    	update.checkForDeadcode(checker);
+    	body.checkForDeadcode(checker);
 
-    	if (initialisation.checkForDeadcode()) {
-    		error("dead-code after for loop initialisation");
+    	if (initialisation.checkForDeadcode(checker)) {
+    		error(checker, "dead-code after for loop initialisation");
 
     		return true;
     	}
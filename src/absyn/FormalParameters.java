@@ -1,13 +1,17 @@
 package absyn;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
 
 import semantical.TypeChecker;
+import types.CompilationContext;
 import types.TypeList;
 
 /**
  * A node of abstract syntax representing the formal parameters of a Kitten method.
+ * The parameters are kept in arrays, so that very long lists are
+ * processed iteratively, without deep recursion.
  *
  * @author <A HREF="mailto:fausto.spoto@univr.it">Fausto Spoto</A>
  */
@@ -15,70 +19,99 @@ import types.TypeList;
 public class FormalParameters extends Absyn {
 
 	/**
-	 * The abstract syntax of the type of the first parameter.
+	 * The abstract syntax of the types of the parameters.
+	 * Only the first {@link #size} elements are used.
 	 */
 
-	private final TypeExpression type;
+	private TypeExpression[] types;
 
 	/**
-	 * The name of the first parameter.
+	 * The names of the parameters. Only the first {@link #size} elements are used.
 	 */
 
-	private final String name;
+	private String[] names;
 
 	/**
-	 * The next parameters, if any.
+	 * The number of parameters.
 	 */
 
-	private final FormalParameters next;
+	private int size;
 
 	/**
-	 * Constructs a node of abstract syntax for a sequence
-	 * of the formal parameters of a method.
+	 * Constructs a node of abstract syntax for the formal parameters
+	 * of a method, consisting of a single parameter.
 	 *
 	 * @param pos the starting position in the source file of
 	 *            the concrete syntax represented by this abstract syntax
-	 * @param type the abstract syntax of the type of the first parameter
-	 * @param name the name of the first parameter
-	 * @param next the declaration of the next parameters, if any
+	 * @param type the abstract syntax of the type of the parameter
+	 * @param name the name of the parameter
 	 */
 
-	public FormalParameters(int pos, TypeExpression type, String name, FormalParameters next) {
+	public FormalParameters(int pos, TypeExpression type, String name) {
 		super(pos);
 
-		this.type = type;
-		this.name = name;
-		this.next = next;
+		this.types = new TypeExpression[] { type };
+		this.names = new String[] { name };
+		this.size = 1;
 	}
 
 	/**
-	 * Yields the abstract syntax of the type of the first parameter.
+	 * Appends a parameter at the end of these parameters. This is called by
+	 * the parser, while it builds the parameters from left to right.
 	 *
-	 * @return the abstract syntax of the type of the first parameter
+	 * @param type the abstract syntax of the type of the appended parameter
+	 * @param name the name of the appended parameter
+	 * @return these same parameters
 	 */
 
-	public TypeExpression getType() {
-		return type;
+	public FormalParameters add(TypeExpression type, String name) {
+		if (size == types.length) {
+			types = Arrays.copyOf(types, size * 2);
+			names = Arrays.copyOf(names, size * 2);
+		}
+
+		types[size] = type;
+		names[size++] = name;
+
+		return this;
 	}
 
 	/**
-	 * Yields the name of the first parameter.
+	 * Yields the number of parameters.
 	 *
-	 * @return the name of the first parameter
+	 * @return the number of parameters, at least one
 	 */
 
-	public String getName() {
-		return name;
+	public int size() {
+		return size;
 	}
 
 	/**
-	 * Yields the abstract syntax of the next parameters, if any.
+	 * Yields the abstract syntax of the type of the parameter at the given index.
 	 *
-	 * @return the abstract syntax of the next parameters, if any
+	 * @param index the index, between 0 (inclusive) and {@link #size()} (exclusive)
+	 * @return the abstract syntax of the type of the parameter at that index
 	 */
 
-	public FormalParameters getNext() {
-		return next;
+	public TypeExpression getType(int index) {
+		if (index >= size)
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+
+		return types[index];
+	}
+
+	/**
+	 * Yields the name of the parameter at the given index.
+	 *
+	 * @param index the index, between 0 (inclusive) and {@link #size()} (exclusive)
+	 * @return the name of the parameter at that index
+	 */
+
+	public String getName(int index) {
+		if (index >= size)
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+
+		return names[index];
 	}
 
 	/**
@@ -90,32 +123,35 @@ public class FormalParameters extends Absyn {
 	 * @throws IOException if there is a problem while writing into the file
 	 */
 
-	public final String toDot(FileWriter where) throws IOException {
+	public final String toDot(Writer where) throws IOException {
 		// dumps in the file the name of the node in the dot file,
 		// followed by the label used to show the node to the user of dot
 		where.write(dotNodeName() + " [ label = \"" + label() + "\"];\n");
 
 		// we add arcs between the dot node for this object and those for
-		// the type, name and next fields
-		linkToNode("type", type.toDot(where), where);
-		linkToNode("name", toDot(name, where), where);
-		if (next != null)
-			boldLinkToNode("next", next.toDot(where), where);
+		// the type and name of each parameter
+		for (int i = 0; i < size; i++) {
+			linkToNode("type" + i, types[i].toDot(where), where);
+			linkToNode("name" + i, toDot(names[i], where), where);
+		}
 
 		return dotNodeName();
 	}
 
 	/**
 	 * Computes the list of semantical types of these parameters.
-	 * It type-checks the first parameter and then, recursively, {@link #next}, if any.
+	 * It type-checks the parameters from the last to the first.
 	 *
+	 * @param context the compilation where the types are looked for
 	 * @return the list of semantical types of these parameteres
 	 */
 
-	public TypeList typeCheck() {
-		TypeList result = next != null ? next.typeCheck() : TypeList.EMPTY;
+	public TypeList typeCheck(CompilationContext context) {
+		TypeList result = TypeList.EMPTY;
+		for (int i = size - 1; i >= 0; i--)
+			result = result.push(types[i].typeCheck(context));
 
-		return result.push(type.typeCheck());
+		return result;
 	}
 
 	/**
@@ -129,29 +165,28 @@ public class FormalParameters extends Absyn {
 	 */
 
 	public TypeChecker typeCheck(TypeChecker checker) {
-		// we add this parameter in the symbol table of the type-checker
-		// and then continue recursively with the other parameters
-		checker = checker.putVar(name,type.typeCheck());
-
-		// we continue with the next parameters, if any
-		if (next != null)
-			checker = next.typeCheck(checker);
+		// we add the parameters in the symbol table of the type-checker, in order
+		for (int i = 0; i < size; i++)
+			checker = checker.putVar(names[i], types[i].typeCheck(checker.getContext()));
 
 		return checker;
 	}
 
 	/**
 	 * Computes the list of semantical types of these parameters.
-	 * It builds the semantical type of the first parameter and then,
-	 * recursively, those of {@link #next}. The difference with {@link #typeCheck()}
+	 * It builds the semantical types of the parameters from the last to the
+	 * first. The difference with {@link #typeCheck(CompilationContext)}
 	 * is that class types occurring in these parameters are not type-checked.
 	 *
+	 * @param context the compilation where the types are looked for
 	 * @return the list of semantical types of these parameteres.
 	 */
 
-	public TypeList toType() {
-		TypeList result = next != null ? next.toType() : TypeList.EMPTY;
+	public TypeList toType(CompilationContext context) {
+		TypeList result = TypeList.EMPTY;
+		for (int i = size - 1; i >= 0; i--)
+			result = result.push(types[i].toType(context));
 
-		return result.push(type.toType());
+		return result;
 	}
-}
\ No newline at end of file
+}
@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import types.CodeSignature;
 import semantical.TypeChecker;
@@ -106,7 +106,7 @@ public class IfThenElse extends Command {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("condition", condition.toDot(where), where);
 		linkToNode("then", then.toDot(where), where);
 		linkToNode("_else", _else.toDot(where), where);
@@ -139,13 +139,14 @@ public class IfThenElse extends Command {
 	 * Checks that this conditional does not contain <i>dead-code</i>, that is,
 	 * commands which can never be executed.
 	 *
+	 * @param checker the type-checker used to report dead-code errors
 	 * @return true if and only if every execution path in both branches of the
 	 *         conditional ends with a {@code return} command
 	 */
 
 	@Override
-	public boolean checkForDeadcode() {
-		return then.checkForDeadcode() && _else.checkForDeadcode();
+	public boolean checkForDeadcode(TypeChecker checker) {
+		return then.checkForDeadcode(checker) && _else.checkForDeadcode(checker);
 	}
 
 	/**
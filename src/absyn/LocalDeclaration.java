@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import semantical.TypeChecker;
 import types.Type;
@@ -35,6 +35,13 @@ public class LocalDeclaration extends Command {
 
 	private final Expression initialiser;
 
+	/**
+	 * The progressive number of the declared variable inside the method
+	 * where it occurs, as resolved during the last type-checking.
+	 */
+
+	private int varNum;
+
 	/**
 	 * Constructs the abstract syntax of the declaration of a local variable.
 	 *
@@ -99,7 +106,7 @@ public class LocalDeclaration extends Command {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("type", type.toDot(where), where);
 		linkToNode("name", toDot(name, where), where);
 		linkToNode("initialiser", initialiser.toDot(where), where);
@@ -112,7 +119,8 @@ public class LocalDeclaration extends Command {
 	 * and then checks that it can be assigned to the declared type of
 	 * the variable. It returns a type-checker identical to that
 	 * passed as a parameter but where the local variable is bound
-	 * to its declared type.
+	 * to its declared type. The progressive number of the variable
+	 * is recorded, so that translation needs no lookup.
 	 *
 	 * @param checker the type-checker to be used for type-checking
 	 * @return a type-checker identical to {@code checker} but where
@@ -122,7 +130,7 @@ public class LocalDeclaration extends Command {
 	@Override
 	protected TypeChecker typeCheckAux(TypeChecker checker) {
 		// we type check the declared type of the variable
-		Type left = type.typeCheck();
+		Type left = type.typeCheck(checker.getContext());
 
 		// we type-check the initialising expression and require
 		// that it can be assigned to the declared type of the variable
@@ -131,6 +139,9 @@ public class LocalDeclaration extends Command {
 		if (!right.canBeAssignedTo(left))
 			error(right + " cannot be assigned to " + left);
 
+		// the variable gets the next progressive number
+		varNum = checker.getNumberOfVars();
+
 		// we return a type-checker where the variable is bound to its declared type
 		return checker.putVar(name, left);
 	}
@@ -139,11 +150,12 @@ public class LocalDeclaration extends Command {
 	 * Checks that this local declaration does not contain <i>dead-code</i>, that is,
 	 * commands that can never be executed. This is always true for local declarations.
 	 *
+	 * @param checker the type-checker used to report dead-code errors
 	 * @return false, since this command never terminates with a {@code return} command
 	 */
 
 	@Override
-	public boolean checkForDeadcode() {
+	public boolean checkForDeadcode(TypeChecker checker) {
 		return false;
 	}
 
@@ -163,8 +175,7 @@ public class LocalDeclaration extends Command {
 
 	@Override
 	public Block translate(CodeSignature where, Block continuation) {
-		// we get the number and type of the variable
-		int varNum = getTypeChecker().getVarNum(name);
+		// we get the type of the variable
 		Type staticType = type.getStaticType();
 
 		// we return a code which starts with the translation of the initialising expression,
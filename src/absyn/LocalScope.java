@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import types.CodeSignature;
 import semantical.TypeChecker;
@@ -57,7 +57,7 @@ public class LocalScope extends Command {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("body", body.toDot(where), where);
 	}
 
@@ -83,13 +83,14 @@ public class LocalScope extends Command {
 	 * commands that can never be executed. This is reduced to the problem
 	 * of finding dead-code in its body.
 	 *
+	 * @param checker the type-checker used to report dead-code errors
 	 * @return true if and only if every syntactical execution path in the body of this
 	 *         local declaration ends with a {@code return} command
 	 */
 
 	@Override
-	public boolean checkForDeadcode() {
-		return body.checkForDeadcode();
+	public boolean checkForDeadcode(TypeChecker checker) {
+		return body.checkForDeadcode(checker);
 	}
 
 	/**
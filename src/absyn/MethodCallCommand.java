@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 import java.util.Set;
 
 import semantical.TypeChecker;
@@ -136,7 +136,7 @@ public class MethodCallCommand extends Command {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("receiver", receiver.toDot(where), where);
 		linkToNode("name", toDot(name, where), where);
 
@@ -190,11 +190,12 @@ public class MethodCallCommand extends Command {
 	 * Checks that this method call command does not contain <i>dead-code</i>, that is,
 	 * commands that can never be executed. This is always true for method calls.
 	 *
+	 * @param checker the type-checker used to report dead-code errors
 	 * @return false, since this command never terminates with a {@code return} command
 	 */
 
 	@Override
-	public boolean checkForDeadcode() {
+	public boolean checkForDeadcode(TypeChecker checker) {
 		return false;
 	}
 
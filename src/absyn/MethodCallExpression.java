@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 import java.util.Set;
 
 import semantical.TypeChecker;
@@ -136,7 +136,7 @@ public class MethodCallExpression extends Expression {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("receiver", receiver.toDot(where), where);
 		linkToNode("name", toDot(name, where), where);
 
@@ -1,8 +1,9 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import semantical.TypeChecker;
+import syntactical.LazyBody;
 import types.ClassType;
 import types.MethodSignature;
 import types.Type;
@@ -38,13 +39,31 @@ public class MethodDeclaration extends CodeDeclaration {
 	 * @param name the name of the method
 	 * @param formals the abstract syntax of the formal parameters of the method
 	 * @param body the abstract syntax of the body of the method
-	 * @param next the abstract syntax of the declaration of the
-	 *             subsequent class member, if any
 	 */
 
 	public MethodDeclaration(int pos, TypeExpression returnType, String name,
-			FormalParameters formals, Command body, ClassMemberDeclaration next) {
-		super(pos, formals, body, next);
+			FormalParameters formals, Command body) {
+		super(pos, formals, body);
+
+		this.name = name;
+		this.returnType = returnType;
+	}
+
+	/**
+	 * Constructs the abstract syntax of a method declaration whose body is
+	 * parsed and type-checked only when needed.
+	 *
+	 * @param pos the starting position in the source file of
+	 *            the concrete syntax represented by this abstract syntax
+	 * @param returnType the abstract syntax of the return type of the method
+	 * @param name the name of the method
+	 * @param formals the abstract syntax of the formal parameters of the method
+	 * @param body the body of the method, not parsed yet
+	 */
+
+	public MethodDeclaration(int pos, TypeExpression returnType, String name,
+			FormalParameters formals, LazyBody body) {
+		super(pos, formals, body);
 
 		this.name = name;
 		this.returnType = returnType;
@@ -91,7 +110,7 @@ public class MethodDeclaration extends CodeDeclaration {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("returnType", returnType.toDot(where), where);
 		linkToNode("name", toDot(name, where), where);
 
@@ -109,8 +128,8 @@ public class MethodDeclaration extends CodeDeclaration {
 
 	@Override
 	protected void addTo(ClassType clazz) {
-		Type rt = returnType.toType();
-		TypeList pars = getFormals() != null ? getFormals().toType() : TypeList.EMPTY;
+		Type rt = returnType.toType(clazz.getContext());
+		TypeList pars = getFormals() != null ? getFormals().toType(clazz.getContext()) : TypeList.EMPTY;
 		MethodSignature mSig = new MethodSignature(clazz, rt, pars, name, this);
 
 		clazz.addMethod(name, mSig);
@@ -126,9 +145,10 @@ public class MethodDeclaration extends CodeDeclaration {
 	 * Then it builds a type-checker whose only variable in scope is
 	 * {@code this} of type {@code clazz} and the parameters of the method,
 	 * and where return instructions of type {@code returnType} are allowed.
-	 * It then type-checks the body of the method in that type-checker.
-	 * It finally checks that if this method does not return {@code void},
-	 * then every execution path ends with a {@code return} command.
+	 * It then type-checks the body of the method in that type-checker,
+	 * unless its parsing has been deferred, and finally checks that if this
+	 * method does not return {@code void}, then every execution path ends
+	 * with a {@code return} command.
 	 *
 	 * @param clazz the semantical type of the class where this method occurs
 	 */
@@ -138,14 +158,14 @@ public class MethodDeclaration extends CodeDeclaration {
 		TypeChecker checker;
 		ClassType superclass;
 		MethodSignature overridden;
-		Type rt = returnType.typeCheck();
+		Type rt = returnType.typeCheck(clazz.getContext());
 
 		// we build a type-checker which signals errors for the source code
 		// of the class where this method is defined,
 		// whose only variables in scope is this of type
 		// clazz and the parameters of the method, and
 		// where return instructions of type returnType are allowed
-		checker = new TypeChecker(rt,clazz.getErrorMsg());
+		checker = new TypeChecker(clazz.getContext(), rt, clazz.getErrorMsg());
 
 		// the main method is the only <i>static</i> method, where there is no this variable
 		if (!getSignature().getName().equals("main"))
@@ -154,7 +174,7 @@ public class MethodDeclaration extends CodeDeclaration {
 		// we enrich the type-checker with the formal parameters
 		checker = getFormals() != null ? getFormals().typeCheck(checker) : checker;
 
-		TypeList pars = getFormals() != null ? getFormals().typeCheck() : null;
+		TypeList pars = getFormals() != null ? getFormals().typeCheck(clazz.getContext()) : null;
 
 		// we check if this method overrides a method of some superclass
 		superclass = clazz.getSuperclass();
@@ -171,11 +191,37 @@ public class MethodDeclaration extends CodeDeclaration {
 							name + "\". Was " + overridden.getReturnType());
 		}
 
+		// a lazily parsed body is type-checked only if it gets translated
+		if (!isBodyDeferred())
+			typeCheckBody(clazz);
+	}
+
+	/**
+	 * Type-checks the body of this method in a type-checker whose only
+	 * variables in scope are {@code this} and the parameters of the method.
+	 * It then checks that if this method does not return {@code void},
+	 * then every execution path ends with a {@code return} command.
+	 *
+	 * @param clazz the semantical type of the class where this method occurs
+	 */
+
+	@Override
+	protected void typeCheckBody(ClassType clazz) {
+		Type rt = getSignature().getReturnType();
+		TypeChecker checker = new TypeChecker(clazz.getContext(), rt, clazz.getErrorMsg());
+
+		// the main method is the only <i>static</i> method, where there is no this variable
+		if (!getSignature().getName().equals("main"))
+			checker = checker.putVar("this", clazz);
+
+		// we enrich the type-checker with the formal parameters
+		checker = getFormals() != null ? getFormals().typeCheck(checker) : checker;
+
 		// we type-check the body of the method in the resulting type-checker
 		getBody().typeCheck(checker);
 
 		// we check that there is no dead-code in the body of the method
-		boolean stopping = getBody().checkForDeadcode();
+		boolean stopping = getBody().checkForDeadcode(checker);
 
 		// we check that if the method does not return void then
 		// every syntactical execution path in the method ends with
@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import types.FloatType;
 import types.IntType;
@@ -58,7 +58,7 @@ public class Minus extends Expression {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("expression", expression.toDot(where), where);
 	}
 
@@ -1,10 +1,11 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
-import types.Type;
 import types.ArrayType;
 import types.CodeSignature;
+import types.CompilationContext;
+import types.Type;
 import semantical.TypeChecker;
 import translation.Block;
 import bytecode.NEWARRAY;
@@ -75,7 +76,7 @@ public class NewArray extends Expression {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("elementsType", elementsType.toDot(where), where);
 		linkToNode("size", size.toDot(where), where);
 	}
@@ -94,7 +95,8 @@ public class NewArray extends Expression {
 	protected Type typeCheckAux(TypeChecker checker) {
 		size.mustBeInt(checker);
 
-		return ArrayType.mk(elementsType.typeCheck());
+		CompilationContext context = checker.getContext();
+		return ArrayType.mk(context, elementsType.typeCheck(context));
 	}
 
 	/**
@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 import java.util.Set;
 
 import semantical.TypeChecker;
@@ -111,7 +111,7 @@ public class NewObject extends Expression {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("className", toDot(className, where), where);
 		if (actuals != null)
 			linkToNode("actuals", actuals.toDot(where), where);
@@ -130,7 +130,7 @@ public class NewObject extends Expression {
 
 	@Override
 	protected Type typeCheckAux(TypeChecker checker) {
-		ClassType target = ClassType.mk(className);
+		ClassType target = ClassType.mk(checker.getContext(), className);
 
 		target.typeCheck();
 
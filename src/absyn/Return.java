@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import semantical.TypeChecker;
 import translation.Block;
@@ -23,6 +23,14 @@ public class Return extends Command {
 
 	private Expression returned;
 
+	/**
+	 * The type returned by the method where this command occurs, as found
+	 * during the last type-checking. This is {@code null} if this command
+	 * has not been type-checked yet.
+	 */
+
+	private Type returnType;
+
 	/**
 	 * Constructs the abstract syntax of a {@code return} command.
 	 *
@@ -59,7 +67,7 @@ public class Return extends Command {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		if (returned != null)
 			linkToNode("returned", returned.toDot(where), where);
 	}
@@ -81,7 +89,7 @@ public class Return extends Command {
 	@Override
 	protected TypeChecker typeCheckAux(TypeChecker checker) {
 		// we get from the type-checker the expected type for the return instructions
-		Type expectedReturnType = checker.getReturnType();
+		Type expectedReturnType = returnType = checker.getReturnType();
 
 		// a return command without expression is legal only inside a void method
 		if (returned == null && expectedReturnType != VoidType.INSTANCE)
@@ -101,11 +109,12 @@ public class Return extends Command {
 	 * Checks that this {@code return} command does not contain <i>dead-code</i>, that is,
 	 * commands that can never be executed. This is always true for {@code return} commands.
 	 *
+	 * @param checker the type-checker used to report dead-code errors
 	 * @return true, since this command always terminates with a {@code return} command (itself)
 	 */
 
 	@Override
-	public boolean checkForDeadcode() {
+	public boolean checkForDeadcode(TypeChecker checker) {
 		return true;
 	}
 
@@ -122,11 +131,8 @@ public class Return extends Command {
 
 	@Override
 	public Block translate(CodeSignature where, Block continuation) {
-		// we get the type which must be returned by this the current method
-		Type returnType = getTypeChecker().getReturnType();
-
 		// we get a code which is made of a block containing the bytecode return
-		continuation = new Block(new RETURN(returnType));
+		continuation = new Block(new RETURN(returnType), where);
 
 		// if there is an initialising expression, we translate it
 		if (returned != null)
@@ -43,11 +43,12 @@ public class Skip extends Command {
 	 * Checks that this command does not contain <i>dead-code</i>, that is,
 	 * commands which can never be executed. This is always true for the skip command.
 	 *
+	 * @param checker the type-checker used to report dead-code errors
 	 * @return false, since this command never terminates with a {@code return}
 	 */
 
 	@Override
-	public boolean checkForDeadcode() {
+	public boolean checkForDeadcode(TypeChecker checker) {
 		return false;
 	}
 
@@ -1,7 +1,7 @@
 package absyn;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -10,11 +10,13 @@ import org.apache.bcel.generic.LDC;
 import bytecode.CONST;
 import bytecode.NEWSTRING;
 import bytecode.RETURN;
+import metrics.Metrics;
 import semantical.TypeChecker;
 import translation.Block;
 import types.BooleanType;
 import types.ClassMemberSignature;
 import types.ClassType;
+import types.CodeSignature;
 import types.TestSignature;
 import types.VoidType;
 
@@ -22,15 +24,14 @@ public class TestDeclaration extends CodeDeclaration {
 
 	private final String name;
 
-	public TestDeclaration(int pos, String name, Command body,
-			ClassMemberDeclaration next) {
-		super(pos, null, body, next);
+	public TestDeclaration(int pos, String name, Command body) {
+		super(pos, null, body);
 		this.name = name;
 		// TODO Auto-generated constructor stub
 	}
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("name", toDot(name, where), where);
 		linkToNode("body", getBody().toDot(where), where);
 	}
@@ -44,11 +45,11 @@ public class TestDeclaration extends CodeDeclaration {
 
 	@Override
 	protected void typeCheckAux(ClassType currentClass) {
-		TypeChecker checker = new TypeChecker(VoidType.INSTANCE,
+		TypeChecker checker = new TypeChecker(currentClass.getContext(), VoidType.INSTANCE,
 				currentClass.getErrorMsg(), true);
 		checker = checker.putVar("this", currentClass);
 		getBody().typeCheck(checker);
-		getBody().checkForDeadcode();
+		getBody().checkForDeadcode(checker);
 	}
 
 	@Override
@@ -66,8 +67,17 @@ public class TestDeclaration extends CodeDeclaration {
 			// checkForDeadCode() (see typeCheck() in MethodDeclaration.java)
 			
 			//ritorna stringa vuota se il test e passato (arrivo in fondo superando tutti gli assert
-			this.getSignature().setCode(getBody().translate(this.getSignature(),
-					new NEWSTRING("").followedBy(new Block(new RETURN(ClassType.mk("String"))))));
+			CodeSignature sig = this.getSignature();
+			ClassType stringType = ClassType.mk(sig.getDefiningClass().getContext(), "String");
+			Metrics.Measure measure = sig.getDefiningClass().getContext().getMetrics()
+				.begin(Metrics.Phase.TRANSLATE, sig.getDefiningClass().getName(), sig.toString());
+			try {
+				sig.setCode(getBody().translate(sig,
+						new NEWSTRING("").followedBy(new Block(new RETURN(stringType), sig))));
+			}
+			finally {
+				measure.end();
+			}
 
 			// we translate all methods and constructors that are referenced
 			// from the code we have generated
@@ -1,8 +1,9 @@
 package absyn;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 
+import types.CompilationContext;
 import types.Type;
 
 /**
@@ -56,7 +57,7 @@ public abstract class TypeExpression extends Absyn {
 	 * Writes in the specified file a dot representation of the abstract syntax
 	 * of this type. By default, it writes a single dot node for this
 	 * node of abstract syntax and it calls the auxiliary
-	 * {@link #toDotAux(FileWriter)} method. Subclasses should redefine the latter
+	 * {@link #toDotAux(Writer)} method. Subclasses should redefine the latter
 	 * in order to consider components of types.
 	 *
 	 * @param where the file where the dot representation must be written
@@ -65,7 +66,7 @@ public abstract class TypeExpression extends Absyn {
 	 * @throws IOException if there is a problem while writing into the file
 	 */
 
-	public final String toDot(FileWriter where) throws IOException {
+	public final String toDot(Writer where) throws IOException {
 		// dumps in the file the name of the node in the dot file,
 		// followed by the label used to show the node to the user of dot
 		where.write(dotNodeName() + " [ label = \"" + label() + "\"];\n");
@@ -84,54 +85,58 @@ public abstract class TypeExpression extends Absyn {
 	 * @param where the file where the dot representation must be written
 	 */
 
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		// nothing, by default
 	}
 
 	/**
 	 * Type-checks this type expression. It calls the auxiliary method
-	 * {@link #typeCheckAux()} and stores the resulting semantical type
+	 * {@link #typeCheckAux(CompilationContext)} and stores the resulting semantical type
 	 * into {@link #staticType}.
 	 *
+	 * @param context the compilation where the type is looked for
 	 * @return the semantical type corresponding to this type expression
 	 */
 
-	public final Type typeCheck() {
-		return staticType = typeCheckAux();
+	public final Type typeCheck(CompilationContext context) {
+		return staticType = typeCheckAux(context);
 	}
 
 	/**
 	 * Auxiliary method for type-checking. Performs the type-checking of this
 	 * type expression.
 	 *
+	 * @param context the compilation where the type is looked for
 	 * @return the semantical type corresponding to this type expression
 	 */
 
-	protected abstract Type typeCheckAux();
+	protected abstract Type typeCheckAux(CompilationContext context);
 
 	/**
 	 * Yields the semantical type corresponding to this type expression.
-	 * It calls the auxiliary method {@link #toTypeAux()} and stores the
+	 * It calls the auxiliary method {@link #toTypeAux(CompilationContext)} and stores the
 	 * resulting semantical type into {@link #staticType}. The difference with
-	 * {@link #typeCheck()} is that class types occurring in this type
+	 * {@link #typeCheck(CompilationContext)} is that class types occurring in this type
 	 * expressions are not type-checked themselves.
 	 *
+	 * @param context the compilation where the type is looked for
 	 * @return the semantical type corresponding to this type expression
 	 */
 
-	public final Type toType() {
-		return staticType = toTypeAux();
+	public final Type toType(CompilationContext context) {
+		return staticType = toTypeAux(context);
 	}
 
 	/**
 	 * Auxiliary method that yields the semantical type corresponding
-	 * to this type expression. The difference with {@link #typeCheckAux()}
+	 * to this type expression. The difference with {@link #typeCheckAux(CompilationContext)}
 	 * is that class types occurring in this type expressions are not type-checked themselves.
 	 *
+	 * @param context the compilation where the type is looked for
 	 * @return the semantical type corresponding to this type expression
 	 */
 
-	protected abstract Type toTypeAux();
+	protected abstract Type toTypeAux(CompilationContext context);
 
 	/**
 	 * Yields the static semantical type of this type expression, as computed during
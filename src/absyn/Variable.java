@@ -1,9 +1,10 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import types.Type;
 import types.CodeSignature;
+import semantical.TypeAndNumber;
 import semantical.TypeChecker;
 import translation.Block;
 import bytecode.LOAD;
@@ -23,6 +24,14 @@ public class Variable extends Lvalue {
 
 	private final String name;
 
+	/**
+	 * The progressive number of the variable inside the method where it occurs,
+	 * as resolved during the last type-checking. This is -1 if the variable
+	 * has not been resolved yet.
+	 */
+
+	private int varNum = -1;
+
 	/**
 	 * Constructs the abstract syntax of a reference to a program variable.
 	 *
@@ -51,11 +60,12 @@ public class Variable extends Lvalue {
 	 * Yields the unique number of this variable inside the method where
 	 * it occurs. Type-checking must have been completed before calling this method.
 	 *
-	 * @return the unique number of this variable inside the method where it occurs
+	 * @return the unique number of this variable inside the method where it occurs,
+	 *         as resolved during the last type-checking
 	 */
 
 	public int getVarNum() {
-		return getTypeChecker().getVarNum(name);
+		return varNum;
 	}
 
 	/**
@@ -68,14 +78,15 @@ public class Variable extends Lvalue {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("name", toDot(name, where), where);
 	}
 
 	/**
 	 * Performs the type-checking of the reference to a program variable,
 	 * by using a given type-checker.
-	 * It just checks that the variable is known to the type-checker.
+	 * It just checks that the variable is known to the type-checker and
+	 * records its progressive number, so that translation needs no lookup.
 	 *
 	 * @param checker the type-checker to be used for type-checking
 	 * @return the static type that {@code checker} assigns to this variable
@@ -83,15 +94,19 @@ public class Variable extends Lvalue {
 
 	@Override
 	protected Type typeCheckAux(TypeChecker checker) {
-		// we ask the type-checker for the type of this variable
-		Type result = checker.getVar(name);
+		// we ask the type-checker for the type and number of this variable
+		TypeAndNumber tan = checker.getTypeAndNumber(name);
 
-		if (result == null)
+		if (tan == null) {
 			// if the type-checker does not know this variable, we issue an error
+			varNum = -1;
 			return error("undefined variable " + name);
+		}
+
+		varNum = tan.getNumber();
 
 		// we return the type assigned by the type-checker to this variable
-		return result;
+		return tan.getType();
 	}
 
 	/**
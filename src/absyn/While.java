@@ -1,6 +1,6 @@
 package absyn;
 
-import java.io.FileWriter;
+import java.io.Writer;
 
 import types.CodeSignature;
 import semantical.TypeChecker;
@@ -72,7 +72,7 @@ public class While extends Command {
 	 */
 
 	@Override
-	protected void toDotAux(FileWriter where) throws java.io.IOException {
+	protected void toDotAux(Writer where) throws java.io.IOException {
 		linkToNode("condition", condition.toDot(where), where);
 		linkToNode("body", body.toDot(where), where);
 	}
@@ -106,12 +106,13 @@ public class While extends Command {
 	 * Checks that this {@code while} does not contain <i>dead-code</i>, that is,
 	 * commands that can never be executed. It calls itself recursively on {@link #body}.
 	 *
+	 * @param checker the type-checker used to report dead-code errors
 	 * @return false, since there is no guarantee that the loop will be entered at least once
 	 */
 
 	@Override
-	public boolean checkForDeadcode() {
-		body.checkForDeadcode();
+	public boolean checkForDeadcode(TypeChecker checker) {
+		body.checkForDeadcode(checker);
 
 		return false;
 	}
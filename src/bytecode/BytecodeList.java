@@ -108,30 +108,34 @@ public class BytecodeList {
     /**
      * Generates the Java bytecode corresponding to this list of bytecodes.
      * This just calls {@code bytecode.NonBranchingBytecode.generateJavaBytecode(JavaClassGenerator)} on each
-     * non-branching bytecode in the list and appends the results.
+     * non-branching bytecode in the list and appends the results. The list is
+     * scanned by iteration, since it can be very long for long sequences of commands.
      *
      * @param classGen the Java class generator to be used for this generation
      * @return the Java bytecode corresponding to this list of bytecodes
      */
 
     public InstructionList generateJavaBytecode(JavaClassGenerator classGen) {
-    	InstructionList result;
-
-    	if (head instanceof NonBranchingBytecode)
-    		// we generate the Java bytecode for the first bytecode
-    		// if it is not a condition of a branch
-    		result = ((NonBranchingBytecode) head).generateJavaBytecode(classGen);
-    	else
-    		result = new InstructionList();
-
-    	// and for its followers, if any
-    	if (tail != null)
-    		result.append(tail.generateJavaBytecode(classGen));
-
-    	// if we added no instruction, we add a fictitious one so that we never return an empty list
-    	if (result.isEmpty())
+    	InstructionList result = new InstructionList();
+    	boolean lastGenerated = false;
+
+    	for (BytecodeList cursor = this; cursor != null; cursor = cursor.tail) {
+    		// we generate the Java bytecode for each bytecode
+    		// that is not a condition of a branch
+    		InstructionList generated = cursor.head instanceof NonBranchingBytecode ?
+    			((NonBranchingBytecode) cursor.head).generateJavaBytecode(classGen) : null;
+
+    		lastGenerated = generated != null && !generated.isEmpty();
+    		if (lastGenerated)
+    			result.append(generated);
+    	}
+
+    	// if the last bytecode added no instruction, we add a fictitious one,
+    	// so that we never return an empty list and the code of the list
+    	// ends as it would if each suffix of the list were translated on its own
+    	if (!lastGenerated)
     		result.append(new org.apache.bcel.generic.NOP());
 
     	return result;
     }
-}
\ No newline at end of file
+}
@@ -4,7 +4,6 @@ import javaBytecodeGenerator.JavaClassGenerator;
 
 import org.apache.bcel.generic.InstructionList;
 
-import types.ArrayType;
 import types.Type;
 
 /**
@@ -90,10 +89,10 @@ public class NEWARRAY extends NonCallingSequentialBytecode {
 		// puts the type of the elements of the array inside the constant pool
 
 		// this is to cope with a bug in BCEL
-		Type t = elementsType;
+		org.apache.bcel.generic.Type t = elementsType.toBCEL();
 		if (dimensions > 1)
-			t = ArrayType.mk(t);
+			t = new org.apache.bcel.generic.ArrayType(t, 1);
 
-		return new InstructionList(classGen.getFactory().createNewArray(t.toBCEL(), (short) dimensions));
+		return new InstructionList(classGen.getFactory().createNewArray(t, (short) dimensions));
 	}
 }
\ No newline at end of file
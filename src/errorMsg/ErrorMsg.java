@@ -1,6 +1,8 @@
 package errorMsg;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -13,11 +15,18 @@ import java.util.List;
 public class ErrorMsg {
 
 	/**
-	 * The sequence of newline positions in the source {@link #fileName}.
-	 * This is useful to know where source lines stop.
+	 * The sequence of newline positions in the source {@link #fileName},
+	 * in increasing order. This is useful to know where source lines stop.
+	 * Only the first {@link #lines} elements are meaningful.
 	 */
 
-	private final List<Integer> linePos = new ArrayList<>();
+	private int[] linePos = new int[64];
+
+	/**
+	 * The number of newline positions in {@link #linePos}.
+	 */
+
+	private int lines;
 
 	/**
 	 * The name of the file to which this error reporting utility is associated.
@@ -31,6 +40,45 @@ public class ErrorMsg {
 
 	private boolean anyErrors;
 
+	/**
+	 * The messages reported but not yet printed, if messages are currently
+	 * being deferred. This is {@code null} otherwise.
+	 */
+
+	private List<Message> deferred;
+
+	/**
+	 * The map from the positions in the abstract syntax of the source file
+	 * to those in its current text.
+	 */
+
+	private PositionMap positions = PositionMap.IDENTITY;
+
+	/**
+	 * A message reported but not yet printed.
+	 */
+
+	private static class Message implements Comparable<Message> {
+		private final int pos;
+		private final int order;
+		private final String text;
+		private final boolean standardError;
+
+		private Message(int pos, int order, String text, boolean standardError) {
+			this.pos = pos;
+			this.order = order;
+			this.text = text;
+			this.standardError = standardError;
+		}
+
+		@Override
+		public int compareTo(Message other) {
+			// messages are sorted by position and then in the order they were reported
+			int diff = Integer.compare(pos, other.pos);
+			return diff != 0 ? diff : Integer.compare(order, other.order);
+		}
+	}
+
 	/**
 	 * Creates an error reporting utility for the specified source file.
 	 *
@@ -41,6 +89,24 @@ public class ErrorMsg {
 		this.fileName = fileName;
 	}
 
+	/**
+	 * Creates an error reporting utility for the same source file and with the
+	 * same newline positions as the given one, but where no error has been reported.
+	 * This is useful when an already lexed source file is processed again.
+	 *
+	 * @param other the error reporting utility whose source file is used
+	 */
+
+	public ErrorMsg(ErrorMsg other) {
+		this.fileName = other.fileName;
+
+		synchronized (other) {
+			this.linePos = Arrays.copyOf(other.linePos, Math.max(other.lines, 1));
+			this.lines = other.lines;
+			this.positions = other.positions;
+		}
+	}
+
 	/**
 	 * Yields the name of the source file.
 	 *
@@ -57,7 +123,7 @@ public class ErrorMsg {
 	 * @return true if some error has been reported, false otherwise
 	 */
 
-	public boolean anyErrors() {
+	public synchronized boolean anyErrors() {
 		return anyErrors;
 	}
 
@@ -68,8 +134,11 @@ public class ErrorMsg {
 	 *            (number of characters from the beginning of the file)
 	 */
 
-	public void newline(int pos) {
-		linePos.add(pos);
+	public synchronized void newline(int pos) {
+		if (lines == linePos.length)
+			linePos = Arrays.copyOf(linePos, lines * 2);
+
+		linePos[lines++] = pos;
 	}
 
 	/**
@@ -83,48 +152,178 @@ public class ErrorMsg {
 	 * @param msg the message to be reported
 	 */
 
-	public void error(int pos, String msg) {
+	public synchronized void error(int pos, String msg) {
 		anyErrors = true; // an error has been reported at least
 
-		String where;
-		if (pos >= 0) {
-			int last = 0, n = 1;
-
-			// we look for the last new line before position pos
-			for (int line: linePos) {
-				if (line >= pos) break;
+		String message = fileName + "::" + getLineAndChar(pos) + ": " + msg;
+		if (deferred != null)
+			// messages are sorted by their position in the text
+			deferred.add(new Message(locate(pos), deferred.size(), message, false));
+		else
+			System.out.println(message);
+	}
 
-				last = line;
-				n++;
-			}
+	/**
+	 * Reports a message about the source file that is not an error of the
+	 * program, such as those of the runtime of JavaCup when it gives up
+	 * after a syntax error. The message is printed on the standard error,
+	 * as is, but it is deferred as the error messages are, so that it keeps
+	 * its order with respect to them.
+	 *
+	 * @param pos the position the message refers to
+	 *            (number of characters from the beginning of the file).
+	 *            If this is negative, the message is sorted after all others
+	 * @param msg the message to be reported
+	 */
 
-			where = n + "." + (pos - last);
-		}
+	public synchronized void report(int pos, String msg) {
+		if (deferred != null)
+			deferred.add(new Message(pos < 0 ? Integer.MAX_VALUE : locate(pos), deferred.size(), msg, true));
 		else
-			where = "";
+			System.err.println(msg);
+	}
 
-		System.out.println(fileName + "::" + where + ": " + msg);
+	/**
+	 * Starts deferring the messages reported through this utility, so that they
+	 * get printed only at the next call to {@link #flushMessages()}. This is useful
+	 * when the source file is processed by a thread other than the one that
+	 * reports the diagnostics to the user.
+	 */
+
+	public synchronized void deferMessages() {
+		if (deferred == null)
+			deferred = new ArrayList<>();
 	}
-	
-	public String getLineAndChar(int pos){
 
-		String where;
-		if (pos >= 0) {
-			int last = 0, n = 1;
+	/**
+	 * Prints the messages deferred so far, sorted by their position in the
+	 * source file, and stops deferring the subsequent ones. Consecutive
+	 * messages for the same stream are printed with a single write.
+	 */
+
+	public synchronized void flushMessages() {
+		if (deferred != null) {
+			if (!deferred.isEmpty()) {
+				Message[] messages = deferred.toArray(new Message[deferred.size()]);
+				Arrays.sort(messages);
+
+				StringBuilder sb = new StringBuilder();
+				PrintStream stream = System.out;
+				for (Message message: messages) {
+					PrintStream target = message.standardError ? System.err : System.out;
+					if (target != stream) {
+						stream.print(sb);
+						stream.flush();
+						sb.setLength(0);
+						stream = target;
+					}
 
-			// we look for the last new line before position pos
-			for (int line: linePos) {
-				if (line >= pos) break;
+					sb.append(message.text).append(System.lineSeparator());
+				}
 
-				last = line;
-				n++;
+				stream.print(sb);
+				stream.flush();
 			}
 
-			where = n + "." + (pos - last);
+			deferred = null;
 		}
-		else
-			where = "";
+	}
+
+	/**
+	 * Yields the line and the column of the given position in the source file.
+	 *
+	 * @param pos the position (number of characters from the beginning of the file),
+	 *            as used in the abstract syntax (see {@link #locate(int)})
+	 * @return the line and column, as {@code line.column}. This is empty if
+	 *         {@code pos} is negative
+	 */
+
+	public synchronized String getLineAndChar(int pos) {
+		if (pos < 0)
+			return "";
+
+		pos = locate(pos);
+
+		// we look for the last new line before position pos, by binary search
+		int low = 0, high = lines;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (linePos[middle] < pos)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+
+		// low new lines occur before pos
+		int last = low > 0 ? linePos[low - 1] : 0;
+
+		return (low + 1) + "." + (pos - last);
+	}
+
+	/**
+	 * Yields the position in the current text of the source file of a position
+	 * in its abstract syntax. They differ only after a portion of the source
+	 * file has been replaced (see {@link #replace(int, int, char[])}).
+	 *
+	 * @param pos the position in the abstract syntax
+	 * @return the position in the text. This is {@code pos} itself if it is negative
+	 */
+
+	public synchronized int locate(int pos) {
+		return pos < 0 ? pos : positions.locate(pos);
+	}
+
+	/**
+	 * Takes note that some characters of the source file have been replaced
+	 * and that they are going to be parsed again, without parsing the rest
+	 * of the file. The new lines of the file are updated accordingly: those
+	 * of the replacement are its new line characters. The positions of the
+	 * abstract syntax of the rest of the file still refer to the original
+	 * text, hence the replacement gets fresh positions, distinct from those.
+	 *
+	 * @param start the position of the first replaced character in the text, inclusive
+	 * @param end the position of the last replaced character in the text, exclusive
+	 * @param replacement the characters of the replacement
+	 * @return the position in the abstract syntax of the first character of
+	 *         the replacement, or -1 if no more positions are available, in
+	 *         which case nothing is changed
+	 */
+
+	public synchronized int replace(int start, int end, char[] replacement) {
+		PositionMap replaced = positions.replace(start, end, replacement.length);
+		if (replaced == null)
+			return -1;
+
+		int result = positions.getFresh();
+		positions = replaced;
+
+		// the new lines before the replaced characters are kept, those after are shifted
+		int first = 0, last;
+		while (first < lines && linePos[first] < start)
+			first++;
+
+		for (last = first; last < lines && linePos[last] < end; last++);
+
+		int added = 0;
+		for (char c: replacement)
+			if (c == '\n')
+				added++;
+
+		int[] newLinePos = new int[Math.max(lines - (last - first) + added, 1)];
+		System.arraycopy(linePos, 0, newLinePos, 0, first);
+
+		int cursor = first;
+		for (int pos = 0; pos < replacement.length; pos++)
+			if (replacement[pos] == '\n')
+				newLinePos[cursor++] = start + pos;
+
+		int delta = replacement.length - (end - start);
+		for (int pos = last; pos < lines; pos++)
+			newLinePos[cursor++] = linePos[pos] + delta;
+
+		linePos = newLinePos;
+		lines = cursor;
 
-		return where;
+		return result;
 	}
-}
\ No newline at end of file
+}
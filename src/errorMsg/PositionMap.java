@@ -0,0 +1,155 @@
+package errorMsg;
+
+import java.util.Arrays;
+
+/**
+ * A map from the positions used in the abstract syntax of a source file to
+ * the positions in its current text. They coincide until a portion of the
+ * text is replaced and parsed again, without parsing the rest of the file.
+ * The positions of the replacement are then taken from a fresh range, so that
+ * they are distinct from those of the abstract syntax that has not been parsed
+ * again, whose positions get shifted by the difference in length. Maps are
+ * immutable.
+ */
+
+final class PositionMap {
+
+	/**
+	 * The first position of the fresh ranges. It is larger than
+	 * the length of any reasonable source file.
+	 */
+
+	private final static int FIRST_FRESH = 1 << 30;
+
+	/**
+	 * The map that yields every position unchanged.
+	 */
+
+	final static PositionMap IDENTITY = new PositionMap(new int[] { 0 }, new int[] { 0 }, new boolean[1], FIRST_FRESH);
+
+	/**
+	 * The first position of each segment of this map, in increasing order.
+	 * A segment extends up to the first position of the next one.
+	 */
+
+	private final int[] starts;
+
+	/**
+	 * The position in the text of the first position of each segment.
+	 */
+
+	private final int[] targets;
+
+	/**
+	 * True for the segments whose positions refer to a portion of the text
+	 * that has been replaced. They are all mapped to its beginning.
+	 */
+
+	private final boolean[] collapsed;
+
+	/**
+	 * The first position that has not been used yet for a replacement.
+	 */
+
+	private final int fresh;
+
+	private PositionMap(int[] starts, int[] targets, boolean[] collapsed, int fresh) {
+		this.starts = starts;
+		this.targets = targets;
+		this.collapsed = collapsed;
+		this.fresh = fresh;
+	}
+
+	/**
+	 * Yields the position in the text of the given non-negative position.
+	 *
+	 * @param pos the position
+	 * @return the position in the text
+	 */
+
+	int locate(int pos) {
+		// we look for the last segment that starts at or before pos, by binary search
+		int low = 0, high = starts.length - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (starts[middle] <= pos)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+
+		return collapsed[low] ? targets[low] : targets[low] + (pos - starts[low]);
+	}
+
+	/**
+	 * Yields the position that {@link #replace(int, int, int)} will
+	 * assign to the first character of the replacement.
+	 *
+	 * @return the position
+	 */
+
+	int getFresh() {
+		return fresh;
+	}
+
+	/**
+	 * Yields the map after the characters of the text from {@code start} to
+	 * {@code end} have been replaced with {@code length} characters. The latter
+	 * get the positions from {@link #getFresh()} on.
+	 *
+	 * @param start the beginning of the replaced characters in the text, inclusive
+	 * @param end the end of the replaced characters in the text, exclusive
+	 * @param length the number of characters of the replacement
+	 * @return the map, or {@code null} if the fresh positions are exhausted
+	 */
+
+	PositionMap replace(int start, int end, int length) {
+		long next = (long) fresh + length + 1;
+		if (next > Integer.MAX_VALUE)
+			return null;
+
+		int delta = length - (end - start);
+		int size = 0, capacity = starts.length * 3 + 1;
+		int[] newStarts = new int[capacity], newTargets = new int[capacity];
+		boolean[] newCollapsed = new boolean[capacity];
+
+		for (int pos = 0; pos < starts.length; pos++) {
+			int first = starts[pos], target = targets[pos];
+
+			if (collapsed[pos]) {
+				newStarts[size] = first;
+				newTargets[size] = target < start ? target : target >= end ? target + delta : start;
+				newCollapsed[size++] = true;
+				continue;
+			}
+
+			// the segment is split where its targets cross the replaced characters
+			long targetEnd = pos + 1 < starts.length ? target + (long) (starts[pos + 1] - first) : Long.MAX_VALUE;
+
+			if (target < start) {
+				newStarts[size] = first;
+				newTargets[size++] = target;
+			}
+
+			int from = Math.max(target, start);
+			if (from < Math.min(targetEnd, end)) {
+				newStarts[size] = first + (from - target);
+				newTargets[size] = start;
+				newCollapsed[size++] = true;
+			}
+
+			from = Math.max(target, end);
+			if (from < targetEnd) {
+				newStarts[size] = first + (from - target);
+				newTargets[size++] = from + delta;
+			}
+		}
+
+		// the replacement takes the fresh positions
+		newStarts[size] = fresh;
+		newTargets[size++] = start;
+
+		return new PositionMap(Arrays.copyOf(newStarts, size), Arrays.copyOf(newTargets, size),
+			Arrays.copyOf(newCollapsed, size), (int) next);
+	}
+}
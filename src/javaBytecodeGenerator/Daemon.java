@@ -0,0 +1,553 @@
+package javaBytecodeGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import errorMsg.ErrorMsg;
+import types.ClassLoadingScheduler;
+import types.ClassType;
+import types.CompilationContext;
+import translation.Program;
+
+/**
+ * A long-running compiler, that keeps the lexer, the parser and the
+ * Java bytecode generator warm across compilations. It listens on a local
+ * TCP port and serves one compilation request per connection. A request is
+ * a single line of the form
+ * <pre>
+ * secret compile ClassName sourceDir outputDir [dot] [incremental]
+ * </pre>
+ * where {@code dot} asks to dump the Kitten code in dot format as well and
+ * {@code incremental} asks to generate only the class files that would change
+ * (see {@link IncrementalBuild}). A request of the form
+ * <pre>
+ * secret run ClassName sourceDir [tests]
+ * </pre>
+ * compiles the class in memory and runs its {@code main} method in a separate
+ * virtual machine, whose class path is a temporary directory holding the
+ * compiled classes only. The option {@code tests} asks to run the tests of the
+ * compiled class as well. The program reads what the client sends after the
+ * request line, while the tests read no input. Its output is sent to the
+ * client, followed by lines of the form
+ * {@code time run ClassName milliseconds}. A program that does not terminate
+ * within the time limit of the daemon is killed and the answer reports it.
+ * The answer contains the diagnostics of the compilation, one line
+ * per phase of the form {@code time phase milliseconds} and a final line
+ * that is either {@code ok} or {@code failed}. The request {@code secret shutdown}
+ * stops the daemon.
+ * <br>
+ * The {@code secret} is the content of the file {@link #getSecretFile(int)},
+ * written by the daemon at startup, that only its user can read. Requests
+ * without it are refused, since they could make the daemon read and write
+ * any directory it can access.
+ * <br>
+ * Each request is compiled in a fresh compilation context, so that nothing
+ * of a compilation survives it but the cache of the parsed classes. Only the
+ * classes whose source file has been modified since the previous requests are
+ * parsed again.
+ */
+
+public class Daemon {
+
+	/**
+	 * The port used if none is specified.
+	 */
+
+	public final static int DEFAULT_PORT = 7531;
+
+	/**
+	 * The maximal length of a request line, in bytes.
+	 */
+
+	private final static int MAX_REQUEST_LENGTH = 64 * 1024;
+
+	/**
+	 * The time limit used if none is specified, in milliseconds.
+	 */
+
+	public final static long DEFAULT_RUN_TIMEOUT = 10000L;
+
+	/**
+	 * The parsed classes, shared among subsequent compilations.
+	 */
+
+	private final ClassLoadingScheduler.Cache cache = new ClassLoadingScheduler.Cache();
+
+	/**
+	 * The directory of the source files of the last compilation.
+	 */
+
+	private File lastSourceDir;
+
+	/**
+	 * The maximal time that a program run by a request can take, in milliseconds.
+	 */
+
+	private final long runTimeout;
+
+	/**
+	 * Builds a daemon whose programs are killed after the default time limit.
+	 */
+
+	public Daemon() {
+		this(DEFAULT_RUN_TIMEOUT);
+	}
+
+	/**
+	 * Builds a daemon whose programs are killed after the given time limit.
+	 *
+	 * @param runTimeout the maximal time that a program run by a request can take,
+	 *                   in milliseconds
+	 */
+
+	public Daemon(long runTimeout) {
+		this.runTimeout = runTimeout;
+	}
+
+	public static void main(String[] args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		long runTimeout = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_RUN_TIMEOUT;
+		new Daemon(runTimeout).serve(port);
+	}
+
+	/**
+	 * Yields the file where the daemon listening on the given port writes
+	 * the secret that must start its requests. It is in the home directory
+	 * of the user and only the user can read it.
+	 *
+	 * @param port the port
+	 * @return the file
+	 */
+
+	public static File getSecretFile(int port) {
+		return new File(System.getProperty("user.home"), ".kitten-daemon-" + port);
+	}
+
+	/**
+	 * Serves compilation requests on the given local port, until a
+	 * {@code shutdown} request is received.
+	 *
+	 * @param port the port
+	 * @throws IOException if the port cannot be used or the secret cannot be written
+	 */
+
+	public void serve(int port) throws IOException {
+		try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+			File secretFile = getSecretFile(port);
+			byte[] secret = writeSecret(secretFile);
+
+			try {
+				System.out.println("Kitten compiler daemon listening on port " + port + ", with its secret in " + secretFile);
+
+				boolean running = true;
+				while (running)
+					try (Socket socket = server.accept();
+						 InputStream in = socket.getInputStream();
+						 PrintStream out = new PrintStream(socket.getOutputStream(), true)) {
+
+						String request = readLine(in);
+						if (request == null)
+							continue;
+
+						String[] words = request.trim().split("\\s+");
+						// the secret is compared in constant time, so that it cannot be guessed by timing
+						if (!MessageDigest.isEqual(words[0].getBytes(StandardCharsets.US_ASCII), secret)) {
+							out.println("failed: unauthorized request");
+							continue;
+						}
+
+						words = Arrays.copyOfRange(words, 1, words.length);
+						if (words.length == 1 && words[0].equals("shutdown")) {
+							out.println("ok");
+							running = false;
+						}
+						else if (words.length >= 4 && words[0].equals("compile")) {
+							List<String> options = Arrays.asList(words).subList(4, words.length);
+							out.println(compile(words[1], new File(words[2]), new File(words[3]),
+								options.contains("dot"), options.contains("incremental"), out) ? "ok" : "failed");
+						}
+						else if (words.length >= 3 && words[0].equals("run")) {
+							List<String> options = Arrays.asList(words).subList(3, words.length);
+							// the program reads what the client sends after the request
+							out.println(run(words[1], new File(words[2]), options.contains("tests"), in, out) ? "ok" : "failed");
+						}
+						else
+							out.println("failed: unknown request " + String.join(" ", words));
+					}
+					catch (IOException e) {
+						System.out.println("Could not serve a request: " + e.getMessage());
+					}
+			}
+			finally {
+				Files.deleteIfExists(secretFile.toPath());
+			}
+		}
+	}
+
+	/**
+	 * Writes a fresh random secret in the given file, that is created
+	 * readable and writable by its owner only.
+	 *
+	 * @param file the file
+	 * @return the secret, as written in the file
+	 * @throws IOException if the file cannot be written
+	 */
+
+	private static byte[] writeSecret(File file) throws IOException {
+		byte[] random = new byte[32];
+		new SecureRandom().nextBytes(random);
+
+		StringBuilder sb = new StringBuilder();
+		for (byte b: random)
+			sb.append(String.format("%02x", b & 0xff));
+
+		byte[] secret = sb.toString().getBytes(StandardCharsets.US_ASCII);
+
+		// the file is created anew, so that nobody else can have opened it already
+		Path path = file.toPath();
+		Files.deleteIfExists(path);
+		try {
+			Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+		}
+		catch (UnsupportedOperationException e) {
+			// the file system does not support POSIX permissions
+			Files.createFile(path);
+			file.setReadable(false, false);
+			file.setWritable(false, false);
+			file.setReadable(true, true);
+			file.setWritable(true, true);
+		}
+
+		Files.write(path, secret);
+
+		return secret;
+	}
+
+	/**
+	 * Reads a line from the given stream. It is read byte by byte, so that
+	 * nothing after the line is consumed, since that is the input of the
+	 * programs run by the request.
+	 *
+	 * @param in the stream
+	 * @return the line, without its terminator, or {@code null} if the stream is over
+	 * @throws IOException if the line cannot be read or is too long
+	 */
+
+	private static String readLine(InputStream in) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+		int b;
+		while ((b = in.read()) != -1 && b != '\n') {
+			if (line.size() == MAX_REQUEST_LENGTH)
+				throw new IOException("request longer than " + MAX_REQUEST_LENGTH + " bytes");
+
+			line.write(b);
+		}
+
+		return b == -1 && line.size() == 0 ? null : line.toString();
+	}
+
+	/**
+	 * Compiles the given class and all classes reachable from it.
+	 * Diagnostics and timings are sent to the given stream.
+	 *
+	 * @param className the name of the class to compile
+	 * @param sourceDir the directory of the source files
+	 * @param outputDir the directory where the class files must be written
+	 * @param dot true if the Kitten code must be dumped in dot format as well
+	 * @param incremental true if only the class files that would change must be generated
+	 * @param out the stream where diagnostics and timings are sent
+	 * @return true if and only if the compilation succeeded
+	 */
+
+	private boolean compile(String className, File sourceDir, File outputDir, boolean dot, boolean incremental, PrintStream out) {
+		PrintStream originalOut = System.out, originalErr = System.err;
+
+		// the diagnostics of the compiler are sent to the client
+		System.setOut(out);
+		System.setErr(out);
+
+		try {
+			Program program = translate(className, sourceDir, out);
+			if (program == null)
+				return false;
+
+			long time;
+			if (dot) {
+				time = System.currentTimeMillis();
+				program.dumpCodeDot(outputDir);
+				out.println("time dot " + (System.currentTimeMillis() - time));
+			}
+
+			time = System.currentTimeMillis();
+			outputDir.mkdirs();
+			if (incremental) {
+				IncrementalBuild build = new IncrementalBuild(outputDir);
+				Set<ClassType> outdated = build.outdated(program);
+				program.generateJavaBytecode(outputDir, outdated);
+				program.generateTestBytecode(outputDir, outdated);
+				build.save();
+				out.println("generated " + outdated.size() + " of " + program.getContext().getClassTypes().size() + " classes");
+			}
+			else {
+				program.generateJavaBytecode(outputDir);
+				program.generateTestBytecode(outputDir);
+			}
+			out.println("time generation " + (System.currentTimeMillis() - time));
+
+			return true;
+		}
+		catch (IOException e) {
+			out.println("Could not save the state of the incremental build: " + e.getMessage());
+			return false;
+		}
+		catch (RuntimeException e) {
+			out.println("Internal compiler error: " + e);
+			return false;
+		}
+		finally {
+			System.setOut(originalOut);
+			System.setErr(originalErr);
+		}
+	}
+
+	/**
+	 * Compiles the given class and all classes reachable from it, in memory,
+	 * and runs its {@code main} method in a separate virtual machine.
+	 * Diagnostics, timings and the output of the program are sent to the given stream.
+	 *
+	 * @param className the name of the class to compile
+	 * @param sourceDir the directory of the source files
+	 * @param tests true if the tests of the compiled class must be run as well
+	 * @param in the stream the program reads its input from
+	 * @param out the stream where diagnostics, timings and the output are sent
+	 * @return true if and only if the compilation and the executions succeeded
+	 */
+
+	private boolean run(String className, File sourceDir, boolean tests, InputStream in, PrintStream out) {
+		PrintStream originalOut = System.out, originalErr = System.err;
+
+		// the diagnostics of the compiler are sent to the client
+		System.setOut(out);
+		System.setErr(out);
+
+		try {
+			Program program = translate(className, sourceDir, out);
+			if (program == null)
+				return false;
+
+			long time = System.currentTimeMillis();
+			Map<String, byte[]> classes = program.generateClassBytes();
+			out.println("time generation " + (System.currentTimeMillis() - time));
+
+			Path dir = Files.createTempDirectory("kitten-run");
+			try {
+				writeClasses(classes, dir);
+
+				boolean result = true;
+				if (program.getStart() != null)
+					result &= execute(dir, program.getStart().getDefiningClass().getName(), in, out);
+
+				// only the tests of the compiled class are translated
+				if (tests && classes.containsKey(className + "Test"))
+					result &= execute(dir, className + "Test", null, out);
+
+				return result;
+			}
+			finally {
+				delete(dir.toFile());
+			}
+		}
+		catch (IOException e) {
+			out.println("Could not run the program: " + e.getMessage());
+			return false;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			out.println("Interrupted while running the program");
+			return false;
+		}
+		catch (RuntimeException e) {
+			out.println("Internal compiler error: " + e);
+			return false;
+		}
+		finally {
+			System.setOut(originalOut);
+			System.setErr(originalErr);
+		}
+	}
+
+	/**
+	 * Parses, type-checks and translates the given class and all classes
+	 * reachable from it. Diagnostics and timings are sent to the given stream.
+	 *
+	 * @param className the name of the class to compile
+	 * @param sourceDir the directory of the source files
+	 * @param out the stream where diagnostics and timings are sent
+	 * @return the translated program, or {@code null} if the class contains errors
+	 */
+
+	private Program translate(String className, File sourceDir, PrintStream out) {
+		// the cached classes are meaningless for another source directory
+		if (!sourceDir.equals(lastSourceDir)) {
+			cache.clear();
+			lastSourceDir = sourceDir;
+		}
+
+		long time = System.currentTimeMillis();
+		CompilationContext context = new CompilationContext(sourceDir);
+		ClassType clazz = new ClassLoadingScheduler(context, Runtime.getRuntime().availableProcessors(), cache).load(className);
+		ErrorMsg errorMsg = clazz.getErrorMsg();
+		out.println("time front-end " + (System.currentTimeMillis() - time));
+
+		if (errorMsg == null || errorMsg.anyErrors())
+			return null;
+
+		time = System.currentTimeMillis();
+		Program program = clazz.translate();
+		out.println("time translation " + (System.currentTimeMillis() - time));
+
+		return program;
+	}
+
+	/**
+	 * Writes the class files of a program in the given directory.
+	 *
+	 * @param classes the bytes of the classes of the program, by fully-qualified name
+	 * @param dir the directory
+	 * @throws IOException if a class file cannot be written
+	 */
+
+	private static void writeClasses(Map<String, byte[]> classes, Path dir) throws IOException {
+		for (Map.Entry<String, byte[]> entry: classes.entrySet()) {
+			Path file = dir.resolve(entry.getKey().replace('.', File.separatorChar) + ".class");
+			Files.createDirectories(file.getParent());
+			Files.write(file, entry.getValue());
+		}
+	}
+
+	/**
+	 * Deletes a file or a directory with all its contents.
+	 *
+	 * @param file the file or directory
+	 */
+
+	private static void delete(File file) {
+		File[] contents = file.listFiles();
+		if (contents != null)
+			for (File content: contents)
+				delete(content);
+
+		file.delete();
+	}
+
+	/**
+	 * Runs the {@code main} method of the given class in a separate virtual
+	 * machine, whose class path is the given directory. It is killed if it
+	 * does not terminate within the time limit of this daemon. Its output,
+	 * a report of its failure, if any, and its timing are sent to the given stream.
+	 *
+	 * @param dir the directory holding the class files of the program
+	 * @param className the name of the class whose {@code main} method must be run
+	 * @param in the stream the program reads its input from. If this is {@code null},
+	 *           the program reads no input
+	 * @param out the stream
+	 * @return true if and only if the program terminated normally in time
+	 * @throws IOException if the virtual machine cannot be started
+	 * @throws InterruptedException if the daemon is interrupted while waiting for the program
+	 */
+
+	private boolean execute(Path dir, String className, InputStream in, PrintStream out) throws IOException, InterruptedException {
+		String java = new File(new File(System.getProperty("java.home"), "bin"), "java").getPath();
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(java, "-cp", dir.toString(), className).redirectErrorStream(true).start();
+
+		// the copies are daemon threads, so that a client that never closes its input cannot keep the daemon alive
+		if (in != null)
+			copy(in, process.getOutputStream(), true);
+		else
+			process.getOutputStream().close();
+
+		Thread output = copy(process.getInputStream(), out, false);
+
+		boolean terminated = process.waitFor(runTimeout, TimeUnit.MILLISECONDS);
+		if (!terminated) {
+			process.destroyForcibly();
+			process.waitFor();
+		}
+
+		long time = System.nanoTime() - start;
+
+		// the output is over since the program is dead
+		output.join();
+		out.flush();
+
+		boolean result = terminated && process.exitValue() == 0;
+		if (!terminated)
+			out.println("Timeout in " + className + ": killed after " + runTimeout + " milliseconds");
+		else if (!result)
+			out.println("Exception in " + className + ": exit value " + process.exitValue());
+
+		out.println("time run " + className + " " + time / 1000000);
+
+		return result;
+	}
+
+	/**
+	 * Starts a thread that copies a stream into another, until the first is over
+	 * or the second cannot be written anymore.
+	 *
+	 * @param from the stream that is read
+	 * @param to the stream that is written
+	 * @param close true if and only if {@code to} must be closed at the end of the copy
+	 * @return the thread
+	 */
+
+	private static Thread copy(InputStream from, OutputStream to, boolean close) {
+		Thread thread = new Thread(() -> {
+			byte[] buffer = new byte[4096];
+			try {
+				int read;
+				while ((read = from.read(buffer)) != -1) {
+					to.write(buffer, 0, read);
+					to.flush();
+				}
+			}
+			catch (IOException e) {
+				// the program or the client is gone
+			}
+			finally {
+				if (close)
+					try {
+						to.close();
+					}
+					catch (IOException e) {
+						// the program is already dead
+					}
+			}
+		});
+
+		thread.setDaemon(true);
+		thread.start();
+
+		return thread;
+	}
+}
@@ -0,0 +1,117 @@
+package javaBytecodeGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+
+/**
+ * The execution of the {@code main} method of a compiled Kitten class,
+ * inside the running virtual machine. Its classes are defined from their
+ * bytes in memory, through a fresh {@link InMemoryClassLoader}, hence nothing
+ * is written on the file system and no other virtual machine is started.
+ * The output of the execution is captured. Since Kitten programs write on
+ * {@code System.out}, executions are performed one at a time.
+ */
+
+public class Execution {
+
+	/**
+	 * The output of the execution.
+	 */
+
+	private final String output;
+
+	/**
+	 * The time spent in the {@code main} method, in nanoseconds.
+	 */
+
+	private final long time;
+
+	/**
+	 * The exception that terminated the execution, if any.
+	 */
+
+	private final Throwable failure;
+
+	/**
+	 * A lock used to perform one execution at a time.
+	 */
+
+	private final static Object lock = new Object();
+
+	private Execution(String output, long time, Throwable failure) {
+		this.output = output;
+		this.time = time;
+		this.failure = failure;
+	}
+
+	/**
+	 * Runs the {@code main} method of the given class.
+	 *
+	 * @param classes the bytes of the classes of the program, by fully-qualified name
+	 * @param className the name of the class whose {@code main} method must be run
+	 * @return the execution
+	 */
+
+	public static Execution run(Map<String, byte[]> classes, String className) {
+		// the classes of the program can only see the Java platform and themselves
+		ClassLoader loader = new InMemoryClassLoader(classes, ClassLoader.getSystemClassLoader().getParent());
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+		synchronized (lock) {
+			PrintStream originalOut = System.out, originalErr = System.err;
+			Throwable failure = null;
+			long start = System.nanoTime();
+
+			try (PrintStream out = new PrintStream(buffer, true)) {
+				System.setOut(out);
+				System.setErr(out);
+				loader.loadClass(className).getMethod("main", String[].class).invoke(null, (Object) new String[0]);
+			}
+			catch (InvocationTargetException e) {
+				// the program itself threw an exception
+				failure = e.getCause();
+			}
+			catch (ReflectiveOperationException | LinkageError e) {
+				failure = e;
+			}
+			finally {
+				System.setOut(originalOut);
+				System.setErr(originalErr);
+			}
+
+			return new Execution(buffer.toString(), System.nanoTime() - start, failure);
+		}
+	}
+
+	/**
+	 * Yields the output of the execution.
+	 *
+	 * @return the output
+	 */
+
+	public String getOutput() {
+		return output;
+	}
+
+	/**
+	 * Yields the time spent in the {@code main} method.
+	 *
+	 * @return the time, in nanoseconds
+	 */
+
+	public long getTime() {
+		return time;
+	}
+
+	/**
+	 * Yields the exception that terminated the execution, if any.
+	 *
+	 * @return the exception, or {@code null} if the execution terminated normally
+	 */
+
+	public Throwable getFailure() {
+		return failure;
+	}
+}
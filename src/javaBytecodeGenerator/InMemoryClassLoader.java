@@ -0,0 +1,52 @@
+package javaBytecodeGenerator;
+
+import java.util.Map;
+
+/**
+ * A class loader that defines classes from their bytes, kept in memory.
+ * A class is looked for among those bytes before delegating to the parent
+ * loader, so that every loader has its own copy of the classes of a
+ * compiled program, including its run-time support.
+ */
+
+public class InMemoryClassLoader extends ClassLoader {
+
+	/**
+	 * The bytes of the classes defined by this loader, by fully-qualified name.
+	 */
+
+	private final Map<String, byte[]> classes;
+
+	/**
+	 * Builds a class loader for the given classes.
+	 *
+	 * @param classes the bytes of the classes, by fully-qualified name
+	 * @param parent the loader used for all other classes
+	 */
+
+	public InMemoryClassLoader(Map<String, byte[]> classes, ClassLoader parent) {
+		super(parent);
+
+		this.classes = classes;
+	}
+
+	@Override
+	protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+		synchronized (getClassLoadingLock(name)) {
+			Class<?> result = findLoadedClass(name);
+
+			if (result == null) {
+				byte[] bytes = classes.get(name);
+				if (bytes != null)
+					result = defineClass(name, bytes, 0, bytes.length);
+				else
+					result = super.loadClass(name, false);
+			}
+
+			if (resolve)
+				resolveClass(result);
+
+			return result;
+		}
+	}
+}
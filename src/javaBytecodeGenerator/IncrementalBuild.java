@@ -0,0 +1,384 @@
+package javaBytecodeGenerator;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import translation.Program;
+import types.ArrayType;
+import types.ClassMemberSignature;
+import types.ClassType;
+import types.CodeSignature;
+import types.CompilationContext;
+import types.FieldSignature;
+import types.MethodSignature;
+import types.Type;
+import types.TypeList;
+
+/**
+ * The state of an incremental build, that avoids the generation of the
+ * class files that would not change. For each class of a program, it records
+ * a fingerprint of its source code, one of its signature (superclass, fields,
+ * constructors and methods) and one of its members that belong to the program,
+ * together with the classes it depends on. These are the classes referenced
+ * in its source code, their superclasses and the classes occurring in their
+ * signatures, transitively. The class files of a class are generated again
+ * only if its source code or its members in the program changed, or if the
+ * signature of a class it depends on changed, or if they are missing.
+ * The state is kept in a file inside the output directory, between
+ * subsequent compilations.
+ */
+
+public class IncrementalBuild {
+
+	/**
+	 * The name of the file where the state of the build is kept.
+	 */
+
+	public final static String STATE_FILE_NAME = "kitten.deps";
+
+	/**
+	 * The directory where the class files are written.
+	 */
+
+	private final File outputDir;
+
+	/**
+	 * The state of the classes at the end of the previous build, if any.
+	 */
+
+	private final Map<String, ClassState> previous;
+
+	/**
+	 * The state of the classes in the current build.
+	 */
+
+	private final Map<String, ClassState> current = new TreeMap<>();
+
+	/**
+	 * Builds the state of an incremental build for the given output directory,
+	 * by reading the state left there by the previous build, if any.
+	 *
+	 * @param outputDir the directory where the class files are written. If this
+	 *                  is {@code null}, the current directory is used
+	 */
+
+	public IncrementalBuild(File outputDir) {
+		this.outputDir = outputDir;
+		this.previous = load(new File(outputDir, STATE_FILE_NAME));
+	}
+
+	/**
+	 * Yields the class types of the given program whose class files must be
+	 * generated again, and takes note of the state of all its classes.
+	 *
+	 * @param program the program, already translated into Kitten bytecode
+	 * @return the class types whose class files are out of date
+	 */
+
+	public Set<ClassType> outdated(Program program) {
+		CompilationContext context = program.getContext();
+		Collection<ClassType> classes = context.getClassTypes();
+
+		// we group the members in the program by defining class
+		Map<ClassType, Set<String>> members = new HashMap<>();
+		for (ClassType clazz: classes)
+			members.put(clazz, new TreeSet<>());
+
+		for (ClassMemberSignature sig: program.getSigs()) {
+			Set<String> set = members.get(sig.getDefiningClass());
+			if (set != null)
+				set.add(sig.toString());
+		}
+
+		for (ClassType clazz: classes)
+			current.put(clazz.getName(), new ClassState(fingerprint(sourceOf(context, clazz)),
+				fingerprint(signatureOf(clazz)), fingerprint(members.get(clazz)), dependenciesOf(context, clazz)));
+
+		Set<ClassType> result = new LinkedHashSet<>();
+		for (ClassType clazz: classes)
+			if (isOutdated(clazz))
+				result.add(clazz);
+
+		return result;
+	}
+
+	/**
+	 * Writes the state of the classes of the current build inside
+	 * the output directory, for the next build.
+	 *
+	 * @throws IOException if the state cannot be written
+	 */
+
+	public void save() throws IOException {
+		try (BufferedWriter writer = new BufferedWriter(new FileWriter(new File(outputDir, STATE_FILE_NAME)))) {
+			for (Map.Entry<String, ClassState> entry: current.entrySet()) {
+				ClassState state = entry.getValue();
+				writer.write(entry.getKey() + "\t" + state.source + "\t" + state.signature
+					+ "\t" + state.members + "\t" + String.join(" ", state.dependencies));
+				writer.newLine();
+			}
+		}
+	}
+
+	/**
+	 * Determines if the class files of the given class must be generated again.
+	 *
+	 * @param clazz the class
+	 * @return true if and only if that is the case
+	 */
+
+	private boolean isOutdated(ClassType clazz) {
+		String name = clazz.getName();
+		ClassState before = previous.get(name), now = current.get(name);
+
+		if (before == null || !before.source.equals(now.source) || !before.members.equals(now.members)
+				|| !before.dependencies.equals(now.dependencies))
+			return true;
+
+		// the class files must still be there
+		if (!new File(outputDir, name + ".class").isFile()
+				|| (!clazz.getTests().isEmpty() && !new File(outputDir, name + "Test.class").isFile()))
+			return true;
+
+		// we check if the signature of some dependency changed
+		for (String dependency: now.dependencies) {
+			ClassState dependencyBefore = previous.get(dependency), dependencyNow = current.get(dependency);
+			if (dependencyBefore == null || dependencyNow == null
+					|| !dependencyBefore.signature.equals(dependencyNow.signature))
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Yields the source code of the given class.
+	 *
+	 * @param context the compilation the class belongs to
+	 * @param clazz the class
+	 * @return the lines of its source code, or a single line
+	 *         stating that its source is missing
+	 */
+
+	private static Collection<String> sourceOf(CompilationContext context, ClassType clazz) {
+		File file = new File(context.getSourceDirectory(), clazz.getName() + ".kit");
+
+		try {
+			return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+		}
+		catch (IOException e) {
+			return Collections.singleton("missing " + file);
+		}
+	}
+
+	/**
+	 * Yields a description of the signature of the given class, that is,
+	 * of its superclass and of its fields, constructors and methods.
+	 *
+	 * @param clazz the class
+	 * @return the description, in a fixed order
+	 */
+
+	private static Collection<String> signatureOf(ClassType clazz) {
+		Set<String> result = new TreeSet<>();
+		result.add("extends " + clazz.getSuperclass());
+
+		for (FieldSignature field: clazz.getFields().values())
+			result.add(field.toString());
+
+		for (CodeSignature constructor: clazz.getConstructors())
+			result.add(constructor.toString());
+
+		for (Set<MethodSignature> methods: clazz.getMethods().values())
+			for (CodeSignature method: methods)
+				result.add(method.toString());
+
+		return result;
+	}
+
+	/**
+	 * Yields the names of the classes that the given class depends on. They
+	 * are the classes referenced in its source code and, transitively, their
+	 * superclasses and the classes occurring in their signatures.
+	 *
+	 * @param context the compilation the class belongs to
+	 * @param clazz the class
+	 * @return the names of the classes, in alphabetical order. This
+	 *         does not include {@code clazz} itself
+	 */
+
+	private static Set<String> dependenciesOf(CompilationContext context, ClassType clazz) {
+		Set<ClassType> seen = new LinkedHashSet<>();
+		List<ClassType> workList = new ArrayList<>();
+		workList.add(clazz);
+
+		for (String name: clazz.getReferencedClasses())
+			workList.add(ClassType.mk(context, name));
+
+		while (!workList.isEmpty()) {
+			ClassType cursor = workList.remove(workList.size() - 1);
+			if (!seen.add(cursor))
+				continue;
+
+			if (cursor.getSuperclass() != null)
+				workList.add(cursor.getSuperclass());
+
+			for (FieldSignature field: cursor.getFields().values())
+				addClassesIn(field.getType(), workList);
+
+			for (CodeSignature constructor: cursor.getConstructors())
+				addClassesIn(constructor.getParameters(), workList);
+
+			for (Set<MethodSignature> methods: cursor.getMethods().values())
+				for (CodeSignature method: methods) {
+					addClassesIn(method.getReturnType(), workList);
+					addClassesIn(method.getParameters(), workList);
+				}
+		}
+
+		Set<String> result = new TreeSet<>();
+		for (ClassType dependency: seen)
+			if (dependency != clazz)
+				result.add(dependency.getName());
+
+		return result;
+	}
+
+	/**
+	 * Adds to the given list the classes occurring in the given types.
+	 *
+	 * @param types the types
+	 * @param where the list where the classes are added
+	 */
+
+	private static void addClassesIn(TypeList types, List<ClassType> where) {
+		for (TypeList cursor = types; cursor != TypeList.EMPTY; cursor = cursor.getTail())
+			addClassesIn(cursor.getHead(), where);
+	}
+
+	/**
+	 * Adds to the given list the class occurring in the given type, if any.
+	 *
+	 * @param type the type
+	 * @param where the list where the class is added
+	 */
+
+	private static void addClassesIn(Type type, List<ClassType> where) {
+		while (type instanceof ArrayType)
+			type = ((ArrayType) type).getElementsType();
+
+		if (type instanceof ClassType)
+			where.add((ClassType) type);
+	}
+
+	/**
+	 * Yields a fingerprint of the given lines of text.
+	 *
+	 * @param lines the lines
+	 * @return the fingerprint, as an hexadecimal string
+	 */
+
+	private static String fingerprint(Collection<String> lines) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			for (String line: lines) {
+				digest.update(line.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			}
+
+			return String.format("%040x", new BigInteger(1, digest.digest()));
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-1
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Reads the state of a previous build.
+	 *
+	 * @param file the file where the state was written
+	 * @return the state of the classes, by name. This is empty if
+	 *         the file does not exist or cannot be read
+	 */
+
+	private static Map<String, ClassState> load(File file) {
+		Map<String, ClassState> result = new HashMap<>();
+		if (!file.isFile())
+			return result;
+
+		try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] parts = line.split("\t", -1);
+				if (parts.length == 5)
+					result.put(parts[0], new ClassState(parts[1], parts[2], parts[3],
+						parts[4].isEmpty() ? Collections.<String>emptySet() : new TreeSet<>(Arrays.asList(parts[4].split(" ")))));
+			}
+		}
+		catch (IOException e) {
+			// we will just regenerate everything
+			result.clear();
+		}
+
+		return result;
+	}
+
+	/**
+	 * The state of a class in a build.
+	 */
+
+	private static class ClassState {
+
+		/**
+		 * The fingerprint of the source code of the class.
+		 */
+
+		private final String source;
+
+		/**
+		 * The fingerprint of the signature of the class.
+		 */
+
+		private final String signature;
+
+		/**
+		 * The fingerprint of the members of the class that belong to the program.
+		 */
+
+		private final String members;
+
+		/**
+		 * The names of the classes that the class depends on.
+		 */
+
+		private final Set<String> dependencies;
+
+		private ClassState(String source, String signature, String members, Set<String> dependencies) {
+			this.source = source;
+			this.signature = signature;
+			this.members = members;
+			this.dependencies = dependencies;
+		}
+	}
+}
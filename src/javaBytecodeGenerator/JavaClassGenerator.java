@@ -16,6 +16,7 @@ import org.apache.bcel.generic.InstructionHandle;
 import org.apache.bcel.generic.InstructionList;
 import org.apache.bcel.generic.TargetLostException;
 
+import metrics.Metrics;
 import translation.Block;
 import types.ClassMemberSignature;
 import types.ClassType;
@@ -79,16 +80,32 @@ public class JavaClassGenerator extends ClassGen {
 			if (sigs == null || sigs.contains(field))
 				field.createField(this);
 
+		Metrics metrics = clazz.getContext().getMetrics();
+
 		// we add the constructors
 		for (ConstructorSignature constructor: clazz.getConstructors())
-			if (sigs == null || sigs.contains(constructor))
-				constructor.createConstructor(this);
+			if (sigs == null || sigs.contains(constructor)) {
+				Metrics.Measure measure = metrics.begin(Metrics.Phase.JAVA_BYTECODE_GENERATION, clazz.getName(), constructor.toString());
+				try {
+					constructor.createConstructor(this);
+				}
+				finally {
+					measure.end();
+				}
+			}
 
 		// we add the methods
 		for (Set<MethodSignature> s: clazz.getMethods().values())
 			for (MethodSignature method: s)
-				if (sigs == null || sigs.contains(method))
-					method.createMethod(this);
+				if (sigs == null || sigs.contains(method)) {
+					Metrics.Measure measure = metrics.begin(Metrics.Phase.JAVA_BYTECODE_GENERATION, clazz.getName(), method.toString());
+					try {
+						method.createMethod(this);
+					}
+					finally {
+						measure.end();
+					}
+				}
 	}
 
 	public JavaClassGenerator(String class_name, String super_class_name,
@@ -1,7 +1,19 @@
 package javaBytecodeGenerator;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
 import errorMsg.ErrorMsg;
+import lexical.LexerKind;
+import metrics.Metrics;
+import syntactical.ParserKind;
+import types.ClassLoadingScheduler;
 import types.ClassType;
+import types.CompilationContext;
 import translation.Program;
 
 public class Main {
@@ -11,38 +23,150 @@ public class Main {
 			return;
 		}
 
+		// in batch mode, many classes, or all classes in a directory, are compiled together.
+		// In incremental mode, only the class files that would change are generated.
+		// With dot, the Kitten code is dumped in dot format as well.
+		// With metrics=file, a report of the cost of each phase is written in that file.
+		// With lazy, the bodies of the methods and constructors of the classes that are only
+		// referenced are parsed and type-checked only if they are translated.
+		// With lexer=dfa, the hand-written lexical analyser is used instead of that generated by JLex.
+		// With parser=descent, the hand-written syntactical analyser is used instead of that generated by JavaCup
+		boolean batch = args[0].equals("batch"), incremental = false, dot = false, lazy = false;
+		List<String> names = new ArrayList<>();
+		File sourceDir = null, metricsFile = null;
+		LexerKind lexerKind = LexerKind.JLEX;
+		ParserKind parserKind = ParserKind.LALR;
+		if (!batch)
+			names.add(args[0]);
+
+		for (int pos = 1; pos < args.length; pos++)
+			if (args[pos].equals("incremental"))
+				incremental = true;
+			else if (args[pos].equals("dot"))
+				dot = true;
+			else if (args[pos].equals("lazy"))
+				lazy = true;
+			else if (args[pos].startsWith("lexer="))
+				lexerKind = LexerKind.valueOf(args[pos].substring("lexer=".length()).toUpperCase());
+			else if (args[pos].startsWith("parser="))
+				parserKind = ParserKind.valueOf(args[pos].substring("parser=".length()).toUpperCase());
+			else if (args[pos].startsWith("metrics="))
+				metricsFile = new File(args[pos].substring("metrics=".length()));
+			else if (batch && new File(args[pos]).isDirectory()) {
+				sourceDir = new File(args[pos]);
+				names.addAll(classesIn(sourceDir));
+			}
+			else if (batch)
+				names.add(args[pos]);
+
+		if (names.isEmpty()) {
+			System.out.println("You must specify the Kitten classes to compile");
+			return;
+		}
+
+		Metrics metrics = metricsFile != null ? new Metrics() : Metrics.DISABLED;
+
 		long totalTime = System.currentTimeMillis();
 
-		// we build the class type for the file name passed as a parameter.
-		// This triggers type-checking of that class and of all classes referenced from it
+		// we build the class types for the file names passed as parameters.
+		// This triggers type-checking of those classes and of all classes referenced from them,
+		// which are parsed and type-checked in parallel, once
 		long time = System.currentTimeMillis();
-		System.out.println(args[0]);
-		ClassType clazz = ClassType.mkFromFileName(args[0]);
-		ErrorMsg errorMsg = clazz.getErrorMsg();
+		System.out.println(batch ? "Compiling " + names.size() + " classes" : args[0]);
+		CompilationContext context = new CompilationContext(sourceDir, metrics);
+		context.setLazyBodies(lazy);
+		context.setLexerKind(lexerKind);
+		context.setParserKind(parserKind);
+		List<ClassType> classes = new ClassLoadingScheduler(context).load(names);
 		System.out.println("Parsing and type-checking completed     \t[" + (System.currentTimeMillis() - time) + "ms]");
 
-		// if this class did not parse and type-check correctly,
+		// if these classes did not parse and type-check correctly,
 		// we cannot translate the program into intermediate Kitten code
-		if (errorMsg != null && !errorMsg.anyErrors()) {
+		boolean correct = true;
+		for (ClassType clazz: classes) {
+			ErrorMsg errorMsg = clazz.getErrorMsg();
+			correct &= errorMsg != null && !errorMsg.anyErrors();
+		}
+
+		Program program = null;
+		if (correct) {
 			time = System.currentTimeMillis();
-			// we translate this class into Kitten bytecode
-			Program program = clazz.translate();
+			// we translate these classes into a single program of Kitten bytecode
+			program = batch ? ClassType.translate(context, classes) : classes.get(0).translate();
 
 			System.out.println("Translation into Kitten bytecode completed \t[" + (System.currentTimeMillis() - time) + "ms]");
 
-			time = System.currentTimeMillis();
-			program.dumpCodeDot();
+			// lazy bodies are type-checked during translation, hence errors might have been found now
+			if (lazy)
+				for (ClassType clazz: context.getClassTypes()) {
+					ErrorMsg errorMsg = clazz.getErrorMsg();
+					correct &= errorMsg == null || !errorMsg.anyErrors();
+				}
+		}
 
-			System.out.println("Kitten bytecode dumping in dot format completed\t[" + (System.currentTimeMillis() - time) + "ms]");
+		if (correct) {
+			if (dot) {
+				time = System.currentTimeMillis();
+				program.dumpCodeDot();
+
+				System.out.println("Kitten bytecode dumping in dot format completed\t[" + (System.currentTimeMillis() - time) + "ms]");
+			}
+
+			time = System.currentTimeMillis();
 
 			// we translate, into Java bytecode, the Kitten code of every class member which
 		    // is reachable from the class we translated. This also generates the class files
-		    program.generateJavaBytecode();
-		    program.generateTestBytecode();
+		    if (incremental) {
+		    	IncrementalBuild build = new IncrementalBuild(null);
+		    	Set<ClassType> outdated = build.outdated(program);
+		    	program.generateJavaBytecode(null, outdated);
+		    	program.generateTestBytecode(null, outdated);
+
+		    	try {
+		    		build.save();
+		    	}
+		    	catch (IOException e) {
+		    		System.out.println("Could not save the state of the incremental build: " + e.getMessage());
+		    	}
+
+		    	System.out.println("Generated the class files of " + outdated.size() + " out of "
+		    		+ program.getContext().getClassTypes().size() + " classes");
+		    }
+		    else {
+		    	program.generateJavaBytecode();
+		    	program.generateTestBytecode();
+		    }
 
 		    System.out.println("Java bytecode generation completed       \t[" + (System.currentTimeMillis() - time) + "ms]");
 		}
 
 		System.out.println("Total compilation time was " + (System.currentTimeMillis() - totalTime) + "ms");
+
+		if (metricsFile != null)
+			try {
+				metrics.write(metricsFile);
+			}
+			catch (IOException e) {
+				System.out.println("Could not write the metrics of the compilation: " + e.getMessage());
+			}
+	}
+
+	/**
+	 * Yields the names of the Kitten classes whose source file is in the given directory.
+	 *
+	 * @param dir the directory
+	 * @return the names of the classes, in alphabetical order
+	 */
+
+	private static List<String> classesIn(File dir) {
+		List<String> result = new ArrayList<>();
+		File[] files = dir.listFiles();
+		if (files != null)
+			for (File file: files)
+				if (file.isFile() && file.getName().endsWith(".kit"))
+					result.add(file.getName().substring(0, file.getName().length() - 4));
+
+		Collections.sort(result);
+		return result;
 	}
 }
\ No newline at end of file
@@ -95,7 +95,7 @@ public class TestClassGenerator extends JavaClassGenerator {
 	
 	private void createTestMain(ClassType clazz){
 		//definisco tipi per comodita dopo
-		Type strType=ClassType.mk("String").toBCEL();
+		Type strType=new ObjectType("runTime.String");
 		Type arg_str[]={strType};
 		Type arg_C[]={clazz.toBCEL()};
 		//definisco variabili che utilizzero
@@ -317,7 +317,7 @@ public class TestClassGenerator extends JavaClassGenerator {
 	
 	//funzione che genera il bytecode concatena una stringa ad una variabile
 	private InstructionHandle addConcatToVar(InstructionList il,int varIndex, String toConcat){
-		Type strType=ClassType.mk("String").toBCEL();
+		Type strType=new ObjectType("runTime.String");
 		Type arg_str[]={strType};
 		//carica variabile
 		InstructionHandle toRet= il.append(InstructionFactory.createLoad(strType, varIndex));
@@ -334,7 +334,7 @@ public class TestClassGenerator extends JavaClassGenerator {
 	
 	//genero bytecode per concatenare alla var specificata la stringa in cima allo stack
 	private InstructionHandle addConcatToVar(InstructionList il,int varIndex){
-		Type strType=ClassType.mk("String").toBCEL();
+		Type strType=new ObjectType("runTime.String");
 		Type arg_str[]={strType};
 		//carica variabile
 		InstructionHandle toRet= il.append(InstructionFactory.createLoad(strType, varIndex));
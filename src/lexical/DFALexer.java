@@ -0,0 +1,537 @@
+package lexical;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+import java_cup.runtime.Symbol;
+
+import errorMsg.ErrorMsg;
+import syntactical.sym;
+
+/**
+ * A hand-written lexical analyser, that recognises the same tokens of the
+ * analyser generated by JLex from {@code resources/Kitten.lex}, with the same
+ * positions and the same errors. The automaton is coded as a switch over the
+ * current character, that looks ahead at most a few characters in the source
+ * file, which is kept in memory as a whole. The only difference is that
+ * non-ASCII characters, that make the generated analyser fail, are reported
+ * as unmatched input outside strings and comments, and accepted inside them.
+ */
+
+public class DFALexer implements Scanner {
+
+	/**
+	 * The error reporting utility of the source file.
+	 */
+
+	private final ErrorMsg errorMsg;
+
+	/**
+	 * The characters that are lexically analysed.
+	 */
+
+	private final char[] buffer;
+
+	/**
+	 * The number of meaningful characters at the beginning of {@link #buffer}.
+	 */
+
+	private final int end;
+
+	/**
+	 * The position of {@link #buffer} in the source file.
+	 */
+
+	private final int offset;
+
+	/**
+	 * True if and only if new lines must be recorded in {@link #errorMsg}.
+	 * This is false when lexing a portion of a source file whose new lines
+	 * have been already recorded.
+	 */
+
+	private final boolean recordNewlines;
+
+	/**
+	 * The identifiers found so far in the source file.
+	 */
+
+	private final IdentifierTable identifiers = new IdentifierTable();
+
+	/**
+	 * The position, inside {@link #buffer}, of the next character to analyse.
+	 */
+
+	private int pos;
+
+	/**
+	 * The nesting depth of the comments that have been opened but not closed yet.
+	 */
+
+	private int commentCount;
+
+	/**
+	 * The content of the string literal being analysed.
+	 */
+
+	private final StringBuilder string = new StringBuilder();
+
+	/**
+	 * Creates a lexical analyser for a given class name, whose source
+	 * is in the given directory.
+	 *
+	 * @param directory the directory where the source file is looked for.
+	 *                  If this is {@code null}, the current directory is used
+	 * @param fileName the name of the file to be lexically analysed
+	 *                 (with or without the trailing {@code .kit})
+	 * @throws FileNotFoundException if the source file cannot be found
+	 */
+
+	public DFALexer(File directory, String fileName) throws FileNotFoundException {
+		String className = fileName.endsWith(".kit") ? fileName.substring(0, fileName.length() - 4) : fileName;
+		fileName = className + ".kit";
+		this.errorMsg = new ErrorMsg(fileName);
+
+		CharBuffer source = Lexer.read(directory, fileName, errorMsg);
+		this.buffer = source.array();
+		this.end = source.limit();
+		this.offset = 0;
+		this.recordNewlines = true;
+	}
+
+	/**
+	 * Creates a lexical analyser for a portion of a source file that has been
+	 * already lexed by another analyser, such as the body of a method whose
+	 * parsing has been deferred. The positions of the tokens are relative to
+	 * the beginning of the source file and the new lines are not recorded again.
+	 *
+	 * @param errorMsg the error reporting utility of the source file
+	 * @param source the characters of the portion of the source file
+	 * @param offset the position of {@code source} in the source file
+	 */
+
+	public DFALexer(ErrorMsg errorMsg, char[] source, int offset) {
+		this.errorMsg = errorMsg;
+		this.buffer = source;
+		this.end = source.length;
+		this.offset = offset;
+		this.recordNewlines = false;
+	}
+
+	@Override
+	public ErrorMsg getErrorMsg() {
+		return errorMsg;
+	}
+
+	@Override
+	public LexerKind getKind() {
+		return LexerKind.DFA;
+	}
+
+	@Override
+	public char[] getSource(int from, int to) {
+		if (from < offset || from > to || to - offset > end)
+			throw new IllegalArgumentException("The source from " + from + " to " + to + " is not available");
+
+		return Arrays.copyOfRange(buffer, from - offset, to - offset);
+	}
+
+	@Override
+	public Symbol nextToken() {
+		char[] buffer = this.buffer;
+
+		while (pos < end) {
+			int start = pos;
+			char c = buffer[pos++];
+
+			switch (c) {
+			case ' ': case '\t': case '\f': case '\r':
+				break;
+			case '\n':
+				newline(start);
+				break;
+			case '"':
+				Symbol result = string();
+				if (result != null)
+					return result;
+
+				break;
+			case ',':
+				return tok(sym.COMMA, start);
+			case ';':
+				return tok(sym.SEMICOLON, start);
+			case '(':
+				return tok(sym.LPAREN, start);
+			case ')':
+				return tok(sym.RPAREN, start);
+			case '[':
+				return tok(next(']') ? sym.ARRAYSYMBOL : sym.LBRACK, start);
+			case ']':
+				return tok(sym.RBRACK, start);
+			case '{':
+				return tok(sym.LBRACE, start);
+			case '}':
+				return tok(sym.RBRACE, start);
+			case '+':
+				return tok(sym.PLUS, start);
+			case '-':
+				return tok(sym.MINUS, start);
+			case '*':
+				if (next('/')) {
+					err(start, "Unopen comment");
+					break;
+				}
+
+				return tok(sym.TIMES, start);
+			case '/':
+				if (next('*')) {
+					commentCount++;
+					comment();
+					break;
+				}
+
+				return tok(sym.DIVIDE, start);
+			case '=':
+				return tok(sym.EQ, start);
+			case '!':
+				return tok(next('=') ? sym.NEQ : sym.NOT, start);
+			case '<':
+				return tok(next('=') ? sym.LE : sym.LT, start);
+			case '>':
+				return tok(next('=') ? sym.GE : sym.GT, start);
+			case '&':
+				return tok(sym.AND, start);
+			case '|':
+				return tok(sym.OR, start);
+			case ':':
+				if (next('='))
+					return tok(sym.ASSIGN, start);
+
+				err(start, "Unmatched input");
+				break;
+			case '.':
+				if (pos < end && isDigit(buffer[pos]))
+					return floating(start);
+
+				return tok(sym.DOT, start);
+			case '0': case '1': case '2': case '3': case '4':
+			case '5': case '6': case '7': case '8': case '9':
+				return number(start);
+			default:
+				if (isLetter(c))
+					return identifierOrKeyword(start);
+
+				err(start, "Unmatched input");
+			}
+		}
+
+		if (commentCount != 0)
+			err(end, "Unclosed comment");
+
+		return new Symbol(sym.EOF, offset + end, offset + end, null);
+	}
+
+	/**
+	 * Consumes the next character if it is the given one.
+	 *
+	 * @param expected the expected character
+	 * @return true if and only if the next character was {@code expected}
+	 */
+
+	private boolean next(char expected) {
+		if (pos < end && buffer[pos] == expected) {
+			pos++;
+			return true;
+		}
+		else
+			return false;
+	}
+
+	/**
+	 * Creates a token that spans from the given position to the current one.
+	 *
+	 * @param kind the kind of the token, as enumerated in {@code syntactical/sym.java}
+	 * @param start the position of the beginning of the token inside {@link #buffer}
+	 * @return the token
+	 */
+
+	private Symbol tok(int kind, int start) {
+		return new Symbol(kind, offset + start, offset + pos, null);
+	}
+
+	/**
+	 * Records that a new line character has been found at the given
+	 * position inside {@link #buffer}.
+	 */
+
+	private void newline(int pos) {
+		if (recordNewlines)
+			errorMsg.newline(offset + pos);
+	}
+
+	/**
+	 * Reports an error at the given position inside {@link #buffer}.
+	 */
+
+	private void err(int pos, String msg) {
+		errorMsg.error(offset + pos, msg);
+	}
+
+	/**
+	 * Skips a comment, after the characters that open it. Comments can be nested.
+	 */
+
+	private void comment() {
+		char[] buffer = this.buffer;
+
+		while (pos < end) {
+			int start = pos;
+
+			switch (buffer[pos++]) {
+			case '*':
+				if (next('/') && --commentCount == 0)
+					return;
+
+				break;
+			case '/':
+				if (next('*'))
+					commentCount++;
+
+				break;
+			case '\n':
+				newline(start);
+			}
+		}
+	}
+
+	/**
+	 * Analyses a string literal, after its opening quote.
+	 *
+	 * @return the {@code STRING} token, that spans over the closing quote,
+	 *         or {@code null} if the end of the file is reached before it
+	 */
+
+	private Symbol string() {
+		char[] buffer = this.buffer;
+		StringBuilder string = this.string;
+		string.setLength(0);
+
+		while (pos < end) {
+			int start = pos;
+			char c = buffer[pos++];
+
+			switch (c) {
+			case '"':
+				return new Symbol(sym.STRING, offset + start, offset + pos, string.toString());
+			case '\n':
+				newline(start);
+				string.append('\n');
+				break;
+			case '\\':
+				escape(start);
+				break;
+			default:
+				string.append(c);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Analyses an escape sequence inside a string literal, after its backslash.
+	 * If the backslash does not start a valid escape sequence, it is kept as is.
+	 *
+	 * @param start the position of the backslash inside {@link #buffer}
+	 */
+
+	private void escape(int start) {
+		char[] buffer = this.buffer;
+
+		if (pos < end)
+			switch (buffer[pos]) {
+			case 'n':
+				pos++;
+				string.append('\n');
+				return;
+			case 't':
+				pos++;
+				string.append('\t');
+				return;
+			case '\\':
+				pos++;
+				string.append('\\');
+				return;
+			case '"':
+				pos++;
+				string.append('"');
+				return;
+			case ' ': case '\t': case '\f': case '\n': case '\r':
+				// a sequence of white spaces between backslashes is skipped,
+				// without recording its new lines
+				int cursor = pos + 1;
+				while (cursor < end && isWhiteSpace(buffer[cursor]))
+					cursor++;
+
+				if (cursor < end && buffer[cursor] == '\\') {
+					pos = cursor + 1;
+					return;
+				}
+
+				break;
+			default:
+				if (pos + 2 < end && isDigit(buffer[pos]) && isDigit(buffer[pos + 1]) && isDigit(buffer[pos + 2])) {
+					int code = (buffer[pos] - '0') * 100 + (buffer[pos + 1] - '0') * 10 + buffer[pos + 2] - '0';
+					pos += 3;
+
+					if (code > 255)
+						err(start, "Overflow in ASCII Code");
+					else
+						string.append((char) code);
+
+					return;
+				}
+			}
+
+		string.append('\\');
+	}
+
+	/**
+	 * Analyses an integer or floating point literal, from its first digit.
+	 *
+	 * @param start the position of the literal inside {@link #buffer}
+	 * @return the {@code INTEGER} or {@code FLOATING} token
+	 */
+
+	private Symbol number(int start) {
+		char[] buffer = this.buffer;
+		while (pos < end && isDigit(buffer[pos]))
+			pos++;
+
+		if (pos + 1 < end && buffer[pos] == '.' && isDigit(buffer[pos + 1])) {
+			pos++;
+			return floating(start);
+		}
+
+		int length = pos - start;
+		Integer value;
+		if (length > 9)
+			value = Integer.valueOf(new String(buffer, start, length));
+		else {
+			int result = 0;
+			for (int cursor = start; cursor < pos; cursor++)
+				result = result * 10 + buffer[cursor] - '0';
+
+			value = result;
+		}
+
+		return new Symbol(sym.INTEGER, offset + start, offset + pos, value);
+	}
+
+	/**
+	 * Analyses a floating point literal, from the first digit after its dot.
+	 *
+	 * @param start the position of the literal inside {@link #buffer}
+	 * @return the {@code FLOATING} token
+	 */
+
+	private Symbol floating(int start) {
+		char[] buffer = this.buffer;
+		while (pos < end && isDigit(buffer[pos]))
+			pos++;
+
+		return new Symbol(sym.FLOATING, offset + start, offset + pos, Float.valueOf(new String(buffer, start, pos - start)));
+	}
+
+	/**
+	 * Analyses an identifier or keyword, from its first letter.
+	 *
+	 * @param start the position of the identifier inside {@link #buffer}
+	 * @return the {@code ID} token or the token of the keyword
+	 */
+
+	private Symbol identifierOrKeyword(int start) {
+		char[] buffer = this.buffer;
+		while (pos < end && (isLetter(buffer[pos]) || isDigit(buffer[pos]) || buffer[pos] == '_'))
+			pos++;
+
+		int kind = keyword(start, pos - start);
+		if (kind != sym.ID)
+			return tok(kind, start);
+
+		return new Symbol(sym.ID, offset + start, offset + pos, identifiers.intern(buffer, start, pos - start));
+	}
+
+	/**
+	 * Yields the kind of the keyword with the given characters.
+	 *
+	 * @param start the position of the characters inside {@link #buffer}
+	 * @param length the number of characters
+	 * @return the kind of the keyword, or {@code sym.ID} if the
+	 *         characters are not a keyword
+	 */
+
+	private int keyword(int start, int length) {
+		switch (buffer[start]) {
+		case 'a':
+			return is("as", start, length) ? sym.AS : is("assert", start, length) ? sym.ASSERT : sym.ID;
+		case 'b':
+			return is("boolean", start, length) ? sym.BOOLEAN : sym.ID;
+		case 'c':
+			return is("class", start, length) ? sym.CLASS : is("constructor", start, length) ? sym.CONSTRUCTOR : sym.ID;
+		case 'e':
+			return is("else", start, length) ? sym.ELSE : is("extends", start, length) ? sym.EXTENDS : sym.ID;
+		case 'f':
+			return is("for", start, length) ? sym.FOR : is("field", start, length) ? sym.FIELD
+				: is("fixture", start, length) ? sym.FIXTURE : is("float", start, length) ? sym.FLOAT
+				: is("false", start, length) ? sym.FALSE : sym.ID;
+		case 'i':
+			return is("if", start, length) ? sym.IF : is("int", start, length) ? sym.INT : sym.ID;
+		case 'm':
+			return is("method", start, length) ? sym.METHOD : sym.ID;
+		case 'n':
+			return is("new", start, length) ? sym.NEW : is("nil", start, length) ? sym.NIL : sym.ID;
+		case 'r':
+			return is("return", start, length) ? sym.RETURN : sym.ID;
+		case 't':
+			return is("then", start, length) ? sym.THEN : is("true", start, length) ? sym.TRUE
+				: is("test", start, length) ? sym.TEST : sym.ID;
+		case 'v':
+			return is("void", start, length) ? sym.VOID : sym.ID;
+		case 'w':
+			return is("while", start, length) ? sym.WHILE : sym.ID;
+		default:
+			return sym.ID;
+		}
+	}
+
+	/**
+	 * Determines if the given characters of {@link #buffer} are the given keyword.
+	 * Its first character is assumed to match already.
+	 */
+
+	private boolean is(String keyword, int start, int length) {
+		if (keyword.length() != length)
+			return false;
+
+		for (int cursor = 1; cursor < length; cursor++)
+			if (buffer[start + cursor] != keyword.charAt(cursor))
+				return false;
+
+		return true;
+	}
+
+	private static boolean isLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isWhiteSpace(char c) {
+		return c == ' ' || c == '\t' || c == '\f' || c == '\n' || c == '\r';
+	}
+}
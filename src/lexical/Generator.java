@@ -1,12 +1,62 @@
 package lexical;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import JLex.CLexGen;
 
 public class Generator {
 
+	/**
+	 * The code of the lexer generated by JLex that reads the next character
+	 * from its buffer, if the buffer is not over.
+	 */
+
+	private final static String ADVANCE =
+		"\t\tif (yy_buffer_index < yy_buffer_read) {\n" +
+		"\t\t\treturn yy_buffer[yy_buffer_index++];\n" +
+		"\t\t}\n";
+
+	/**
+	 * The code added after {@link #ADVANCE}, that stops the lexer at the end of
+	 * its buffer when this holds the whole source. Otherwise, the lexer would move
+	 * the last token to the beginning of the buffer, overwriting the source.
+	 */
+
+	private final static String STOP =
+		"\n" +
+		"\t\t// the buffer is the whole source: it is over and it must not be compacted\n" +
+		"\t\tif (yy_buffer == source) {\n" +
+		"\t\t\treturn YY_EOF;\n" +
+		"\t\t}\n";
+
 	public static void main(String[] args) throws IOException {
 		new CLexGen("resources/Kitten.lex", "src/lexical/Lexer").generate();
+
+		stopAtEndOfSource(Paths.get("src/lexical/Lexer.java"));
+	}
+
+	/**
+	 * Modifies the lexer generated by JLex so that it never compacts its
+	 * buffer when this is the source itself.
+	 *
+	 * @param lexer the source of the generated lexer
+	 * @throws IOException if the lexer cannot be read or written
+	 */
+
+	private static void stopAtEndOfSource(Path lexer) throws IOException {
+		String source = new String(Files.readAllBytes(lexer), StandardCharsets.UTF_8);
+
+		int pos = source.indexOf(ADVANCE);
+		if (pos < 0 || source.indexOf(ADVANCE, pos + 1) >= 0)
+			throw new IllegalStateException("Cannot find the reading of the next character in " + lexer);
+
+		pos += ADVANCE.length();
+		source = source.substring(0, pos) + STOP + source.substring(pos);
+
+		Files.write(lexer, source.getBytes(StandardCharsets.UTF_8));
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package lexical;
+
+/**
+ * The identifiers found so far in a source file, as an open addressing
+ * hash table. It lets identifiers be looked up from the characters of the
+ * source file, without creating a string for each of their occurrences.
+ */
+
+final class IdentifierTable {
+
+	/**
+	 * The slots of the table.
+	 */
+
+	private String[] identifiers = new String[64];
+
+	/**
+	 * The number of identifiers in {@link #identifiers}.
+	 */
+
+	private int size;
+
+	/**
+	 * Yields the canonical string for the identifier with the given characters.
+	 * The same string is yielded for all occurrences of the identifier
+	 * in the source file.
+	 *
+	 * @param chars the array holding the characters of the identifier
+	 * @param start the position of the identifier inside {@code chars}
+	 * @param length the length of the identifier
+	 * @return the identifier
+	 */
+
+	String intern(char[] chars, int start, int length) {
+		// the same hash function of java.lang.String, so that rehashing can use it
+		int hash = 0;
+		for (int pos = start, end = start + length; pos < end; pos++)
+			hash = 31 * hash + chars[pos];
+
+		int mask = identifiers.length - 1;
+		for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+			String candidate = identifiers[slot];
+
+			if (candidate == null) {
+				String result = new String(chars, start, length);
+				identifiers[slot] = result;
+				if (++size * 2 > identifiers.length)
+					rehash();
+
+				return result;
+			}
+			else if (candidate.length() == length && matches(candidate, chars, start))
+				return candidate;
+		}
+	}
+
+	/**
+	 * Determines if the given identifier occurs in the array at the given position.
+	 */
+
+	private static boolean matches(String identifier, char[] chars, int start) {
+		for (int pos = identifier.length() - 1; pos >= 0; pos--)
+			if (identifier.charAt(pos) != chars[start + pos])
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Doubles the size of {@link #identifiers}.
+	 */
+
+	private void rehash() {
+		String[] old = identifiers;
+		identifiers = new String[old.length * 2];
+		int mask = identifiers.length - 1;
+
+		for (String identifier: old)
+			if (identifier != null) {
+				int slot = identifier.hashCode() & mask;
+				while (identifiers[slot] != null)
+					slot = (slot + 1) & mask;
+
+				identifiers[slot] = identifier;
+			}
+	}
+}
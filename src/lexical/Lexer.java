@@ -8,14 +8,13 @@ package lexical;
  *
  * @author <A HREF="mailto:fausto.spoto@univr.it">Fausto Spoto</A>
  */
-import java.io.FileInputStream;
 import errorMsg.ErrorMsg;
 import syntactical.sym;
 @SuppressWarnings("unused")
 public
 
 
-class Lexer {
+class Lexer implements Scanner {
 	private final int YY_BUFFER_SIZE = 512;
 	private final int YY_F = -1;
 	private final int YY_NO_STATE = -1;
@@ -32,8 +31,17 @@ class Lexer {
  *
  */
 private void newline() {
-  errorMsg.newline(yychar);
+  if (recordNewlines)
+    errorMsg.newline(yychar);
 }
+/**
+ *
+ * True if and only if new lines must be recorded in {@link #errorMsg}.
+ * This is false when lexing a portion of a source file whose new lines
+ * have been already recorded
+ *
+ */
+private boolean recordNewlines = true;
 /**
  *
  * Reports an error at a given position in the source file
@@ -91,19 +99,176 @@ public ErrorMsg getErrorMsg() {
  * @throws java.io.FileNotFoundException if the source file cannot be found
  */
 public Lexer(String fileName) throws java.io.FileNotFoundException {
+  this(null, fileName);
+}
+/**
+ * Creates a lexical analyser for a given class name, whose source
+ * is in the given directory.
+ *
+ * @param directory the directory where the source file is looked for.
+ *                  If this is {@code null}, the current directory is used
+ * @param fileName the name of the file to be lexically analysed
+ *                 (with the trailing {@code .kit})
+ * @throws java.io.FileNotFoundException if the source file cannot be found
+ */
+public Lexer(java.io.File directory, String fileName) throws java.io.FileNotFoundException {
   this();
   String className = fileName.endsWith(".kit") ? fileName.substring(0, fileName.length() - 4) : fileName;
   fileName = className + ".kit";
   errorMsg = new ErrorMsg(fileName);
-  FileInputStream inp;
+  java.nio.CharBuffer source = read(directory, fileName, errorMsg);
+  this.source = source.array();
+  this.sourceLength = source.limit();
+  // the whole source becomes the buffer of the lexer, that consequently never reads from its reader
+  yy_buffer = this.source;
+  yy_buffer_read = sourceLength;
+}
+/**
+ * Creates a lexical analyser for a portion of a source file that has been
+ * already lexed by another analyser, such as the body of a method whose
+ * parsing has been deferred. The positions of the tokens are relative to
+ * the beginning of the source file and the new lines are not recorded again.
+ *
+ * @param errorMsg the error reporting utility of the source file
+ * @param source the characters of the portion of the source file
+ * @param offset the position of {@code source} in the source file
+ */
+public Lexer(ErrorMsg errorMsg, char[] source, int offset) {
+  this();
+  this.errorMsg = errorMsg;
+  this.recordNewlines = false;
+  this.source = source;
+  this.sourceLength = source.length;
+  this.sourceOffset = offset;
+  yy_buffer = source;
+  yy_buffer_read = source.length;
+  yychar = offset;
+}
+/**
+ * The characters analysed by this analyser. They are the buffer of the
+ * analyser, that never modifies them, since {@link lexical.Generator}
+ * stops the analyser at their end instead of compacting the buffer
+ * and reading more characters.
+ */
+private char[] source;
+/**
+ * The number of meaningful characters at the beginning of {@link #source}.
+ */
+private int sourceLength;
+/**
+ * The position of {@link #source} in the source file.
+ */
+private int sourceOffset;
+/**
+ * Yields a copy of a portion of the characters analysed by this analyser.
+ * This can be called at any time, also from a thread different from
+ * that performing the analysis.
+ *
+ * @param from the position of the beginning of the portion, inclusive
+ * @param to the position of the end of the portion, exclusive
+ * @return the characters of the portion
+ * @throws IllegalArgumentException if the portion is not analysed by this analyser
+ */
+public char[] getSource(int from, int to) {
+  if (from < sourceOffset || from > to || to - sourceOffset > sourceLength)
+    throw new IllegalArgumentException("The source from " + from + " to " + to + " is not available");
+  return java.util.Arrays.copyOfRange(source, from - sourceOffset, to - sourceOffset);
+}
+/**
+ * The size, in bytes, from which source files are mapped in memory
+ * rather than read into an array.
+ */
+private final static long MAPPING_THRESHOLD = 1L << 16;
+/**
+ * Yields the kind of this analyser.
+ *
+ * @return {@link LexerKind#JLEX}
+ */
+public LexerKind getKind() {
+  return LexerKind.JLEX;
+}
+/**
+ * Reads the whole content of a source file, decoded with the default charset,
+ * reporting an error if it cannot be read.
+ *
+ * @param directory the directory where the source file is looked for.
+ *                  If this is {@code null}, the current directory is used
+ * @param fileName the name of the source file (with the trailing {@code .kit})
+ * @param errorMsg the error reporting utility of the source file
+ * @return the content of the file, backed by an array that starts at 0
+ * @throws java.io.FileNotFoundException if the source file cannot be found or read
+ */
+static java.nio.CharBuffer read(java.io.File directory, String fileName, ErrorMsg errorMsg) throws java.io.FileNotFoundException {
   try {
-    inp = new FileInputStream(fileName);
+    return read(new java.io.File(directory, fileName));
   }
-  catch (java.io.FileNotFoundException e) {
+  catch (java.nio.file.NoSuchFileException e) {
     errorMsg.error(-1, "Cannot find \"" + fileName + "\"");
-    throw e;
+    throw (java.io.FileNotFoundException) new java.io.FileNotFoundException(e.getMessage()).initCause(e);
+  }
+  catch (java.io.IOException e) {
+    errorMsg.error(-1, "Cannot read \"" + fileName + "\"");
+    throw (java.io.FileNotFoundException) new java.io.FileNotFoundException(e.getMessage()).initCause(e);
   }
-  yy_reader = new java.io.BufferedReader(new java.io.InputStreamReader(inp));
+}
+/**
+ * Reads the whole content of a source file, decoded as the analysers do.
+ *
+ * @param file the source file
+ * @return the characters of the file
+ * @throws java.io.IOException if the file cannot be read
+ */
+public static char[] readSource(java.io.File file) throws java.io.IOException {
+  java.nio.CharBuffer source = read(file);
+  char[] chars = source.array();
+  return chars.length == source.limit() ? chars : java.util.Arrays.copyOf(chars, source.limit());
+}
+/**
+ * Reads the whole content of a source file, decoded with the default charset.
+ *
+ * @param file the source file
+ * @return the content of the file, backed by an array that starts at 0
+ * @throws java.io.IOException if the file cannot be read
+ */
+private static java.nio.CharBuffer read(java.io.File file) throws java.io.IOException {
+  try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(file.toPath())) {
+    long size = channel.size();
+    java.nio.ByteBuffer bytes;
+    if (size >= MAPPING_THRESHOLD)
+      bytes = channel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, 0L, size);
+    else {
+      bytes = java.nio.ByteBuffer.allocate((int) size);
+      while (bytes.hasRemaining() && channel.read(bytes) >= 0);
+      bytes.flip();
+    }
+    return java.nio.charset.Charset.defaultCharset().decode(bytes);
+  }
+}
+/**
+ * Yields the integer whose digits are the last matched text. This avoids
+ * the creation of a string for the most common, short literals.
+ *
+ * @return the integer
+ */
+private Integer integerLiteral() {
+  if (yylength() > 9)
+    return Integer.valueOf(yytext());
+  int value = 0;
+  for (int pos = yy_buffer_start; pos < yy_buffer_end; pos++)
+    value = value * 10 + yy_buffer[pos] - '0';
+  return value;
+}
+/**
+ * The identifiers found so far in the source file.
+ */
+private final IdentifierTable identifiers = new IdentifierTable();
+/**
+ * Yields the canonical string for the identifier that has been last matched.
+ *
+ * @return the identifier, that is the same string for all its occurrences in the source file
+ */
+private String identifier() {
+  return identifiers.intern(yy_buffer, yy_buffer_start, yy_buffer_end - yy_buffer_start);
 }
 // ritorna il simbolo della classe che si sta parsando
 public String parsedClass() {
@@ -111,7 +276,7 @@ public String parsedClass() {
 }
 int commentCount = 0;
 int myNum;
-String myString = "";
+StringBuilder myString = new StringBuilder();
 	private java.io.BufferedReader yy_reader;
 	private int yy_buffer_index;
 	private int yy_buffer_read;
@@ -171,6 +336,11 @@ String myString = "";
 			return yy_buffer[yy_buffer_index++];
 		}
 
+		// the buffer is the whole source: it is over and it must not be compacted
+		if (yy_buffer == source) {
+			return YY_EOF;
+		}
+
 		if (0 != yy_buffer_start) {
 			i = yy_buffer_start;
 			j = 0;
@@ -566,7 +736,7 @@ String myString = "";
 					case -2:
 						break;
 					case 2:
-						{myString=""; yybegin(STRING);}
+						{myString.setLength(0); yybegin(STRING);}
 					case -3:
 						break;
 					case 3:
@@ -586,7 +756,7 @@ String myString = "";
 					case -7:
 						break;
 					case 7:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -8:
 						break;
 					case 8:
@@ -662,7 +832,7 @@ String myString = "";
 					case -26:
 						break;
 					case 26:
-						{return tok(sym.INTEGER, new Integer(yytext()));}
+						{return tok(sym.INTEGER, integerLiteral());}
 					case -27:
 						break;
 					case 27:
@@ -790,31 +960,31 @@ String myString = "";
 					case -58:
 						break;
 					case 58:
-						{yybegin(YYINITIAL); return tok(sym.STRING, myString);}
+						{yybegin(YYINITIAL); return tok(sym.STRING, myString.toString());}
 					case -59:
 						break;
 					case 59:
-						{myString += yytext();}
+						{myString.append(yy_buffer, yy_buffer_start, yylength());}
 					case -60:
 						break;
 					case 60:
-						{newline(); myString += "\n";}
+						{newline(); myString.append('\n');}
 					case -61:
 						break;
 					case 61:
-						{myString += "\"";}
+						{myString.append("\"");}
 					case -62:
 						break;
 					case 62:
-						{myString+="\t";}
+						{myString.append('\t');}
 					case -63:
 						break;
 					case 63:
-						{myString+="\n";}
+						{myString.append('\n');}
 					case -64:
 						break;
 					case 64:
-						{myString += "\\";}
+						{myString.append('\\');}
 					case -65:
 						break;
 					case 65:
@@ -822,7 +992,7 @@ String myString = "";
 					case -66:
 						break;
 					case 66:
-						{myString += "'";}
+						{myString.append("'");}
 					case -67:
 						break;
 					case 67:
@@ -830,7 +1000,7 @@ String myString = "";
 			   				(yytext().charAt(2)-48)*10+
                             (yytext().charAt(3)-48);
                         if (myNum>255) err("Overflow in ASCII Code");
-                        else myString += (char)myNum;}
+                        else myString.append((char) myNum);}
 					case -68:
 						break;
 					case 68:
@@ -851,7 +1021,7 @@ String myString = "";
 					case -72:
 						break;
 					case 73:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -73:
 						break;
 					case 74:
@@ -859,7 +1029,7 @@ String myString = "";
 					case -74:
 						break;
 					case 75:
-						{myString += yytext();}
+						{myString.append(yy_buffer, yy_buffer_start, yylength());}
 					case -75:
 						break;
 					case 76:
@@ -867,7 +1037,7 @@ String myString = "";
 					case -76:
 						break;
 					case 78:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -77:
 						break;
 					case 79:
@@ -875,295 +1045,295 @@ String myString = "";
 					case -78:
 						break;
 					case 81:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -79:
 						break;
 					case 83:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -80:
 						break;
 					case 85:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -81:
 						break;
 					case 87:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -82:
 						break;
 					case 88:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -83:
 						break;
 					case 89:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -84:
 						break;
 					case 90:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -85:
 						break;
 					case 91:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -86:
 						break;
 					case 92:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -87:
 						break;
 					case 93:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -88:
 						break;
 					case 94:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -89:
 						break;
 					case 95:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -90:
 						break;
 					case 96:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -91:
 						break;
 					case 97:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -92:
 						break;
 					case 98:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -93:
 						break;
 					case 99:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -94:
 						break;
 					case 100:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -95:
 						break;
 					case 101:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -96:
 						break;
 					case 102:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -97:
 						break;
 					case 103:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -98:
 						break;
 					case 104:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -99:
 						break;
 					case 105:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -100:
 						break;
 					case 106:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -101:
 						break;
 					case 107:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -102:
 						break;
 					case 108:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -103:
 						break;
 					case 109:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -104:
 						break;
 					case 110:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -105:
 						break;
 					case 111:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -106:
 						break;
 					case 112:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -107:
 						break;
 					case 113:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -108:
 						break;
 					case 114:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -109:
 						break;
 					case 115:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -110:
 						break;
 					case 116:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -111:
 						break;
 					case 117:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -112:
 						break;
 					case 118:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -113:
 						break;
 					case 119:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -114:
 						break;
 					case 120:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -115:
 						break;
 					case 121:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -116:
 						break;
 					case 122:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -117:
 						break;
 					case 123:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -118:
 						break;
 					case 124:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -119:
 						break;
 					case 125:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -120:
 						break;
 					case 126:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -121:
 						break;
 					case 127:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -122:
 						break;
 					case 128:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -123:
 						break;
 					case 129:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -124:
 						break;
 					case 130:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -125:
 						break;
 					case 131:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -126:
 						break;
 					case 132:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -127:
 						break;
 					case 133:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -128:
 						break;
 					case 134:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -129:
 						break;
 					case 135:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -130:
 						break;
 					case 136:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -131:
 						break;
 					case 137:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -132:
 						break;
 					case 138:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -133:
 						break;
 					case 139:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -134:
 						break;
 					case 140:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -135:
 						break;
 					case 141:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -136:
 						break;
 					case 142:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -137:
 						break;
 					case 143:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -138:
 						break;
 					case 144:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -139:
 						break;
 					case 145:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -140:
 						break;
 					case 146:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -141:
 						break;
 					case 147:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -142:
 						break;
 					case 148:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -143:
 						break;
 					case 149:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -144:
 						break;
 					case 150:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -145:
 						break;
 					case 151:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -146:
 						break;
 					case 152:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -147:
 						break;
 					case 153:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -148:
 						break;
 					case 154:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -149:
 						break;
 					case 155:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -150:
 						break;
 					case 156:
-						{return tok(sym.ID, yytext());}
+						{return tok(sym.ID, identifier());}
 					case -151:
 						break;
 					default:
@@ -0,0 +1,76 @@
+package lexical;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+
+import errorMsg.ErrorMsg;
+
+/**
+ * The available implementations of the lexical analyser. They yield
+ * the same tokens and report the same errors.
+ */
+
+public enum LexerKind {
+
+	/**
+	 * The table-driven analyser generated by JLex from {@code resources/Kitten.lex}.
+	 */
+
+	JLEX {
+
+		@Override
+		public Scanner mk(File directory, String fileName) throws FileNotFoundException {
+			return new Lexer(directory, fileName);
+		}
+
+		@Override
+		public Scanner mk(ErrorMsg errorMsg, char[] source, int offset) {
+			return new Lexer(errorMsg, source, offset);
+		}
+	},
+
+	/**
+	 * The hand-written analyser {@link DFALexer}.
+	 */
+
+	DFA {
+
+		@Override
+		public Scanner mk(File directory, String fileName) throws FileNotFoundException {
+			return new DFALexer(directory, fileName);
+		}
+
+		@Override
+		public Scanner mk(ErrorMsg errorMsg, char[] source, int offset) {
+			return new DFALexer(errorMsg, source, offset);
+		}
+	};
+
+	/**
+	 * Creates a lexical analyser of this kind for a given class name,
+	 * whose source is in the given directory.
+	 *
+	 * @param directory the directory where the source file is looked for.
+	 *                  If this is {@code null}, the current directory is used
+	 * @param fileName the name of the file to be lexically analysed
+	 *                 (with or without the trailing {@code .kit})
+	 * @return the analyser
+	 * @throws FileNotFoundException if the source file cannot be found
+	 */
+
+	public abstract Scanner mk(File directory, String fileName) throws FileNotFoundException;
+
+	/**
+	 * Creates a lexical analyser of this kind for a portion of a source file
+	 * that has been already lexed by another analyser. The positions of the
+	 * tokens are relative to the beginning of the source file and the new
+	 * lines are not recorded again.
+	 *
+	 * @param errorMsg the error reporting utility of the source file
+	 * @param source the characters of the portion of the source file
+	 * @param offset the position of {@code source} in the source file
+	 * @return the analyser
+	 */
+
+	public abstract Scanner mk(ErrorMsg errorMsg, char[] source, int offset);
+}
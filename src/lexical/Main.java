@@ -6,7 +6,6 @@ import java.io.IOException;
 import java_cup.runtime.Symbol;
 
 import syntactical.sym;
-import lexical.Lexer;
 
 public class Main {
 	public static void main(String args[]) {
@@ -16,11 +15,12 @@ public class Main {
 		}
 
 		String fileName = args[0];
-		Lexer lexer;
+		Scanner lexer;
 		Symbol tok;
 
 		try {
-			lexer = new Lexer(fileName);
+			// with dfa, the hand-written lexical analyser is used
+			lexer = (args.length > 1 && args[1].equals("dfa") ? LexerKind.DFA : LexerKind.JLEX).mk(null, fileName);
 		}
 		catch (FileNotFoundException e) {
 			System.out.println("Cannot find " + fileName);
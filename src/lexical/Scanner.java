@@ -0,0 +1,56 @@
+package lexical;
+
+import java.io.IOException;
+
+import java_cup.runtime.Symbol;
+
+import errorMsg.ErrorMsg;
+
+/**
+ * A lexical analyser of a Kitten source file. It yields the tokens of the
+ * file, as enumerated in {@code syntactical/sym.java}, and records the
+ * positions of its new line characters in its error reporting utility.
+ */
+
+public interface Scanner {
+
+	/**
+	 * Yields the next token of the source file. After the end of the file,
+	 * this keeps yielding a {@code sym.EOF} token.
+	 *
+	 * @return the token
+	 * @throws IOException if the source file cannot be read
+	 */
+
+	Symbol nextToken() throws IOException;
+
+	/**
+	 * Yields the error reporting utility used during the lexical analysis.
+	 *
+	 * @return the error reporting utility
+	 */
+
+	ErrorMsg getErrorMsg();
+
+	/**
+	 * Yields a copy of a portion of the characters analysed by this analyser.
+	 * This can be called at any time, also from a thread different from
+	 * that performing the analysis.
+	 *
+	 * @param from the position of the beginning of the portion, inclusive
+	 * @param to the position of the end of the portion, exclusive
+	 * @return the characters of the portion
+	 * @throws IllegalArgumentException if the portion is not analysed by this analyser
+	 */
+
+	char[] getSource(int from, int to);
+
+	/**
+	 * Yields the kind of this analyser. It can be used to build
+	 * analysers of the same kind for portions of the same source file.
+	 *
+	 * @return the kind
+	 */
+
+	LexerKind getKind();
+}
@@ -0,0 +1,600 @@
+package metrics;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import absyn.Absyn;
+
+/**
+ * A collector of metrics about a compilation. It accumulates, for each phase
+ * of the compiler, the wall-clock time and the bytes allocated by the thread
+ * that performed it, and some counters about the size of the program. Each
+ * measure refers to the whole program, to a class or to a member of a class,
+ * so that a report can break down the cost of a phase per class and per method.
+ * Measures can be taken in parallel by distinct threads. If a measure about a
+ * class is taken while another measure about a different class is open in the
+ * same thread (for instance, since type-checking a class triggers the
+ * type-checking of the classes it refers to), the former is not charged to the
+ * latter.
+ */
+
+public class Metrics {
+
+	/**
+	 * The phases of the compiler.
+	 */
+
+	public enum Phase {
+		LEX, PARSE, TYPE_CHECK, TRANSLATE, CLEAN_UP, DOT_DUMP, JAVA_BYTECODE_GENERATION, FILE_WRITE;
+
+		@Override
+		public String toString() {
+			return name().toLowerCase().replace('_', '-');
+		}
+	}
+
+	/**
+	 * The counters about the size of the program.
+	 */
+
+	public enum Counter {
+		AST_NODES, BLOCKS, KITTEN_BYTECODES, JVM_INSTRUCTIONS;
+
+		@Override
+		public String toString() {
+			return name().toLowerCase().replace('_', '-');
+		}
+	}
+
+	/**
+	 * A collector that ignores everything. It is used when no metrics are required.
+	 */
+
+	public final static Metrics DISABLED = new Metrics(false);
+
+	/**
+	 * True if and only if this collector takes note of the measures.
+	 */
+
+	private final boolean enabled;
+
+	/**
+	 * The rows of the report, by phase or counter, class and member.
+	 */
+
+	private final ConcurrentMap<Key, Row> rows = new ConcurrentHashMap<>();
+
+	/**
+	 * The measures currently open in each thread, the most recent on top.
+	 */
+
+	private final ThreadLocal<Deque<Measure>> open = new ThreadLocal<Deque<Measure>>() {
+
+		@Override
+		protected Deque<Measure> initialValue() {
+			return new ArrayDeque<>();
+		}
+	};
+
+	/**
+	 * Builds a collector that takes note of the measures.
+	 */
+
+	public Metrics() {
+		this(true);
+	}
+
+	private Metrics(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Determines if this collector takes note of the measures. Callers can use
+	 * this to avoid computing counters that would be thrown away.
+	 *
+	 * @return true if and only if this collector is not {@link #DISABLED}
+	 */
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Starts measuring a phase over the whole program.
+	 *
+	 * @param phase the phase
+	 * @return the measure, that must be ended when the phase completes
+	 */
+
+	public Measure begin(Phase phase) {
+		return begin(phase, null, null);
+	}
+
+	/**
+	 * Starts measuring a phase over a class.
+	 *
+	 * @param phase the phase
+	 * @param className the name of the class
+	 * @return the measure, that must be ended when the phase completes
+	 */
+
+	public Measure begin(Phase phase, String className) {
+		return begin(phase, className, null);
+	}
+
+	/**
+	 * Starts measuring a phase over a member of a class.
+	 *
+	 * @param phase the phase
+	 * @param className the name of the class
+	 * @param member the description of the member
+	 * @return the measure, that must be ended when the phase completes
+	 */
+
+	public Measure begin(Phase phase, String className, String member) {
+		if (!enabled)
+			return Measure.NONE;
+
+		Measure measure = new Measure(this, new Key(phase.toString(), className, member));
+		open.get().push(measure);
+
+		return measure;
+	}
+
+	/**
+	 * Takes note of a measure that has been computed elsewhere.
+	 *
+	 * @param phase the phase
+	 * @param className the name of the class, or {@code null} for the whole program
+	 * @param member the description of the member, or {@code null} for the whole class
+	 * @param nanos the wall-clock time of the measure, in nanoseconds
+	 * @param bytes the bytes allocated during the measure
+	 */
+
+	public void record(Phase phase, String className, String member, long nanos, long bytes) {
+		if (enabled)
+			add(new Key(phase.toString(), className, member), nanos, bytes, 1L);
+	}
+
+	/**
+	 * Increases a counter.
+	 *
+	 * @param counter the counter
+	 * @param className the name of the class, or {@code null} for the whole program
+	 * @param member the description of the member, or {@code null} for the whole class
+	 * @param value the amount to add to the counter
+	 */
+
+	public void count(Counter counter, String className, String member, long value) {
+		if (enabled)
+			add(new Key(counter.toString(), className, member), 0L, 0L, value);
+	}
+
+	private void add(Key key, long nanos, long bytes, long count) {
+		Row row = rows.computeIfAbsent(key, Row::new);
+		row.nanos.add(nanos);
+		row.bytes.add(bytes);
+		row.count.add(count);
+	}
+
+	/**
+	 * Writes a report of the metrics in the given file. The format is CSV
+	 * if the name of the file ends with {@code .csv}, and JSON otherwise.
+	 *
+	 * @param file the file
+	 * @throws IOException if the file cannot be written
+	 */
+
+	public void write(File file) throws IOException {
+		try (Writer writer = new BufferedWriter(new FileWriter(file))) {
+			if (file.getName().endsWith(".csv"))
+				writeCsv(writer);
+			else
+				writeJson(writer);
+		}
+	}
+
+	/**
+	 * Writes a report of the metrics in JSON format. It contains an array of
+	 * phases, each reporting the time in nanoseconds, the allocated bytes and
+	 * the number of measures, and an array of counters.
+	 *
+	 * @param writer the writer where the report is written
+	 * @throws IOException if the report cannot be written
+	 */
+
+	public void writeJson(Writer writer) throws IOException {
+		List<Row> report = report();
+
+		writer.write("{\n  \"phases\": [");
+		String separator = "\n";
+		for (Row row: report)
+			if (!row.isCounter()) {
+				writer.write(separator + "    {\"phase\": " + quote(row.key.name) + ", \"class\": " + quote(row.key.className)
+					+ ", \"member\": " + quote(row.key.member) + ", \"nanos\": " + row.nanos.sum()
+					+ ", \"allocatedBytes\": " + row.bytes.sum() + ", \"count\": " + row.count.sum() + "}");
+				separator = ",\n";
+			}
+
+		writer.write("\n  ],\n  \"counters\": [");
+		separator = "\n";
+		for (Row row: report)
+			if (row.isCounter()) {
+				writer.write(separator + "    {\"counter\": " + quote(row.key.name) + ", \"class\": " + quote(row.key.className)
+					+ ", \"member\": " + quote(row.key.member) + ", \"value\": " + row.count.sum() + "}");
+				separator = ",\n";
+			}
+
+		writer.write("\n  ]\n}\n");
+	}
+
+	/**
+	 * Writes a report of the metrics in CSV format, one row per phase or
+	 * counter. For counters, the {@code count} column holds their value.
+	 *
+	 * @param writer the writer where the report is written
+	 * @throws IOException if the report cannot be written
+	 */
+
+	public void writeCsv(Writer writer) throws IOException {
+		writer.write("kind,name,class,member,nanos,allocatedBytes,count\n");
+
+		for (Row row: report())
+			if (row.isCounter())
+				writer.write("counter," + row.key.name + "," + csv(row.key.className) + "," + csv(row.key.member)
+					+ ",,," + row.count.sum() + "\n");
+			else
+				writer.write("phase," + row.key.name + "," + csv(row.key.className) + "," + csv(row.key.member)
+					+ "," + row.nanos.sum() + "," + row.bytes.sum() + "," + row.count.sum() + "\n");
+	}
+
+	/**
+	 * Yields the rows of the report, sorted by phase or counter, class and member.
+	 * A class whose phase has been measured per member only is given the sum of
+	 * the measures of its members, and the whole program is given the sum of the
+	 * measures of its classes, if it has not been measured as a whole.
+	 *
+	 * @return the rows
+	 */
+
+	private List<Row> report() {
+		Map<Key, Row> result = new TreeMap<>(rows);
+
+		// we add the missing totals of the classes and then those of the program
+		for (int level = 2; level > 0; level--) {
+			Map<Key, Row> totals = new TreeMap<>();
+			for (Row row: result.values())
+				if (row.key.level() == level) {
+					Key parent = row.key.parent();
+					if (!result.containsKey(parent))
+						totals.computeIfAbsent(parent, Row::new).addAll(row);
+				}
+
+			result.putAll(totals);
+		}
+
+		return new ArrayList<>(result.values());
+	}
+
+	private static String quote(String s) {
+		if (s == null)
+			return "null";
+
+		StringBuilder sb = new StringBuilder("\"");
+		for (char c: s.toCharArray())
+			if (c == '"' || c == '\\')
+				sb.append('\\').append(c);
+			else if (c < ' ')
+				sb.append(String.format("\\u%04x", (int) c));
+			else
+				sb.append(c);
+
+		return sb.append('"').toString();
+	}
+
+	private static String csv(String s) {
+		return s == null ? "" : "\"" + s.replace("\"", "\"\"") + "\"";
+	}
+
+	/**
+	 * Yields the bytes allocated so far by the current thread.
+	 *
+	 * @return the bytes, or 0 if the virtual machine does not provide this information
+	 */
+
+	public static long allocatedBytes() {
+		com.sun.management.ThreadMXBean threads = Allocation.threads;
+		return threads != null ? threads.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0L;
+	}
+
+	/**
+	 * Yields the number of nodes of the given abstract syntax tree.
+	 * This is computed by reflection, hence it should be called only
+	 * if metrics are enabled.
+	 *
+	 * @param root the root of the tree
+	 * @return the number of nodes reachable from {@code root}
+	 */
+
+	public static long countNodes(Absyn root) {
+		Set<Absyn> seen = Collections.newSetFromMap(new IdentityHashMap<Absyn, Boolean>());
+		Deque<Absyn> workList = new ArrayDeque<>();
+		if (root != null)
+			workList.push(root);
+
+		while (!workList.isEmpty()) {
+			Absyn node = workList.pop();
+			if (seen.add(node))
+				for (Class<?> clazz = node.getClass(); clazz != Object.class; clazz = clazz.getSuperclass())
+					for (Field field: clazz.getDeclaredFields())
+						if (!Modifier.isStatic(field.getModifiers()))
+							try {
+								Class<?> type = field.getType();
+								// sequences keep their children in arrays or collections
+								if (Absyn.class.isAssignableFrom(type) || Object[].class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)) {
+									field.setAccessible(true);
+									Object value = field.get(node);
+									if (value instanceof Absyn)
+										workList.push((Absyn) value);
+									else if (value instanceof Object[])
+										pushChildren(Arrays.asList((Object[]) value), workList);
+									else if (value instanceof Collection<?>)
+										pushChildren((Collection<?>) value, workList);
+								}
+							}
+							catch (IllegalAccessException | RuntimeException e) {
+								// we just do not count that child
+							}
+		}
+
+		return seen.size();
+	}
+
+	/**
+	 * Adds the nodes of abstract syntax among the given elements to a work-list.
+	 * The other elements, such as the unused slots of the arrays of the sequences,
+	 * are ignored.
+	 *
+	 * @param elements the elements
+	 * @param workList the work-list
+	 */
+
+	private static void pushChildren(Collection<?> elements, Deque<Absyn> workList) {
+		for (Object element: elements)
+			if (element instanceof Absyn)
+				workList.push((Absyn) element);
+	}
+
+	/**
+	 * A measure of a phase, open until it is ended.
+	 */
+
+	public static class Measure {
+
+		/**
+		 * A measure that takes note of nothing.
+		 */
+
+		private final static Measure NONE = new Measure(null, null);
+
+		private final Metrics metrics;
+		private final Key key;
+		private final long startTime;
+		private final long startBytes;
+
+		/**
+		 * The time and bytes of the measures about other classes nested inside this.
+		 */
+
+		private long nestedTime;
+		private long nestedBytes;
+
+		private Measure(Metrics metrics, Key key) {
+			this.metrics = metrics;
+			this.key = key;
+			this.startBytes = metrics != null ? allocatedBytes() : 0L;
+			this.startTime = System.nanoTime();
+		}
+
+		/**
+		 * Ends this measure and takes note of it. This must be called by
+		 * the same thread that began the measure.
+		 */
+
+		public void end() {
+			endExcluding(0L);
+		}
+
+		/**
+		 * Ends this measure and takes note of it, but for the given time, that
+		 * has been spent in another phase and measured separately. This must be
+		 * called by the same thread that began the measure.
+		 *
+		 * @param excluded the time to exclude, in nanoseconds
+		 */
+
+		public void endExcluding(long excluded) {
+			if (metrics == null)
+				return;
+
+			long time = System.nanoTime() - startTime, bytes = allocatedBytes() - startBytes;
+			Deque<Measure> open = metrics.open.get();
+			open.remove(this);
+
+			// the enclosing measures about another class are not charged for this one
+			String enclosingClass = null;
+			for (Iterator<Measure> it = open.iterator(); it.hasNext(); ) {
+				Measure enclosing = it.next();
+				String className = enclosing.key.className;
+				if (className == null || className.equals(key.className)
+						|| (enclosingClass != null && !enclosingClass.equals(className)))
+					break;
+
+				enclosingClass = className;
+				enclosing.nestedTime += time;
+				enclosing.nestedBytes += bytes;
+			}
+
+			metrics.add(key, time - nestedTime - excluded, bytes - nestedBytes, 1L);
+		}
+	}
+
+	/**
+	 * Provides access to the allocation counters of the threads. It is a
+	 * separate class so that it is initialized only when metrics are enabled.
+	 */
+
+	private static class Allocation {
+		private final static com.sun.management.ThreadMXBean threads = init();
+
+		private static com.sun.management.ThreadMXBean init() {
+			try {
+				java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+				if (bean instanceof com.sun.management.ThreadMXBean) {
+					com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+					if (threads.isThreadAllocatedMemorySupported()) {
+						if (!threads.isThreadAllocatedMemoryEnabled())
+							threads.setThreadAllocatedMemoryEnabled(true);
+
+						return threads;
+					}
+				}
+			}
+			catch (LinkageError | RuntimeException e) {
+				// the platform does not provide the counters
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * The identifier of a row of the report.
+	 */
+
+	private static class Key implements Comparable<Key> {
+		private final String name;
+		private final String className;
+		private final String member;
+
+		private Key(String name, String className, String member) {
+			this.name = name;
+			this.className = className;
+			this.member = className != null ? member : null;
+		}
+
+		/**
+		 * Yields 0 for the whole program, 1 for a class and 2 for a member.
+		 */
+
+		private int level() {
+			return className == null ? 0 : member == null ? 1 : 2;
+		}
+
+		private Key parent() {
+			return member != null ? new Key(name, className, null) : new Key(name, null, null);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Key))
+				return false;
+
+			Key otherKey = (Key) other;
+			return name.equals(otherKey.name) && compare(className, otherKey.className) == 0
+				&& compare(member, otherKey.member) == 0;
+		}
+
+		@Override
+		public int hashCode() {
+			return name.hashCode() ^ (className == null ? 0 : className.hashCode() * 31)
+				^ (member == null ? 0 : member.hashCode());
+		}
+
+		@Override
+		public int compareTo(Key other) {
+			int diff = Integer.compare(order(name), order(other.name));
+			if (diff == 0)
+				diff = compare(className, other.className);
+			if (diff == 0)
+				diff = compare(member, other.member);
+
+			return diff;
+		}
+
+		/**
+		 * Yields the position of a phase or counter, so that they are reported
+		 * in the order of the compiler.
+		 */
+
+		private static int order(String name) {
+			for (Phase phase: Phase.values())
+				if (phase.toString().equals(name))
+					return phase.ordinal();
+
+			for (Counter counter: Counter.values())
+				if (counter.toString().equals(name))
+					return Phase.values().length + counter.ordinal();
+
+			return Integer.MAX_VALUE;
+		}
+
+		private static int compare(String s1, String s2) {
+			// the totals come first
+			if (s1 == null)
+				return s2 == null ? 0 : -1;
+			else
+				return s2 == null ? 1 : s1.compareTo(s2);
+		}
+	}
+
+	/**
+	 * A row of the report.
+	 */
+
+	private static class Row {
+		private final Key key;
+		private final LongAdder nanos = new LongAdder();
+		private final LongAdder bytes = new LongAdder();
+		private final LongAdder count = new LongAdder();
+
+		private Row(Key key) {
+			this.key = key;
+		}
+
+		private boolean isCounter() {
+			for (Counter counter: Counter.values())
+				if (counter.toString().equals(key.name))
+					return true;
+
+			return false;
+		}
+
+		private void addAll(Row other) {
+			nanos.add(other.nanos.sum());
+			bytes.add(other.bytes.sum());
+			count.add(other.count.sum());
+		}
+	}
+}
@@ -3,6 +3,7 @@ package semantical;
 import java.io.IOException;
 
 import types.ClassType;
+import types.CompilationContext;
 import errorMsg.ErrorMsg;
 
 public class Main {
@@ -12,15 +13,19 @@ public class Main {
 			return;
 		}
 
+		// the abstract syntax is dumped in dot format only if required
+		boolean dot = args.length > 1 && args[1].equals("dot");
+
 		// we build the class type for the file name passed as a parameter.
 		// This triggers type-checking of that class and all those referenced from it
-		ErrorMsg errorMsg = ClassType.mkFromFileName(args[0]).getErrorMsg();
+		CompilationContext context = new CompilationContext();
+		ErrorMsg errorMsg = ClassType.mkFromFileName(context, args[0]).getErrorMsg();
 
 		System.out.println("End of the semantical analysis");
 
-		// we dump the set of classes that have been created
-		if (errorMsg != null && !errorMsg.anyErrors())
-			for (ClassType clazz: ClassType.getAll())
+		// we dump the set of classes that have been created, in parallel
+		if (dot && errorMsg != null && !errorMsg.anyErrors())
+			context.getClassTypes().parallelStream().forEach(clazz -> {
 				try {
 					clazz.dumpDot();
 					System.out.println("Dumped " + clazz + ".dot");
@@ -28,5 +33,6 @@ public class Main {
 				catch (IOException e) {
 					System.out.println("Cannot dump " + clazz + ".dot");
 				}
+			});
 	}
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package semantical;
 
 import tables.Table;
+import types.CompilationContext;
 import types.Type;
 import errorMsg.ErrorMsg;
 
@@ -13,6 +14,12 @@ import errorMsg.ErrorMsg;
 
 public class TypeChecker {
 
+	/**
+	 * The compilation where types are looked for.
+	 */
+
+	private final CompilationContext context;
+
 	/**
 	 * The return type expected by this type-checker.
 	 */
@@ -46,14 +53,16 @@ public class TypeChecker {
 	/**
 	 * Constructs a type-checker.
 	 *
+	 * @param context the compilation where types are looked for
 	 * @param returnType the return type expected by the type-checker
 	 * @param env the environment of the type-checker
 	 * @param varNum the number of local variables seen by the type-checker
 	 * @param errorMsg the error reporting utility of the type-checker
 	 */
 
-	private TypeChecker(Type returnType, Table<TypeAndNumber> env
+	private TypeChecker(CompilationContext context, Type returnType, Table<TypeAndNumber> env
 			, int varNum, ErrorMsg errorMsg,boolean assertallowed) {
+		this.context = context;
 		this.returnType = returnType;
 		this.env = env;
 		this.varNum = varNum;
@@ -66,11 +75,13 @@ public class TypeChecker {
 	 * a given error reporting utility, an empty symbol table and that
 	 * has not seen any variable up to now.
 	 *
+	 * @param context the compilation where types are looked for
 	 * @param returnType the expected return type
 	 * @param errorMsg the error reporting utility used to signal errors
 	 */
 
-	public TypeChecker(Type returnType, ErrorMsg errorMsg) {
+	public TypeChecker(CompilationContext context, Type returnType, ErrorMsg errorMsg) {
+		this.context = context;
 		this.returnType = returnType;
 		this.env = Table.empty();
 		this.varNum = 0;
@@ -84,12 +95,14 @@ public class TypeChecker {
 	 * has not seen any variable up to now. Only constructor that can set
 	 * allowAssert field to something other than false
 	 *
+	 * @param context the compilation where types are looked for
 	 * @param returnType the expected return type
 	 * @param errorMsg the error reporting utility used to signal errors
 	 * @param assertallowed whether assert command is allowed or not
 	 */
 	
-	public TypeChecker(Type returnType, ErrorMsg errorMsg,boolean assertallowed) {
+	public TypeChecker(CompilationContext context, Type returnType, ErrorMsg errorMsg,boolean assertallowed) {
+		this.context = context;
 		this.returnType = returnType;
 		this.env = Table.empty();
 		this.varNum = 0;
@@ -101,6 +114,16 @@ public class TypeChecker {
 	public boolean isAssertAllowed(){
 		return this.allowAssert;
 	}
+
+	/**
+	 * Yields the compilation where this type-checker looks for types.
+	 *
+	 * @return the compilation
+	 */
+
+	public CompilationContext getContext() {
+		return context;
+	}
 	
 	/**
 	 * Yields the type expected by this type-checker for the {@code return} commands.
@@ -124,7 +147,7 @@ public class TypeChecker {
 	public TypeChecker putVar(String var, Type type) {
 		// note that in the new type-checker the number of local
 		// variables is one more than in this type-checker
-		return new TypeChecker(returnType,
+		return new TypeChecker(context, returnType,
 			env.put(var, new TypeAndNumber(type, varNum)), varNum + 1, errorMsg,this.isAssertAllowed());
 	}
 
@@ -142,6 +165,32 @@ public class TypeChecker {
 		return tan != null ? tan.getType() : null;
 	}
 
+	/**
+	 * Yields the type and the progressive number bound to a given variable
+	 * in this type-checker, with a single lookup.
+	 *
+	 * @param var the variable
+	 * @return the type and progressive number of {@code var}, as for
+	 *         {@link #getVar(String)} and {@link #getVarNum(String)}.
+	 *         Yields {@code null} if {@code var} is not bound in this type-checker
+	 */
+
+	public TypeAndNumber getTypeAndNumber(String var) {
+		return env.get(var);
+	}
+
+	/**
+	 * Yields the number of local variables seen so far by this type-checker.
+	 * This is the progressive number that {@link #putVar(String, Type)}
+	 * assigns to the next variable.
+	 *
+	 * @return the number of local variables seen so far
+	 */
+
+	public int getNumberOfVars() {
+		return varNum;
+	}
+
 	/**
 	 * Yields the progressive number assigned to a given variable
 	 * by this type-checker.
@@ -0,0 +1,877 @@
+package syntactical;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java_cup.runtime.Symbol;
+
+import absyn.Absyn;
+import absyn.Addition;
+import absyn.And;
+import absyn.ArrayAccess;
+import absyn.ArrayTypeExpression;
+import absyn.Assert;
+import absyn.Assignment;
+import absyn.BooleanTypeExpression;
+import absyn.Cast;
+import absyn.ClassDefinition;
+import absyn.ClassMemberDeclaration;
+import absyn.ClassTypeExpression;
+import absyn.Command;
+import absyn.CommandSeq;
+import absyn.ConstructorDeclaration;
+import absyn.Division;
+import absyn.Equal;
+import absyn.Expression;
+import absyn.ExpressionSeq;
+import absyn.False;
+import absyn.FieldAccess;
+import absyn.FieldDeclaration;
+import absyn.FixtureDeclaration;
+import absyn.FloatLiteral;
+import absyn.FloatTypeExpression;
+import absyn.For;
+import absyn.FormalParameters;
+import absyn.GreaterThan;
+import absyn.GreaterThanOrEqual;
+import absyn.IfThenElse;
+import absyn.IntLiteral;
+import absyn.IntTypeExpression;
+import absyn.LessThan;
+import absyn.LessThanOrEqual;
+import absyn.LocalDeclaration;
+import absyn.LocalScope;
+import absyn.Lvalue;
+import absyn.MethodCallCommand;
+import absyn.MethodCallExpression;
+import absyn.MethodDeclaration;
+import absyn.Minus;
+import absyn.Multiplication;
+import absyn.NewArray;
+import absyn.NewObject;
+import absyn.Nil;
+import absyn.Not;
+import absyn.NotEqual;
+import absyn.Or;
+import absyn.Return;
+import absyn.Skip;
+import absyn.StringLiteral;
+import absyn.Subtraction;
+import absyn.TestDeclaration;
+import absyn.True;
+import absyn.TypeExpression;
+import absyn.Variable;
+import absyn.VoidTypeExpression;
+import absyn.While;
+import lexical.Scanner;
+
+/**
+ * A hand-written syntactical analyser for the grammar in
+ * {@code resources/Kitten.cup}. It builds the same abstract syntax as the
+ * analyser generated by JavaCup, with the same positions and in the same
+ * order, takes note of the same referenced classes and reports a syntax error
+ * at the same token, after which it gives up as well. Declarations and commands
+ * are parsed by recursive descent, looking ahead a single token as the generated
+ * analyser does, so that the lexical analyser is run at the same times.
+ * Expressions are parsed by precedence climbing, with the precedences and
+ * associativities declared in the grammar. The tokens are read through
+ * {@link #scan()}, hence bodies are parsed lazily if required and the
+ * lexing time is measured as for the generated analyser.
+ */
+
+public class DescentParser extends Parser {
+
+	/**
+	 * The precedence of the tokens that are not operators. It is also the
+	 * precedence required to parse a whole expression.
+	 */
+
+	private final static int NONE = 0;
+
+	/**
+	 * The precedence of casts. It is lower than that of any other operator,
+	 * since {@code as} has no declared precedence in the grammar.
+	 */
+
+	private final static int CAST = 1;
+
+	/**
+	 * The precedence of the logical negation.
+	 */
+
+	private final static int NEGATION = 2;
+
+	/**
+	 * The precedence of the logical conjunction and disjunction.
+	 */
+
+	private final static int LOGICAL = 3;
+
+	/**
+	 * The precedence of the comparison operators, that are not associative.
+	 */
+
+	private final static int COMPARISON = 4;
+
+	/**
+	 * The precedence of addition and subtraction.
+	 */
+
+	private final static int ADDITIVE = 5;
+
+	/**
+	 * The precedence of multiplication and division.
+	 */
+
+	private final static int MULTIPLICATIVE = 6;
+
+	/**
+	 * The current token, that is, the first token that has not been consumed yet.
+	 */
+
+	private Symbol token;
+
+	/**
+	 * The position just after the last consumed token.
+	 */
+
+	private int previousRight;
+
+	/**
+	 * The last expression that has been parsed between parentheses. It is
+	 * not a left value nor a method call command, even if its abstract syntax is.
+	 */
+
+	private Expression parenthesized;
+
+	/**
+	 * Builds a syntactical analyser which uses a given lexical analyser
+	 * to tokenise the source file.
+	 *
+	 * @param lexer the lexical analyser which tokenises the input source file
+	 */
+
+	public DescentParser(Scanner lexer) {
+		super(lexer);
+	}
+
+	@Override
+	public ParserKind getKind() {
+		return ParserKind.DESCENT;
+	}
+
+	@Override
+	Symbol parseTokens() throws Exception {
+		token = scan();
+		int left = token.left;
+
+		Absyn result;
+		if (token.sym == sym.BODYSTART) {
+			next();
+			result = command();
+		}
+		else
+			result = classDefinition();
+
+		if (token.sym != sym.EOF)
+			throw syntaxError();
+
+		return new Symbol(0, left, token.right, result);
+	}
+
+	/**
+	 * Consumes the current token and reads the next one.
+	 *
+	 * @return the consumed token
+	 * @throws Exception if the lexical analyser fails
+	 */
+
+	private Symbol next() throws Exception {
+		Symbol result = token;
+		previousRight = result.right;
+		token = scan();
+
+		return result;
+	}
+
+	/**
+	 * Consumes the current token, that must be of the given kind.
+	 *
+	 * @param kind the kind of the token, as in {@link sym}
+	 * @return the consumed token
+	 * @throws Exception if the current token is of another kind or the lexical analyser fails
+	 */
+
+	private Symbol expect(int kind) throws Exception {
+		if (token.sym != kind)
+			throw syntaxError();
+
+		return next();
+	}
+
+	/**
+	 * Reports a syntax error at the current token, as the generated analyser does.
+	 *
+	 * @return the exception to throw, that is never used since the runtime of JavaCup
+	 *         throws its own exception for syntax errors
+	 * @throws Exception always
+	 */
+
+	private Exception syntaxError() throws Exception {
+		syntax_error(token);
+		unrecovered_syntax_error(token);
+
+		return new Exception("Can't recover from previous error(s)");
+	}
+
+	private ClassDefinition classDefinition() throws Exception {
+		int pos = expect(sym.CLASS).left;
+		String name = (String) expect(sym.ID).value;
+		String superclass = "Object";
+		int superclassPos = pos;
+		if (token.sym == sym.EXTENDS) {
+			next();
+			Symbol id = expect(sym.ID);
+			superclass = (String) id.value;
+			superclassPos = id.left;
+		}
+
+		expect(sym.LBRACE);
+		List<ClassMemberDeclaration> declarations = new ArrayList<>();
+		while (token.sym != sym.RBRACE)
+			declarations.add(classMember());
+
+		next();
+
+		// the superclass is referenced after the members, when the whole class is reduced
+		referenceClass(superclass, superclassPos);
+
+		return new ClassDefinition(pos, name, superclass, declarations);
+	}
+
+	/**
+	 * Parses the declaration of a class member.
+	 *
+	 * @return the declaration
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private ClassMemberDeclaration classMember() throws Exception {
+		switch (token.sym) {
+		case sym.FIELD: {
+			int pos = next().left;
+			TypeExpression type = type();
+			String name = (String) expect(sym.ID).value;
+
+			return new FieldDeclaration(pos, type, name);
+		}
+		case sym.CONSTRUCTOR: {
+			int pos = next().left;
+			expect(sym.LPAREN);
+			FormalParameters formals = formals();
+			expect(sym.RPAREN);
+
+			if (token.sym == sym.BODY)
+				return new ConstructorDeclaration(pos, formals, (LazyBody) next().value);
+
+			Command body = command();
+
+			return withBodyEnd(new ConstructorDeclaration(pos, formals, body), previousRight);
+		}
+		case sym.METHOD: {
+			int pos = next().left;
+			TypeExpression returnType = token.sym == sym.VOID ? new VoidTypeExpression(next().left) : type();
+			String name = (String) expect(sym.ID).value;
+			expect(sym.LPAREN);
+			FormalParameters formals = formals();
+			expect(sym.RPAREN);
+
+			if (token.sym == sym.BODY)
+				return new MethodDeclaration(pos, returnType, name, formals, (LazyBody) next().value);
+
+			Command body = command();
+
+			return withBodyEnd(new MethodDeclaration(pos, returnType, name, formals, body), previousRight);
+		}
+		case sym.TEST: {
+			int pos = next().left;
+			String name = (String) expect(sym.ID).value;
+			Command body = command();
+
+			return withBodyEnd(new TestDeclaration(pos, name, body), previousRight);
+		}
+		case sym.FIXTURE: {
+			int pos = next().left;
+			Command body = command();
+
+			return withBodyEnd(new FixtureDeclaration(pos, body), previousRight);
+		}
+		default:
+			throw syntaxError();
+		}
+	}
+
+	/**
+	 * Parses a possibly empty list of formal parameters.
+	 *
+	 * @return the formal parameters, or {@code null} if there are none
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private FormalParameters formals() throws Exception {
+		switch (token.sym) {
+		case sym.ID: case sym.BOOLEAN: case sym.INT: case sym.FLOAT:
+			return formalParameters();
+		default:
+			return null;
+		}
+	}
+
+	private FormalParameters formalParameters() throws Exception {
+		int pos = token.left;
+		TypeExpression type = type();
+		FormalParameters formals = new FormalParameters(pos, type, (String) expect(sym.ID).value);
+
+		while (token.sym == sym.COMMA) {
+			next();
+			type = type();
+			formals.add(type, (String) expect(sym.ID).value);
+		}
+
+		return formals;
+	}
+
+	/**
+	 * Parses a type, possibly an array type.
+	 *
+	 * @return the type
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private TypeExpression type() throws Exception {
+		TypeExpression type;
+
+		switch (token.sym) {
+		case sym.ID:
+			type = classType(next());
+			break;
+		case sym.BOOLEAN:
+			type = new BooleanTypeExpression(next().left);
+			break;
+		case sym.INT:
+			type = new IntTypeExpression(next().left);
+			break;
+		case sym.FLOAT:
+			type = new FloatTypeExpression(next().left);
+			break;
+		default:
+			throw syntaxError();
+		}
+
+		return arrayTypes(type);
+	}
+
+	/**
+	 * Yields the class type named by an already consumed identifier.
+	 *
+	 * @param id the identifier
+	 * @return the class type
+	 */
+
+	private TypeExpression classType(Symbol id) {
+		String name = (String) id.value;
+		referenceClass(name, id.left);
+
+		return new ClassTypeExpression(id.left, name);
+	}
+
+	/**
+	 * Parses the array symbols that follow an element type.
+	 *
+	 * @param type the element type
+	 * @return the resulting type
+	 * @throws Exception if the lexical analyser fails
+	 */
+
+	private TypeExpression arrayTypes(TypeExpression type) throws Exception {
+		while (token.sym == sym.ARRAYSYMBOL)
+			type = new ArrayTypeExpression(next().left, type);
+
+		return type;
+	}
+
+	/**
+	 * Parses a command.
+	 *
+	 * @return the command
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private Command command() throws Exception {
+		switch (token.sym) {
+		case sym.ID: {
+			Symbol id = next();
+			// an identifier followed by another identifier or by [] is the type of a local variable
+			if (token.sym == sym.ID || token.sym == sym.ARRAYSYMBOL)
+				return localDeclaration(id.left, arrayTypes(classType(id)));
+
+			return expressionCommand(new Variable(id.left, (String) id.value));
+		}
+		case sym.BOOLEAN: case sym.INT: case sym.FLOAT: {
+			int pos = token.left;
+			return localDeclaration(pos, type());
+		}
+		case sym.RETURN: {
+			int pos = next().left;
+			return new Return(pos, startsExpression(token.sym) ? expression() : null);
+		}
+		case sym.IF: {
+			int pos = next().left;
+			expect(sym.LPAREN);
+			Expression condition = expression();
+			expect(sym.RPAREN);
+			expect(sym.THEN);
+			Command then = command();
+
+			// an else belongs to the closest if
+			if (token.sym != sym.ELSE)
+				return new IfThenElse(pos, condition, then);
+
+			next();
+			return new IfThenElse(pos, condition, then, command());
+		}
+		case sym.WHILE: {
+			int pos = next().left;
+			expect(sym.LPAREN);
+			Expression condition = expression();
+			expect(sym.RPAREN);
+
+			return new While(pos, condition, command());
+		}
+		case sym.FOR: {
+			int pos = next().left;
+			expect(sym.LPAREN);
+			Command initialisation = command();
+			expect(sym.SEMICOLON);
+			Expression condition = expression();
+			expect(sym.SEMICOLON);
+			Command update = command();
+			expect(sym.RPAREN);
+
+			return new For(pos, initialisation, condition, update, command());
+		}
+		case sym.LBRACE: {
+			int pos = next().left;
+			if (token.sym == sym.RBRACE) {
+				next();
+				return new Skip(pos);
+			}
+
+			Command body = commandSequence();
+			expect(sym.RBRACE);
+
+			return new LocalScope(pos, body);
+		}
+		case sym.ASSERT: {
+			int pos = next().left;
+			expect(sym.LPAREN);
+			Expression condition = expression();
+			expect(sym.RPAREN);
+
+			return new Assert(pos, condition);
+		}
+		default:
+			if (startsExpression(token.sym))
+				return expressionCommand(null);
+
+			throw syntaxError();
+		}
+	}
+
+	/**
+	 * Parses a non-empty sequence of commands separated by semicolons.
+	 * Sequences can be very long, hence they are parsed by iteration.
+	 *
+	 * @return the sequence
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private Command commandSequence() throws Exception {
+		Command first = command();
+		if (token.sym != sym.SEMICOLON)
+			return first;
+
+		CommandSeq result = new CommandSeq(next().left, first, command());
+		while (token.sym == sym.SEMICOLON)
+			result.add(next().left, command());
+
+		return result;
+	}
+
+	/**
+	 * Parses the declaration of a local variable, after its type.
+	 *
+	 * @param pos the position of the type
+	 * @param type the type
+	 * @return the declaration
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private Command localDeclaration(int pos, TypeExpression type) throws Exception {
+		String name = (String) expect(sym.ID).value;
+		expect(sym.ASSIGN);
+
+		return new LocalDeclaration(pos, type, name, expression());
+	}
+
+	/**
+	 * Parses a command that starts with an expression, that is, an assignment
+	 * or a method call. The expression is parsed as far as possible, and only
+	 * then it is checked to be a left value followed by an assignment or a
+	 * method call. The latter is recognised as a command as soon as it is not
+	 * followed by an operator, as the generated analyser does, so that
+	 * no method call expression is built for it.
+	 *
+	 * @param left the variable that starts the expression, if it has been
+	 *             already consumed, or {@code null}
+	 * @return the command
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private Command expressionCommand(Expression left) throws Exception {
+		if (left == null)
+			left = token.sym == sym.MINUS || token.sym == sym.NOT ? unary() : primary();
+
+		while (true) {
+			// the operators that bind tighter than any other operator are applied to the whole expression
+			while (token.sym == sym.DOT || token.sym == sym.LBRACK)
+				if (token.sym == sym.LBRACK)
+					left = arrayAccess(left);
+				else {
+					int pos = next().left;
+					String name = (String) expect(sym.ID).value;
+					if (token.sym != sym.LPAREN)
+						left = new FieldAccess(pos, left, name);
+					else {
+						next();
+						ExpressionSeq actuals = expressions();
+						expect(sym.RPAREN);
+
+						if (!continuesExpression(token.sym))
+							return new MethodCallCommand(pos, left, name, actuals);
+
+						left = new MethodCallExpression(pos, left, name, actuals);
+					}
+				}
+
+			left = operators(left, CAST);
+			if (token.sym != sym.AS)
+				break;
+
+			left = cast(left);
+		}
+
+		if (token.sym != sym.ASSIGN || !(left instanceof Lvalue) || left == parenthesized)
+			throw syntaxError();
+
+		int pos = next().left;
+		return new Assignment(pos, (Lvalue) left, expression());
+	}
+
+	/**
+	 * Parses a whole expression.
+	 *
+	 * @return the expression
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private Expression expression() throws Exception {
+		return operators(unary(), NONE);
+	}
+
+	/**
+	 * Parses the binary operators and casts that follow an expression,
+	 * as long as they have a precedence higher than the given one.
+	 *
+	 * @param left the expression
+	 * @param precedence the precedence
+	 * @return the resulting expression
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private Expression operators(Expression left, int precedence) throws Exception {
+		while (true) {
+			int current = precedence(token.sym);
+			if (current <= precedence)
+				return left;
+
+			if (current == CAST) {
+				left = postfix(cast(left));
+				continue;
+			}
+
+			// the right operand is parsed up to the first operator that does not bind
+			// tighter, hence binary operators are left associative
+			Symbol operator = next();
+			Expression right = operators(unary(), current);
+			left = binary(operator, left, right);
+
+			if (current == COMPARISON && precedence(token.sym) == COMPARISON)
+				throw syntaxError();
+		}
+	}
+
+	/**
+	 * Parses a cast of an expression, after the expression.
+	 *
+	 * @param expression the expression
+	 * @return the cast
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private Expression cast(Expression expression) throws Exception {
+		int pos = next().left;
+		return new Cast(pos, type(), expression);
+	}
+
+	/**
+	 * Parses an expression that starts with a unary operator, if any, and
+	 * otherwise a primary expression followed by the operators that bind
+	 * tighter than any other operator.
+	 *
+	 * @return the expression
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private Expression unary() throws Exception {
+		switch (token.sym) {
+		case sym.MINUS: {
+			int pos = next().left;
+			// only field accesses, method calls and array accesses bind tighter than the unary minus
+			return new Minus(pos, unary());
+		}
+		case sym.NOT: {
+			int pos = next().left;
+			return new Not(pos, operators(unary(), NEGATION));
+		}
+		default:
+			return postfix(primary());
+		}
+	}
+
+	/**
+	 * Parses the field accesses, method calls and array accesses that follow an expression.
+	 *
+	 * @param left the expression
+	 * @return the resulting expression
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private Expression postfix(Expression left) throws Exception {
+		while (true)
+			if (token.sym == sym.LBRACK)
+				left = arrayAccess(left);
+			else if (token.sym == sym.DOT) {
+				int pos = next().left;
+				String name = (String) expect(sym.ID).value;
+				if (token.sym != sym.LPAREN)
+					left = new FieldAccess(pos, left, name);
+				else {
+					next();
+					ExpressionSeq actuals = expressions();
+					expect(sym.RPAREN);
+					left = new MethodCallExpression(pos, left, name, actuals);
+				}
+			}
+			else
+				return left;
+	}
+
+	private Expression arrayAccess(Expression array) throws Exception {
+		int pos = next().left;
+		Expression index = expression();
+		expect(sym.RBRACK);
+
+		return new ArrayAccess(pos, array, index);
+	}
+
+	/**
+	 * Parses a literal, a variable, an object or array creation or
+	 * an expression between parentheses.
+	 *
+	 * @return the expression
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private Expression primary() throws Exception {
+		switch (token.sym) {
+		case sym.ID: {
+			Symbol id = next();
+			return new Variable(id.left, (String) id.value);
+		}
+		case sym.TRUE:
+			return new True(next().left);
+		case sym.FALSE:
+			return new False(next().left);
+		case sym.INTEGER: {
+			Symbol i = next();
+			return new IntLiteral(i.left, ((Integer) i.value).intValue());
+		}
+		case sym.FLOATING: {
+			Symbol f = next();
+			return new FloatLiteral(f.left, ((Float) f.value).floatValue());
+		}
+		case sym.STRING: {
+			Symbol s = next();
+			referenceClass("String", s.left);
+			return new StringLiteral(s.left, (String) s.value);
+		}
+		case sym.NIL:
+			return new Nil(next().left);
+		case sym.NEW:
+			return creation();
+		case sym.LPAREN: {
+			next();
+			Expression expression = expression();
+			expect(sym.RPAREN);
+
+			return parenthesized = expression;
+		}
+		default:
+			throw syntaxError();
+		}
+	}
+
+	/**
+	 * Parses the creation of an object or array.
+	 *
+	 * @return the creation
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private Expression creation() throws Exception {
+		int pos = next().left;
+		TypeExpression type;
+
+		if (token.sym == sym.ID) {
+			Symbol id = next();
+			if (token.sym == sym.LPAREN) {
+				next();
+				ExpressionSeq actuals = expressions();
+				expect(sym.RPAREN);
+
+				// the class is referenced after the actual parameters, when the whole creation is reduced
+				String className = (String) id.value;
+				referenceClass(className, id.left);
+
+				return new NewObject(pos, className, actuals);
+			}
+			else if (token.sym != sym.LBRACK && token.sym != sym.ARRAYSYMBOL)
+				throw syntaxError();
+
+			type = arrayTypes(classType(id));
+		}
+		else
+			type = type();
+
+		expect(sym.LBRACK);
+		Expression size = expression();
+		expect(sym.RBRACK);
+
+		return new NewArray(pos, type, size);
+	}
+
+	/**
+	 * Parses a possibly empty list of actual parameters.
+	 *
+	 * @return the actual parameters, or {@code null} if there are none
+	 * @throws Exception if a syntax error occurs or the lexical analyser fails
+	 */
+
+	private ExpressionSeq expressions() throws Exception {
+		return startsExpression(token.sym) ? expressionSequence() : null;
+	}
+
+	private ExpressionSeq expressionSequence() throws Exception {
+		int pos = token.left;
+		ExpressionSeq result = new ExpressionSeq(pos, expression());
+		while (token.sym == sym.COMMA) {
+			next();
+			result.add(expression());
+		}
+
+		return result;
+	}
+
+	private static Expression binary(Symbol operator, Expression left, Expression right) {
+		int pos = operator.left;
+
+		switch (operator.sym) {
+		case sym.PLUS: return new Addition(pos, left, right);
+		case sym.MINUS: return new Subtraction(pos, left, right);
+		case sym.TIMES: return new Multiplication(pos, left, right);
+		case sym.DIVIDE: return new Division(pos, left, right);
+		case sym.EQ: return new Equal(pos, left, right);
+		case sym.NEQ: return new NotEqual(pos, left, right);
+		case sym.LT: return new LessThan(pos, left, right);
+		case sym.LE: return new LessThanOrEqual(pos, left, right);
+		case sym.GT: return new GreaterThan(pos, left, right);
+		case sym.GE: return new GreaterThanOrEqual(pos, left, right);
+		case sym.AND: return new And(pos, left, right);
+		case sym.OR: return new Or(pos, left, right);
+		default: throw new IllegalArgumentException("Unexpected operator " + operator.sym);
+		}
+	}
+
+	/**
+	 * Yields the precedence of a token used as a binary operator or cast.
+	 *
+	 * @param kind the kind of the token, as in {@link sym}
+	 * @return the precedence, that is {@link #NONE} if the token is not an operator
+	 */
+
+	private static int precedence(int kind) {
+		switch (kind) {
+		case sym.AS:
+			return CAST;
+		case sym.AND: case sym.OR:
+			return LOGICAL;
+		case sym.EQ: case sym.NEQ: case sym.LT: case sym.LE: case sym.GT: case sym.GE:
+			return COMPARISON;
+		case sym.PLUS: case sym.MINUS:
+			return ADDITIVE;
+		case sym.TIMES: case sym.DIVIDE:
+			return MULTIPLICATIVE;
+		default:
+			return NONE;
+		}
+	}
+
+	/**
+	 * Determines if a token continues an expression that precedes it.
+	 *
+	 * @param kind the kind of the token, as in {@link sym}
+	 * @return true if and only if that is the case
+	 */
+
+	private static boolean continuesExpression(int kind) {
+		return kind == sym.DOT || kind == sym.LBRACK || precedence(kind) != NONE;
+	}
+
+	/**
+	 * Determines if a token can start an expression.
+	 *
+	 * @param kind the kind of the token, as in {@link sym}
+	 * @return true if and only if that is the case
+	 */
+
+	private static boolean startsExpression(int kind) {
+		switch (kind) {
+		case sym.ID: case sym.TRUE: case sym.FALSE: case sym.INTEGER: case sym.FLOATING:
+		case sym.STRING: case sym.NIL: case sym.NEW: case sym.MINUS: case sym.NOT: case sym.LPAREN:
+			return true;
+		default:
+			return false;
+		}
+	}
+}
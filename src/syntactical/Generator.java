@@ -1,14 +1,156 @@
 package syntactical;
 
 import java.io.FileInputStream;
-import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class Generator {
 
-	public static void main(String[] args) throws IOException, Exception {
+	/**
+	 * The declarations of the tables in the parser generated by JavaCup,
+	 * with their encoded string literals.
+	 */
+
+	private final static Pattern TABLE = Pattern.compile
+		("(protected static final short(?:\\[\\]\\[\\])? (_\\w+_table)(?:\\[\\]\\[\\])? = )\\s*unpackFromStrings\\(new String\\[\\] \\{(.*?)\\}\\);", Pattern.DOTALL);
+
+	/**
+	 * The string literals inside the declaration of a table.
+	 */
+
+	private final static Pattern LITERAL = Pattern.compile("\"((?:[^\"\\\\]|\\\\.)*)\"", Pattern.DOTALL);
+
+	/**
+	 * The maximal number of characters of a string literal in the generated tables.
+	 */
+
+	private final static int LINE = 64;
+
+	public static void main(String[] args) throws Exception {
 		try (FileInputStream fis = new FileInputStream("resources/Kitten.cup")) {
 			System.setIn(fis);
 			java_cup.Main.main(new String[] { "-parser", "Parser" });
 		}
+
+		precomputeTables(Paths.get("Parser.java"));
+	}
+
+	/**
+	 * Replaces the encoded tables of the parser generated by JavaCup with
+	 * their dense layout, decoded by {@link ParserTables}.
+	 *
+	 * @param parser the source of the generated parser
+	 * @throws Exception if the parser cannot be read or written or its tables cannot be decoded
+	 */
+
+	private static void precomputeTables(Path parser) throws Exception {
+		String source = new String(Files.readAllBytes(parser), StandardCharsets.UTF_8);
+
+		// the decoding function of the runtime of JavaCup is used, so that the tables are the same
+		Method unpack = java_cup.runtime.lr_parser.class.getDeclaredMethod("unpackFromStrings", String[].class);
+		unpack.setAccessible(true);
+
+		Matcher matcher = TABLE.matcher(source);
+		StringBuffer result = new StringBuffer();
+		int found = 0;
+		while (matcher.find()) {
+			List<String> strings = new ArrayList<>();
+			Matcher literal = LITERAL.matcher(matcher.group(3));
+			while (literal.find())
+				strings.add(unescape(literal.group(1)));
+
+			short[][] table = (short[][]) unpack.invoke(null, (Object) strings.toArray(new String[strings.size()]));
+			String replacement = matcher.group(1) + "\n    ParserTables.unpack(" + literals(ParserTables.pack(table)) + ");";
+			matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+			found++;
+		}
+
+		matcher.appendTail(result);
+
+		if (found != 3)
+			throw new IllegalStateException("Cannot find the three tables in " + parser);
+
+		Files.write(parser, result.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Yields the Java string literals for the given characters, one per line.
+	 */
+
+	private static String literals(char[] chars) {
+		StringBuilder sb = new StringBuilder();
+		int column = LINE;
+
+		for (char c: chars) {
+			if (column >= LINE) {
+				sb.append(sb.length() == 0 ? "\n    \"" : "\",\n    \"");
+				column = 0;
+			}
+
+			int before = sb.length();
+			if (c >= ' ' && c <= '~' && c != '"' && c != '\\')
+				sb.append(c);
+			else if (c <= 0xff)
+				// octal escapes cannot be mistaken for line terminators, as unicode escapes could
+				sb.append('\\').append((char) ('0' + (c >> 6))).append((char) ('0' + ((c >> 3) & 7))).append((char) ('0' + (c & 7)));
+			else
+				sb.append(String.format("\\u%04x", (int) c));
+
+			column += sb.length() - before;
+		}
+
+		return sb.append('"').toString();
+	}
+
+	/**
+	 * Yields the characters denoted by the body of a Java string literal.
+	 */
+
+	private static String unescape(String body) {
+		StringBuilder sb = new StringBuilder();
+
+		for (int pos = 0; pos < body.length(); pos++) {
+			char c = body.charAt(pos);
+			if (c != '\\') {
+				sb.append(c);
+				continue;
+			}
+
+			c = body.charAt(++pos);
+			if (c >= '0' && c <= '7') {
+				// an octal escape has up to three digits and its value is at most 255
+				int end = pos + 1, max = c <= '3' ? 3 : 2;
+				while (end < body.length() && end - pos < max && body.charAt(end) >= '0' && body.charAt(end) <= '7')
+					end++;
+
+				sb.append((char) Integer.parseInt(body.substring(pos, end), 8));
+				pos = end - 1;
+			}
+			else if (c == 'u') {
+				while (body.charAt(pos) == 'u')
+					pos++;
+
+				sb.append((char) Integer.parseInt(body.substring(pos, pos + 4), 16));
+				pos += 3;
+			}
+			else
+				switch (c) {
+				case 'b': sb.append('\b'); break;
+				case 't': sb.append('\t'); break;
+				case 'n': sb.append('\n'); break;
+				case 'f': sb.append('\f'); break;
+				case 'r': sb.append('\r'); break;
+				default: sb.append(c);
+				}
+		}
+
+		return sb.toString();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+package syntactical;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import absyn.ClassDefinition;
+import absyn.ClassMemberDeclaration;
+import absyn.CodeDeclaration;
+import absyn.Command;
+import errorMsg.ErrorMsg;
+import lexical.LexerKind;
+
+/**
+ * A parser that brings the abstract syntax of a class up to date with an
+ * edit of its source file, by lexing and parsing again only the body of the
+ * constructor, method, test or fixture that contains the edit. The new body
+ * replaces the old one inside the abstract syntax of the class, whose other
+ * members are kept. This is possible only if the edit lies between the braces
+ * of a single body and the new body is correct: then the tokens of the rest of
+ * the file do not change. Otherwise, the whole file must be parsed again.
+ */
+
+public class IncrementalParser {
+
+	private IncrementalParser() {}
+
+	/**
+	 * Tries to bring the abstract syntax of a class up to date with an edit
+	 * of its source file.
+	 *
+	 * @param clazz the abstract syntax of the class, parsed eagerly from {@code before}
+	 * @param errorMsg the error reporting utility used for {@code clazz}. It is not modified
+	 * @param lexerKind the kind of lexical analyser to use for the new body
+	 * @param parserKind the kind of syntactical analyser to use for the new body
+	 * @param before the characters of the source file before the edit
+	 * @param after the characters of the source file after the edit
+	 * @return the error reporting utility of the source file after the edit, if
+	 *         {@code clazz} has been brought up to date with it. Otherwise, this is
+	 *         {@code null} and {@code clazz} is left untouched. This is the case
+	 *         if the edit is not inside a single body, if the new body contains
+	 *         errors or if it refers to other classes than the old body
+	 */
+
+	public static ErrorMsg reparse(ClassDefinition clazz, ErrorMsg errorMsg, LexerKind lexerKind, ParserKind parserKind, char[] before, char[] after) {
+		// the edit replaces the characters between the common prefix and the common suffix
+		int common = Math.min(before.length, after.length), prefix = 0, suffix = 0;
+		while (prefix < common && before[prefix] == after[prefix])
+			prefix++;
+
+		while (suffix < common - prefix && before[before.length - 1 - suffix] == after[after.length - 1 - suffix])
+			suffix++;
+
+		if (prefix == before.length && prefix == after.length)
+			return new ErrorMsg(errorMsg);
+
+		CodeDeclaration declaration = enclosing(clazz, errorMsg, before, prefix, before.length - suffix);
+		if (declaration == null)
+			return null;
+
+		int start = errorMsg.locate(declaration.getBody().getPos());
+		int end = errorMsg.locate(declaration.getBodyEnd() - 1) + 1;
+		char[] body = Arrays.copyOfRange(after, start, end + after.length - before.length);
+
+		// the lexical analysers do not record the new lines skipped
+		// inside a string literal, while the replacement would
+		if (hasSkippedNewLines(body))
+			return null;
+
+		ErrorMsg result = new ErrorMsg(errorMsg);
+		result.deferMessages();
+		int offset = result.replace(start, end, body);
+		if (offset < 0)
+			return null;
+
+		Parser parser = parserKind.mk(lexerKind.mk(result, body, offset));
+		Command command = parse(parser, offset);
+		if (command == null || result.anyErrors())
+			return null;
+
+		// the classes referenced from the class, in order of first occurrence,
+		// do not change if those referenced from the body do not change;
+		// the latter have been recorded when the old body was parsed
+		List<String> referenced = new ArrayList<>(parser.getReferencedClasses());
+		if (!referenced.equals(declaration.getReferencedClasses()))
+			return null;
+
+		declaration.replaceBody(command, offset + body.length, referenced);
+		// nothing has been deferred, since there are no errors
+		result.flushMessages();
+
+		return result;
+	}
+
+	/**
+	 * Yields the declaration of the class whose body strictly contains the
+	 * given characters of the source file, between its braces.
+	 *
+	 * @param clazz the abstract syntax of the class
+	 * @param errorMsg the error reporting utility used for {@code clazz}
+	 * @param source the characters of the source file
+	 * @param from the position of the first character, inclusive
+	 * @param to the position of the last character, exclusive
+	 * @return the declaration, or {@code null} if there is none
+	 */
+
+	private static CodeDeclaration enclosing(ClassDefinition clazz, ErrorMsg errorMsg, char[] source, int from, int to) {
+		for (ClassMemberDeclaration member: clazz.getDeclarations())
+			if (member instanceof CodeDeclaration && ((CodeDeclaration) member).getBodyEnd() >= 0) {
+				CodeDeclaration declaration = (CodeDeclaration) member;
+				int start = errorMsg.locate(declaration.getBody().getPos());
+				int end = errorMsg.locate(declaration.getBodyEnd() - 1) + 1;
+
+				if (start < from && to < end && source[start] == '{' && source[end - 1] == '}')
+					return declaration;
+			}
+
+		return null;
+	}
+
+	/**
+	 * Parses a body.
+	 *
+	 * @param parser the parser for the body
+	 * @param pos the position of the body
+	 * @return the abstract syntax of the body, or {@code null} if it
+	 *         contains syntax errors
+	 */
+
+	private static Command parse(Parser parser, int pos) {
+		// a failed parse is performed again on the whole file, that reports the errors
+		parser.quiet();
+		parser.startWithBody(pos);
+
+		try {
+			return (Command) parser.parse().value;
+		}
+		catch (Exception e) {
+			// the syntax error has been reported to the error reporting utility of the parser
+			return null;
+		}
+	}
+
+	/**
+	 * Determines if the given characters contain a backslash followed by
+	 * white space, which starts a sequence that is skipped inside string literals.
+	 *
+	 * @param source the characters
+	 * @return true if and only if that is the case
+	 */
+
+	private static boolean hasSkippedNewLines(char[] source) {
+		for (int pos = 0; pos < source.length - 1; pos++)
+			if (source[pos] == '\\')
+				switch (source[pos + 1]) {
+				case ' ': case '\t': case '\f': case '\n': case '\r':
+					return true;
+				}
+
+		return false;
+	}
+}
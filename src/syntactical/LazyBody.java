@@ -0,0 +1,103 @@
+package syntactical;
+
+import absyn.Command;
+import absyn.Skip;
+import errorMsg.ErrorMsg;
+import lexical.LexerKind;
+
+/**
+ * The body of a method or constructor whose parsing has been deferred.
+ * It is kept as the portion of the source file that contains it and
+ * it is lexed and parsed only when needed.
+ */
+
+public class LazyBody {
+
+	/**
+	 * The kind of lexical analyser used for the source file.
+	 */
+
+	private final LexerKind lexerKind;
+
+	/**
+	 * The kind of syntactical analyser used for the source file.
+	 */
+
+	private final ParserKind parserKind;
+
+	/**
+	 * The error reporting utility of the source file.
+	 */
+
+	private final ErrorMsg errorMsg;
+
+	/**
+	 * The characters of the body, from its opening to its closing brace.
+	 */
+
+	private final char[] source;
+
+	/**
+	 * The position of the body in the source file.
+	 */
+
+	private final int offset;
+
+	/**
+	 * The time spent inside the lexical analyser while parsing the body,
+	 * in nanoseconds.
+	 */
+
+	private long lexingTime;
+
+	/**
+	 * Builds a body whose parsing is deferred.
+	 *
+	 * @param lexerKind the kind of lexical analyser used for the source file
+	 * @param parserKind the kind of syntactical analyser used for the source file
+	 * @param errorMsg the error reporting utility of the source file
+	 * @param source the characters of the body, from its opening to its closing brace
+	 * @param offset the position of the body in the source file
+	 */
+
+	LazyBody(LexerKind lexerKind, ParserKind parserKind, ErrorMsg errorMsg, char[] source, int offset) {
+		this.lexerKind = lexerKind;
+		this.parserKind = parserKind;
+		this.errorMsg = errorMsg;
+		this.source = source;
+		this.offset = offset;
+	}
+
+	/**
+	 * Lexes and parses this body. This should be called at most once.
+	 *
+	 * @return the abstract syntax of the body. If it contains syntax errors,
+	 *         they are reported and an empty command is returned instead
+	 */
+
+	public Command parse() {
+		Parser parser = parserKind.mk(lexerKind.mk(errorMsg, source, offset));
+		parser.startWithBody(offset);
+
+		try {
+			return (Command) parser.parse().value;
+		}
+		catch (Exception e) {
+			// the syntax error has been already reported
+			return new Skip(offset);
+		}
+		finally {
+			lexingTime = parser.getLexingTime();
+		}
+	}
+
+	/**
+	 * Yields the time spent inside the lexical analyser by {@link #parse()}.
+	 *
+	 * @return the time, in nanoseconds
+	 */
+
+	public long getLexingTime() {
+		return lexingTime;
+	}
+}
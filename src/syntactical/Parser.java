@@ -1,17 +1,24 @@
 
 //----------------------------------------------------
 // The following code was generated by CUP v0.10j
-// Fri Jun 19 17:00:00 CEST 2015
+// Sat Oct 17 22:05:50 UTC 2026
 //----------------------------------------------------
 
 package syntactical;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import absyn.*;
 import errorMsg.ErrorMsg;
-import lexical.Lexer;
+import lexical.Scanner;
 
 /** CUP v0.10j generated parser.
-  * @version Fri Jun 19 17:00:00 CEST 2015
+  * @version Sat Oct 17 22:05:50 UTC 2026
   */
 public class Parser extends java_cup.runtime.lr_parser {
 
@@ -23,457 +30,332 @@ public class Parser extends java_cup.runtime.lr_parser {
 
   /** Production table. */
   protected static final short _production_table[][] = 
-    unpackFromStrings(new String[] {
-    "\000\103\000\002\002\004\000\002\014\003\000\002\014" +
-    "\005\000\002\014\006\000\002\015\003\000\002\015\003" +
-    "\000\002\015\003\000\002\015\003\000\002\015\004\000" +
-    "\002\016\003\000\002\016\003\000\002\003\007\000\002" +
-    "\003\011\000\002\004\002\000\002\004\006\000\002\004" +
-    "\010\000\002\004\012\000\002\004\006\000\002\004\005" +
-    "\000\002\005\002\000\002\005\003\000\002\006\004\000" +
-    "\002\006\006\000\002\007\005\000\002\007\006\000\002" +
-    "\007\003\000\002\007\004\000\002\007\010\000\002\007" +
-    "\012\000\002\007\007\000\002\007\013\000\002\007\005" +
-    "\000\002\007\004\000\002\007\010\000\002\007\006\000" +
-    "\002\010\003\000\002\010\005\000\002\011\003\000\002" +
-    "\011\003\000\002\011\003\000\002\011\003\000\002\011" +
-    "\003\000\002\011\003\000\002\011\003\000\002\011\007" +
-    "\000\002\011\007\000\002\011\005\000\002\011\005\000" +
-    "\002\011\005\000\002\011\005\000\002\011\005\000\002" +
-    "\011\004\000\002\011\005\000\002\011\005\000\002\011" +
-    "\005\000\002\011\005\000\002\011\005\000\002\011\005" +
-    "\000\002\011\005\000\002\011\005\000\002\011\004\000" +
-    "\002\011\010\000\002\011\005\000\002\012\002\000\002" +
-    "\012\003\000\002\013\003\000\002\013\005" });
+    ParserTables.unpack(
+    "I\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002",
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002",
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002",
+    "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002",
+    "\002\002\002\002\002\002\002\002\002\000\002\001\001\001\002\014",
+    "\001\014\003\014\004\015\001\015\001\015\001\015\001\015\002\016",
+    "\001\016\001\002\005\002\007\003\000\003\004\003\006\003\006\003",
+    "\010\003\010\003\004\003\003\004\000\004\001\005\002\005\004\006",
+    "\003\006\004\006\001\006\002\006\006\006\010\006\005\006\011\006",
+    "\003\006\002\006\006\006\004\007\001\007\001\010\003\010\003\011",
+    "\001\011\001\011\001\011\001\011\001\011\001\011\001\011\005\011",
+    "\005\011\003\011\003\011\003\011\003\011\003\011\002\011\003\011",
+    "\003\011\003\011\003\011\003\011\003\011\003\011\003\011\002\011",
+    "\006\011\003\012\000\012\001\013\001\013\003");
 
   /** Access to production table. */
   public short[][] production_table() {return _production_table;}
 
   /** Parse-action table. */
   protected static final short[][] _action_table = 
-    unpackFromStrings(new String[] {
-    "\000\241\000\004\010\005\001\002\000\004\002\243\001" +
-    "\002\000\004\004\006\001\002\000\006\011\010\031\007" +
-    "\001\002\000\016\012\016\013\020\014\013\032\ufff4\065" +
-    "\015\067\014\001\002\000\004\004\011\001\002\000\004" +
-    "\031\012\001\002\000\016\012\016\013\020\014\013\032" +
-    "\ufff4\065\015\067\014\001\002\000\004\025\234\001\002" +
-    "\000\052\004\053\005\054\006\061\007\055\015\060\016" +
-    "\027\017\024\020\026\025\050\031\052\035\057\050\043" +
-    "\053\047\056\041\057\062\060\044\061\051\062\046\063" +
-    "\056\066\037\001\002\000\004\004\227\001\002\000\012" +
-    "\004\021\016\027\017\024\020\026\001\002\000\004\032" +
-    "\223\001\002\000\014\004\021\016\027\017\024\020\026" +
-    "\021\025\001\002\000\072\004\ufffd\012\ufffd\013\ufffd\014" +
-    "\ufffd\022\ufffd\023\ufffd\024\ufffd\026\ufffd\027\ufffd\030\ufffd" +
-    "\032\ufffd\033\ufffd\034\ufffd\035\ufffd\036\ufffd\037\ufffd\040" +
-    "\ufffd\041\ufffd\042\ufffd\043\ufffd\044\ufffd\045\ufffd\046\ufffd" +
-    "\047\ufffd\052\ufffd\055\ufffd\065\ufffd\067\ufffd\001\002\000" +
-    "\004\004\031\001\002\000\006\004\ufff8\052\030\001\002" +
-    "\000\072\004\ufffa\012\ufffa\013\ufffa\014\ufffa\022\ufffa\023" +
-    "\ufffa\024\ufffa\026\ufffa\027\ufffa\030\ufffa\032\ufffa\033\ufffa" +
-    "\034\ufffa\035\ufffa\036\ufffa\037\ufffa\040\ufffa\041\ufffa\042" +
-    "\ufffa\043\ufffa\044\ufffa\045\ufffa\046\ufffa\047\ufffa\052\ufffa" +
-    "\055\ufffa\065\ufffa\067\ufffa\001\002\000\004\004\ufff7\001" +
-    "\002\000\072\004\ufffc\012\ufffc\013\ufffc\014\ufffc\022\ufffc" +
-    "\023\ufffc\024\ufffc\026\ufffc\027\ufffc\030\ufffc\032\ufffc\033" +
-    "\ufffc\034\ufffc\035\ufffc\036\ufffc\037\ufffc\040\ufffc\041\ufffc" +
-    "\042\ufffc\043\ufffc\044\ufffc\045\ufffc\046\ufffc\047\ufffc\052" +
-    "\ufffc\055\ufffc\065\ufffc\067\ufffc\001\002\000\072\004\ufffb" +
-    "\012\ufffb\013\ufffb\014\ufffb\022\ufffb\023\ufffb\024\ufffb\026" +
-    "\ufffb\027\ufffb\030\ufffb\032\ufffb\033\ufffb\034\ufffb\035\ufffb" +
-    "\036\ufffb\037\ufffb\040\ufffb\041\ufffb\042\ufffb\043\ufffb\044" +
-    "\ufffb\045\ufffb\046\ufffb\047\ufffb\052\ufffb\055\ufffb\065\ufffb" +
-    "\067\ufffb\001\002\000\072\004\ufff9\012\ufff9\013\ufff9\014" +
-    "\ufff9\022\ufff9\023\ufff9\024\ufff9\026\ufff9\027\ufff9\030\ufff9" +
-    "\032\ufff9\033\ufff9\034\ufff9\035\ufff9\036\ufff9\037\ufff9\040" +
-    "\ufff9\041\ufff9\042\ufff9\043\ufff9\044\ufff9\045\ufff9\046\ufff9" +
-    "\047\ufff9\052\ufff9\055\ufff9\065\ufff9\067\ufff9\001\002\000" +
-    "\004\025\032\001\002\000\014\004\021\016\027\017\024" +
-    "\020\026\026\uffee\001\002\000\004\026\uffed\001\002\000" +
-    "\006\004\220\052\030\001\002\000\004\026\036\001\002" +
-    "\000\052\004\053\005\054\006\061\007\055\015\060\016" +
-    "\027\017\024\020\026\025\050\031\052\035\057\050\043" +
-    "\053\047\056\041\057\062\060\044\061\051\062\046\063" +
-    "\056\066\037\001\002\000\004\025\215\001\002\000\006" +
-    "\004\212\052\030\001\002\000\004\025\206\001\002\000" +
-    "\016\012\016\013\020\014\013\032\ufff4\065\015\067\014" +
-    "\001\002\000\030\004\066\005\054\006\061\007\055\015" +
-    "\060\025\050\035\057\050\043\061\051\062\046\063\056" +
-    "\001\002\000\052\004\066\005\054\006\061\007\055\012" +
-    "\uffe8\013\uffe8\014\uffe8\015\060\023\uffe8\025\050\026\uffe8" +
-    "\032\uffe8\035\057\050\043\055\uffe8\061\051\062\046\063" +
-    "\056\065\uffe8\067\uffe8\001\002\000\040\024\102\027\104" +
-    "\033\176\034\075\035\071\036\103\037\072\040\076\041" +
-    "\074\042\105\043\077\044\100\045\073\046\070\047\106" +
-    "\001\002\000\066\012\uffdb\013\uffdb\014\uffdb\022\uffdb\023" +
-    "\uffdb\024\uffdb\026\uffdb\027\uffdb\030\uffdb\032\uffdb\033\uffdb" +
-    "\034\uffdb\035\uffdb\036\uffdb\037\uffdb\040\uffdb\041\uffdb\042" +
-    "\uffdb\043\uffdb\044\uffdb\045\uffdb\046\uffdb\047\uffdb\055\uffdb" +
-    "\065\uffdb\067\uffdb\001\002\000\004\025\167\001\002\000" +
-    "\030\004\066\005\054\006\061\007\055\015\060\025\050" +
-    "\035\057\050\043\061\051\062\046\063\056\001\002\000" +
-    "\066\012\uffd6\013\uffd6\014\uffd6\022\uffd6\023\uffd6\024\uffd6" +
-    "\026\uffd6\027\uffd6\030\uffd6\032\uffd6\033\uffd6\034\uffd6\035" +
-    "\uffd6\036\uffd6\037\uffd6\040\uffd6\041\uffd6\042\uffd6\043\uffd6" +
-    "\044\uffd6\045\uffd6\046\uffd6\047\uffd6\055\uffd6\065\uffd6\067" +
-    "\uffd6\001\002\000\054\004\053\005\054\006\061\007\055" +
-    "\015\060\016\027\017\024\020\026\025\050\031\052\032" +
-    "\157\035\057\050\043\053\047\056\041\057\062\060\044" +
-    "\061\051\062\046\063\056\066\037\001\002\000\046\004" +
-    "\ufffd\024\000\027\000\033\000\034\000\035\000\036\000" +
-    "\037\000\040\000\041\000\042\000\043\000\044\000\045" +
-    "\000\046\000\047\000\051\000\052\ufffd\001\002\000\066" +
-    "\012\uffd7\013\uffd7\014\uffd7\022\uffd7\023\uffd7\024\uffd7\026" +
-    "\uffd7\027\uffd7\030\uffd7\032\uffd7\033\uffd7\034\uffd7\035\uffd7" +
-    "\036\uffd7\037\uffd7\040\uffd7\041\uffd7\042\uffd7\043\uffd7\044" +
-    "\uffd7\045\uffd7\046\uffd7\047\uffd7\055\uffd7\065\uffd7\067\uffd7" +
-    "\001\002\000\066\012\uffd8\013\uffd8\014\uffd8\022\uffd8\023" +
-    "\uffd8\024\uffd8\026\uffd8\027\uffd8\030\uffd8\032\uffd8\033\uffd8" +
-    "\034\uffd8\035\uffd8\036\uffd8\037\uffd8\040\uffd8\041\uffd8\042" +
-    "\uffd8\043\uffd8\044\uffd8\045\uffd8\046\uffd8\047\uffd8\055\uffd8" +
-    "\065\uffd8\067\uffd8\001\002\000\066\012\uffda\013\uffda\014" +
-    "\uffda\022\uffda\023\uffda\024\uffda\026\uffda\027\uffda\030\uffda" +
-    "\032\uffda\033\uffda\034\uffda\035\uffda\036\uffda\037\uffda\040" +
-    "\uffda\041\uffda\042\uffda\043\uffda\044\uffda\045\uffda\046\uffda" +
-    "\047\uffda\055\uffda\065\uffda\067\uffda\001\002\000\030\004" +
-    "\066\005\054\006\061\007\055\015\060\025\050\035\057" +
-    "\050\043\061\051\062\046\063\056\001\002\000\012\004" +
-    "\146\016\027\017\024\020\026\001\002\000\066\012\uffd9" +
-    "\013\uffd9\014\uffd9\022\uffd9\023\uffd9\024\uffd9\026\uffd9\027" +
-    "\uffd9\030\uffd9\032\uffd9\033\uffd9\034\uffd9\035\uffd9\036\uffd9" +
-    "\037\uffd9\040\uffd9\041\uffd9\042\uffd9\043\uffd9\044\uffd9\045" +
-    "\uffd9\046\uffd9\047\uffd9\055\uffd9\065\uffd9\067\uffd9\001\002" +
-    "\000\004\025\136\001\002\000\042\024\uffdc\027\uffdc\033" +
-    "\uffdc\034\uffdc\035\uffdc\036\uffdc\037\uffdc\040\uffdc\041\uffdc" +
-    "\042\uffdc\043\uffdc\044\uffdc\045\uffdc\046\uffdc\047\uffdc\051" +
-    "\064\001\002\000\030\004\066\005\054\006\061\007\055" +
-    "\015\060\025\050\035\057\050\043\061\051\062\046\063" +
-    "\056\001\002\000\062\012\uffea\013\uffea\014\uffea\023\uffea" +
-    "\024\102\026\uffea\027\104\032\uffea\033\101\034\075\035" +
-    "\071\036\103\037\072\040\076\041\074\042\105\043\077" +
-    "\044\100\045\073\046\070\047\106\055\uffea\065\uffea\067" +
-    "\uffea\001\002\000\066\012\000\013\000\014\000\022\000" +
-    "\023\000\024\000\026\000\027\000\030\000\032\000\033" +
-    "\000\034\000\035\000\036\000\037\000\040\000\041\000" +
-    "\042\000\043\000\044\000\045\000\046\000\047\000\055" +
-    "\000\065\000\067\000\001\002\000\066\012\uffdc\013\uffdc" +
-    "\014\uffdc\022\uffdc\023\uffdc\024\uffdc\026\uffdc\027\uffdc\030" +
-    "\uffdc\032\uffdc\033\uffdc\034\uffdc\035\uffdc\036\uffdc\037\uffdc" +
-    "\040\uffdc\041\uffdc\042\uffdc\043\uffdc\044\uffdc\045\uffdc\046" +
-    "\uffdc\047\uffdc\055\uffdc\065\uffdc\067\uffdc\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\030" +
-    "\004\066\005\054\006\061\007\055\015\060\025\050\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\004" +
-    "\004\115\001\002\000\012\004\021\016\027\017\024\020" +
-    "\026\001\002\000\030\004\066\005\054\006\061\007\055" +
-    "\015\060\025\050\035\057\050\043\061\051\062\046\063" +
-    "\056\001\002\000\030\004\066\005\054\006\061\007\055" +
-    "\015\060\025\050\035\057\050\043\061\051\062\046\063" +
-    "\056\001\002\000\030\004\066\005\054\006\061\007\055" +
-    "\015\060\025\050\035\057\050\043\061\051\062\046\063" +
-    "\056\001\002\000\030\004\066\005\054\006\061\007\055" +
-    "\015\060\025\050\035\057\050\043\061\051\062\046\063" +
-    "\056\001\002\000\066\012\uffc6\013\uffc6\014\uffc6\022\uffc6" +
-    "\023\uffc6\024\uffc6\026\uffc6\027\104\030\uffc6\032\uffc6\033" +
-    "\101\034\075\035\071\036\103\037\072\040\076\041\074" +
-    "\042\105\043\077\044\100\045\073\046\uffc6\047\uffc6\055" +
-    "\uffc6\065\uffc6\067\uffc6\001\002\000\052\012\uffcc\013\uffcc" +
-    "\014\uffcc\022\uffcc\023\uffcc\024\uffcc\026\uffcc\027\104\030" +
-    "\uffcc\032\uffcc\033\101\034\075\035\071\036\103\037\072" +
-    "\046\uffcc\047\uffcc\055\uffcc\065\uffcc\067\uffcc\001\002\000" +
-    "\042\024\102\027\104\030\112\033\101\034\075\035\071" +
-    "\036\103\037\072\040\076\041\074\042\105\043\077\044" +
-    "\100\045\073\046\070\047\106\001\002\000\070\012\ufffe" +
-    "\013\ufffe\014\ufffe\022\ufffe\023\ufffe\024\ufffe\026\ufffe\027" +
-    "\ufffe\030\ufffe\032\ufffe\033\ufffe\034\ufffe\035\ufffe\036\ufffe" +
-    "\037\ufffe\040\ufffe\041\ufffe\042\ufffe\043\ufffe\044\ufffe\045" +
-    "\ufffe\046\ufffe\047\ufffe\051\ufffe\055\ufffe\065\ufffe\067\ufffe" +
-    "\001\002\000\066\012\uffd0\013\uffd0\014\uffd0\022\uffd0\023" +
-    "\uffd0\024\uffd0\026\uffd0\027\104\030\uffd0\032\uffd0\033\101" +
-    "\034\uffd0\035\uffd0\036\uffd0\037\uffd0\040\uffd0\041\uffd0\042" +
-    "\uffd0\043\uffd0\044\uffd0\045\uffd0\046\uffd0\047\uffd0\055\uffd0" +
-    "\065\uffd0\067\uffd0\001\002\000\070\012\uffd3\013\uffd3\014" +
-    "\uffd3\022\uffd3\023\uffd3\024\uffd3\026\uffd3\027\uffd3\030\uffd3" +
-    "\032\uffd3\033\uffd3\034\uffd3\035\uffd3\036\uffd3\037\uffd3\040" +
-    "\uffd3\041\uffd3\042\uffd3\043\uffd3\044\uffd3\045\uffd3\046\uffd3" +
-    "\047\uffd3\052\030\055\uffd3\065\uffd3\067\uffd3\001\002\000" +
-    "\070\012\uffff\013\uffff\014\uffff\022\uffff\023\uffff\024\uffff" +
-    "\025\116\026\uffff\027\uffff\030\uffff\032\uffff\033\uffff\034" +
-    "\uffff\035\uffff\036\uffff\037\uffff\040\uffff\041\uffff\042\uffff" +
-    "\043\uffff\044\uffff\045\uffff\046\uffff\047\uffff\055\uffff\065" +
-    "\uffff\067\uffff\001\002\000\032\004\066\005\054\006\061" +
-    "\007\055\015\060\025\050\026\uffc2\035\057\050\043\061" +
-    "\051\062\046\063\056\001\002\000\004\026\uffc1\001\002" +
-    "\000\004\026\124\001\002\000\044\022\122\024\102\026" +
-    "\uffc0\027\104\033\101\034\075\035\071\036\103\037\072" +
-    "\040\076\041\074\042\105\043\077\044\100\045\073\046" +
-    "\070\047\106\001\002\000\030\004\066\005\054\006\061" +
-    "\007\055\015\060\025\050\035\057\050\043\061\051\062" +
-    "\046\063\056\001\002\000\004\026\uffbf\001\002\000\066" +
-    "\012\uffc4\013\uffc4\014\uffc4\022\uffc4\023\uffc4\024\uffc4\026" +
-    "\uffc4\027\uffc4\030\uffc4\032\uffc4\033\uffc4\034\uffc4\035\uffc4" +
-    "\036\uffc4\037\uffc4\040\uffc4\041\uffc4\042\uffc4\043\uffc4\044" +
-    "\uffc4\045\uffc4\046\uffc4\047\uffc4\055\uffc4\065\uffc4\067\uffc4" +
-    "\001\002\000\052\012\uffca\013\uffca\014\uffca\022\uffca\023" +
-    "\uffca\024\uffca\026\uffca\027\104\030\uffca\032\uffca\033\101" +
-    "\034\075\035\071\036\103\037\072\046\uffca\047\uffca\055" +
-    "\uffca\065\uffca\067\uffca\001\002\000\052\012\uffcb\013\uffcb" +
-    "\014\uffcb\022\uffcb\023\uffcb\024\uffcb\026\uffcb\027\104\030" +
-    "\uffcb\032\uffcb\033\101\034\075\035\071\036\103\037\072" +
-    "\046\uffcb\047\uffcb\055\uffcb\065\uffcb\067\uffcb\001\002\000" +
-    "\052\012\uffc9\013\uffc9\014\uffc9\022\uffc9\023\uffc9\024\uffc9" +
-    "\026\uffc9\027\104\030\uffc9\032\uffc9\033\101\034\075\035" +
-    "\071\036\103\037\072\046\uffc9\047\uffc9\055\uffc9\065\uffc9" +
-    "\067\uffc9\001\002\000\066\012\uffd2\013\uffd2\014\uffd2\022" +
-    "\uffd2\023\uffd2\024\uffd2\026\uffd2\027\104\030\uffd2\032\uffd2" +
-    "\033\101\034\uffd2\035\uffd2\036\103\037\072\040\uffd2\041" +
-    "\uffd2\042\uffd2\043\uffd2\044\uffd2\045\uffd2\046\uffd2\047\uffd2" +
-    "\055\uffd2\065\uffd2\067\uffd2\001\002\000\052\012\uffc8\013" +
-    "\uffc8\014\uffc8\022\uffc8\023\uffc8\024\uffc8\026\uffc8\027\104" +
-    "\030\uffc8\032\uffc8\033\101\034\075\035\071\036\103\037" +
-    "\072\046\uffc8\047\uffc8\055\uffc8\065\uffc8\067\uffc8\001\002" +
-    "\000\052\012\uffcd\013\uffcd\014\uffcd\022\uffcd\023\uffcd\024" +
-    "\uffcd\026\uffcd\027\104\030\uffcd\032\uffcd\033\101\034\075" +
-    "\035\071\036\103\037\072\046\uffcd\047\uffcd\055\uffcd\065" +
-    "\uffcd\067\uffcd\001\002\000\066\012\uffcf\013\uffcf\014\uffcf" +
-    "\022\uffcf\023\uffcf\024\uffcf\026\uffcf\027\104\030\uffcf\032" +
-    "\uffcf\033\101\034\uffcf\035\uffcf\036\uffcf\037\uffcf\040\uffcf" +
-    "\041\uffcf\042\uffcf\043\uffcf\044\uffcf\045\uffcf\046\uffcf\047" +
-    "\uffcf\055\uffcf\065\uffcf\067\uffcf\001\002\000\066\012\uffd1" +
-    "\013\uffd1\014\uffd1\022\uffd1\023\uffd1\024\uffd1\026\uffd1\027" +
-    "\104\030\uffd1\032\uffd1\033\101\034\uffd1\035\uffd1\036\103" +
-    "\037\072\040\uffd1\041\uffd1\042\uffd1\043\uffd1\044\uffd1\045" +
-    "\uffd1\046\uffd1\047\uffd1\055\uffd1\065\uffd1\067\uffd1\001\002" +
-    "\000\066\012\uffc7\013\uffc7\014\uffc7\022\uffc7\023\uffc7\024" +
-    "\uffc7\026\uffc7\027\104\030\uffc7\032\uffc7\033\101\034\075" +
-    "\035\071\036\103\037\072\040\076\041\074\042\105\043" +
-    "\077\044\100\045\073\046\uffc7\047\uffc7\055\uffc7\065\uffc7" +
-    "\067\uffc7\001\002\000\052\004\053\005\054\006\061\007" +
-    "\055\015\060\016\027\017\024\020\026\025\050\031\052" +
-    "\035\057\050\043\053\047\056\041\057\062\060\044\061" +
-    "\051\062\046\063\056\066\037\001\002\000\004\023\140" +
-    "\001\002\000\030\004\066\005\054\006\061\007\055\015" +
-    "\060\025\050\035\057\050\043\061\051\062\046\063\056" +
-    "\001\002\000\042\023\142\024\102\027\104\033\101\034" +
-    "\075\035\071\036\103\037\072\040\076\041\074\042\105" +
-    "\043\077\044\100\045\073\046\070\047\106\001\002\000" +
-    "\052\004\053\005\054\006\061\007\055\015\060\016\027" +
-    "\017\024\020\026\025\050\031\052\035\057\050\043\053" +
-    "\047\056\041\057\062\060\044\061\051\062\046\063\056" +
-    "\066\037\001\002\000\004\026\144\001\002\000\052\004" +
-    "\053\005\054\006\061\007\055\015\060\016\027\017\024" +
-    "\020\026\025\050\031\052\035\057\050\043\053\047\056" +
-    "\041\057\062\060\044\061\051\062\046\063\056\066\037" +
-    "\001\002\000\024\012\uffe3\013\uffe3\014\uffe3\023\uffe3\026" +
-    "\uffe3\032\uffe3\055\uffe3\065\uffe3\067\uffe3\001\002\000\010" +
-    "\025\153\027\ufffd\052\ufffd\001\002\000\006\027\150\052" +
-    "\030\001\002\000\030\004\066\005\054\006\061\007\055" +
-    "\015\060\025\050\035\057\050\043\061\051\062\046\063" +
-    "\056\001\002\000\042\024\102\027\104\030\152\033\101" +
-    "\034\075\035\071\036\103\037\072\040\076\041\074\042" +
-    "\105\043\077\044\100\045\073\046\070\047\106\001\002" +
-    "\000\066\012\uffd4\013\uffd4\014\uffd4\022\uffd4\023\uffd4\024" +
-    "\uffd4\026\uffd4\027\uffd4\030\uffd4\032\uffd4\033\uffd4\034\uffd4" +
-    "\035\uffd4\036\uffd4\037\uffd4\040\uffd4\041\uffd4\042\uffd4\043" +
-    "\uffd4\044\uffd4\045\uffd4\046\uffd4\047\uffd4\055\uffd4\065\uffd4" +
-    "\067\uffd4\001\002\000\032\004\066\005\054\006\061\007" +
-    "\055\015\060\025\050\026\uffc2\035\057\050\043\061\051" +
-    "\062\046\063\056\001\002\000\004\026\155\001\002\000" +
-    "\066\012\uffd5\013\uffd5\014\uffd5\022\uffd5\023\uffd5\024\uffd5" +
-    "\026\uffd5\027\uffd5\030\uffd5\032\uffd5\033\uffd5\034\uffd5\035" +
-    "\uffd5\036\uffd5\037\uffd5\040\uffd5\041\uffd5\042\uffd5\043\uffd5" +
-    "\044\uffd5\045\uffd5\046\uffd5\047\uffd5\055\uffd5\065\uffd5\067" +
-    "\uffd5\001\002\000\066\012\uffce\013\uffce\014\uffce\022\uffce" +
-    "\023\uffce\024\uffce\026\uffce\027\104\030\uffce\032\uffce\033" +
-    "\101\034\uffce\035\uffce\036\uffce\037\uffce\040\uffce\041\uffce" +
-    "\042\uffce\043\uffce\044\uffce\045\uffce\046\uffce\047\uffce\055" +
-    "\uffce\065\uffce\067\uffce\001\002\000\024\012\uffe1\013\uffe1" +
-    "\014\uffe1\023\uffe1\026\uffe1\032\uffe1\055\uffe1\065\uffe1\067" +
-    "\uffe1\001\002\000\006\023\163\032\uffde\001\002\000\004" +
-    "\032\162\001\002\000\024\012\uffe2\013\uffe2\014\uffe2\023" +
-    "\uffe2\026\uffe2\032\uffe2\055\uffe2\065\uffe2\067\uffe2\001\002" +
-    "\000\052\004\053\005\054\006\061\007\055\015\060\016" +
-    "\027\017\024\020\026\025\050\031\052\035\057\050\043" +
-    "\053\047\056\041\057\062\060\044\061\051\062\046\063" +
-    "\056\066\037\001\002\000\004\032\uffdd\001\002\000\042" +
-    "\024\102\026\166\027\104\033\101\034\075\035\071\036" +
-    "\103\037\072\040\076\041\074\042\105\043\077\044\100" +
-    "\045\073\046\070\047\106\001\002\000\066\012\uffc3\013" +
-    "\uffc3\014\uffc3\022\uffc3\023\uffc3\024\uffc3\026\uffc3\027\uffc3" +
-    "\030\uffc3\032\uffc3\033\uffc3\034\uffc3\035\uffc3\036\uffc3\037" +
-    "\uffc3\040\uffc3\041\uffc3\042\uffc3\043\uffc3\044\uffc3\045\uffc3" +
-    "\046\uffc3\047\uffc3\055\uffc3\065\uffc3\067\uffc3\001\002\000" +
-    "\030\004\066\005\054\006\061\007\055\015\060\025\050" +
-    "\035\057\050\043\061\051\062\046\063\056\001\002\000" +
-    "\042\024\102\026\171\027\104\033\101\034\075\035\071" +
-    "\036\103\037\072\040\076\041\074\042\105\043\077\044" +
-    "\100\045\073\046\070\047\106\001\002\000\004\054\172" +
-    "\001\002\000\052\004\053\005\054\006\061\007\055\015" +
-    "\060\016\027\017\024\020\026\025\050\031\052\035\057" +
-    "\050\043\053\047\056\041\057\062\060\044\061\051\062" +
-    "\046\063\056\066\037\001\002\000\024\012\uffe6\013\uffe6" +
-    "\014\uffe6\023\uffe6\026\uffe6\032\uffe6\055\174\065\uffe6\067" +
-    "\uffe6\001\002\000\052\004\053\005\054\006\061\007\055" +
-    "\015\060\016\027\017\024\020\026\025\050\031\052\035" +
-    "\057\050\043\053\047\056\041\057\062\060\044\061\051" +
-    "\062\046\063\056\066\037\001\002\000\024\012\uffe5\013" +
-    "\uffe5\014\uffe5\023\uffe5\026\uffe5\032\uffe5\055\uffe5\065\uffe5" +
-    "\067\uffe5\001\002\000\004\004\177\001\002\000\044\024" +
-    "\uffff\025\200\027\uffff\033\uffff\034\uffff\035\uffff\036\uffff" +
-    "\037\uffff\040\uffff\041\uffff\042\uffff\043\uffff\044\uffff\045" +
-    "\uffff\046\uffff\047\uffff\051\uffff\001\002\000\032\004\066" +
-    "\005\054\006\061\007\055\015\060\025\050\026\uffc2\035" +
-    "\057\050\043\061\051\062\046\063\056\001\002\000\004" +
-    "\026\202\001\002\000\062\012\uffe0\013\uffe0\014\uffe0\023" +
-    "\uffe0\024\uffc4\026\uffe0\027\uffc4\032\uffe0\033\uffc4\034\uffc4" +
-    "\035\uffc4\036\uffc4\037\uffc4\040\uffc4\041\uffc4\042\uffc4\043" +
-    "\uffc4\044\uffc4\045\uffc4\046\uffc4\047\uffc4\055\uffe0\065\uffe0" +
-    "\067\uffe0\001\002\000\062\012\uffe7\013\uffe7\014\uffe7\023" +
-    "\uffe7\024\102\026\uffe7\027\104\032\uffe7\033\101\034\075" +
-    "\035\071\036\103\037\072\040\076\041\074\042\105\043" +
-    "\077\044\100\045\073\046\070\047\106\055\uffe7\065\uffe7" +
-    "\067\uffe7\001\002\000\066\012\uffc5\013\uffc5\014\uffc5\022" +
-    "\uffc5\023\uffc5\024\uffc5\026\uffc5\027\104\030\uffc5\032\uffc5" +
-    "\033\101\034\075\035\071\036\103\037\072\040\076\041" +
-    "\074\042\105\043\077\044\100\045\073\046\070\047\106" +
-    "\055\uffc5\065\uffc5\067\uffc5\001\002\000\004\032\ufff1\001" +
-    "\002\000\030\004\066\005\054\006\061\007\055\015\060" +
-    "\025\050\035\057\050\043\061\051\062\046\063\056\001" +
-    "\002\000\042\024\102\026\210\027\104\033\101\034\075" +
-    "\035\071\036\103\037\072\040\076\041\074\042\105\043" +
-    "\077\044\100\045\073\046\070\047\106\001\002\000\052" +
-    "\004\053\005\054\006\061\007\055\015\060\016\027\017" +
-    "\024\020\026\025\050\031\052\035\057\050\043\053\047" +
-    "\056\041\057\062\060\044\061\051\062\046\063\056\066" +
-    "\037\001\002\000\024\012\uffe4\013\uffe4\014\uffe4\023\uffe4" +
-    "\026\uffe4\032\uffe4\055\uffe4\065\uffe4\067\uffe4\001\002\000" +
-    "\004\051\213\001\002\000\030\004\066\005\054\006\061" +
-    "\007\055\015\060\025\050\035\057\050\043\061\051\062" +
-    "\046\063\056\001\002\000\062\012\uffe9\013\uffe9\014\uffe9" +
-    "\023\uffe9\024\102\026\uffe9\027\104\032\uffe9\033\101\034" +
-    "\075\035\071\036\103\037\072\040\076\041\074\042\105" +
-    "\043\077\044\100\045\073\046\070\047\106\055\uffe9\065" +
-    "\uffe9\067\uffe9\001\002\000\030\004\066\005\054\006\061" +
-    "\007\055\015\060\025\050\035\057\050\043\061\051\062" +
-    "\046\063\056\001\002\000\042\024\102\026\217\027\104" +
-    "\033\101\034\075\035\071\036\103\037\072\040\076\041" +
-    "\074\042\105\043\077\044\100\045\073\046\070\047\106" +
-    "\001\002\000\024\012\uffdf\013\uffdf\014\uffdf\023\uffdf\026" +
-    "\uffdf\032\uffdf\055\uffdf\065\uffdf\067\uffdf\001\002\000\006" +
-    "\022\221\026\uffec\001\002\000\012\004\021\016\027\017" +
-    "\024\020\026\001\002\000\004\026\uffeb\001\002\000\004" +
-    "\002\ufff5\001\002\000\006\004\225\052\030\001\002\000" +
-    "\016\012\016\013\020\014\013\032\ufff4\065\015\067\014" +
-    "\001\002\000\004\032\ufff3\001\002\000\052\004\053\005" +
-    "\054\006\061\007\055\015\060\016\027\017\024\020\026" +
-    "\025\050\031\052\035\057\050\043\053\047\056\041\057" +
-    "\062\060\044\061\051\062\046\063\056\066\037\001\002" +
-    "\000\016\012\016\013\020\014\013\032\ufff4\065\015\067" +
-    "\014\001\002\000\004\032\ufff0\001\002\000\016\012\016" +
-    "\013\020\014\013\032\ufff4\065\015\067\014\001\002\000" +
-    "\004\032\uffef\001\002\000\014\004\021\016\027\017\024" +
-    "\020\026\026\uffee\001\002\000\004\026\236\001\002\000" +
-    "\052\004\053\005\054\006\061\007\055\015\060\016\027" +
-    "\017\024\020\026\025\050\031\052\035\057\050\043\053" +
-    "\047\056\041\057\062\060\044\061\051\062\046\063\056" +
-    "\066\037\001\002\000\016\012\016\013\020\014\013\032" +
-    "\ufff4\065\015\067\014\001\002\000\004\032\ufff2\001\002" +
-    "\000\004\032\242\001\002\000\004\002\ufff6\001\002\000" +
-    "\004\002\001\001\002" });
+    ParserTables.unpack(
+    "\245\006\004*\004\004\006\016\004\004\016\016*\004\004\004\012\014",
+    "<\004\006<\004<<<\004\014\006\006\004,\004\006\004\016\030,8 \004",
+    "8,\030&888\030\016\0128\004\042\030488\030\030\030\030\030\030\030",
+    "\030\030\004\012\030\030\030\0308,\042:8::\032\006\004$8\030$,,,",
+    "8,,888*\004\030\042*\004*\026\010\006\030\0428\032\00488\0428\026",
+    "\006\004\006*\006\026*\006\030\042\004*\026*\026\004$\032\004448",
+    "\030\042*\026\004\0304\030\042\026\006\012\006\006\006\016*\016\014",
+    "\004,\016\016\016\016\004\004\004\007\0057\003\uffff\000\000\245",
+    "\uffff\000\002,\003-\0053\006.\0142\015\030\016\025\017\027\024+",
+    "\030*\0340'$*(-\042.4/%0)1&2/5 \uffff\000\000\ufffe\uffff\000\002",
+    "\006\uffff\000\010\010\030\007\uffff\000\011\ufff0\012\ufff0\013",
+    "\ufff0\031\ufff04\ufff06\ufff0\uffff\000\002\011\uffff\000\030\012",
+    "\uffff\000\011\ufff0\012\ufff0\013\ufff0\031\ufff04\ufff06\ufff0",
+    "\uffff\000\011\020\012\021\013\015\031\0174\0166\014\uffff\000\002",
+    ",\003-\0053\006.\0142\015\030\016\025\017\027\024+\030*\0340'$*(",
+    "-\042.4/%0)1&2/5 \uffff\000\024\234\uffff\000\002\232\uffff\000\000",
+    "\ufff1\uffff\000\002\022\015\030\016\025\017\027\uffff\000\002\022",
+    "\015\030\016\025\017\027\020\026\uffff\000\000\ufff9\002\ufff9\011",
+    "\ufff9\012\ufff9\013\ufff9\021\ufff9\022\ufff9\023\ufff9\025\ufff9",
+    "\026\ufff9\027\ufff9\031\ufff9\032\ufff9\033\ufff9\034\ufff9\035",
+    "\ufff9\036\ufff9\037\ufff9 \ufff9!\ufff9\042\ufff9#\ufff9$\ufff9",
+    "%\ufff9&\ufff9)\ufff9,\ufff94\ufff96\ufff9\uffff\000\002\032\uffff",
+    "\000\002\ufff4)\031\uffff\000\000\ufff6\002\ufff6\011\ufff6\012\ufff6",
+    "\013\ufff6\021\ufff6\022\ufff6\023\ufff6\025\ufff6\026\ufff6\027",
+    "\ufff6\031\ufff6\032\ufff6\033\ufff6\034\ufff6\035\ufff6\036\ufff6",
+    "\037\ufff6 \ufff6!\ufff6\042\ufff6#\ufff6$\ufff6%\ufff6&\ufff6)\ufff6",
+    ",\ufff64\ufff66\ufff6\uffff\000\002\ufff3\uffff\000\000\ufff8\002",
+    "\ufff8\011\ufff8\012\ufff8\013\ufff8\021\ufff8\022\ufff8\023\ufff8",
+    "\025\ufff8\026\ufff8\027\ufff8\031\ufff8\032\ufff8\033\ufff8\034",
+    "\ufff8\035\ufff8\036\ufff8\037\ufff8 \ufff8!\ufff8\042\ufff8#\ufff8",
+    "$\ufff8%\ufff8&\ufff8)\ufff8,\ufff84\ufff86\ufff8\uffff\000\000\ufff7",
+    "\002\ufff7\011\ufff7\012\ufff7\013\ufff7\021\ufff7\022\ufff7\023",
+    "\ufff7\025\ufff7\026\ufff7\027\ufff7\031\ufff7\032\ufff7\033\ufff7",
+    "\034\ufff7\035\ufff7\036\ufff7\037\ufff7 \ufff7!\ufff7\042\ufff7",
+    "#\ufff7$\ufff7%\ufff7&\ufff7)\ufff7,\ufff74\ufff76\ufff7\uffff\000",
+    "\000\ufff5\002\ufff5\011\ufff5\012\ufff5\013\ufff5\021\ufff5\022",
+    "\ufff5\023\ufff5\025\ufff5\026\ufff5\027\ufff5\031\ufff5\032\ufff5",
+    "\033\ufff5\034\ufff5\035\ufff5\036\ufff5\037\ufff5 \ufff5!\ufff5",
+    "\042\ufff5#\ufff5$\ufff5%\ufff5&\ufff5)\ufff5,\ufff54\ufff56\ufff5",
+    "\uffff\000\024\033\uffff\000\002\022\015\030\016\025\017\027\025",
+    "\uffe8\uffff\000\021\225\025\uffe7\uffff\000\002\224)\031\uffff\000",
+    "\025\037\uffff\000\002,\003-\0041\0053\006.\0142\015\030\016\025",
+    "\017\027\024+\030*\0340'$*(-\042.4/%0)1&2/5 \uffff\000\024\221\uffff",
+    "\000\002\216)\031\uffff\000\024\212\uffff\000\011\uffec\012\uffec",
+    "\013\uffec\031\uffec4\uffec6\uffec\uffff\000\0028\003-\0053\006.",
+    "\0142\024+\0340'$0)1&2/\uffff\000\000\uffe2\0028\003-\0053\006.\011",
+    "\uffe2\012\uffe2\013\uffe2\0142\022\uffe2\024+\025\uffe2\031\uffe2",
+    "\0340'$,\uffe20)1&2/4\uffe26\uffe2\uffff\000\000\uffd3\011\uffd3",
+    "\012\uffd3\013\uffd3\021\uffd3\022\uffd3\023\uffd3\025\uffd3\026",
+    "\uffd3\027\uffd3\031\uffd3\032\uffd3\033\uffd3\034\uffd3\035\uffd3",
+    "\036\uffd3\037\uffd3 \uffd3!\uffd3\042\uffd3#\uffd3$\uffd3%\uffd3",
+    "&\uffd3,\uffd34\uffd36\uffd3\uffff\000\023D\026F\032\203\033?\034",
+    ";\035E\036<\037@ >!G\042A#B$=%:&H\uffff\000\024|\uffff\000\000\uffce",
+    "\011\uffce\012\uffce\013\uffce\021\uffce\022\uffce\023\uffce\025",
+    "\uffce\026\uffce\027\uffce\031\uffce\032\uffce\033\uffce\034\uffce",
+    "\035\uffce\036\uffce\037\uffce \uffce!\uffce\042\uffce#\uffce$\uffce",
+    "%\uffce&\uffce,\uffce4\uffce6\uffce\uffff\000\002,\003-\0053\006",
+    ".\0142\015\030\016\025\017\027\024+\030*\031s\0340'$*(-\042.4/%0",
+    ")1&2/5 \uffff\000\0028\003-\0053\006.\0142\024+\0340'$0)1&2/\uffff",
+    "\000\002\ufff9\023\ufffc\026\ufffc\032\ufffc\033\ufffc\034\ufffc",
+    "\035\ufffc\036\ufffc\037\ufffc \ufffc!\ufffc\042\ufffc#\ufffc$\ufffc",
+    "%\ufffc&\ufffc(\ufffc)\ufff9\uffff\000\000\uffcf\011\uffcf\012\uffcf",
+    "\013\uffcf\021\uffcf\022\uffcf\023\uffcf\025\uffcf\026\uffcf\027",
+    "\uffcf\031\uffcf\032\uffcf\033\uffcf\034\uffcf\035\uffcf\036\uffcf",
+    "\037\uffcf \uffcf!\uffcf\042\uffcf#\uffcf$\uffcf%\uffcf&\uffcf,\uffcf",
+    "4\uffcf6\uffcf\uffff\000\000\uffd0\011\uffd0\012\uffd0\013\uffd0",
+    "\021\uffd0\022\uffd0\023\uffd0\025\uffd0\026\uffd0\027\uffd0\031",
+    "\uffd0\032\uffd0\033\uffd0\034\uffd0\035\uffd0\036\uffd0\037\uffd0",
+    " \uffd0!\uffd0\042\uffd0#\uffd0$\uffd0%\uffd0&\uffd0,\uffd04\uffd0",
+    "6\uffd0\uffff\000\000\uffd2\011\uffd2\012\uffd2\013\uffd2\021\uffd2",
+    "\022\uffd2\023\uffd2\025\uffd2\026\uffd2\027\uffd2\031\uffd2\032",
+    "\uffd2\033\uffd2\034\uffd2\035\uffd2\036\uffd2\037\uffd2 \uffd2!",
+    "\uffd2\042\uffd2#\uffd2$\uffd2%\uffd2&\uffd2,\uffd24\uffd26\uffd2",
+    "\uffff\000\0028\003-\0053\006.\0142\024+\0340'$0)1&2/\uffff\000\011",
+    "\uffeb\012\uffeb\013\uffeb\031\uffeb4\uffeb6\uffeb\uffff\000\002",
+    "h\015\030\016\025\017\027\uffff\000\000\uffd1\011\uffd1\012\uffd1",
+    "\013\uffd1\021\uffd1\022\uffd1\023\uffd1\025\uffd1\026\uffd1\027",
+    "\uffd1\031\uffd1\032\uffd1\033\uffd1\034\uffd1\035\uffd1\036\uffd1",
+    "\037\uffd1 \uffd1!\uffd1\042\uffd1#\uffd1$\uffd1%\uffd1&\uffd1,\uffd1",
+    "4\uffd16\uffd1\uffff\000\024`\uffff\000\023\uffd4\026\uffd4\032\uffd4",
+    "\033\uffd4\034\uffd4\035\uffd4\036\uffd4\037\uffd4 \uffd4!\uffd4",
+    "\042\uffd4#\uffd4$\uffd4%\uffd4&\uffd4(6\uffff\000\0028\003-\005",
+    "3\006.\0142\024+\0340'$0)1&2/\uffff\000\000\uffe4\011\uffe4\012\uffe4",
+    "\013\uffe4\022\uffe4\023D\025\uffe4\026F\031\uffe4\032C\033?\034",
+    ";\035E\036<\037@ >!G\042A#B$=%:&H,\uffe44\uffe46\uffe4\uffff\000",
+    "\000\ufffc\011\ufffc\012\ufffc\013\ufffc\021\ufffc\022\ufffc\023",
+    "\ufffc\025\ufffc\026\ufffc\027\ufffc\031\ufffc\032\ufffc\033\ufffc",
+    "\034\ufffc\035\ufffc\036\ufffc\037\ufffc \ufffc!\ufffc\042\ufffc",
+    "#\ufffc$\ufffc%\ufffc&\ufffc,\ufffc4\ufffc6\ufffc\uffff\000\000\uffd4",
+    "\011\uffd4\012\uffd4\013\uffd4\021\uffd4\022\uffd4\023\uffd4\025",
+    "\uffd4\026\uffd4\027\uffd4\031\uffd4\032\uffd4\033\uffd4\034\uffd4",
+    "\035\uffd4\036\uffd4\037\uffd4 \uffd4!\uffd4\042\uffd4#\uffd4$\uffd4",
+    "%\uffd4&\uffd4,\uffd44\uffd46\uffd4\uffff\000\0028\003-\0053\006",
+    ".\0142\024+\0340'$0)1&2/\uffff\000\0028\003-\0053\006.\0142\024+",
+    "\0340'$0)1&2/\uffff\000\0028\003-\0053\006.\0142\024+\0340'$0)1&",
+    "2/\uffff\000\0028\003-\0053\006.\0142\024+\0340'$0)1&2/\uffff\000",
+    "\0028\003-\0053\006.\0142\024+\0340'$0)1&2/\uffff\000\0028\003-\005",
+    "3\006.\0142\024+\0340'$0)1&2/\uffff\000\0028\003-\0053\006.\0142",
+    "\024+\0340'$0)1&2/\uffff\000\0028\003-\0053\006.\0142\024+\0340'",
+    "$0)1&2/\uffff\000\0028\003-\0053\006.\0142\024+\0340'$0)1&2/\uffff",
+    "\000\002O\uffff\000\002\022\015\030\016\025\017\027\uffff\000\002",
+    "8\003-\0053\006.\0142\024+\0340'$0)1&2/\uffff\000\0028\003-\0053",
+    "\006.\0142\024+\0340'$0)1&2/\uffff\000\0028\003-\0053\006.\0142\024",
+    "+\0340'$0)1&2/\uffff\000\0028\003-\0053\006.\0142\024+\0340'$0)1",
+    "&2/\uffff\000\000\uffbe\011\uffbe\012\uffbe\013\uffbe\021\uffbe\022",
+    "\uffbe\023\uffbe\025\uffbe\026F\027\uffbe\031\uffbe\032C\033?\034",
+    ";\035E\036<\037@ >!G\042A#B$=%\uffbe&\uffbe,\uffbe4\uffbe6\uffbe",
+    "\uffff\000\000\uffc4\011\uffc4\012\uffc4\013\uffc4\021\uffc4\022",
+    "\uffc4\023\uffc4\025\uffc4\026F\027\uffc4\031\uffc4\032C\033?\034",
+    ";\035E\036<%\uffc4&\uffc4,\uffc44\uffc46\uffc4\uffff\000\023D\026",
+    "F\027L\032C\033?\034;\035E\036<\037@ >!G\042A#B$=%:&H\uffff\000\000",
+    "\ufffa\011\ufffa\012\ufffa\013\ufffa\021\ufffa\022\ufffa\023\ufffa",
+    "\025\ufffa\026\ufffa\027\ufffa\031\ufffa\032\ufffa\033\ufffa\034",
+    "\ufffa\035\ufffa\036\ufffa\037\ufffa \ufffa!\ufffa\042\ufffa#\ufffa",
+    "$\ufffa%\ufffa&\ufffa(\ufffa,\ufffa4\ufffa6\ufffa\uffff\000\000\uffc8",
+    "\011\uffc8\012\uffc8\013\uffc8\021\uffc8\022\uffc8\023\uffc8\025",
+    "\uffc8\026F\027\uffc8\031\uffc8\032C\033\uffc8\034\uffc8\035\uffc8",
+    "\036\uffc8\037\uffc8 \uffc8!\uffc8\042\uffc8#\uffc8$\uffc8%\uffc8",
+    "&\uffc8,\uffc84\uffc86\uffc8\uffff\000\000\uffcb\011\uffcb\012\uffcb",
+    "\013\uffcb\021\uffcb\022\uffcb\023\uffcb\025\uffcb\026\uffcb\027",
+    "\uffcb\031\uffcb\032\uffcb\033\uffcb\034\uffcb\035\uffcb\036\uffcb",
+    "\037\uffcb \uffcb!\uffcb\042\uffcb#\uffcb$\uffcb%\uffcb&\uffcb)\031",
+    ",\uffcb4\uffcb6\uffcb\uffff\000\000\ufffb\011\ufffb\012\ufffb\013",
+    "\ufffb\021\ufffb\022\ufffb\023\ufffb\024P\025\ufffb\026\ufffb\027",
+    "\ufffb\031\ufffb\032\ufffb\033\ufffb\034\ufffb\035\ufffb\036\ufffb",
+    "\037\ufffb \ufffb!\ufffb\042\ufffb#\ufffb$\ufffb%\ufffb&\ufffb,\ufffb",
+    "4\ufffb6\ufffb\uffff\000\0028\003-\0053\006.\0142\024+\025\uffba",
+    "\0340'$0)1&2/\uffff\000\021U\025\uffb9\uffff\000\025T\uffff\000\021",
+    "\uffb8\023D\025\uffb8\026F\032C\033?\034;\035E\036<\037@ >!G\042",
+    "A#B$=%:&H\uffff\000\000\uffbc\011\uffbc\012\uffbc\013\uffbc\021\uffbc",
+    "\022\uffbc\023\uffbc\025\uffbc\026\uffbc\027\uffbc\031\uffbc\032",
+    "\uffbc\033\uffbc\034\uffbc\035\uffbc\036\uffbc\037\uffbc \uffbc!",
+    "\uffbc\042\uffbc#\uffbc$\uffbc%\uffbc&\uffbc,\uffbc4\uffbc6\uffbc",
+    "\uffff\000\0028\003-\0053\006.\0142\024+\0340'$0)1&2/\uffff\000\021",
+    "\uffb7\023D\025\uffb7\026F\032C\033?\034;\035E\036<\037@ >!G\042",
+    "A#B$=%:&H\uffff\000\000\uffc2\011\uffc2\012\uffc2\013\uffc2\021\uffc2",
+    "\022\uffc2\023\uffc2\025\uffc2\026F\027\uffc2\031\uffc2\032C\033",
+    "?\034;\035E\036<%\uffc2&\uffc2,\uffc24\uffc26\uffc2\uffff\000\000",
+    "\uffc3\011\uffc3\012\uffc3\013\uffc3\021\uffc3\022\uffc3\023\uffc3",
+    "\025\uffc3\026F\027\uffc3\031\uffc3\032C\033?\034;\035E\036<%\uffc3",
+    "&\uffc3,\uffc34\uffc36\uffc3\uffff\000\000\uffc1\011\uffc1\012\uffc1",
+    "\013\uffc1\021\uffc1\022\uffc1\023\uffc1\025\uffc1\026F\027\uffc1",
+    "\031\uffc1\032C\033?\034;\035E\036<%\uffc1&\uffc1,\uffc14\uffc16",
+    "\uffc1\uffff\000\000\uffca\011\uffca\012\uffca\013\uffca\021\uffca",
+    "\022\uffca\023\uffca\025\uffca\026F\027\uffca\031\uffca\032C\033",
+    "\uffca\034\uffca\035E\036<\037\uffca \uffca!\uffca\042\uffca#\uffca",
+    "$\uffca%\uffca&\uffca,\uffca4\uffca6\uffca\uffff\000\000\uffc0\011",
+    "\uffc0\012\uffc0\013\uffc0\021\uffc0\022\uffc0\023\uffc0\025\uffc0",
+    "\026F\027\uffc0\031\uffc0\032C\033?\034;\035E\036<%\uffc0&\uffc0",
+    ",\uffc04\uffc06\uffc0\uffff\000\000\uffc5\011\uffc5\012\uffc5\013",
+    "\uffc5\021\uffc5\022\uffc5\023\uffc5\025\uffc5\026F\027\uffc5\031",
+    "\uffc5\032C\033?\034;\035E\036<%\uffc5&\uffc5,\uffc54\uffc56\uffc5",
+    "\uffff\000\000\uffc7\011\uffc7\012\uffc7\013\uffc7\021\uffc7\022",
+    "\uffc7\023\uffc7\025\uffc7\026F\027\uffc7\031\uffc7\032C\033\uffc7",
+    "\034\uffc7\035\uffc7\036\uffc7\037\uffc7 \uffc7!\uffc7\042\uffc7",
+    "#\uffc7$\uffc7%\uffc7&\uffc7,\uffc74\uffc76\uffc7\uffff\000\000\uffc9",
+    "\011\uffc9\012\uffc9\013\uffc9\021\uffc9\022\uffc9\023\uffc9\025",
+    "\uffc9\026F\027\uffc9\031\uffc9\032C\033\uffc9\034\uffc9\035E\036",
+    "<\037\uffc9 \uffc9!\uffc9\042\uffc9#\uffc9$\uffc9%\uffc9&\uffc9,",
+    "\uffc94\uffc96\uffc9\uffff\000\000\uffbf\011\uffbf\012\uffbf\013",
+    "\uffbf\021\uffbf\022\uffbf\023\uffbf\025\uffbf\026F\027\uffbf\031",
+    "\uffbf\032C\033?\034;\035E\036<\037@ >!G\042A#B$=%\uffbf&\uffbf,",
+    "\uffbf4\uffbf6\uffbf\uffff\000\002,\003-\0053\006.\0142\015\030\016",
+    "\025\017\027\024+\030*\0340'$*(-\042.4/%0)1&2/5 \uffff\000\022b\uffff",
+    "\000\0028\003-\0053\006.\0142\024+\0340'$0)1&2/\uffff\000\022d\023",
+    "D\026F\032C\033?\034;\035E\036<\037@ >!G\042A#B$=%:&H\uffff\000\002",
+    ",\003-\0053\006.\0142\015\030\016\025\017\027\024+\030*\0340'$*(",
+    "-\042.4/%0)1&2/5 \uffff\000\025f\uffff\000\002,\003-\0053\006.\014",
+    "2\015\030\016\025\017\027\024+\030*\0340'$*(-\042.4/%0)1&2/5 \uffff",
+    "\000\000\uffdd\011\uffdd\012\uffdd\013\uffdd\022\uffdd\025\uffdd",
+    "\031\uffdd,\uffdd4\uffdd6\uffdd\uffff\000\024m\026\ufff9)\ufff9\uffff",
+    "\000\026j)\031\uffff\000\0028\003-\0053\006.\0142\024+\0340'$0)1",
+    "&2/\uffff\000\023D\026F\027l\032C\033?\034;\035E\036<\037@ >!G\042",
+    "A#B$=%:&H\uffff\000\000\uffcc\011\uffcc\012\uffcc\013\uffcc\021\uffcc",
+    "\022\uffcc\023\uffcc\025\uffcc\026\uffcc\027\uffcc\031\uffcc\032",
+    "\uffcc\033\uffcc\034\uffcc\035\uffcc\036\uffcc\037\uffcc \uffcc!",
+    "\uffcc\042\uffcc#\uffcc$\uffcc%\uffcc&\uffcc,\uffcc4\uffcc6\uffcc",
+    "\uffff\000\0028\003-\0053\006.\0142\024+\025\uffba\0340'$0)1&2/\uffff",
+    "\000\025o\uffff\000\000\uffcd\011\uffcd\012\uffcd\013\uffcd\021\uffcd",
+    "\022\uffcd\023\uffcd\025\uffcd\026\uffcd\027\uffcd\031\uffcd\032",
+    "\uffcd\033\uffcd\034\uffcd\035\uffcd\036\uffcd\037\uffcd \uffcd!",
+    "\uffcd\042\uffcd#\uffcd$\uffcd%\uffcd&\uffcd,\uffcd4\uffcd6\uffcd",
+    "\uffff\000\000\uffc6\011\uffc6\012\uffc6\013\uffc6\021\uffc6\022",
+    "\uffc6\023\uffc6\025\uffc6\026F\027\uffc6\031\uffc6\032C\033\uffc6",
+    "\034\uffc6\035\uffc6\036\uffc6\037\uffc6 \uffc6!\uffc6\042\uffc6",
+    "#\uffc6$\uffc6%\uffc6&\uffc6,\uffc64\uffc66\uffc6\uffff\000\023D",
+    "\025r\026F\032C\033?\034;\035E\036<\037@ >!G\042A#B$=%:&H\uffff\000",
+    "\000\uffbb\011\uffbb\012\uffbb\013\uffbb\021\uffbb\022\uffbb\023",
+    "\uffbb\025\uffbb\026\uffbb\027\uffbb\031\uffbb\032\uffbb\033\uffbb",
+    "\034\uffbb\035\uffbb\036\uffbb\037\uffbb \uffbb!\uffbb\042\uffbb",
+    "#\uffbb$\uffbb%\uffbb&\uffbb,\uffbb4\uffbb6\uffbb\uffff\000\000\uffdb",
+    "\011\uffdb\012\uffdb\013\uffdb\022\uffdb\025\uffdb\031\uffdb,\uffdb",
+    "4\uffdb6\uffdb\uffff\000\022z\031\uffd8\uffff\000\031y\uffff\000",
+    "\022w\031\uffd7\uffff\000\002,\003-\0053\006.\0142\015\030\016\025",
+    "\017\027\024+\030*\0340'$*(-\042.4/%0)1&2/5 \uffff\000\022\uffd5",
+    "\031\uffd5\uffff\000\000\uffdc\011\uffdc\012\uffdc\013\uffdc\022",
+    "\uffdc\025\uffdc\031\uffdc,\uffdc4\uffdc6\uffdc\uffff\000\002,\003",
+    "-\0053\006.\0142\015\030\016\025\017\027\024+\030*\0340'$*(-\042",
+    ".4/%0)1&2/5 \uffff\000\022\uffd6\031\uffd6\uffff\000\0028\003-\005",
+    "3\006.\0142\024+\0340'$0)1&2/\uffff\000\023D\025~\026F\032C\033?",
+    "\034;\035E\036<\037@ >!G\042A#B$=%:&H\uffff\000+\177\uffff\000\002",
+    ",\003-\0053\006.\0142\015\030\016\025\017\027\024+\030*\0340'$*(",
+    "-\042.4/%0)1&2/5 \uffff\000\000\uffe0\011\uffe0\012\uffe0\013\uffe0",
+    "\022\uffe0\025\uffe0\031\uffe0,\2014\uffe06\uffe0\uffff\000\002,",
+    "\003-\0053\006.\0142\015\030\016\025\017\027\024+\030*\0340'$*(-",
+    "\042.4/%0)1&2/5 \uffff\000\000\uffdf\011\uffdf\012\uffdf\013\uffdf",
+    "\022\uffdf\025\uffdf\031\uffdf,\uffdf4\uffdf6\uffdf\uffff\000\002",
+    "\204\uffff\000\023\ufffb\024\205\026\ufffb\032\ufffb\033\ufffb\034",
+    "\ufffb\035\ufffb\036\ufffb\037\ufffb \ufffb!\ufffb\042\ufffb#\ufffb",
+    "$\ufffb%\ufffb&\ufffb(\ufffb\uffff\000\0028\003-\0053\006.\0142\024",
+    "+\025\uffba\0340'$0)1&2/\uffff\000\025\207\uffff\000\000\uffda\011",
+    "\uffda\012\uffda\013\uffda\022\uffda\023\uffbc\025\uffda\026\uffbc",
+    "\031\uffda\032\uffbc\033\uffbc\034\uffbc\035\uffbc\036\uffbc\037",
+    "\uffbc \uffbc!\uffbc\042\uffbc#\uffbc$\uffbc%\uffbc&\uffbc,\uffda",
+    "4\uffda6\uffda\uffff\000\000\uffe1\011\uffe1\012\uffe1\013\uffe1",
+    "\022\uffe1\023D\025\uffe1\026F\031\uffe1\032C\033?\034;\035E\036",
+    "<\037@ >!G\042A#B$=%:&H,\uffe14\uffe16\uffe1\uffff\000\000\uffbd",
+    "\011\uffbd\012\uffbd\013\uffbd\021\uffbd\022\uffbd\023\uffbd\025",
+    "\uffbd\026F\027\uffbd\031\uffbd\032C\033?\034;\035E\036<\037@ >!",
+    "G\042A#B$=%:&H,\uffbd4\uffbd6\uffbd\uffff\000\0028\003-\0053\006",
+    ".\0142\024+\0340'$0)1&2/\uffff\000\023D\025\214\026F\032C\033?\034",
+    ";\035E\036<\037@ >!G\042A#B$=%:&H\uffff\000\002,\003-\0053\006.\014",
+    "2\015\030\016\025\017\027\024+\030*\0340'$*(-\042.4/%0)1&2/5 \uffff",
+    "\000\000\uffde\011\uffde\012\uffde\013\uffde\022\uffde\025\uffde",
+    "\031\uffde,\uffde4\uffde6\uffde\uffff\000(\217\uffff\000\0028\003",
+    "-\0053\006.\0142\024+\0340'$0)1&2/\uffff\000\000\uffe3\011\uffe3",
+    "\012\uffe3\013\uffe3\022\uffe3\023D\025\uffe3\026F\031\uffe3\032",
+    "C\033?\034;\035E\036<\037@ >!G\042A#B$=%:&H,\uffe34\uffe36\uffe3",
+    "\uffff\000\0028\003-\0053\006.\0142\024+\0340'$0)1&2/\uffff\000\023",
+    "D\025\223\026F\032C\033?\034;\035E\036<\037@ >!G\042A#B$=%:&H\uffff",
+    "\000\000\uffd9\011\uffd9\012\uffd9\013\uffd9\022\uffd9\025\uffd9",
+    "\031\uffd9,\uffd94\uffd96\uffd9\uffff\000\021\uffe6\025\uffe6\uffff",
+    "\000\002\022\015\030\016\025\017\027\uffff\000\002\227)\031\uffff",
+    "\000\021\uffe5\025\uffe5\uffff\000\002\231)\031\uffff\000\011\uffef",
+    "\012\uffef\013\uffef\031\uffef4\uffef6\uffef\uffff\000\002,\003-",
+    "\0053\006.\0142\015\030\016\025\017\027\024+\030*\0340'$*(-\042.",
+    "4/%0)1&2/5 \uffff\000\011\uffea\012\uffea\013\uffea\031\uffea4\uffea",
+    "6\uffea\uffff\000\002\022\015\030\016\025\017\027\025\uffe8\uffff",
+    "\000\025\236\uffff\000\002,\003-\004\240\0053\006.\0142\015\030\016",
+    "\025\017\027\024+\030*\0340'$*(-\042.4/%0)1&2/5 \uffff\000\011\uffee",
+    "\012\uffee\013\uffee\031\uffee4\uffee6\uffee\uffff\000\011\uffed",
+    "\012\uffed\013\uffed\031\uffed4\uffed6\uffed\uffff\000\011\uffe9",
+    "\012\uffe9\013\uffe9\031\uffe94\uffe96\uffe9\uffff\000\011\020\012",
+    "\021\013\015\031\2434\0166\014\uffff\000\000\ufff2\uffff\000\000",
+    "\ufffd\uffff\000\000\uffff\uffff\000");
 
   /** Access to parse-action table. */
   public short[][] action_table() {return _action_table;}
 
   /** <code>reduce_goto</code> table. */
   protected static final short[][] _reduce_table = 
-    unpackFromStrings(new String[] {
-    "\000\241\000\004\003\003\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\004\004\240\001\001" +
-    "\000\002\001\001\000\002\001\001\000\004\004\016\001" +
-    "\001\000\002\001\001\000\012\007\231\011\044\014\062" +
-    "\015\037\001\001\000\002\001\001\000\004\015\223\001" +
-    "\001\000\002\001\001\000\006\015\022\016\021\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\010\005" +
-    "\034\006\032\015\033\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\012\007\041\011\044\014" +
-    "\062\015\037\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\004\004\204\001\001\000\006\011" +
-    "\203\014\066\001\001\000\006\011\202\014\066\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\006\011\164\014\066\001\001\000\002\001\001\000\014" +
-    "\007\157\010\160\011\044\014\062\015\037\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\006\011\155\014\066\001\001\000\004\015" +
-    "\146\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\006\011\064\014\066\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\006\011\134" +
-    "\014\066\001\001\000\006\011\133\014\066\001\001\000" +
-    "\006\011\132\014\066\001\001\000\006\011\131\014\066" +
-    "\001\001\000\006\011\130\014\066\001\001\000\006\011" +
-    "\127\014\066\001\001\000\006\011\126\014\066\001\001" +
-    "\000\006\011\125\014\066\001\001\000\006\011\124\014" +
-    "\066\001\001\000\002\001\001\000\004\015\113\001\001" +
-    "\000\006\011\112\014\066\001\001\000\006\011\110\014" +
-    "\066\001\001\000\006\011\107\014\066\001\001\000\006" +
-    "\011\106\014\066\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\012\011\120\012" +
-    "\117\013\116\014\066\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\010\011\120\013\122\014" +
-    "\066\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\012\007\136\011" +
-    "\044\014\062\015\037\001\001\000\002\001\001\000\006" +
-    "\011\140\014\066\001\001\000\002\001\001\000\012\007" +
-    "\142\011\044\014\062\015\037\001\001\000\002\001\001" +
-    "\000\012\007\144\011\044\014\062\015\037\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\006" +
-    "\011\150\014\066\001\001\000\002\001\001\000\002\001" +
-    "\001\000\012\011\120\012\153\013\116\014\066\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\014\007\157\010\163\011\044\014\062\015" +
-    "\037\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\006\011\167\014\066\001\001\000\002\001" +
-    "\001\000\002\001\001\000\012\007\172\011\044\014\062" +
-    "\015\037\001\001\000\002\001\001\000\012\007\174\011" +
-    "\044\014\062\015\037\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\012\011\120\012\200\013" +
-    "\116\014\066\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\006\011\206\014\066\001\001\000\002\001\001\000\012" +
-    "\007\210\011\044\014\062\015\037\001\001\000\002\001" +
-    "\001\000\002\001\001\000\006\011\213\014\066\001\001" +
-    "\000\002\001\001\000\006\011\215\014\066\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\006" +
-    "\006\221\015\033\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\004\004\225\001\001\000\002" +
-    "\001\001\000\012\007\227\011\044\014\062\015\037\001" +
-    "\001\000\004\004\230\001\001\000\002\001\001\000\004" +
-    "\004\232\001\001\000\002\001\001\000\010\005\234\006" +
-    "\032\015\033\001\001\000\002\001\001\000\012\007\236" +
-    "\011\044\014\062\015\037\001\001\000\004\004\237\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001" });
+    ParserTables.unpack(
+    "\245\006\002\012\002\002\002\004\002\002\004\002\012\002\002\002",
+    "\004\006\002\002\002\002\002\002\002\002\002\010\002\002\002\012",
+    "\002\002\002\002\006\006\002\002\002\002\016\006\002\002\002\002",
+    "\006\002\004\002\002\002\006\002\002\002\006\006\006\006\006\006",
+    "\006\006\006\002\004\006\006\006\006\002\002\002\002\002\002\002",
+    "\012\002\002\002\002\006\002\002\002\002\002\002\002\002\002\002",
+    "\012\002\006\002\012\002\012\002\002\002\006\002\002\012\002\002",
+    "\002\002\002\002\002\002\002\012\002\002\012\002\006\002\002\012",
+    "\002\012\002\002\002\012\002\002\002\002\006\002\012\002\002\006",
+    "\002\006\002\002\002\004\002\002\002\002\012\002\010\002\012\002",
+    "\002\002\002\002\002\002\001\001\002\003\uffff\uffff\uffff\uffff",
+    "\006\243\011&\0144\015 \uffff\uffff\uffff\uffff\uffff\uffff\uffff",
+    "\uffff\003\241\uffff\uffff\uffff\uffff\uffff\uffff\003\012\uffff",
+    "\uffff\uffff\uffff\006\240\011&\0144\015 \uffff\uffff\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\015\227\uffff\uffff\015\023\016\022\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\004\035\005\033",
+    "\015\034\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\006\042",
+    "\011&\0144\015 \uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff",
+    "\uffff\011\210\0148\uffff\uffff\011\207\0148\uffff\uffff\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\006s\007t\010u\011&\0144\015",
+    " \uffff\uffff\011p\0148\uffff\uffff\uffff\uffff\uffff\uffff\uffff",
+    "\uffff\uffff\uffff\011o\0148\uffff\uffff\uffff\uffff\015h\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\0116\0148\uffff\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\011^\0148\uffff\uffff\011]\0148\uffff",
+    "\uffff\011\134\0148\uffff\uffff\011[\0148\uffff\uffff\011Z\0148\uffff",
+    "\uffff\011Y\0148\uffff\uffff\011X\0148\uffff\uffff\011W\0148\uffff",
+    "\uffff\011V\0148\uffff\uffff\uffff\uffff\015M\uffff\uffff\011L\014",
+    "8\uffff\uffff\011J\0148\uffff\uffff\011I\0148\uffff\uffff\011H\014",
+    "8\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\011R\012Q\013P\0148\uffff\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\uffff\011U\0148\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\006`\011&",
+    "\0144\015 \uffff\uffff\uffff\uffff\011b\0148\uffff\uffff\uffff\uffff",
+    "\006d\011&\0144\015 \uffff\uffff\uffff\uffff\006f\011&\0144\015 ",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\011j\0148\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\011R\012m\013P\0148\uffff\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\006w\011&\0144\015 \uffff\uffff",
+    "\uffff\uffff\uffff\uffff\006z\011&\0144\015 \uffff\uffff\uffff\uffff",
+    "\011|\0148\uffff\uffff\uffff\uffff\uffff\uffff\006\177\011&\0144",
+    "\015 \uffff\uffff\uffff\uffff\006\201\011&\0144\015 \uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\011R\012\205\013P\0148\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\011\212\014",
+    "8\uffff\uffff\uffff\uffff\006\214\011&\0144\015 \uffff\uffff\uffff",
+    "\uffff\uffff\uffff\011\217\0148\uffff\uffff\uffff\uffff\011\221\014",
+    "8\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\015\225\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\006\232\011&\014",
+    "4\015 \uffff\uffff\uffff\uffff\004\234\005\033\015\034\uffff\uffff",
+    "\uffff\uffff\006\236\011&\0144\015 \uffff\uffff\uffff\uffff\uffff",
+    "\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff");
 
   /** Access to <code>reduce_goto</code> table. */
   public short[][] reduce_table() {return _reduce_table;}
@@ -516,7 +398,12 @@ public class Parser extends java_cup.runtime.lr_parser {
     throws java.lang.Exception
     {
 
-  return lexer.nextToken();
+  long start = System.nanoTime();
+  java_cup.runtime.Symbol result = nextToken();
+  lexingTime += System.nanoTime() - start;
+  if (result.sym == sym.EOF)
+    sourceEnd = result.right;
+  return result;
 
     }
 
@@ -526,7 +413,28 @@ public class Parser extends java_cup.runtime.lr_parser {
  * The lexical analyser used to preprocess the source file.
  */
 
-  private Lexer lexer;
+  private Scanner lexer;
+
+/**
+ * The names of the classes referenced in the source file, in order of
+ * first occurrence.
+ */
+
+  private final Set<String> referencedClasses = new LinkedHashSet<>();
+
+/**
+ * The names of the classes referenced in the source file, in the order
+ * the references have been found, with repetitions.
+ */
+
+  private final List<String> references = new ArrayList<>();
+
+/**
+ * The positions of the {@link #references}. Only the first
+ * {@code references.size()} elements are meaningful.
+ */
+
+  private int[] referencePositions = new int[16];
 
 /**
  * Yields the error reporting utility used during parsing.
@@ -549,6 +457,42 @@ public class Parser extends java_cup.runtime.lr_parser {
     lexer.getErrorMsg().error(token.left,"syntax error");
   }
 
+/**
+ * True if and only if the runtime of JavaCup must not print its messages
+ * about unrecoverable syntax errors.
+ */
+
+  private boolean quiet;
+
+/**
+ * Requires the runtime of JavaCup not to print its messages about unrecoverable
+ * syntax errors. They are reported through the error reporting utility anyway.
+ * This is used when a failed parse is not going to be reported to the user.
+ */
+
+  void quiet() {
+    quiet = true;
+  }
+
+/**
+ * Prints a message of the runtime of JavaCup, unless {@link #quiet()} has been called.
+ * It is printed as JavaCup does, but through the error reporting utility,
+ * so that it follows the syntax errors it refers to also when their messages are deferred.
+ *
+ * @param message the message
+ * @param info the token where the message should be signalled
+ */
+
+  public void report_error(String message, Object info) {
+    if (!quiet)
+      if (info instanceof java_cup.runtime.Symbol && ((java_cup.runtime.Symbol) info).left != -1) {
+        int pos = ((java_cup.runtime.Symbol) info).left;
+        lexer.getErrorMsg().report(pos, message + " at character " + pos + " of input");
+      }
+      else
+        lexer.getErrorMsg().report(-1, message);
+  }
+
 /**
  * Builds a syntactical analyser which uses a given lexical analyser
  * to tokenise the source file.
@@ -556,10 +500,331 @@ public class Parser extends java_cup.runtime.lr_parser {
  * @param lexer the lexical analyser which tokenises the input source file
  */
 
-  public Parser(Lexer lexer) {
+  public Parser(Scanner lexer) {
     this.lexer = lexer;
   }
 
+/**
+ * Parses the source file.
+ *
+ * @return the symbol of the start non-terminal, whose value is the abstract syntax
+ * @throws Exception if the source file contains an unrecoverable syntax error
+ *                   or the lexical analyser fails
+ */
+
+  public java_cup.runtime.Symbol parse() throws Exception {
+    return parseTokens();
+  }
+
+/**
+ * Parses the tokens of the source file with the LALR automaton of JavaCup.
+ * Subclasses can redefine this with another algorithm for the same grammar.
+ *
+ * @return the symbol of the start non-terminal, whose value is the abstract syntax
+ * @throws Exception if the source file contains an unrecoverable syntax error
+ *                   or the lexical analyser fails
+ */
+
+  java_cup.runtime.Symbol parseTokens() throws Exception {
+    return super.parse();
+  }
+
+/**
+ * Yields the kind of this syntactical analyser.
+ *
+ * @return the kind
+ */
+
+  public ParserKind getKind() {
+    return ParserKind.LALR;
+  }
+
+/**
+ * Takes note that the source file refers to the class with the given name.
+ *
+ * @param className the name of the referenced class
+ * @param pos the position of the reference
+ */
+
+  void referenceClass(String className, int pos) {
+    referencedClasses.add(className);
+
+    int size = references.size();
+    if (size == referencePositions.length)
+      referencePositions = Arrays.copyOf(referencePositions, size * 2);
+
+    referencePositions[size] = pos;
+    references.add(className);
+  }
+
+/**
+ * Yields the names of the classes referenced from the positions after the
+ * given one, in order of first occurrence. This is called when a body has
+ * just been parsed, hence its references are the last found ones.
+ *
+ * @param pos the position
+ * @return the names of the referenced classes
+ */
+
+  private List<String> referencedFrom(int pos) {
+    int first = references.size();
+    while (first > 0 && referencePositions[first - 1] >= pos)
+      first--;
+
+    return new ArrayList<>(new LinkedHashSet<>(references.subList(first, references.size())));
+  }
+
+/**
+ * Yields the names of the classes referenced in the source file, as
+ * superclass, in a type or in an object creation, in order of first occurrence.
+ * This is complete only after the source file has been parsed.
+ *
+ * @return the names of the referenced classes
+ */
+
+  public Set<String> getReferencedClasses() {
+    return referencedClasses;
+  }
+
+/**
+ * The position of the end of the source file, once it has been reached.
+ */
+
+  private int sourceEnd = -1;
+
+/**
+ * Yields the characters of the source file parsed by this parser.
+ * This is available only after the whole source file has been parsed.
+ *
+ * @return the characters of the source file
+ * @throws IllegalStateException if the end of the source file has not been reached
+ */
+
+  public char[] getSource() {
+    if (sourceEnd < 0)
+      throw new IllegalStateException("The source file has not been parsed yet");
+
+    return lexer.getSource(0, sourceEnd);
+  }
+
+/**
+ * Takes note of the position just after the body of the given declaration,
+ * and of the classes referenced from the body, so that the body can be parsed
+ * again alone, after an edit of the source file. This is called just after the body
+ * has been parsed.
+ *
+ * @param declaration the declaration of a constructor, method, test or fixture
+ * @param bodyEnd the position just after its body
+ * @return {@code declaration} itself
+ */
+
+  CodeDeclaration withBodyEnd(CodeDeclaration declaration, int bodyEnd) {
+    declaration.setBodyEnd(bodyEnd, referencedFrom(declaration.getBody().getPos()));
+    return declaration;
+  }
+
+/**
+ * The members of a class, in the order they are parsed. JavaCup does not
+ * allow non-terminals of generic type, hence the list is kept inside this class.
+ */
+
+  static final class Members {
+    private final List<ClassMemberDeclaration> declarations = new ArrayList<>();
+
+    /**
+     * Adds a member at the end of this sequence.
+     *
+     * @param declaration the declaration of the member
+     * @return this sequence itself
+     */
+
+    Members add(ClassMemberDeclaration declaration) {
+      declarations.add(declaration);
+      return this;
+    }
+
+    /**
+     * Yields the members in this sequence.
+     *
+     * @return the declarations of the members, in order
+     */
+
+    List<ClassMemberDeclaration> asList() {
+      return declarations;
+    }
+  }
+
+/**
+ * The time spent so far inside the lexical analyser, in nanoseconds.
+ */
+
+  private long lexingTime;
+
+/**
+ * Yields the time spent inside the lexical analyser while parsing the source
+ * file. Since tokens are requested by the parser on demand, this is part of
+ * the time of the parsing.
+ *
+ * @return the time, in nanoseconds
+ */
+
+  public long getLexingTime() {
+    return lexingTime;
+  }
+
+/**
+ * True if and only if the bodies of methods and constructors must be
+ * parsed lazily, that is, only when needed.
+ */
+
+  private boolean lazyBodies;
+
+/**
+ * The nesting depth of the braces read so far. It is only kept if
+ * {@link #lazyBodies} holds.
+ */
+
+  private int braces;
+
+/**
+ * True if and only if the next brace inside the class opens the
+ * body of a method or constructor.
+ */
+
+  private boolean bodyExpected;
+
+/**
+ * The tokens already read from the lexical analyser but not yet passed
+ * to the parser.
+ */
+
+  private final Deque<java_cup.runtime.Symbol> pending = new ArrayDeque<>();
+
+/**
+ * Requires the bodies of the methods and constructors to be parsed lazily.
+ * Each of them gets parsed into a {@link LazyBody}, that only keeps its
+ * portion of the source file. The classes referenced from the bodies
+ * are taken note of anyway. This must be called before parsing.
+ */
+
+  public void parseBodiesLazily() {
+    lazyBodies = true;
+  }
+
+/**
+ * Requires to parse a single command, rather than a class. This is used
+ * to parse a {@link LazyBody}. This must be called before parsing.
+ *
+ * @param pos the position of the command in the source file
+ */
+
+  void startWithBody(int pos) {
+    pending.add(new java_cup.runtime.Symbol(sym.BODYSTART, pos, pos));
+  }
+
+/**
+ * Yields the next token for the parser. If bodies are parsed lazily,
+ * the tokens of the body of a method or constructor are collapsed into
+ * a single {@code BODY} token.
+ *
+ * @return the token
+ * @throws Exception if the lexical analyser fails
+ */
+
+  private java_cup.runtime.Symbol nextToken() throws Exception {
+    if (!pending.isEmpty())
+      return pending.poll();
+
+    java_cup.runtime.Symbol token = lexer.nextToken();
+    if (lazyBodies)
+      switch (token.sym) {
+      case sym.METHOD:
+      case sym.CONSTRUCTOR:
+        bodyExpected = braces == 1;
+        break;
+      case sym.FIELD:
+      case sym.TEST:
+      case sym.FIXTURE:
+        bodyExpected = false;
+        break;
+      case sym.LBRACE:
+        if (braces == 1 && bodyExpected) {
+          bodyExpected = false;
+          return skipBody(token);
+        }
+
+        braces++;
+        break;
+      case sym.RBRACE:
+        braces--;
+        break;
+      }
+
+    return token;
+  }
+
+/**
+ * Reads the tokens of a body up to its closing brace and yields a
+ * {@code BODY} token for them. The classes referenced from the body are
+ * those that occur after {@code new} or {@code as} or in the type of a
+ * local variable declaration, as well as {@code String} for string literals.
+ *
+ * @param open the opening brace of the body
+ * @return the {@code BODY} token. If the body is not closed, this is
+ *         {@code open} instead, and its tokens are passed to the parser,
+ *         that will report the error
+ * @throws Exception if the lexical analyser fails
+ */
+
+  private java_cup.runtime.Symbol skipBody(java_cup.runtime.Symbol open) throws Exception {
+    List<java_cup.runtime.Symbol> tokens = new ArrayList<>();
+    Set<String> referenced = new LinkedHashSet<>();
+    java_cup.runtime.Symbol previous = open;
+    int depth = 1;
+
+    while (true) {
+      java_cup.runtime.Symbol token = lexer.nextToken();
+      tokens.add(token);
+
+      switch (token.sym) {
+      case sym.LBRACE:
+        depth++;
+        break;
+      case sym.RBRACE:
+        if (--depth == 0) {
+          for (String className: referenced)
+            referenceClass(className, open.left);
+
+          char[] source = lexer.getSource(open.left, token.right);
+          return new java_cup.runtime.Symbol(sym.BODY, open.left, token.right,
+            new LazyBody(lexer.getKind(), getKind(), lexer.getErrorMsg(), source, open.left));
+        }
+        break;
+      case sym.STRING:
+        referenced.add("String");
+        break;
+      case sym.ID:
+        if (previous.sym == sym.NEW || previous.sym == sym.AS)
+          referenced.add((String) token.value);
+        else if (previous.sym == sym.ID)
+          // the type of a local variable declaration
+          referenced.add((String) previous.value);
+        break;
+      case sym.ARRAYSYMBOL:
+        if (previous.sym == sym.ID)
+          referenced.add((String) previous.value);
+        break;
+      case sym.EOF:
+        // the body is not closed: we give up lazy parsing
+        lazyBodies = false;
+        pending.addAll(tokens);
+        return open;
+      }
+
+      previous = token;
+    }
+  }
+
 }
 
 /** Cup generated class to encapsulate user supplied action code.*/
@@ -586,70 +851,67 @@ class CUP$Parser$actions {
       switch (CUP$Parser$act_num)
         {
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 66: // expseq_aux ::= exp COMMA expseq_aux 
+          case 72: // expseq_aux ::= expseq_aux COMMA exp 
             {
               ExpressionSeq RESULT = null;
-		int headleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int headright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Expression head = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Object c = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		int tailleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
-		int tailright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
-		ExpressionSeq tail = (ExpressionSeq)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new ExpressionSeq(cleft,head,tail); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(9/*expseq_aux*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+		int previousleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int previousright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		ExpressionSeq previous = (ExpressionSeq)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = previous.add(e); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(11/*expseq_aux*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 65: // expseq_aux ::= exp 
+          case 71: // expseq_aux ::= exp 
             {
               ExpressionSeq RESULT = null;
 		int headleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int headright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression head = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new ExpressionSeq(headleft,head,null); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(9/*expseq_aux*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+		 RESULT = new ExpressionSeq(headleft,head); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(11/*expseq_aux*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 64: // expseq ::= expseq_aux 
+          case 70: // expseq ::= expseq_aux 
             {
               ExpressionSeq RESULT = null;
 		int esleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int esright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		ExpressionSeq es = (ExpressionSeq)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = es; 
-              CUP$Parser$result = new java_cup.runtime.Symbol(8/*expseq*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(10/*expseq*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 63: // expseq ::= 
+          case 69: // expseq ::= 
             {
               ExpressionSeq RESULT = null;
 		 RESULT = null; 
-              CUP$Parser$result = new java_cup.runtime.Symbol(8/*expseq*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(10/*expseq*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 62: // exp ::= LPAREN exp RPAREN 
+          case 68: // exp ::= LPAREN exp RPAREN 
             {
               Expression RESULT = null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		 RESULT = e; 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 61: // exp ::= exp DOT ID LPAREN expseq RPAREN 
+          case 67: // exp ::= exp DOT ID LPAREN expseq RPAREN 
             {
               Expression RESULT = null;
 		int receiverleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
@@ -665,12 +927,12 @@ class CUP$Parser$actions {
 		int actualsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		ExpressionSeq actuals = (ExpressionSeq)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		 RESULT = new MethodCallExpression(dleft, receiver, name, actuals); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 60: // exp ::= NOT exp 
+          case 66: // exp ::= NOT exp 
             {
               Expression RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -680,12 +942,12 @@ class CUP$Parser$actions {
 		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Not(nleft,e); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 59: // exp ::= exp OR exp 
+          case 65: // exp ::= exp OR exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -698,12 +960,12 @@ class CUP$Parser$actions {
 		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression right = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Or(oleft,left,right); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 58: // exp ::= exp AND exp 
+          case 64: // exp ::= exp AND exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -716,12 +978,12 @@ class CUP$Parser$actions {
 		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression right = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new And(oleft,left,right); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 57: // exp ::= exp NEQ exp 
+          case 63: // exp ::= exp NEQ exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -734,12 +996,12 @@ class CUP$Parser$actions {
 		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression right = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new NotEqual(oleft,left,right); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 56: // exp ::= exp EQ exp 
+          case 62: // exp ::= exp EQ exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -752,12 +1014,12 @@ class CUP$Parser$actions {
 		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression right = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Equal(oleft,left,right); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 55: // exp ::= exp GT exp 
+          case 61: // exp ::= exp GT exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -770,12 +1032,12 @@ class CUP$Parser$actions {
 		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression right = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new GreaterThan(oleft,left,right); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 54: // exp ::= exp LE exp 
+          case 60: // exp ::= exp LE exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -788,12 +1050,12 @@ class CUP$Parser$actions {
 		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression right = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new LessThanOrEqual(oleft,left,right); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 53: // exp ::= exp LT exp 
+          case 59: // exp ::= exp LT exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -806,12 +1068,12 @@ class CUP$Parser$actions {
 		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression right = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new LessThan(oleft,left,right); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 52: // exp ::= exp GE exp 
+          case 58: // exp ::= exp GE exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -824,12 +1086,12 @@ class CUP$Parser$actions {
 		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression right = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new GreaterThanOrEqual(oleft,left,right); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 51: // exp ::= MINUS exp 
+          case 57: // exp ::= MINUS exp 
             {
               Expression RESULT = null;
 		int uleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -839,12 +1101,12 @@ class CUP$Parser$actions {
 		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Minus(uleft,e); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 50: // exp ::= exp DIVIDE exp 
+          case 56: // exp ::= exp DIVIDE exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -857,12 +1119,12 @@ class CUP$Parser$actions {
 		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression right = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Division(dleft,left,right); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 49: // exp ::= exp TIMES exp 
+          case 55: // exp ::= exp TIMES exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -875,12 +1137,12 @@ class CUP$Parser$actions {
 		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression right = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Multiplication(tleft,left,right); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 48: // exp ::= exp MINUS exp 
+          case 54: // exp ::= exp MINUS exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -893,12 +1155,12 @@ class CUP$Parser$actions {
 		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression right = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Subtraction(mleft,left,right); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 47: // exp ::= exp PLUS exp 
+          case 53: // exp ::= exp PLUS exp 
             {
               Expression RESULT = null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -911,12 +1173,12 @@ class CUP$Parser$actions {
 		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression right = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Addition(pleft,left,right); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 46: // exp ::= exp AS type 
+          case 52: // exp ::= exp AS type 
             {
               Expression RESULT = null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -929,12 +1191,12 @@ class CUP$Parser$actions {
 		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		TypeExpression t = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Cast(asleft,t,e); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 45: // exp ::= NEW type LBRACK exp RBRACK 
+          case 51: // exp ::= NEW type LBRACK exp RBRACK 
             {
               Expression RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
@@ -947,12 +1209,12 @@ class CUP$Parser$actions {
 		int sizeright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Expression size = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		 RESULT = new NewArray(nleft,t,size); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 44: // exp ::= NEW ID LPAREN expseq RPAREN 
+          case 50: // exp ::= NEW ID LPAREN expseq RPAREN 
             {
               Expression RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
@@ -964,99 +1226,119 @@ class CUP$Parser$actions {
 		int actualsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int actualsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		ExpressionSeq actuals = (ExpressionSeq)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new NewObject(nleft, id, actuals); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+		 parser.referenceClass(id, idleft);
+        RESULT = new NewObject(nleft, id, actuals); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 43: // exp ::= NIL 
+          case 49: // exp ::= NIL 
             {
               Expression RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int nright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Object n = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Nil(nleft); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 42: // exp ::= STRING 
+          case 48: // exp ::= STRING 
             {
               Expression RESULT = null;
 		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		String s = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new StringLiteral(sleft,s); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+		 parser.referenceClass("String", sleft);
+        RESULT = new StringLiteral(sleft,s); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 41: // exp ::= FLOATING 
+          case 47: // exp ::= FLOATING 
             {
               Expression RESULT = null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Float f = (Float)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new FloatLiteral(fleft,f.floatValue()) ; 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 40: // exp ::= INTEGER 
+          case 46: // exp ::= INTEGER 
             {
               Expression RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new IntLiteral(ileft,i.intValue()); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 39: // exp ::= FALSE 
+          case 45: // exp ::= FALSE 
             {
               Expression RESULT = null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Object f = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new False(fleft); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 38: // exp ::= TRUE 
+          case 44: // exp ::= TRUE 
             {
               Expression RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Object t = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new True(tleft); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 37: // exp ::= lvalue 
+          case 43: // exp ::= lvalue 
             {
               Expression RESULT = null;
 		int lvalueleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int lvalueright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Lvalue lvalue = (Lvalue)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = lvalue; 
-              CUP$Parser$result = new java_cup.runtime.Symbol(7/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*exp*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 36: // comseq ::= com SEMICOLON comseq 
+          case 42: // comseq_aux ::= comseq_aux SEMICOLON com 
             {
-              Command RESULT = null;
+              CommandSeq RESULT = null;
+		int previousleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int previousright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CommandSeq previous = (CommandSeq)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		Command s = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = previous.add(cleft,s); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(8/*comseq_aux*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 41: // comseq_aux ::= com SEMICOLON com 
+            {
+              CommandSeq RESULT = null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
 		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
 		Command f = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
@@ -1067,24 +1349,36 @@ class CUP$Parser$actions {
 		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Command s = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new CommandSeq(cleft,f,s); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(6/*comseq*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(8/*comseq_aux*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 40: // comseq ::= comseq_aux 
+            {
+              Command RESULT = null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		CommandSeq s = (CommandSeq)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = s; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(7/*comseq*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 35: // comseq ::= com 
+          case 39: // comseq ::= com 
             {
               Command RESULT = null;
 		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Command c = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = c; 
-              CUP$Parser$result = new java_cup.runtime.Symbol(6/*comseq*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(7/*comseq*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 34: // com ::= ASSERT LPAREN exp RPAREN 
+          case 38: // com ::= ASSERT LPAREN exp RPAREN 
             {
               Command RESULT = null;
 		int assleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -1094,12 +1388,12 @@ class CUP$Parser$actions {
 		int conditionright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Expression condition = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		 RESULT = new Assert(assleft,condition); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 33: // com ::= exp DOT ID LPAREN expseq RPAREN 
+          case 37: // com ::= exp DOT ID LPAREN expseq RPAREN 
             {
               Command RESULT = null;
 		int receiverleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
@@ -1115,24 +1409,24 @@ class CUP$Parser$actions {
 		int actualsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		ExpressionSeq actuals = (ExpressionSeq)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		 RESULT = new MethodCallCommand(dleft, receiver, name, actuals); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 32: // com ::= LBRACE RBRACE 
+          case 36: // com ::= LBRACE RBRACE 
             {
               Command RESULT = null;
 		int pleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int pright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Object p = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		 RESULT = new Skip(pleft); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 31: // com ::= LBRACE comseq RBRACE 
+          case 35: // com ::= LBRACE comseq RBRACE 
             {
               Command RESULT = null;
 		int pleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1142,12 +1436,12 @@ class CUP$Parser$actions {
 		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Command c = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		 RESULT = new LocalScope(pleft,c); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 30: // com ::= FOR LPAREN com SEMICOLON exp SEMICOLON com RPAREN com 
+          case 34: // com ::= FOR LPAREN com SEMICOLON exp SEMICOLON com RPAREN com 
             {
               Command RESULT = null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-8)).left;
@@ -1166,12 +1460,12 @@ class CUP$Parser$actions {
 		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Command body = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new For(fleft,initialisation,condition,update,body); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-8)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-8)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 29: // com ::= WHILE LPAREN exp RPAREN com 
+          case 33: // com ::= WHILE LPAREN exp RPAREN com 
             {
               Command RESULT = null;
 		int wleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
@@ -1184,12 +1478,12 @@ class CUP$Parser$actions {
 		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Command body = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new While(wleft,condition,body); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 28: // com ::= IF LPAREN exp RPAREN THEN com ELSE com 
+          case 32: // com ::= IF LPAREN exp RPAREN THEN com ELSE com 
             {
               Command RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left;
@@ -1205,12 +1499,12 @@ class CUP$Parser$actions {
 		int _elseright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Command _else = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new IfThenElse(ileft,condition,then,_else); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 27: // com ::= IF LPAREN exp RPAREN THEN com 
+          case 31: // com ::= IF LPAREN exp RPAREN THEN com 
             {
               Command RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
@@ -1223,12 +1517,12 @@ class CUP$Parser$actions {
 		int thenright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Command then = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new IfThenElse(ileft,condition,then); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 26: // com ::= RETURN exp 
+          case 30: // com ::= RETURN exp 
             {
               Command RESULT = null;
 		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -1238,24 +1532,24 @@ class CUP$Parser$actions {
 		int returnedright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression returned = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Return(rleft,returned); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 25: // com ::= RETURN 
+          case 29: // com ::= RETURN 
             {
               Command RESULT = null;
 		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Object r = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Return(rleft,null); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 24: // com ::= type ID ASSIGN exp 
+          case 28: // com ::= type ID ASSIGN exp 
             {
               Command RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -1268,12 +1562,12 @@ class CUP$Parser$actions {
 		int initialiserright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression initialiser = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new LocalDeclaration(tleft,t, id, initialiser); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 23: // com ::= lvalue ASSIGN exp 
+          case 27: // com ::= lvalue ASSIGN exp 
             {
               Command RESULT = null;
 		int leftvalueleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1286,30 +1580,30 @@ class CUP$Parser$actions {
 		int rightvalueright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Expression rightvalue = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Assignment(aleft,leftvalue,rightvalue); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(5/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*com*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 22: // formals_aux ::= type ID COMMA formals_aux 
+          case 26: // formals_aux ::= formals_aux COMMA type ID 
             {
               FormalParameters RESULT = null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		TypeExpression t = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int nextleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
-		int nextright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
-		FormalParameters next = (FormalParameters)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new FormalParameters(tleft,t, id, next); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(4/*formals_aux*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+		int previousleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int previousright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		FormalParameters previous = (FormalParameters)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		TypeExpression t = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = previous.add(t, id); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(5/*formals_aux*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 21: // formals_aux ::= type ID 
+          case 25: // formals_aux ::= type ID 
             {
               FormalParameters RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -1318,152 +1612,202 @@ class CUP$Parser$actions {
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new FormalParameters(tleft,t, id, null); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(4/*formals_aux*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+		 RESULT = new FormalParameters(tleft,t, id); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(5/*formals_aux*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 20: // formals ::= formals_aux 
+          case 24: // formals ::= formals_aux 
             {
               FormalParameters RESULT = null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		FormalParameters f = (FormalParameters)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = f; 
-              CUP$Parser$result = new java_cup.runtime.Symbol(3/*formals*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(4/*formals*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 19: // formals ::= 
+          case 23: // formals ::= 
             {
               FormalParameters RESULT = null;
 		 RESULT = null; 
-              CUP$Parser$result = new java_cup.runtime.Symbol(3/*formals*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(4/*formals*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 18: // class_members ::= FIXTURE com class_members 
+          case 22: // class_members ::= class_members FIXTURE com 
             {
-              ClassMemberDeclaration RESULT = null;
-		int fixleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int fixright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		Object fix = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int bodyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Command body = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		int nextleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
-		int nextright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
-		ClassMemberDeclaration next = (ClassMemberDeclaration)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new FixtureDeclaration(fixleft,body,next); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(2/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              Parser.Members RESULT = null;
+		int previousleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int previousright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Parser.Members previous = (Parser.Members)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int fixleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int fixright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Object fix = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int bodyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		Command body = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = previous.add(parser.withBodyEnd(new FixtureDeclaration(fixleft,body), bodyright)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(3/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 17: // class_members ::= TEST ID com class_members 
+          case 21: // class_members ::= class_members TEST ID com 
             {
-              ClassMemberDeclaration RESULT = null;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		Object t = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int bodyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Command body = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		int nextleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
-		int nextright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
-		ClassMemberDeclaration next = (ClassMemberDeclaration)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new TestDeclaration(tleft,name,body,next); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(2/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
-            }
-          return CUP$Parser$result;
-
-          /*. . . . . . . . . . . . . . . . . . . .*/
-          case 16: // class_members ::= METHOD typeplus ID LPAREN formals RPAREN com class_members 
-            {
-              ClassMemberDeclaration RESULT = null;
-		int mleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left;
-		int mright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).right;
-		Object m = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-7)).value;
-		int returnTypeleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
-		int returnTyperight = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
-		TypeExpression returnType = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
-		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-		int formalsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int formalsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		FormalParameters formals = (FormalParameters)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int bodyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Command body = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		int nextleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
-		int nextright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
-		ClassMemberDeclaration next = (ClassMemberDeclaration)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new MethodDeclaration
-	(mleft, returnType, name, formals, body, next); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(2/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              Parser.Members RESULT = null;
+		int previousleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int previousright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Parser.Members previous = (Parser.Members)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Object t = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int bodyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		Command body = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = previous.add(parser.withBodyEnd(new TestDeclaration(tleft,name,body), bodyright)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(3/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 20: // class_members ::= class_members METHOD typeplus ID LPAREN formals RPAREN BODY 
+            {
+              Parser.Members RESULT = null;
+		int previousleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left;
+		int previousright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).right;
+		Parser.Members previous = (Parser.Members)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-7)).value;
+		int mleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int mright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		Object m = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
+		int returnTypeleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int returnTyperight = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		TypeExpression returnType = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int formalsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int formalsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		FormalParameters formals = (FormalParameters)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int bodyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		LazyBody body = (LazyBody)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = previous.add(new MethodDeclaration
+	(mleft, returnType, name, formals, body)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(3/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 19: // class_members ::= class_members METHOD typeplus ID LPAREN formals RPAREN com 
+            {
+              Parser.Members RESULT = null;
+		int previousleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left;
+		int previousright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).right;
+		Parser.Members previous = (Parser.Members)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-7)).value;
+		int mleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int mright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		Object m = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
+		int returnTypeleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int returnTyperight = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		TypeExpression returnType = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int formalsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int formalsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		FormalParameters formals = (FormalParameters)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int bodyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		Command body = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = previous.add(parser.withBodyEnd(new MethodDeclaration
+	(mleft, returnType, name, formals, body), bodyright)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(3/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 15: // class_members ::= CONSTRUCTOR LPAREN formals RPAREN com class_members 
+          case 18: // class_members ::= class_members CONSTRUCTOR LPAREN formals RPAREN BODY 
             {
-              ClassMemberDeclaration RESULT = null;
-		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-		Object c = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-		int formalsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int formalsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		FormalParameters formals = (FormalParameters)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int bodyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		Command body = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		int nextleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
-		int nextright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
-		ClassMemberDeclaration next = (ClassMemberDeclaration)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new ConstructorDeclaration(cleft,formals,body,next); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(2/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              Parser.Members RESULT = null;
+		int previousleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int previousright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		Parser.Members previous = (Parser.Members)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int formalsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int formalsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		FormalParameters formals = (FormalParameters)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int bodyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		LazyBody body = (LazyBody)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = previous.add(new ConstructorDeclaration(cleft,formals,body)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(3/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 14: // class_members ::= FIELD type ID class_members 
+          case 17: // class_members ::= class_members CONSTRUCTOR LPAREN formals RPAREN com 
             {
-              ClassMemberDeclaration RESULT = null;
-		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-		Object f = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-		TypeExpression t = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		int nextleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
-		int nextright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
-		ClassMemberDeclaration next = (ClassMemberDeclaration)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new FieldDeclaration(fleft, t, name, next); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(2/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              Parser.Members RESULT = null;
+		int previousleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int previousright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		Parser.Members previous = (Parser.Members)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int formalsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int formalsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		FormalParameters formals = (FormalParameters)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int bodyleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int bodyright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		Command body = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = previous.add(parser.withBodyEnd
+	(new ConstructorDeclaration(cleft,formals,body), bodyright)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(3/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 13: // class_members ::= 
+          case 16: // class_members ::= class_members FIELD type ID 
             {
-              ClassMemberDeclaration RESULT = null;
-		 RESULT = null; 
-              CUP$Parser$result = new java_cup.runtime.Symbol(2/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              Parser.Members RESULT = null;
+		int previousleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int previousright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Parser.Members previous = (Parser.Members)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Object f = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		TypeExpression t = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = previous.add(new FieldDeclaration(fleft, t, name)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(3/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 15: // class_members ::= 
+            {
+              Parser.Members RESULT = null;
+		 RESULT = new Parser.Members(); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(3/*class_members*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 12: // class ::= CLASS ID EXTENDS ID LBRACE class_members RBRACE 
+          case 14: // class ::= CLASS ID EXTENDS ID LBRACE class_members RBRACE 
             {
               ClassDefinition RESULT = null;
 		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
@@ -1477,15 +1821,16 @@ class CUP$Parser$actions {
 		String superclass = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		int declarationsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int declarationsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		ClassMemberDeclaration declarations = (ClassMemberDeclaration)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new ClassDefinition
-	(cleft, name, superclass, declarations); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(1/*class*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+		Parser.Members declarations = (Parser.Members)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 parser.referenceClass(superclass, superclassleft);
+        RESULT = new ClassDefinition
+	(cleft, name, superclass, declarations.asList()); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(2/*class*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 11: // class ::= CLASS ID LBRACE class_members RBRACE 
+          case 13: // class ::= CLASS ID LBRACE class_members RBRACE 
             {
               ClassDefinition RESULT = null;
 		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
@@ -1496,39 +1841,40 @@ class CUP$Parser$actions {
 		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		int declarationsleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int declarationsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		ClassMemberDeclaration declarations = (ClassMemberDeclaration)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-		 RESULT = new ClassDefinition
-	(cleft, name, "Object", declarations); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(1/*class*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+		Parser.Members declarations = (Parser.Members)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 parser.referenceClass("Object", cleft);
+        RESULT = new ClassDefinition
+	(cleft, name, "Object", declarations.asList()); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(2/*class*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 10: // typeplus ::= VOID 
+          case 12: // typeplus ::= VOID 
             {
               TypeExpression RESULT = null;
 		int vleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int vright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Object v = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new VoidTypeExpression(vleft); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(12/*typeplus*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(14/*typeplus*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 9: // typeplus ::= type 
+          case 11: // typeplus ::= type 
             {
               TypeExpression RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		TypeExpression t = (TypeExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = t; 
-              CUP$Parser$result = new java_cup.runtime.Symbol(12/*typeplus*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(14/*typeplus*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 8: // type ::= type ARRAYSYMBOL 
+          case 10: // type ::= type ARRAYSYMBOL 
             {
               TypeExpression RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
@@ -1538,60 +1884,61 @@ class CUP$Parser$actions {
 		int aright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Object a = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new ArrayTypeExpression(aleft,t); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(11/*type*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(13/*type*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 7: // type ::= FLOAT 
+          case 9: // type ::= FLOAT 
             {
               TypeExpression RESULT = null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Object f = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new FloatTypeExpression(fleft); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(11/*type*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(13/*type*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 6: // type ::= INT 
+          case 8: // type ::= INT 
             {
               TypeExpression RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Object i = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new IntTypeExpression(ileft); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(11/*type*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(13/*type*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 5: // type ::= BOOLEAN 
+          case 7: // type ::= BOOLEAN 
             {
               TypeExpression RESULT = null;
 		int bleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int bright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		Object b = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new BooleanTypeExpression(bleft); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(11/*type*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(13/*type*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 4: // type ::= ID 
+          case 6: // type ::= ID 
             {
               TypeExpression RESULT = null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
-		 RESULT = new ClassTypeExpression(idleft, id); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(11/*type*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+		 parser.referenceClass(id, idleft);
+        RESULT = new ClassTypeExpression(idleft, id); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(13/*type*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 3: // lvalue ::= exp LBRACK exp RBRACK 
+          case 5: // lvalue ::= exp LBRACK exp RBRACK 
             {
               Lvalue RESULT = null;
 		int arrayleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
@@ -1604,12 +1951,12 @@ class CUP$Parser$actions {
 		int indexright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		Expression index = (Expression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		 RESULT = new ArrayAccess(bleft,array,index); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(10/*lvalue*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(12/*lvalue*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 2: // lvalue ::= exp DOT ID 
+          case 4: // lvalue ::= exp DOT ID 
             {
               Lvalue RESULT = null;
 		int receiverleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
@@ -1622,29 +1969,53 @@ class CUP$Parser$actions {
 		int fieldright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		String field = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new FieldAccess(dleft,receiver, field); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(10/*lvalue*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(12/*lvalue*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 1: // lvalue ::= ID 
+          case 3: // lvalue ::= ID 
             {
               Lvalue RESULT = null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
 		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
 		 RESULT = new Variable(idleft, id); 
-              CUP$Parser$result = new java_cup.runtime.Symbol(10/*lvalue*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+              CUP$Parser$result = new java_cup.runtime.Symbol(12/*lvalue*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 2: // unit ::= BODYSTART com 
+            {
+              Absyn RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		Command c = (Command)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = c; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(1/*unit*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 1: // unit ::= class 
+            {
+              Absyn RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right;
+		ClassDefinition c = (ClassDefinition)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0)).value;
+		 RESULT = c; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(1/*unit*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
           return CUP$Parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 0: // $START ::= class EOF 
+          case 0: // $START ::= unit EOF 
             {
               Object RESULT = null;
 		int start_valleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
 		int start_valright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-		ClassDefinition start_val = (ClassDefinition)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		Absyn start_val = (Absyn)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		RESULT = start_val;
               CUP$Parser$result = new java_cup.runtime.Symbol(0/*$START*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-0)).right, RESULT);
             }
@@ -0,0 +1,45 @@
+package syntactical;
+
+import lexical.Scanner;
+
+/**
+ * The available implementations of the syntactical analyser. They build
+ * the same abstract syntax and report the same errors.
+ */
+
+public enum ParserKind {
+
+	/**
+	 * The table-driven analyser generated by JavaCup from {@code resources/Kitten.cup}.
+	 */
+
+	LALR {
+
+		@Override
+		public Parser mk(Scanner lexer) {
+			return new Parser(lexer);
+		}
+	},
+
+	/**
+	 * The hand-written analyser {@link DescentParser}.
+	 */
+
+	DESCENT {
+
+		@Override
+		public Parser mk(Scanner lexer) {
+			return new DescentParser(lexer);
+		}
+	};
+
+	/**
+	 * Creates a syntactical analyser of this kind that uses a given
+	 * lexical analyser to tokenise the source file.
+	 *
+	 * @param lexer the lexical analyser which tokenises the input source file
+	 * @return the syntactical analyser
+	 */
+
+	public abstract Parser mk(Scanner lexer);
+}
@@ -0,0 +1,82 @@
+package syntactical;
+
+/**
+ * The decoding of the tables of the {@link Parser}: the production table,
+ * the parse-action table and the {@code reduce_goto} table. JavaCup generates
+ * them as string literals in a format that is slow to decode, since it requires
+ * a call for each character of the literals. Hence {@link Generator} rewrites
+ * them into a dense layout, where each character is an entry of the table:
+ * first the number of rows, then the length of each row and then the elements
+ * of all rows, in order. The elements are shorts, stored as characters with the
+ * same bits. The layout is split into many literals, since the constant pool
+ * of a class file cannot hold very long strings.
+ */
+
+final class ParserTables {
+
+	private ParserTables() {}
+
+	/**
+	 * Yields the table in the dense layout held in the given literals.
+	 *
+	 * @param literals the literals, that must be concatenated
+	 * @return the table
+	 */
+
+	static short[][] unpack(String... literals) {
+		int length = 0;
+		for (String literal: literals)
+			length += literal.length();
+
+		// a bulk copy of the characters, so that no call is performed for each of them
+		char[] chars = new char[length];
+		int pos = 0;
+		for (String literal: literals) {
+			literal.getChars(0, literal.length(), chars, pos);
+			pos += literal.length();
+		}
+
+		short[][] table = new short[chars[0]][];
+		int element = 1 + table.length;
+		for (int row = 0; row < table.length; row++) {
+			short[] elements = table[row] = new short[chars[1 + row]];
+			for (int column = 0; column < elements.length; column++)
+				elements[column] = (short) chars[element++];
+		}
+
+		return table;
+	}
+
+	/**
+	 * Yields the dense layout of the given table.
+	 *
+	 * @param table the table
+	 * @return the characters of the dense layout
+	 * @throws IllegalArgumentException if the table has too many rows or
+	 *                                  a row has too many elements
+	 */
+
+	static char[] pack(short[][] table) {
+		int length = 1 + table.length;
+		for (short[] row: table)
+			length += row.length;
+
+		char[] chars = new char[length];
+		chars[0] = checked(table.length);
+		int element = 1 + table.length;
+		for (int row = 0; row < table.length; row++) {
+			chars[1 + row] = checked(table[row].length);
+			for (short value: table[row])
+				chars[element++] = (char) value;
+		}
+
+		return chars;
+	}
+
+	private static char checked(int size) {
+		if (size > Character.MAX_VALUE)
+			throw new IllegalArgumentException("The table of the parser is too large for its dense layout");
+
+		return (char) size;
+	}
+}
@@ -17,7 +17,18 @@ final class EmptyTable<E> extends Table<E> {
 
 	@Override
 	public Table<E> put(String key, E value) {
-		// builds a non-empty symbol table with empty subtrees
-		return new NonEmptyTable<E>(key, value);
+		// builds a non-empty symbol table with empty subtrees and a black root
+		return new NonEmptyTable<E>(false, key, value);
+	}
+
+	@Override
+	NonEmptyTable<E> insert(String key, E value) {
+		// new leaves are red
+		return new NonEmptyTable<E>(true, key, value);
+	}
+
+	@Override
+	boolean isRed() {
+		return false;
 	}
 }
\ No newline at end of file
@@ -1,7 +1,12 @@
 package tables;
 
 /**
- * A non-empty symbol table. It is organized as a binary search tree.
+ * A non-empty symbol table. It is organized as a persistent red-black tree,
+ * hence its height is logarithmic in the number of keys, also if they are
+ * added in order, as the names of the local variables of generated code often are.
+ * Keys are ordered by hash code first, so that most comparisons do not look
+ * inside the strings. Insertions rebalance the tree as in Okasaki's
+ * <i>Purely Functional Data Structures</i>, by copying the path to the new key.
  *
  * @author  <A HREF="mailto:fausto.spoto@univr.it">Fausto Spoto</A>
  */
@@ -14,6 +19,12 @@ final class NonEmptyTable<E> extends Table<E> {
 
 	private final String key;
 
+	/**
+	 * the hash code of {@link #key}.
+	 */
+
+	private final int hash;
+
 	/**
 	 * the value bound on key at the top of the tree.
 	 */
@@ -21,28 +32,38 @@ final class NonEmptyTable<E> extends Table<E> {
 	private final E value;
 
 	/**
-	 * the left subtree.
+	 * the left subtree, with the keys that precede {@link #key}.
 	 */
 
 	private final Table<E> left;
 
 	/**
-	 * the right subtree.
+	 * the right subtree, with the keys that follow {@link #key}.
 	 */
 
 	private final Table<E> right;
 
+	/**
+	 * true if and only if the top of the tree is red.
+	 */
+
+	private final boolean red;
+
 	/**
 	 * Builds a non-empty table.
 	 *
+	 * @param red true if and only if the root of the tree is red
 	 * @param key the key in the root of the tree
+	 * @param hash the hash code of {@code key}
 	 * @param value the value bound to <tt>key</tt>
 	 * @param left the left subtree
 	 * @param right the right subtree
 	 */
 
-	private NonEmptyTable(String key, E value, Table<E> left, Table<E> right) {
+	private NonEmptyTable(boolean red, String key, int hash, E value, Table<E> left, Table<E> right) {
+		this.red = red;
 		this.key = key;
+		this.hash = hash;
 		this.value = value;
 		this.left = left;
 		this.right = right;
@@ -51,20 +72,22 @@ final class NonEmptyTable<E> extends Table<E> {
 	/**
 	 * Builds a non-empty table having empty subtrees.
 	 *
+	 * @param red true if and only if the root of the tree is red
 	 * @param key the key in the root of the tree
 	 * @param value the value bound to {@code key}
 	 */
 
-	NonEmptyTable(String key, E value) {
-		this.key = key;
-		this.value = value;
-		this.left = Table.empty();
-		this.right = Table.empty();
+	NonEmptyTable(boolean red, String key, E value) {
+		this(red, key, key.hashCode(), value, Table.empty(), Table.empty());
 	}
 
 	@Override
 	public E get(String key) {
-		int comp = this.key.compareTo(key);
+		// identifiers are canonical in each source file, hence the same key is often the same string
+		if (this.key == key)
+			return value;
+
+		int comp = compare(key, key.hashCode());
 
 		if (comp < 0)
 			return left.get(key);
@@ -76,26 +99,120 @@ final class NonEmptyTable<E> extends Table<E> {
 
 	@Override
 	public Table<E> put(String key, E value) {
-		int comp = this.key.compareTo(key);
+		NonEmptyTable<E> result = insert(key, value);
+
+		// the root is always black
+		return result.red ? result.blacken() : result;
+	}
+
+	@Override
+	NonEmptyTable<E> insert(String key, E value) {
+		int comp = this.key == key ? 0 : compare(key, key.hashCode());
 
 		if (comp < 0) {
-			Table<E> temp = left.put(key,value);
+			NonEmptyTable<E> temp = left.insert(key, value);
 			if (temp == left)
 				return this;
 			else
-				return new NonEmptyTable<E>(this.key, this.value, temp, right);
+				return balance(red, this.key, hash, this.value, temp, right);
 		}
 		else if (comp == 0)
 			if (value == this.value)
 				return this;
 			else
-				return new NonEmptyTable<E>(this.key, value, left, right);
+				return new NonEmptyTable<E>(red, this.key, hash, value, left, right);
 		else {
-			Table<E> temp = right.put(key,value);
+			NonEmptyTable<E> temp = right.insert(key, value);
 			if (temp == right)
 				return this;
 			else
-				return new NonEmptyTable<E>(this.key, this.value, left, temp);
+				return balance(red, this.key, hash, this.value, left, temp);
 		}
 	}
-}
\ No newline at end of file
+
+	@Override
+	boolean isRed() {
+		return red;
+	}
+
+	/**
+	 * Compares a key with that on top of this tree.
+	 *
+	 * @param key the key
+	 * @param hash the hash code of {@code key}
+	 * @return a negative number, zero or a positive number if {@code key}
+	 *         precedes, is equal to or follows the key on top of this tree
+	 */
+
+	private int compare(String key, int hash) {
+		if (hash != this.hash)
+			return hash < this.hash ? -1 : 1;
+		else
+			return key.compareTo(this.key);
+	}
+
+	/**
+	 * Yields a black copy of this tree.
+	 *
+	 * @return the copy
+	 */
+
+	private NonEmptyTable<E> blacken() {
+		return new NonEmptyTable<E>(false, key, hash, value, left, right);
+	}
+
+	/**
+	 * Builds a tree from its components, where one subtree has just been
+	 * rebuilt by an insertion. If the root is black and that subtree is red
+	 * with a red child, the two red nodes and the root are rearranged into
+	 * a red node with two black children, which restores the invariants
+	 * of red-black trees below the root.
+	 *
+	 * @param red true if and only if the root is red
+	 * @param key the key in the root
+	 * @param hash the hash code of {@code key}
+	 * @param value the value bound to {@code key}
+	 * @param left the left subtree
+	 * @param right the right subtree
+	 * @return the tree
+	 */
+
+	@SuppressWarnings("unchecked")
+	private static <E> NonEmptyTable<E> balance(boolean red, String key, int hash, E value, Table<E> left, Table<E> right) {
+		if (!red) {
+			if (left.isRed()) {
+				NonEmptyTable<E> l = (NonEmptyTable<E>) left;
+
+				if (l.left.isRed()) {
+					NonEmptyTable<E> ll = (NonEmptyTable<E>) l.left;
+					return new NonEmptyTable<E>(true, l.key, l.hash, l.value, ll.blacken(),
+						new NonEmptyTable<E>(false, key, hash, value, l.right, right));
+				}
+				else if (l.right.isRed()) {
+					NonEmptyTable<E> lr = (NonEmptyTable<E>) l.right;
+					return new NonEmptyTable<E>(true, lr.key, lr.hash, lr.value,
+						new NonEmptyTable<E>(false, l.key, l.hash, l.value, l.left, lr.left),
+						new NonEmptyTable<E>(false, key, hash, value, lr.right, right));
+				}
+			}
+
+			if (right.isRed()) {
+				NonEmptyTable<E> r = (NonEmptyTable<E>) right;
+
+				if (r.left.isRed()) {
+					NonEmptyTable<E> rl = (NonEmptyTable<E>) r.left;
+					return new NonEmptyTable<E>(true, rl.key, rl.hash, rl.value,
+						new NonEmptyTable<E>(false, key, hash, value, left, rl.left),
+						new NonEmptyTable<E>(false, r.key, r.hash, r.value, rl.right, r.right));
+				}
+				else if (r.right.isRed()) {
+					NonEmptyTable<E> rr = (NonEmptyTable<E>) r.right;
+					return new NonEmptyTable<E>(true, r.key, r.hash, r.value,
+						new NonEmptyTable<E>(false, key, hash, value, left, r.left), rr.blacken());
+				}
+			}
+		}
+
+		return new NonEmptyTable<E>(red, key, hash, value, left, right);
+	}
+}
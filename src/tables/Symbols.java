@@ -0,0 +1,37 @@
+package tables;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A table of the identifiers of a compilation. Each identifier is mapped
+ * into a canonical string, so that canonical identifiers can be compared by
+ * identity. The table belongs to the context of a compilation, hence it
+ * becomes garbage together with the context. This table can be used by many
+ * threads at the same time.
+ */
+
+public final class Symbols {
+
+	/**
+	 * The canonical identifiers.
+	 */
+
+	private final ConcurrentHashMap<String, String> symbols = new ConcurrentHashMap<>();
+
+	/**
+	 * Yields the canonical string for the given identifier.
+	 *
+	 * @param name the identifier
+	 * @return a string equal to {@code name}, that is the same
+	 *         for all identifiers with the same characters
+	 */
+
+	public String intern(String name) {
+		String symbol = symbols.get(name);
+		if (symbol != null)
+			return symbol;
+
+		symbol = symbols.putIfAbsent(name, name);
+		return symbol != null ? symbol : name;
+	}
+}
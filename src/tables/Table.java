@@ -48,4 +48,26 @@ public abstract class Table<E> {
      */
 
     public abstract Table<E> put(String key, E value);
+
+    /**
+     * Builds a new tree, identical to this, but where a given symbol is bound
+     * to a given value. The result might violate the invariants of red-black
+     * trees at its root, that is, it might be red with a red child.
+     * This table is not modified.
+     *
+     * @param key the symbol to be bound to the given value
+     * @param value to value to be bound to the symbol
+     * @return the tree, which is this same tree if {@code key} was already
+     *         bound to {@code value}
+     */
+
+    abstract NonEmptyTable<E> insert(String key, E value);
+
+    /**
+     * Determines if the root of this tree is red.
+     *
+     * @return true if and only if this tree is not empty and its root is red
+     */
+
+    abstract boolean isRed();
 }
\ No newline at end of file
@@ -1,14 +1,12 @@
 package translation;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import types.ClassType;
 import types.CodeSignature;
-import types.FixtureSignature;
-import types.TestSignature;
+import types.CompilationContext;
 import bytecode.BranchingBytecode;
 import bytecode.Bytecode;
 import bytecode.BytecodeList;
@@ -38,37 +36,39 @@ public class Block {
 	private BytecodeList bytecode;
 
 	/**
-	 * The unique identifier of this block.
+	 * The compilation this block belongs to.
 	 */
 
-	private final int id;
+	private final CompilationContext context;
 
 	/**
-	 * True if this block can be merged when prefixed with another block.
+	 * The unique identifier of this block, inside its compilation.
 	 */
 
-	private boolean mergeable;
+	private final int id;
 
 	/**
-	 * The number of blocks created so far.
+	 * True if this block can be merged when prefixed with another block.
 	 */
 
-	private static int counter = 0;
+	private boolean mergeable;
 
 	/**
 	 * Builds a block of code with no predecessors and with the given bytecode and successors.
 	 *
+	 * @param context the compilation the block belongs to
 	 * @param bytecode the code inside the block
 	 * @param follows the list of successors of this block
 	 */
 
-	private Block(BytecodeList bytecode, List<Block> follows) {
+	private Block(CompilationContext context, BytecodeList bytecode, List<Block> follows) {
+		this.context = context;
 		this.bytecode = bytecode;
 		this.follows = follows;
 		this.mergeable = true;
 
 		// we assign a unique identifier to this block
-		this.id = counter++;
+		this.id = context.nextBlockId();
 	}
 
 	/**
@@ -76,10 +76,11 @@ public class Block {
 	 * predecessors nor successors.
 	 *
 	 * @param bytecode the final bytecode
+	 * @param where the method or constructor where the block will be put
 	 */
 
-	public Block(FinalBytecode bytecode) {
-		this(new BytecodeList(bytecode), new ArrayList<Block>());
+	public Block(FinalBytecode bytecode, CodeSignature where) {
+		this(where.getDefiningClass().getContext(), new BytecodeList(bytecode), new ArrayList<Block>());
 	}
 
 	/**
@@ -96,7 +97,7 @@ public class Block {
 	 */
 
 	public Block(BranchingBytecode condition, Block yes, Block no) {
-		this(new BytecodeList(new NOP()), new ArrayList<Block>());
+		this(yes.context, new BytecodeList(new NOP()), new ArrayList<Block>());
 
 		// we prefix the condition and its negation to the code of the following blocks
 		follows.add(no.prefixedBy(condition.negate()));
@@ -112,23 +113,12 @@ public class Block {
 
 	public Block(CodeSignature where) {
 		// we use nop for the initial code of a pivot
-		this(new BytecodeList(new NOP()), new ArrayList<Block>());
+		this(where.getDefiningClass().getContext(), new BytecodeList(new NOP()), new ArrayList<Block>());
 
 		// a pivot cannot be merged, otherwise cycles cannot be built
 		mergeable = false;
 	}
 
-	/**
-	 * Builds a new block of code with no predecessors, no successors and with
-	 * the given bytecode.
-	 *
-	 * @param bytecode the code inside the block
-	 */
-
-	private Block(BytecodeList bytecode) {
-		this(bytecode, new ArrayList<Block>());
-	}
-
 	/**
 	 * Builds a new block of code with no predecessors and with the
 	 * given bytecode and successor.
@@ -138,7 +128,7 @@ public class Block {
 	 */
 
 	private Block(BytecodeList bytecode, Block follow) {
-		this(bytecode);
+		this(follow.context, bytecode, new ArrayList<Block>());
 
 		follows.add(follow);
 	}
@@ -223,39 +213,14 @@ public class Block {
 
 	/**
 	 * Cleans-up this block and all those reachable from it, also in the
-	 * methods called from this block. It removes useless {@code nop}'s and merges a block, with only
-	 * one successor which has only one predecessor, with that successor.
-	 *
-	 * @param program the program which is being cleaned-up
-	 */
-
-	void cleanUp(Program program) {
-		// the start method of the program is definitely called
-		program.getSigs().add(program.getStart());
-		//**********
-		program.getSigs().addAll(program.getStart().getDefiningClass().fixturesLookup());
-		program.getSigs().addAll(program.getStart().getDefiningClass().getTests());
-		//***********
-		Set done=new HashSet<Block>();
-		this.cleanUp(done, program);
-		for(FixtureSignature fs :program.getStart().getDefiningClass().fixturesLookup()){
-			fs.getCode().cleanUp(done, program);
-		}
-		for(TestSignature ts :program.getStart().getDefiningClass().getTests()){
-			ts.getCode().cleanUp(done, program);
-		}
-	}
-
-	/**
-	 * Auxiliary method that cleans-up this block and all those reachable
-	 * from it. It removes useless {@code nop}'s and merges a block, with only
-	 * one successor which has only one predecessor, with that successor.
+	 * methods called from this block. It removes useless {@code nop}'s and merges
+	 * a block, with only one successor which has only one predecessor, with that successor.
 	 *
 	 * @param done the set of blocks which have been already cleaned-up
 	 * @param program the program which is being cleaned-up
 	 */
 
-	private void cleanUp(Set<Block> done, Program program) {
+	void cleanUp(Set<Block> done, Program program) {
 		if (!done.contains(this)) {
 			done.add(this);
 
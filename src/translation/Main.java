@@ -2,6 +2,7 @@ package translation;
 
 import errorMsg.ErrorMsg;
 import types.ClassType;
+import types.CompilationContext;
 import translation.Program;
 
 public class Main {
@@ -11,12 +12,15 @@ public class Main {
 			return;
 		}
 
+		// the Kitten code is dumped in dot format only if required
+		boolean dot = args.length > 1 && args[1].equals("dot");
+
 		long totalTime = System.currentTimeMillis();
 
 		// we build the class type for the file name passed as a parameter.
 		// This triggers type-checking of that class and of all classes referenced from it
 		long time = System.currentTimeMillis();
-		ClassType clazz = ClassType.mkFromFileName(args[0]);
+		ClassType clazz = ClassType.mkFromFileName(new CompilationContext(), args[0]);
 		ErrorMsg errorMsg = clazz.getErrorMsg();
 		System.out.println("Parsing and type-checking completed     \t[" + (System.currentTimeMillis() - time) + "ms]");
 
@@ -29,10 +33,12 @@ public class Main {
 
 			System.out.println("Translation into Kitten bytecode completed \t[" + (System.currentTimeMillis() - time) + "ms]");
 
-			time = System.currentTimeMillis();
-			program.dumpCodeDot();
+			if (dot) {
+				time = System.currentTimeMillis();
+				program.dumpCodeDot();
 
-			System.out.println("Kitten bytecode dumping in dot format completed\t[" + (System.currentTimeMillis() - time) + "ms]");
+				System.out.println("Kitten bytecode dumping in dot format completed\t[" + (System.currentTimeMillis() - time) + "ms]");
+			}
 		}
 
 		System.out.println("Total compilation time was " + (System.currentTimeMillis() - totalTime) + "ms");
@@ -1,16 +1,36 @@
 package translation;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.apache.bcel.classfile.JavaClass;
+import org.apache.bcel.classfile.Method;
+import org.apache.bcel.generic.InstructionList;
+
+import javaBytecodeGenerator.Execution;
 import javaBytecodeGenerator.JavaClassGenerator;
 import javaBytecodeGenerator.TestClassGenerator;
+import metrics.Metrics;
 import types.ClassMemberSignature;
 import types.CodeSignature;
 import types.ClassType;
+import types.CompilationContext;
 import bytecode.Bytecode;
+import bytecode.BytecodeList;
 import bytecode.CALL;
 import bytecode.FieldAccessBytecode;
 
@@ -22,6 +42,12 @@ import bytecode.FieldAccessBytecode;
 
 public class Program {
 
+	/**
+	 * The compilation this program belongs to.
+	 */
+
+	private final CompilationContext context;
+
 	/**
 	 * The set of class signatures making up this program.
 	 */
@@ -34,20 +60,66 @@ public class Program {
 
 	private final CodeSignature start;
 
+	/**
+	 * The code that is definitely called: the {@code main} methods,
+	 * the fixtures and the tests of the compiled classes.
+	 */
+
+	private final List<CodeSignature> entries;
+
 	/**
 	 * Builds a program, that is, a set of class member signatures.
 	 *
+	 * @param context the compilation the program belongs to
 	 * @param sigs the set of signatures
 	 * @param start the code where the program starts
 	 */
 
-	public Program(Set<ClassMemberSignature> sigs, CodeSignature start) {
+	public Program(CompilationContext context, Set<ClassMemberSignature> sigs, CodeSignature start) {
+		this(context, sigs, start, entriesOf(start));
+	}
+
+	/**
+	 * Builds a program, that is, a set of class member signatures,
+	 * with the given entry points.
+	 *
+	 * @param context the compilation the program belongs to
+	 * @param sigs the set of signatures
+	 * @param start the code where the program starts. This might be {@code null}
+	 * @param entries the code that is definitely called, such as {@code main}
+	 *                methods, fixtures and tests. The program is cleaned-up
+	 *                starting from this code
+	 */
+
+	public Program(CompilationContext context, Set<ClassMemberSignature> sigs, CodeSignature start, List<CodeSignature> entries) {
+		this.context = context;
 		this.sigs = sigs;
 		this.start = start;
+		this.entries = entries;
 
 		// we clean-up the code, in order to remove useless nop's and merge blocks whenever possible
-		if (start != null)
-			cleanUp();
+		if (!entries.isEmpty()) {
+			Metrics.Measure measure = context.getMetrics().begin(Metrics.Phase.CLEAN_UP);
+			try {
+				cleanUp();
+			}
+			finally {
+				measure.end();
+			}
+
+			if (context.getMetrics().isEnabled())
+				countCode();
+		}
+	}
+
+	/**
+	 * Yields the compilation this program belongs to.
+	 *
+	 * @return the compilation
+	 */
+
+	public CompilationContext getContext() {
+		return context;
 	}
 
 	/**
@@ -87,7 +159,65 @@ public class Program {
 
 	public void cleanUp() {
 		sigs.clear();
-		start.getCode().cleanUp(this);
+
+		// the entry points are definitely called
+		Set<Block> done = new HashSet<>();
+		for (CodeSignature entry: entries) {
+			sigs.add(entry);
+			entry.getCode().cleanUp(done, this);
+		}
+	}
+
+	/**
+	 * Yields the code that is definitely called if a program starts
+	 * at the given code: the latter and the fixtures and tests of its class.
+	 *
+	 * @param start the code where the program starts, or {@code null}
+	 * @return the code that is definitely called. This is empty if
+	 *         {@code start} is {@code null}
+	 */
+
+	private static List<CodeSignature> entriesOf(CodeSignature start) {
+		List<CodeSignature> result = new ArrayList<>();
+		if (start != null) {
+			result.add(start);
+			result.addAll(start.getDefiningClass().fixturesLookup());
+			result.addAll(start.getDefiningClass().getTests());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Counts the blocks and the Kitten bytecodes of each constructor and
+	 * method of this program, for the metrics of the compilation.
+	 */
+
+	private void countCode() {
+		Metrics metrics = context.getMetrics();
+
+		for (ClassMemberSignature sig: sigs)
+			if (sig instanceof CodeSignature && ((CodeSignature) sig).getCode() != null) {
+				String className = sig.getDefiningClass().getName(), member = sig.toString();
+				Set<Block> done = new HashSet<>();
+				Deque<Block> workList = new ArrayDeque<>();
+				workList.push(((CodeSignature) sig).getCode());
+				long bytecodes = 0L;
+
+				while (!workList.isEmpty()) {
+					Block block = workList.pop();
+					if (done.add(block)) {
+						for (BytecodeList cursor = block.getBytecode(); cursor != null; cursor = cursor.getTail())
+							bytecodes++;
+
+						for (Block follow: block.getFollows())
+							workList.push(follow);
+					}
+				}
+
+				metrics.count(Metrics.Counter.BLOCKS, className, member, done.size());
+				metrics.count(Metrics.Counter.KITTEN_BYTECODES, className, member, bytecodes);
+			}
 	}
 
 	/**
@@ -96,14 +226,39 @@ public class Program {
 	 */
 
 	public void dumpCodeDot() {
+		dumpCodeDot(null);
+	}
+
+	/**
+	 * Dumps the Kitten code of the signatures in this set into dot files, inside
+	 * the given directory. It is assumed that all these signatures have already
+	 * been translated into Kitten code. Since every signature is dumped in its
+	 * own file, the files are written in parallel.
+	 *
+	 * @param dir the directory where the files must be written. If this is
+	 *            {@code null}, they are written in the current directory
+	 */
+
+	public void dumpCodeDot(File dir) {
+		List<CodeSignature> codes = new ArrayList<>();
 		for (ClassMemberSignature sig: sigs)
 			if (sig instanceof CodeSignature)
-				try {
-					dumpCodeDot((CodeSignature) sig, "./");
-				}
-				catch (IOException e) {
-						System.out.println("Could not dump Kitten code for " + sig);
-				}
+				codes.add((CodeSignature) sig);
+
+		codes.parallelStream().forEach(sig -> {
+			Metrics.Measure measure = context.getMetrics()
+				.begin(Metrics.Phase.DOT_DUMP, sig.getDefiningClass().getName(), sig.toString());
+
+			try {
+				dumpCodeDot(sig, dir);
+			}
+			catch (IOException e) {
+				System.out.println("Could not dump Kitten code for " + sig);
+			}
+			finally {
+				measure.end();
+			}
+		});
 	}
 
 	/**
@@ -115,57 +270,98 @@ public class Program {
 	 * @throws IOException if an input/output error occurs
 	 */
 
-	private void dumpCodeDot(CodeSignature sig, String dir) throws IOException {
-		try (FileWriter dot = new FileWriter(dir + sig + ".dot")) {
+	private void dumpCodeDot(CodeSignature sig, File dir) throws IOException {
+		try (Writer dot = new BufferedWriter(new FileWriter(new File(dir, sig + ".dot")))) {
 			// the name of the graph
 			dot.write("digraph \"" + sig + "\" {\n");
 
 			// the size of a standard A4 sheet (in inches)
 			dot.write("size = \"11,7.5\";\n");
 
-			toDot(sig.getCode(), dot, new HashSet<Block>());
+			toDot(sig.getCode(), dot);
 
 			dot.write("}");
-			dot.flush();
-			//System.out.println(dir + sig + ".dot");
 		}
 	}
 
 	/**
-	 * Auxiliary method which writes in the dot file a box standing for the
-	 * given block, linked to the following blocks, if any.
+	 * Auxiliary method which writes in the dot file a box for each block
+	 * reachable from the given one, linked to its following blocks, if any.
+	 * The graph is visited with an explicit stack, so that huge methods
+	 * do not exhaust the stack of the Java virtual machine.
 	 *
-	 * @param block the block
+	 * @param start the block where the visit starts
 	 * @param where the file where the dot representation must be written
-	 * @param done the set of blocks which have been processed up to now
-	 * @return the identifier of {@code block} in the dot file
 	 * @throws IOException if an input/output error occurs
 	 */
 
-	private String toDot(Block block, FileWriter where, Set<Block> done) throws IOException {
-		String name = block.dotNodeName();
+	private void toDot(Block start, Writer where) throws IOException {
+		Set<Block> done = new HashSet<>();
+		Deque<Block> workList = new ArrayDeque<>();
+		workList.push(start);
+
+		while (!workList.isEmpty()) {
+			Block block = workList.pop();
+
+			// did we already dumped the given block in the file?
+			if (!done.add(block))
+				continue;
 
-		// did we already dumped the given block in the file?
-		if (!done.contains(block)) {
-			// we never dumped the block before: we add it to the set of already dumped blocks
-			done.add(block);
+			String name = block.dotNodeName();
 
 			// we add a box to the dot file
-			where.write(name + " [ shape = box, label = \"block " + block.getId() + "\\n");
+			where.write(name);
+			where.write(" [ shape = box, label = \"block ");
+			where.write(String.valueOf(block.getId()));
+			where.write("\\n");
 
 			// in the middle there is a dump of the bytecode inside the block
-			where.write(block.getBytecode().toString().replaceAll("\n","\\\\n"));
+			writeLabel(block.getBytecode(), where);
 
 			// end of the label of the node
 			where.write("\"];\n");
 
 			// we add a dot representation for the follows of the block
-			for (Block follow: block.getFollows())
-				where.write(name + "->" + toDot(follow, where, done) + " [color = blue label = \"\" fontsize = 8]\n");
+			List<Block> follows = block.getFollows();
+			for (Block follow: follows) {
+				where.write(name);
+				where.write("->");
+				where.write(follow.dotNodeName());
+				where.write(" [color = blue label = \"\" fontsize = 8]\n");
+			}
+
+			// the follows are pushed in reverse order, so that they are visited in order
+			for (int pos = follows.size() - 1; pos >= 0; pos--)
+				workList.push(follows.get(pos));
 		}
+	}
 
-		// we return the unique identifier of the block in the dot file
-		return name;
+	/**
+	 * Writes the given bytecode in the label of a box of a dot file, one
+	 * bytecode per line. Bytecodes are abridged as in {@link BytecodeList#toString()}.
+	 *
+	 * @param bytecode the bytecode
+	 * @param where the file where the label must be written
+	 * @throws IOException if an input/output error occurs
+	 */
+
+	private static void writeLabel(BytecodeList bytecode, Writer where) throws IOException {
+		boolean first = true;
+
+		for (BytecodeList cursor = bytecode; cursor != null; cursor = cursor.getTail()) {
+			String s = cursor.getHead().toString();
+			if (s.length() > 100)
+				s = s.substring(0, 100) + "...";
+
+			// bytecodes yielding the empty string disappear from the print-out
+			if (s.length() > 0 || cursor.getTail() == null) {
+				if (!first)
+					where.write("\\n");
+
+				where.write(s.replace("\n", "\\n"));
+				first = false;
+			}
+		}
 	}
 
 	/**
@@ -174,16 +370,91 @@ public class Program {
 	 */
 
 	public void generateJavaBytecode() {
+		generateJavaBytecode(null);
+	}
+
+	/**
+	 * Generates the Java bytecode for all the class types and
+	 * dumps the relative {@code .class} files inside the given directory.
+	 *
+	 * @param dir the directory where the files must be written. If this is
+	 *            {@code null}, they are written in the current directory
+	 */
+
+	public void generateJavaBytecode(File dir) {
+		generateJavaBytecode(dir, context.getClassTypes());
+	}
+
+	/**
+	 * Generates the Java bytecode for the given class types only and
+	 * dumps the relative {@code .class} files inside the given directory.
+	 *
+	 * @param dir the directory where the files must be written. If this is
+	 *            {@code null}, they are written in the current directory
+	 * @param classes the class types whose Java bytecode must be generated
+	 */
+
+	public void generateJavaBytecode(File dir, Collection<ClassType> classes) {
 		// we consider one class at the time and we generate its Java bytecode
-		for (ClassType clazz: ClassType.getAll())
+		for (ClassType clazz: classes)
 			try {
-				new JavaClassGenerator(clazz, sigs).getJavaClass().dump(clazz + ".class");
+				dump(generate(clazz, false), dir);
 			}
 			catch (IOException e) {
 				System.out.println("Could not dump the Java bytecode for class " + clazz);
 			}
 	}
 
+	/**
+	 * Generates the Java bytecode for the given class type or for its test class.
+	 *
+	 * @param clazz the class type
+	 * @param test true if the test class of {@code clazz} must be generated
+	 * @return the Java class
+	 */
+
+	private JavaClass generate(ClassType clazz, boolean test) {
+		Metrics metrics = context.getMetrics();
+		String className = test ? clazz + "Test" : clazz.getName();
+
+		Metrics.Measure measure = metrics.begin(Metrics.Phase.JAVA_BYTECODE_GENERATION, className);
+		JavaClass result;
+		try {
+			result = (test ? new TestClassGenerator(clazz, sigs) : new JavaClassGenerator(clazz, sigs)).getJavaClass();
+		}
+		finally {
+			measure.end();
+		}
+
+		if (metrics.isEnabled())
+			for (Method method: result.getMethods())
+				if (method.getCode() != null)
+					metrics.count(Metrics.Counter.JVM_INSTRUCTIONS, className, method.getName() + method.getSignature(),
+						new InstructionList(method.getCode().getCode()).getLength());
+
+		return result;
+	}
+
+	/**
+	 * Writes the class file of the given Java class inside the given directory.
+	 *
+	 * @param javaClass the Java class
+	 * @param dir the directory where the file must be written. If this is
+	 *            {@code null}, it is written in the current directory
+	 * @throws IOException if the file cannot be written
+	 */
+
+	private void dump(JavaClass javaClass, File dir) throws IOException {
+		Metrics.Measure measure = context.getMetrics().begin(Metrics.Phase.FILE_WRITE, javaClass.getClassName());
+
+		try {
+			javaClass.dump(new File(dir, javaClass.getClassName() + ".class"));
+		}
+		finally {
+			measure.end();
+		}
+	}
+
 	/**
 	 * Takes note that this program contains the given bytecode. This amounts
 	 * to adding some signature to the set of signatures for the program.
@@ -213,12 +484,38 @@ public class Program {
 	}
 
 	public void generateTestBytecode() {
+		generateTestBytecode(null);
+	}
+
+	/**
+	 * Generates the Java bytecode of the test classes for all the class types
+	 * having tests and dumps the relative {@code .class} files inside the given directory.
+	 *
+	 * @param dir the directory where the files must be written. If this is
+	 *            {@code null}, they are written in the current directory
+	 */
+
+	public void generateTestBytecode(File dir) {
+		generateTestBytecode(dir, context.getClassTypes());
+	}
+
+	/**
+	 * Generates the Java bytecode of the test classes for the given class types
+	 * only, if they have tests, and dumps the relative {@code .class} files
+	 * inside the given directory.
+	 *
+	 * @param dir the directory where the files must be written. If this is
+	 *            {@code null}, they are written in the current directory
+	 * @param classes the class types whose test classes must be generated
+	 */
+
+	public void generateTestBytecode(File dir, Collection<ClassType> classes) {
 		// we consider one class at the time and we generate its Java bytecode
-				for (ClassType clazz: ClassType.getAll()){
+				for (ClassType clazz: classes){
 					//controllo presenza test
 					if(!clazz.getTests().isEmpty()){
 						try {
-							new TestClassGenerator(clazz, sigs).getJavaClass().dump(clazz + "Test.class");
+							dump(generate(clazz, true), dir);
 						}
 						catch (IOException e) {
 							System.out.println("Could not dump the Java bytecode for class " + clazz);
@@ -226,4 +523,76 @@ public class Program {
 					}
 				}	
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Generates the Java bytecode for all the class types and for their test
+	 * classes, in memory. The result contains the run-time support of
+	 * Kitten as well, so that it is a complete Java program.
+	 *
+	 * @return the bytes of the class files, by fully-qualified class name
+	 */
+
+	public Map<String, byte[]> generateClassBytes() {
+		Map<String, byte[]> result = new HashMap<>();
+
+		for (ClassType clazz: context.getClassTypes()) {
+			result.put(clazz.getName(), generate(clazz, false).getBytes());
+
+			if (!clazz.getTests().isEmpty())
+				result.put(clazz + "Test", generate(clazz, true).getBytes());
+		}
+
+		result.put(runTime.String.class.getName(), runTimeBytes());
+
+		return result;
+	}
+
+	/**
+	 * Runs this program inside the running virtual machine, starting from
+	 * its {@code main} method, without writing anything on the file system.
+	 *
+	 * @return the execution, or {@code null} if this program has no {@code main} method
+	 */
+
+	public Execution run() {
+		return start != null ? run(start.getDefiningClass().getName()) : null;
+	}
+
+	/**
+	 * Runs the {@code main} method of the given class of this program inside
+	 * the running virtual machine, without writing anything on the file system.
+	 * The class might also be the test class generated for a class of this program.
+	 *
+	 * @param className the name of the class
+	 * @return the execution
+	 */
+
+	public Execution run(String className) {
+		return Execution.run(generateClassBytes(), className);
+	}
+
+	/**
+	 * Yields the class file of the run-time support of Kitten.
+	 *
+	 * @return the bytes of the class file
+	 */
+
+	private static byte[] runTimeBytes() {
+		InputStream in = runTime.String.class.getResourceAsStream("String.class");
+		if (in == null)
+			throw new IllegalStateException("Cannot find the class file of " + runTime.String.class.getName());
+
+		try (InputStream stream = in) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = stream.read(buffer)) >= 0)
+				out.write(buffer, 0, read);
+
+			return out.toByteArray();
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Cannot read the class file of " + runTime.String.class.getName(), e);
+		}
+	}
+}
@@ -1,8 +1,5 @@
 package types;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * A (mono-dimensional) array type of the Kitten language.
  *
@@ -12,13 +9,10 @@ import java.util.Map;
 public class ArrayType extends ReferenceType {
 
 	/**
-	 * A map from elements type to the unique array type for that elements type.
-	 * It is used in order to avoid duplication of array types for
-	 * the same elements type. In this way, comparison of array types
-	 * can be performed through simple == tests.
+	 * The compilation this array type belongs to.
 	 */
 
-	private final static Map<Type, ArrayType> memory = new HashMap<>();
+	private final CompilationContext context;
 
 	/**
 	 * The type of the elements of the array.
@@ -29,43 +23,45 @@ public class ArrayType extends ReferenceType {
 	/**
 	 * Builds an array type for the given type of elements.
 	 *
+	 * @param context the compilation the array type belongs to
 	 * @param elementsType the type of the elements of the array
 	 */
 
-	private ArrayType(Type elementsType) {
+	private ArrayType(CompilationContext context, Type elementsType) {
+		this.context = context;
 		this.elementsType = elementsType;
 	}
 
 	/**
 	 * Returns the unique {@code ArrayType} object with the given elements type.
+	 * Array types are unique inside their compilation, so that their
+	 * comparison can be performed through simple == tests.
 	 *
+	 * @param context the compilation the array type belongs to
 	 * @param elementsType the type of the elements of the array
 	 * @return the unique type
 	 */
 
-	public static ArrayType mk(Type elementsType) {
-		ArrayType result = memory.get(elementsType);
-		if (result == null)
-			memory.put(elementsType, result = new ArrayType(elementsType));
-
-		return result;
+	public static ArrayType mk(CompilationContext context, Type elementsType) {
+		return context.arrayTypes.computeIfAbsent(elementsType, type -> new ArrayType(context, type));
 	}
 
 	/**
 	 * Returns the unique {@code ArrayType} object for the given elements
 	 * type and dimensions.
 	 *
+	 * @param context the compilation the array type belongs to
 	 * @param elementsType the type of the elements of the array
 	 * @param dimensions the number of dimensions
 	 * @return the unique {@code ArrayType} with elements of type
 	 *         {@code elementsType} and dimensions {@code dimensions}
 	 */
 
-	public static ArrayType mk(Type elementsType, int dimensions) {
+	public static ArrayType mk(CompilationContext context, Type elementsType, int dimensions) {
 		if (dimensions == 1)
-			return mk(elementsType);
+			return mk(context, elementsType);
 		else
-			return ArrayType.mk(ArrayType.mk(elementsType,dimensions - 1));
+			return ArrayType.mk(context, ArrayType.mk(context, elementsType, dimensions - 1));
 	}
 
 	/**
@@ -100,7 +96,7 @@ public class ArrayType extends ReferenceType {
 		if (other instanceof ArrayType)
 			return elementsType.canBeAssignedToSpecial(((ArrayType) other).elementsType);
 		else
-			return other == getObjectType();
+			return other == context.getObjectType();
 	}
 
 	/**
@@ -130,16 +126,16 @@ public class ArrayType extends ReferenceType {
 	public Type leastCommonSupertype(Type other) {
 		// between array and class, the least common supertype is Object
 		if (other instanceof ClassType)
-			return getObjectType();
+			return context.getObjectType();
 		else if (other instanceof ArrayType)
 			// an array of primitive types can only be compared with itself.
 			// Otherwise, the least common supertype is Object
 			if (elementsType instanceof PrimitiveType)
-				return this == other ? this : getObjectType();
+				return this == other ? this : context.getObjectType();
 			else {
 				Type lcs = elementsType.leastCommonSupertype(((ArrayType) other).elementsType);
 
-				return lcs == null ? getObjectType() : mk(lcs);
+				return lcs == null ? context.getObjectType() : mk(context, lcs);
 			}
 
 		// the least common supertype of an array and null or an UnusedType is the array
@@ -0,0 +1,608 @@
+package types;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lexical.Lexer;
+import metrics.Metrics;
+import syntactical.IncrementalParser;
+import syntactical.Parser;
+import absyn.ClassDefinition;
+import errorMsg.ErrorMsg;
+
+/**
+ * A scheduler that loads a class and all classes referenced from it,
+ * by exploiting parallelism. It first discovers the referenced classes
+ * and lexes and parses them in parallel, each exactly once. Then it builds
+ * their class types and finally type-checks them in parallel, once all
+ * signatures are available. Diagnostics are deferred and reported
+ * at the end, in an order that does not depend on thread scheduling.
+ */
+
+public class ClassLoadingScheduler {
+
+	/**
+	 * The compilation whose classes are loaded by this scheduler.
+	 */
+
+	private final CompilationContext context;
+
+	/**
+	 * The pool of threads used for parsing and type-checking.
+	 */
+
+	private final ForkJoinPool pool;
+
+	/**
+	 * The once-only parsing tasks, one per class name.
+	 */
+
+	private final ConcurrentMap<String, ParseTask> tasks = new ConcurrentHashMap<>();
+
+	/**
+	 * The cache of the classes parsed by previous schedulers, if any.
+	 */
+
+	private final Cache cache;
+
+	/**
+	 * Builds a scheduler that uses as many threads as available processors.
+	 *
+	 * @param context the compilation whose classes are loaded
+	 */
+
+	public ClassLoadingScheduler(CompilationContext context) {
+		this(context, Runtime.getRuntime().availableProcessors(), null);
+	}
+
+	/**
+	 * Builds a scheduler that uses the given number of threads.
+	 *
+	 * @param context the compilation whose classes are loaded
+	 * @param parallelism the number of threads
+	 * @param cache the cache of the classes parsed by previous schedulers. Classes
+	 *              whose source did not change are taken from this cache instead of
+	 *              being parsed again. This might be {@code null}
+	 */
+
+	public ClassLoadingScheduler(CompilationContext context, int parallelism, Cache cache) {
+		this.context = context;
+		this.pool = new ForkJoinPool(parallelism);
+		this.cache = cache;
+	}
+
+	/**
+	 * Yields the type-checked class type for the given file name, together with
+	 * all classes referenced from it. This is the parallel counterpart of
+	 * {@link ClassType#mkFromFileName(CompilationContext, String)}.
+	 *
+	 * @param fileName the name of the file of the class, possibly including the
+	 *                 <tt>.kit</tt> termination
+	 * @return the unique Kitten class type object for the (type-checked)
+	 *         class with the given name
+	 */
+
+	public ClassType load(String fileName) {
+		return load(Collections.singletonList(fileName)).get(0);
+	}
+
+	/**
+	 * Yields the type-checked class types for the given file names, together
+	 * with all classes referenced from them. Classes referenced from more than
+	 * one of them are lexed, parsed and type-checked only once.
+	 *
+	 * @param fileNames the names of the files of the classes, possibly including the
+	 *                  <tt>.kit</tt> termination
+	 * @return the unique Kitten class type objects for the (type-checked)
+	 *         classes with the given names, in the same order
+	 */
+
+	public List<ClassType> load(List<String> fileNames) {
+		List<String> names = new ArrayList<>();
+		for (String fileName: fileNames)
+			names.add(fileName.endsWith(".kit") ? fileName.substring(0, fileName.length() - 4) : fileName);
+
+		try {
+			// we lex and parse the classes and all those reachable from them
+			List<ParseTask> roots = new ArrayList<>();
+			for (String name: names) {
+				// the classes compiled explicitly are always parsed eagerly
+				ParseTask task = schedule(name, false);
+				if (task != null)
+					roots.add(task);
+			}
+
+			pool.invoke(new RecursiveAction() {
+
+				@Override
+				protected void compute() {
+					invokeAll(roots);
+				}
+			});
+
+			// we build the class types, in a deterministic order
+			List<String> order = discoveryOrder(names);
+			context.scheduler = this;
+			List<ClassType> result = new ArrayList<>();
+
+			try {
+				for (String name: names)
+					result.add(ClassType.mk(context, name));
+
+				for (String other: order)
+					ClassType.mk(context, other);
+			}
+			finally {
+				context.scheduler = null;
+			}
+
+			// we type-check all class types, in parallel
+			List<ForkJoinTask<?>> checks = new ArrayList<>();
+			for (ClassType clazz: context.getClassTypes())
+				checks.add(pool.submit(clazz::typeCheck));
+
+			for (ForkJoinTask<?> check: checks)
+				check.join();
+
+			// we report the diagnostics, class by class
+			for (String other: order) {
+				ParsedClass parsed = getParsed(other);
+				if (parsed != null)
+					parsed.getErrorMsg().flushMessages();
+			}
+
+			return result;
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Yields the parsed class with the given name, if it has been
+	 * parsed by this scheduler.
+	 *
+	 * @param name the name of the class
+	 * @return the parsed class, or {@code null} if it has not been parsed
+	 */
+
+	ParsedClass getParsed(String name) {
+		ParseTask task = tasks.get(name);
+		return task != null && task.errorMsg != null ? task : null;
+	}
+
+	/**
+	 * Yields the parsing task for the given class, if it has not been scheduled yet.
+	 *
+	 * @param name the name of the class
+	 * @param lazy true if and only if the bodies of the methods and
+	 *             constructors of the class must be parsed lazily
+	 * @return the task, or {@code null} if it was already scheduled
+	 */
+
+	private ParseTask schedule(String name, boolean lazy) {
+		ParseTask task = new ParseTask(name, lazy);
+		return tasks.putIfAbsent(name, task) == null ? task : null;
+	}
+
+	/**
+	 * Yields the names of the classes reachable from the given ones, in depth-first
+	 * order of reference. This only depends on the source code of the classes.
+	 *
+	 * @param names the names of the starting classes
+	 * @return the names of the reachable classes
+	 */
+
+	private List<String> discoveryOrder(List<String> names) {
+		List<String> order = new ArrayList<>();
+		Set<String> seen = new HashSet<>();
+		List<String> stack = new ArrayList<>();
+		for (int pos = names.size() - 1; pos >= 0; pos--)
+			stack.add(names.get(pos));
+
+		while (!stack.isEmpty()) {
+			String current = stack.remove(stack.size() - 1);
+			ParseTask task = tasks.get(current);
+
+			if (task != null && seen.add(current)) {
+				order.add(current);
+
+				// we push in reverse order, so that the first reference is visited first
+				List<String> referenced = new ArrayList<>(task.referenced);
+				for (int pos = referenced.size() - 1; pos >= 0; pos--)
+					stack.add(referenced.get(pos));
+			}
+		}
+
+		return order;
+	}
+
+	/**
+	 * A cache of parsed classes that can be shared by the schedulers of
+	 * subsequent compilations. A class is taken from the cache only if its
+	 * source file has not been modified since it was parsed. If it has been
+	 * modified inside the body of a single constructor, method, test or fixture,
+	 * only that body is parsed again, if possible (see {@link IncrementalParser}).
+	 * Classes that contain syntax errors are never cached. Since type-checking
+	 * annotates the abstract syntax, a cache must not be shared by
+	 * compilations that run at the same time.
+	 */
+
+	public static class Cache {
+
+		/**
+		 * The cached classes, one per source file.
+		 */
+
+		private final ConcurrentMap<File, Entry> entries = new ConcurrentHashMap<>();
+
+		/**
+		 * True if and only if the bodies that contain the edits
+		 * of the source files are parsed alone.
+		 */
+
+		private final boolean reparseBodies;
+
+		/**
+		 * The number of times that a class has been brought up
+		 * to date by parsing again a single body.
+		 */
+
+		private final AtomicInteger reparsedBodies = new AtomicInteger();
+
+		/**
+		 * Builds an empty cache, that parses again only the bodies
+		 * that contain the edits of the source files, if possible.
+		 */
+
+		public Cache() {
+			this(true);
+		}
+
+		/**
+		 * Builds an empty cache.
+		 *
+		 * @param reparseBodies true if and only if, when possible, only the bodies
+		 *                      that contain the edits of the source files must be parsed
+		 *                      again, rather than the whole source files
+		 */
+
+		public Cache(boolean reparseBodies) {
+			this.reparseBodies = reparseBodies;
+		}
+
+		/**
+		 * Yields the number of times that a class has been brought up to date
+		 * by parsing again only the body that contains the edit of its source file.
+		 *
+		 * @return the number of times
+		 */
+
+		public int getReparsedBodies() {
+			return reparsedBodies.get();
+		}
+
+		/**
+		 * Yields the number of classes in this cache.
+		 *
+		 * @return the number of classes
+		 */
+
+		public int size() {
+			return entries.size();
+		}
+
+		/**
+		 * Forgets all classes in this cache.
+		 */
+
+		public void clear() {
+			entries.clear();
+		}
+
+		/**
+		 * A class in the cache.
+		 */
+
+		private static class Entry {
+
+			/**
+			 * The abstract syntax of the class.
+			 */
+
+			private final ClassDefinition abstractSyntax;
+
+			/**
+			 * The error reporting utility used when the class was parsed.
+			 */
+
+			private final ErrorMsg errorMsg;
+
+			/**
+			 * The names of the classes referenced from the class.
+			 */
+
+			private final Set<String> referenced;
+
+			/**
+			 * True if and only if the bodies of the methods and constructors
+			 * of the class have been parsed lazily.
+			 */
+
+			private final boolean lazy;
+
+			/**
+			 * The characters of the source file, when it was parsed. This is
+			 * {@code null} if no body of the class can be parsed again alone.
+			 */
+
+			private final char[] source;
+
+			/**
+			 * The last modification time of the source file, when it was parsed.
+			 */
+
+			private final long lastModified;
+
+			/**
+			 * The length of the source file, when it was parsed.
+			 */
+
+			private final long length;
+
+			private Entry(ClassDefinition abstractSyntax, ErrorMsg errorMsg, Set<String> referenced, boolean lazy, char[] source, File file) {
+				this.abstractSyntax = abstractSyntax;
+				this.errorMsg = errorMsg;
+				this.referenced = referenced;
+				this.lazy = lazy;
+				this.source = source;
+				this.lastModified = file.lastModified();
+				this.length = file.length();
+			}
+
+			/**
+			 * Determines if the given file has not been modified since this entry was created.
+			 *
+			 * @param file the source file of the class
+			 * @return true if and only if the file has not been modified
+			 */
+
+			private boolean isUpToDate(File file) {
+				return lastModified == file.lastModified() && length == file.length();
+			}
+		}
+	}
+
+	/**
+	 * The result of the parsing of a class.
+	 */
+
+	public interface ParsedClass {
+
+		/**
+		 * Yields the error reporting utility of the class. Its messages are deferred.
+		 *
+		 * @return the error reporting utility
+		 */
+
+		ErrorMsg getErrorMsg();
+
+		/**
+		 * Yields the abstract syntax of the class.
+		 *
+		 * @return the abstract syntax, or {@code null} if the class could not be parsed
+		 */
+
+		ClassDefinition getAbstractSyntax();
+
+		/**
+		 * Yields the names of the classes referenced from the class.
+		 *
+		 * @return the names of the classes
+		 */
+
+		Set<String> getReferencedClasses();
+	}
+
+	/**
+	 * A task that lexes and parses a class and then schedules
+	 * the parsing of the classes it refers to.
+	 */
+
+	@SuppressWarnings("serial")
+	private class ParseTask extends RecursiveAction implements ParsedClass {
+
+		/**
+		 * The name of the class.
+		 */
+
+		private final String name;
+
+		/**
+		 * The error reporting utility of the class. This is {@code null}
+		 * if the source of the class could not be found.
+		 */
+
+		private ErrorMsg errorMsg;
+
+		/**
+		 * The abstract syntax of the class, if it was successfully parsed.
+		 */
+
+		private ClassDefinition abstractSyntax;
+
+		/**
+		 * The names of the classes referenced from the class.
+		 */
+
+		private Set<String> referenced = Collections.emptySet();
+
+		/**
+		 * True if and only if the bodies of the methods and constructors
+		 * of the class are parsed lazily.
+		 */
+
+		private final boolean lazy;
+
+		private ParseTask(String name, boolean lazy) {
+			this.name = name;
+			this.lazy = lazy;
+		}
+
+		@Override
+		public ErrorMsg getErrorMsg() {
+			return errorMsg;
+		}
+
+		@Override
+		public ClassDefinition getAbstractSyntax() {
+			return abstractSyntax;
+		}
+
+		@Override
+		public Set<String> getReferencedClasses() {
+			return referenced;
+		}
+
+		@Override
+		protected void compute() {
+			// a missing class is left to the sequential construction
+			// of its class type, that will report the error
+			File file = new File(context.getSourceDirectory(), name + ".kit");
+			if (!file.isFile())
+				return;
+
+			Cache.Entry cached = cache != null ? cache.entries.get(file) : null;
+			// a lazily parsed class is not reused when eager parsing is required
+			if (cached != null && cached.isUpToDate(file) && (lazy || !cached.lazy)) {
+				// the source did not change: we reuse its abstract syntax
+				abstractSyntax = cached.abstractSyntax;
+				referenced = cached.referenced;
+				errorMsg = new ErrorMsg(cached.errorMsg);
+				errorMsg.deferMessages();
+			}
+			else if (cached != null && cache.reparseBodies && !cached.lazy && reparse(file, cached)) {
+				// only the edited body has been parsed again
+			}
+			else if (!parse(file))
+				return;
+
+			// we parse the referenced classes in parallel
+			List<ParseTask> subtasks = new ArrayList<>();
+			for (String other: referenced) {
+				ParseTask subtask = schedule(other, context.hasLazyBodies());
+				if (subtask != null)
+					subtasks.add(subtask);
+			}
+
+			invokeAll(subtasks);
+		}
+
+		/**
+		 * Brings the cached abstract syntax of the class up to date with the
+		 * edit of its source file, by parsing again only the edited body.
+		 *
+		 * @param file the source file of the class
+		 * @param cached the cached class, parsed eagerly before the edit
+		 * @return true if and only if this was possible
+		 */
+
+		private boolean reparse(File file, Cache.Entry cached) {
+			char[] source;
+			try {
+				source = Lexer.readSource(file);
+			}
+			catch (java.io.IOException e) {
+				// the error will be reported by parsing the whole file
+				return false;
+			}
+
+			Metrics.Measure measure = context.getMetrics().begin(Metrics.Phase.PARSE, name);
+			ErrorMsg errorMsg;
+			try {
+				errorMsg = IncrementalParser.reparse(cached.abstractSyntax, cached.errorMsg,
+					context.getLexerKind(), context.getParserKind(), cached.source, source);
+			}
+			finally {
+				measure.end();
+			}
+
+			if (errorMsg == null)
+				return false;
+
+			cache.entries.put(file, new Cache.Entry(cached.abstractSyntax, errorMsg, cached.referenced, false, source, file));
+			cache.reparsedBodies.incrementAndGet();
+
+			abstractSyntax = cached.abstractSyntax;
+			referenced = cached.referenced;
+			this.errorMsg = new ErrorMsg(errorMsg);
+			this.errorMsg.deferMessages();
+
+			return true;
+		}
+
+		/**
+		 * Lexes and parses the source of the class and caches the result, if correct.
+		 *
+		 * @param file the source file of the class
+		 * @return true if and only if the source file could be opened
+		 */
+
+		private boolean parse(File file) {
+			Parser parser;
+			try {
+				parser = context.getParserKind().mk(context.getLexerKind().mk(context.getSourceDirectory(), name));
+			}
+			catch (java.io.FileNotFoundException e) {
+				return false;
+			}
+
+			ErrorMsg errorMsg = parser.getErrorMsg();
+			errorMsg.deferMessages();
+
+			if (lazy)
+				parser.parseBodiesLazily();
+
+			Metrics metrics = context.getMetrics();
+			Metrics.Measure measure = metrics.begin(Metrics.Phase.PARSE, name);
+
+			try {
+				abstractSyntax = (ClassDefinition) parser.parse().value;
+				referenced = parser.getReferencedClasses();
+			}
+			catch (Exception e) {
+				// the class type will be fictitious, hence it refers to no other class
+			}
+			finally {
+				// the lexer is run on demand by the parser, hence we separate its time
+				measure.endExcluding(parser.getLexingTime());
+				metrics.record(Metrics.Phase.LEX, name, null, parser.getLexingTime(), 0L);
+			}
+
+			if (metrics.isEnabled())
+				metrics.count(Metrics.Counter.AST_NODES, name, null, Metrics.countNodes(abstractSyntax));
+
+			this.errorMsg = errorMsg;
+
+			if (cache != null)
+				if (abstractSyntax != null && !errorMsg.anyErrors())
+					// the source is kept only if it might be needed to parse a single body again
+					cache.entries.put(file, new Cache.Entry(abstractSyntax, errorMsg, referenced, lazy,
+						cache.reparseBodies && !lazy ? parser.getSource() : null, file));
+				else
+					cache.entries.remove(file);
+
+			return true;
+		}
+	}
+}
@@ -1,16 +1,24 @@
 package types;
 
+import java.io.BufferedWriter;
+import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-import lexical.Lexer;
+import metrics.Metrics;
 import syntactical.Parser;
 import translation.Program;
 import absyn.ClassDefinition;
@@ -24,6 +32,12 @@ import errorMsg.ErrorMsg;
 
 public final class ClassType extends ReferenceType {
 
+	/**
+	 * The compilation this class belongs to.
+	 */
+
+	private final CompilationContext context;
+
 	/**
 	 * The name of this class.
 	 */
@@ -37,7 +51,19 @@ public final class ClassType extends ReferenceType {
 	private final ClassType superclass;
 
 	/**
-	 * The direct subclasses of this class, if any.
+	 * The display of this class: the element at index {@code i} is the
+	 * superclass of this class at depth {@code i} in the hierarchy, where
+	 * {@code Object} has depth 0 and this class is the last element. A class
+	 * is a subclass of another if and only if the latter occurs in the display
+	 * of the former, at the index given by its depth. This is {@code null}
+	 * until it is first required.
+	 */
+
+	private volatile ClassType[] display;
+
+	/**
+	 * The direct subclasses of this class, if any. Subclasses are
+	 * rarely added, but the list might be read from many threads.
 	 */
 
 	private final List<ClassType> subclasses;
@@ -66,11 +92,27 @@ public final class ClassType extends ReferenceType {
 	 */
 
 	private final Map<String, Set<MethodSignature>> methods = new HashMap<>();
+
+	/**
+	 * The dispatch table of this class. It is built at the first lookup and
+	 * it is {@code null} before. Since the table of a class shares the lists
+	 * of methods of the table of its superclass, it is rebuilt at the first
+	 * lookup after a method has been added to any class of the context.
+	 */
+
+	private volatile DispatchTable dispatchTable;
+
+	/**
+	 * A memo of the results of {@link #constructorsLookup(TypeList)},
+	 * from the types of the actual parameters.
+	 */
+
+	private final ConcurrentMap<TypeList, Set<ConstructorSignature>> resolvedConstructors = new ConcurrentHashMap<>();
 	
 	
-	private final Set<TestSignature> tests = new HashSet<>();
+	private final Set<TestSignature> tests = new LinkedHashSet<>();
 	
-	private final Set<FixtureSignature> fixtures = new HashSet<>();
+	private final Set<FixtureSignature> fixtures = new LinkedHashSet<>();
 	
 	/**
 	 * The utility for issuing errors about this class.
@@ -78,6 +120,12 @@ public final class ClassType extends ReferenceType {
 	
 	private ErrorMsg errorMsg;
 
+	/**
+	 * The names of the classes referenced in the source code of this class.
+	 */
+
+	private Set<String> referencedClasses = Collections.emptySet();
+
 	/**
 	 * The abstract syntax of this class.
 	 */
@@ -95,18 +143,21 @@ public final class ClassType extends ReferenceType {
 	 * cannot be found or contains a syntactical error, a fictitious class
 	 * with no fields, no constructors and no methods is created.
 	 *
+	 * @param context the compilation the class belongs to
 	 * @param name the name of the class
 	 */
 	
-	private ClassType(String name) {
-		// we record its name
+	private ClassType(CompilationContext context, String name) {
+		// we record its compilation and its name
+		this.context = context;
 		this.name = name;
 	
 		// there are no subclasses at the moment
-		this.subclasses = new ArrayList<>();
+		this.subclasses = new CopyOnWriteArrayList<>();
 	
-		// we record this object for future lookup
-		memory.put(name, this);
+		// we record this object for future lookup. It becomes visible
+		// to other threads only when its construction is complete
+		context.underConstruction.put(name, this);
 	
 		// we have not type-checked this class yet
 		this.typeChecked = false;
@@ -117,9 +168,41 @@ public final class ClassType extends ReferenceType {
 		// we perform lexical and syntactical analysis. The result is
 		// the abstract syntax of this class definition
 		try {
-			Parser parser = new Parser(new Lexer(name));
-			errorMsg = parser.getErrorMsg();
-			abstractSyntax = (ClassDefinition) parser.parse().value;
+			ClassLoadingScheduler scheduler = context.scheduler;
+			ClassLoadingScheduler.ParsedClass parsed;
+
+			if (scheduler != null && (parsed = scheduler.getParsed(name)) != null) {
+				// the class has been already parsed in parallel
+				errorMsg = parsed.getErrorMsg();
+				abstractSyntax = parsed.getAbstractSyntax();
+				if (abstractSyntax == null)
+					throw new Exception("syntax error in " + name);
+
+				referencedClasses = parsed.getReferencedClasses();
+			}
+			else {
+				Parser parser = context.getParserKind().mk(context.getLexerKind().mk(context.getSourceDirectory(), name));
+				errorMsg = parser.getErrorMsg();
+				if (context.hasLazyBodies())
+					parser.parseBodiesLazily();
+
+				Metrics metrics = context.getMetrics();
+				Metrics.Measure measure = metrics.begin(Metrics.Phase.PARSE, name);
+				try {
+					abstractSyntax = (ClassDefinition) parser.parse().value;
+				}
+				finally {
+					// the lexer is run on demand by the parser, hence we separate its time
+					measure.endExcluding(parser.getLexingTime());
+					metrics.record(Metrics.Phase.LEX, name, null, parser.getLexingTime(), 0L);
+				}
+
+				if (metrics.isEnabled())
+					metrics.count(Metrics.Counter.AST_NODES, name, null, Metrics.countNodes(abstractSyntax));
+
+				referencedClasses = parser.getReferencedClasses();
+			}
+
 			// we add the fields, constructors and methods of this class
 			abstractSyntax.addMembersTo(this);
 		}
@@ -128,18 +211,18 @@ public final class ClassType extends ReferenceType {
 			// cannot be found on the file system or cannot be type-checked:
 			// we build a fictitious syntax for the class, so that the processing can go on
 			if (name.equals("Object"))
-				abstractSyntax = new ClassDefinition(0, name, null, null);
+				abstractSyntax = new ClassDefinition(0, name, null, Collections.emptyList());
 			else
-				abstractSyntax = new ClassDefinition(0, name, "Object", null);
+				abstractSyntax = new ClassDefinition(0, name, "Object", Collections.emptyList());
 		}
 	
 		if (!name.equals("Object"))
 			// if this is not Object, we create its superclass also and take
 			// note that we are a direct subclass of our superclass
-			(superclass = mk(abstractSyntax.getSuperclassName())).subclasses.add(this);
+			(superclass = mk(context, abstractSyntax.getSuperclassName())).subclasses.add(this);
 		else {
 			// otherwise we take note of the top of the hierarchy of the reference types
-			setObjectType(this);
+			context.setObjectType(this);
 			superclass = null;
 		}
 
@@ -147,6 +230,16 @@ public final class ClassType extends ReferenceType {
 		this.superclass = superclass;
 	}
 
+	/**
+	 * Yields the compilation this class type belongs to.
+	 *
+	 * @return the compilation
+	 */
+
+	public CompilationContext getContext() {
+		return context;
+	}
+
 	/**
 	 * Yields the superclass of this class type, if any.
 	 *
@@ -157,6 +250,16 @@ public final class ClassType extends ReferenceType {
 		return superclass;
 	}
 
+	/**
+	 * Yields the names of the classes referenced in the source code of this class.
+	 *
+	 * @return the names of the classes. This is empty if this class is fictitious
+	 */
+
+	public Set<String> getReferencedClasses() {
+		return referencedClasses;
+	}
+
 	/**
 	 * Yields the direct subclasses of this class.
 	 *
@@ -205,7 +308,38 @@ public final class ClassType extends ReferenceType {
 	 */
 
 	public boolean subclass(ClassType other) {
-		return this == other || (superclass != null && superclass.subclass(other));
+		if (this == other)
+			return true;
+
+		ClassType[] display = getDisplay();
+		int depth = other.getDisplay().length - 1;
+
+		return depth < display.length && display[depth] == other;
+	}
+
+	/**
+	 * Yields the display of this class, computing it if needed.
+	 * The superclasses of a class are fixed when it is built, hence
+	 * the display never changes afterwards.
+	 *
+	 * @return the display of this class
+	 */
+
+	private ClassType[] getDisplay() {
+		ClassType[] result = display;
+		if (result != null)
+			return result;
+
+		int depth = 0;
+		for (ClassType cursor = superclass; cursor != null; cursor = cursor.superclass)
+			depth++;
+
+		result = new ClassType[depth + 1];
+		ClassType cursor = this;
+		for (int pos = depth; pos >= 0; pos--, cursor = cursor.superclass)
+			result[pos] = cursor;
+
+		return display = result;
 	}
 
 	/**
@@ -230,15 +364,16 @@ public final class ClassType extends ReferenceType {
 	public Type leastCommonSupertype(Type other) {
 		// between a class type and an array type, the least common supertype is Object
 		if (other instanceof ArrayType)
-			return getObjectType();
+			return context.getObjectType();
 		else if (other instanceof ClassType) {
-			// we look in our superclasses for a superclass of other
-			for (ClassType cursor = this; cursor != null; cursor = cursor.getSuperclass())
-				if (other.canBeAssignedTo(cursor))
-					return cursor;
+			// the displays of the two classes coincide up to their least common superclass
+			ClassType[] display = getDisplay(), otherDisplay = ((ClassType) other).getDisplay();
+			for (int depth = Math.min(display.length, otherDisplay.length) - 1; depth >= 0; depth--)
+				if (display[depth] == otherDisplay[depth])
+					return display[depth];
 
 			// last chance, always valid
-			return getObjectType();
+			return context.getObjectType();
 		}
 		// the supertype of a class type and null or an unused type is the class itself
 		else if (other == NilType.INSTANCE || other == UnusedType.INSTANCE)
@@ -295,6 +430,9 @@ public final class ClassType extends ReferenceType {
 
 	public final void addConstructor(ConstructorSignature sig) {
 		constructors.add(sig);
+
+		// previous resolutions might be stale now
+		resolvedConstructors.clear();
 	}
 
 	/**
@@ -313,6 +451,9 @@ public final class ClassType extends ReferenceType {
 
 		// we add this new method
 		set.add(sig);
+
+		// previous resolutions might be stale now, in this class and in its subclasses
+		context.methodAdded();
 	}
 	
 	public final void addFixture(FixtureSignature fs){
@@ -386,9 +527,14 @@ public final class ClassType extends ReferenceType {
 	 */
 
 	public final Set<ConstructorSignature> constructorsLookup(TypeList formals) {
-		// we return the most specific constructors amongst those available
-		// for this class and whose formal parameters are compatible with formals
-		return mostSpecific(constructors, formals);
+		Set<ConstructorSignature> result = resolvedConstructors.get(formals);
+
+		if (result == null)
+			// we compute the most specific constructors amongst those available
+			// for this class and whose formal parameters are compatible with formals
+			resolvedConstructors.putIfAbsent(formals, result = Collections.unmodifiableSet(mostSpecific(constructors, formals)));
+
+		return result;
 	}
 
 	/**
@@ -424,17 +570,18 @@ public final class ClassType extends ReferenceType {
 	 */
 
 	public final MethodSignature methodLookup(String name, TypeList formals) {
-		// we check all methods in this signature having the given name
-		Set<MethodSignature> candidates = methods.get(name);
-		if (candidates != null)
-			for (MethodSignature method: candidates)
-				// we check if they have the same parameters types
-				if (method.getParameters().equals(formals))
-					// found!
-					return method;
+		// no method has null as parameters types
+		if (formals == null)
+			return null;
 
-		// otherwise, we look up in the superclass, if any
-		return superclass == null ? null : superclass.methodLookup(name, formals);
+		// we check all methods in the dispatch table having the given name and
+		// number of parameters: at most one of them has the same parameters types
+		for (MethodSignature method: getDispatchTable().candidates(name, formals))
+			if (method.getParameters().equals(formals))
+				// found!
+				return method;
+
+		return null;
 	}
 
 	public final TestSignature testLookup(String name){
@@ -468,41 +615,143 @@ public final class ClassType extends ReferenceType {
 	 */
 
 	public final Set<MethodSignature> methodsLookup(String name, TypeList formals) {
-		// the set of candidates is initially the set of all methods
-		// called name and defined in this class
-		Set<MethodSignature> candidates = methods.get(name);
-		if (candidates == null) candidates = new HashSet<>();
+		DispatchTable table = getDispatchTable();
+		ConcurrentMap<TypeList, Set<MethodSignature>> memo = table.resolved.get(name);
+		if (memo == null) {
+			table.resolved.putIfAbsent(name, new ConcurrentHashMap<>());
+			memo = table.resolved.get(name);
+		}
+
+		Set<MethodSignature> result = memo.get(formals);
+		if (result == null)
+			// we compute the most specific methods amongst those called name,
+			// defined or inherited by this class, and whose formal parameters
+			// are compatible with formals
+			memo.putIfAbsent(formals, result = Collections.unmodifiableSet(mostSpecific(table.candidates(name, formals), formals)));
+
+		return result;
+	}
+
+	/**
+	 * Yields the dispatch table of this class, building it if it has not
+	 * been built yet or if methods have been added to the classes of the
+	 * context since it was built. It contains the methods of this class and
+	 * those in the dispatch table of the superclass, if any, but for those
+	 * overridden in this class.
+	 *
+	 * @return the dispatch table
+	 */
 
-		if (superclass != null) {
-			// if this class extends another class, we consider all possible
-			// candidate targets in the superclass, so that we allow method inheritance
-			Set<MethodSignature> superCandidates = superclass.methodsLookup(name,formals);
+	private DispatchTable getDispatchTable() {
+		// the generation is read before the methods, so that a table built
+		// while methods are being added is considered stale
+		int generation = context.getMethodsGeneration();
+		DispatchTable table = dispatchTable;
+		if (table != null && table.generation == generation)
+			return table;
 
-			// we remove from the inherited candidates those which are
-			// redefined in this class, in order to model method overriding
-			Set<MethodSignature> toBeRemoved = new HashSet<>();
+		Map<String, Map<Integer, List<MethodSignature>>> result = new HashMap<>();
 
-			TypeList sigFormals, sig2Formals;
-			for (MethodSignature sig: superCandidates) {
-				sigFormals = sig.getParameters();
+		// we first add the methods defined in this class
+		for (Map.Entry<String, Set<MethodSignature>> entry: methods.entrySet()) {
+			Map<Integer, List<MethodSignature>> byArity = new HashMap<>();
+			for (MethodSignature method: entry.getValue())
+				byArity.computeIfAbsent(method.getParameters().getSize(), arity -> new ArrayList<>()).add(method);
 
-				for (MethodSignature sig2: candidates) {
-					sig2Formals = sig2.getParameters();
+			result.put(entry.getKey(), byArity);
+		}
 
-					if (sigFormals.equals(sig2Formals))
-						toBeRemoved.add(sig);
-				}
+		if (superclass != null)
+			// we add the inherited methods, unless a method of this class
+			// has the same parameters types, in order to model method overriding
+			for (Map.Entry<String, Map<Integer, List<MethodSignature>>> entry: superclass.getDispatchTable().methods.entrySet()) {
+				Set<MethodSignature> own = methods.get(entry.getKey());
+				Map<Integer, List<MethodSignature>> byArity = result.get(entry.getKey());
+
+				if (byArity == null)
+					// nothing is overridden: the table of the superclass can be shared
+					result.put(entry.getKey(), entry.getValue());
+				else
+					for (Map.Entry<Integer, List<MethodSignature>> inherited: entry.getValue().entrySet()) {
+						List<MethodSignature> sameArity = byArity.get(inherited.getKey());
+						if (sameArity == null)
+							byArity.put(inherited.getKey(), inherited.getValue());
+						else
+							for (MethodSignature method: inherited.getValue())
+								if (!overridden(method, own))
+									sameArity.add(method);
+					}
 			}
 
-			superCandidates.removeAll(toBeRemoved);
+		return dispatchTable = new DispatchTable(generation, result);
+	}
+
+	/**
+	 * The dispatch table of a class, with the memo of the lookups performed
+	 * through it.
+	 */
+
+	private final static class DispatchTable {
+
+		/**
+		 * The generation of the methods of the context when this table was built.
+		 */
+
+		private final int generation;
+
+		/**
+		 * A map from method symbols, and then numbers of parameters, to the signatures
+		 * of the methods of the class and of those inherited and not overridden.
+		 */
+
+		private final Map<String, Map<Integer, List<MethodSignature>>> methods;
+
+		/**
+		 * A memo of the results of {@link ClassType#methodsLookup(String, TypeList)},
+		 * from method symbols and types of the actual parameters.
+		 */
+
+		private final ConcurrentMap<String, ConcurrentMap<TypeList, Set<MethodSignature>>> resolved = new ConcurrentHashMap<>();
+
+		private DispatchTable(int generation, Map<String, Map<Integer, List<MethodSignature>>> methods) {
+			this.generation = generation;
+			this.methods = methods;
+		}
+
+		/**
+		 * Yields the methods in this table having the given name and as many
+		 * parameters as the given types.
+		 *
+		 * @param name the name of the methods
+		 * @param formals the types of the parameters
+		 * @return the methods, defined in the class or inherited and not overridden
+		 */
+
+		private List<MethodSignature> candidates(String name, TypeList formals) {
+			Map<Integer, List<MethodSignature>> byArity = methods.get(name);
+			List<MethodSignature> result = byArity == null ? null : byArity.get(formals.getSize());
 
-			// we add the inherited and not overridden candidates
-			candidates.addAll(superCandidates);
+			return result == null ? Collections.<MethodSignature>emptyList() : result;
 		}
+	}
+
+	/**
+	 * Determines if a method is overridden by one of the given methods,
+	 * that is, if they have the same parameters types.
+	 *
+	 * @param method the method
+	 * @param others the given methods
+	 * @return true if and only if {@code method} is overridden by some of {@code others}
+	 */
+
+	private static boolean overridden(MethodSignature method, Set<MethodSignature> others) {
+		TypeList formals = method.getParameters();
 
-		// we return the most specific methods amongst those called name
-		// and whose formal parameters are compatible with formals
-		return mostSpecific(candidates, formals);
+		for (MethodSignature other: others)
+			if (other.getParameters().equals(formals))
+				return true;
+
+		return false;
 	}
 
 	/**
@@ -517,7 +766,7 @@ public final class ClassType extends ReferenceType {
 	 *         signatures in this subset are one more general than the other
 	 */
 
-	private static <T extends CodeSignature> Set<T> mostSpecific(Set<T> sigs, TypeList formals) {
+	private static <T extends CodeSignature> Set<T> mostSpecific(Collection<T> sigs, TypeList formals) {
 		Set<T> result = new HashSet<>();
 		Set<T> toBeRemoved = new HashSet<>();
 
@@ -554,12 +803,6 @@ public final class ClassType extends ReferenceType {
 		else
 			return new org.apache.bcel.generic.ObjectType(name.toString());
 	}
-	/**
-	 * A table which binds each symbol to its corresponding {@code KittenClassType}.
-	 * This lets us have a unique {@code KittenClassType} for a given name.
-	 */
-
-	private final static Map<String, ClassType> memory = new HashMap<>();
 
 	/**
 	 * Yields a class type with the given name. If a class type object named
@@ -569,18 +812,41 @@ public final class ClassType extends ReferenceType {
 	 * <tt>KittenClassType</tt> is returned, whose code has no fields nor
 	 * constructors nor methods.
 	 *
+	 * @param context the compilation the class belongs to
 	 * @param name the name of the class
 	 * @return the unique class type object for the class with the given name
+	 *         in the given compilation
 	 */
 
-	public static ClassType mk(String name) {
+	public static ClassType mk(CompilationContext context, String name) {
+		Map<String, ClassType> memory = context.classTypes;
 		ClassType result;
 
 		// we first check to see if we already built this class type
 		if ((result = memory.get(name)) != null)
 			return result;
-		else
-			return new ClassType(name);
+
+		synchronized (memory) {
+			// the class type might have been built in the meanwhile, or
+			// it might be under construction by this same thread
+			Map<String, ClassType> underConstruction = context.underConstruction;
+			if ((result = memory.get(name)) != null || (result = underConstruction.get(name)) != null)
+				return result;
+
+			boolean outermost = underConstruction.isEmpty();
+
+			try {
+				return new ClassType(context, name);
+			}
+			finally {
+				// the outermost construction also completes the
+				// construction of the class types that it referenced
+				if (outermost) {
+					memory.putAll(underConstruction);
+					underConstruction.clear();
+				}
+			}
+		}
 	}
 
 	/**
@@ -591,33 +857,24 @@ public final class ClassType extends ReferenceType {
 	 * type-checked fictitious <tt>KittenClassType</tt> is returned, whose code
 	 * contains no fields, nor constructors nor methods.
 	 *
+	 * @param context the compilation the class belongs to
 	 * @param fileName the name of the file of the class, including the
 	 *                 <tt>.kit</tt> termination
 	 * @return the unique Kitten class type object for the (type-checked)
 	 *         class with the given name
 	 */
 
-	public static ClassType mkFromFileName(String fileName) {
+	public static ClassType mkFromFileName(CompilationContext context, String fileName) {
 		if (fileName.endsWith(".kit"))
 			fileName = fileName.substring(0, fileName.length() - 4);
 
-		ClassType result = mk(fileName);
+		ClassType result = mk(context, fileName);
 
 		result.typeCheck();
 
 		return result;
 	}
 
-	/**
-	 * Yields {@code ClassType}'s that have been created so far.
-	 *
-	 * @return the types
-	 */
-
-	public final static Collection<ClassType> getAll() {
-		return memory.values();
-	}
-
 	/**
 	 * Yields the error reporting utility for this class.
 	 *
@@ -633,19 +890,29 @@ public final class ClassType extends ReferenceType {
 	 */
 
 	public void typeCheck() {
-		// this check is just to avoid repeated error messages
-		if (!typeChecked) {
+		// this check is just to avoid repeated error messages. It is
+		// synchronized since classes might be type-checked in parallel
+		synchronized (this) {
+			if (typeChecked)
+				return;
+
 			// we are going to type-check this class now
 			typeChecked = true;
+		}
 
-			// we type-check the abstract syntax of this class
+		// we type-check the abstract syntax of this class
+		Metrics.Measure measure = context.getMetrics().begin(Metrics.Phase.TYPE_CHECK, name);
+		try {
 			abstractSyntax.typeCheck(this);
-
-			// we continue by type-checking our superclass, if any
-			ClassType superclass = getSuperclass();
-			if (superclass != null)
-				superclass.typeCheck();
 		}
+		finally {
+			measure.end();
+		}
+
+		// we continue by type-checking our superclass, if any
+		ClassType superclass = getSuperclass();
+		if (superclass != null)
+			superclass.typeCheck();
 	}
 
 	/**
@@ -660,8 +927,61 @@ public final class ClassType extends ReferenceType {
 		return abstractSyntax.translate();
 	}
 
+	/**
+	 * Translates the given classes into a single program of intermediate Kitten
+	 * code. Its entry points are the {@code main} methods, the fixtures and the
+	 * tests of all those classes, so that code shared among them is translated
+	 * only once. It is assumed that the classes have been already type-checked.
+	 *
+	 * @param context the compilation the classes belong to
+	 * @param classes the classes
+	 * @return the program reachable from the entry points of {@code classes}.
+	 *         It starts at the first {@code main} method among them, if any
+	 */
+
+	public static Program translate(CompilationContext context, Collection<ClassType> classes) {
+		Set<ClassMemberSignature> done = new HashSet<>();
+		List<CodeSignature> entries = new ArrayList<>();
+		CodeSignature start = null;
+
+		for (ClassType clazz: classes) {
+			MethodSignature main = clazz.abstractSyntax.translateEntryPoints(done);
+			if (main != null) {
+				entries.add(main);
+				if (start == null)
+					start = main;
+			}
+
+			entries.addAll(clazz.fixturesLookup());
+			entries.addAll(clazz.getTests());
+		}
+
+		return new Program(context, done, start, entries);
+	}
+
+	/**
+	 * Writes a dot representation of the abstract syntax of this class
+	 * in a file named as this class (plus the trailing {@code .dot}).
+	 *
+	 * @throws IOException if the dot file cannot be created
+	 */
+
 	public void dumpDot() throws IOException {
-		try (FileWriter file = new FileWriter(name + ".dot")) {
+		dumpDot(null);
+	}
+
+	/**
+	 * Writes a dot representation of the abstract syntax of this class
+	 * in a file named as this class (plus the trailing {@code .dot}),
+	 * inside the given directory.
+	 *
+	 * @param dir the directory where the file must be written. If this is
+	 *            {@code null}, it is written in the current directory
+	 * @throws IOException if the dot file cannot be created
+	 */
+
+	public void dumpDot(File dir) throws IOException {
+		try (Writer file = new BufferedWriter(new FileWriter(new File(dir, name + ".dot")))) {
 			abstractSyntax.toDot(file);
 		}
 	}
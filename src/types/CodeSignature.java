@@ -2,6 +2,10 @@ package types;
 
 import javaBytecodeGenerator.JavaClassGenerator;
 
+import org.apache.bcel.Constants;
+import org.apache.bcel.generic.INVOKESPECIAL;
+import org.apache.bcel.generic.INVOKESTATIC;
+import org.apache.bcel.generic.INVOKEVIRTUAL;
 import org.apache.bcel.generic.InvokeInstruction;
 
 import translation.Block;
@@ -57,7 +61,8 @@ public abstract class CodeSignature extends ClassMemberSignature {
     	super(clazz,abstractSyntax);
 
     	this.parameters = parameters;
-    	this.name = name;
+    	// canonical in the context, so that names can be compared by identity
+    	this.name = clazz.getContext().getSymbols().intern(name);
     	this.returnType = returnType;
     }
 
@@ -186,13 +191,23 @@ public abstract class CodeSignature extends ClassMemberSignature {
      */
 
     protected InvokeInstruction createInvokeInstruction(JavaClassGenerator classGen, short invocationType) {
-    	// we use the instruction factory in order to put automatically inside
-    	// the constant pool a reference to the Java signature of this method or constructor
-    	return classGen.getFactory().createInvoke
+    	// we put inside the constant pool a reference to the Java signature of this
+    	// method or constructor. Differently from the instruction factory, we do not
+    	// recompute the descriptor of the parameters, which is cached in their list
+    	int index = classGen.getConstantPool().addMethodref
    			(getDefiningClass().toBCEL().toString(), // name of the class
-			getName().toString(), // name of the method or constructor
-			getReturnType().toBCEL(), // return type
-			getParameters().toBCEL(), // parameters types
-			invocationType); // the type of invocation (static, special, ecc.)
+			getName(), // name of the method or constructor
+			getParameters().getDescriptor() + getReturnType().toBCEL().getSignature()); // Java signature
+
+    	switch (invocationType) {
+    	case Constants.INVOKESPECIAL:
+    		return new INVOKESPECIAL(index);
+    	case Constants.INVOKESTATIC:
+    		return new INVOKESTATIC(index);
+    	case Constants.INVOKEVIRTUAL:
+    		return new INVOKEVIRTUAL(index);
+    	default:
+    		throw new IllegalArgumentException("unexpected invocation type " + invocationType);
+    	}
     }
 }
\ No newline at end of file
@@ -0,0 +1,308 @@
+package types;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lexical.LexerKind;
+import metrics.Metrics;
+import syntactical.ParserKind;
+import tables.Symbols;
+
+/**
+ * The state of a compilation. It holds the unique class and array types
+ * built for a program, the top of the hierarchy of its reference types and
+ * the directory where its source files are looked for. Different contexts
+ * share no state, hence independent compilations can run in parallel in the
+ * same virtual machine and all their data becomes garbage as soon as
+ * their context is no longer used.
+ */
+
+public final class CompilationContext {
+
+	/**
+	 * The directory where the source files of the classes are looked for.
+	 * If this is {@code null}, they are looked for in the current directory.
+	 */
+
+	private final File sourceDirectory;
+
+	/**
+	 * A table which binds each class name to its unique class type in this context.
+	 * It only contains completely constructed class types, so that it can
+	 * be read without synchronization.
+	 */
+
+	final Map<String, ClassType> classTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * The class types whose construction is in progress. Since the construction
+	 * of a class type constructs the class types it refers to, these
+	 * are made visible in {@link #classTypes} only when the outermost construction
+	 * completes. Accesses are guarded by the lock on {@link #classTypes}.
+	 */
+
+	final Map<String, ClassType> underConstruction = new HashMap<>();
+
+	/**
+	 * A map from elements type to the unique array type for that elements type.
+	 */
+
+	final ConcurrentMap<Type, ArrayType> arrayTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * The top of the hierarchy of the reference types.
+	 */
+
+	private volatile ClassType objectType;
+
+	/**
+	 * The scheduler that has parsed classes in parallel, if any. The
+	 * construction of a class type uses the abstract syntax computed by the
+	 * scheduler, if available, instead of parsing the class again.
+	 */
+
+	volatile ClassLoadingScheduler scheduler;
+
+	/**
+	 * The number of blocks of code created so far in this context.
+	 */
+
+	private final AtomicInteger blocks = new AtomicInteger();
+
+	/**
+	 * The number of methods added to the classes of this context so far.
+	 * The dispatch tables of the classes built before its last change are stale.
+	 */
+
+	private final AtomicInteger methodsGeneration = new AtomicInteger();
+
+	/**
+	 * The canonical names of the fields, constructors and methods of this context.
+	 */
+
+	private final Symbols symbols = new Symbols();
+
+	/**
+	 * The collector of the metrics of this compilation.
+	 */
+
+	private final Metrics metrics;
+
+	/**
+	 * True if and only if the bodies of the methods and constructors of the
+	 * classes that are not compiled explicitly are parsed lazily.
+	 */
+
+	private volatile boolean lazyBodies;
+
+	/**
+	 * The kind of lexical analyser used for the source files.
+	 */
+
+	private volatile LexerKind lexerKind = LexerKind.JLEX;
+
+	/**
+	 * The kind of syntactical analyser used for the source files.
+	 */
+
+	private volatile ParserKind parserKind = ParserKind.LALR;
+
+	/**
+	 * Builds a context whose source files are looked for in the current directory.
+	 */
+
+	public CompilationContext() {
+		this(null);
+	}
+
+	/**
+	 * Builds a context whose source files are looked for in the given directory.
+	 *
+	 * @param sourceDirectory the directory. If this is {@code null}, the
+	 *                        current directory is used
+	 */
+
+	public CompilationContext(File sourceDirectory) {
+		this(sourceDirectory, Metrics.DISABLED);
+	}
+
+	/**
+	 * Builds a context whose source files are looked for in the given directory
+	 * and whose phases are measured by the given collector.
+	 *
+	 * @param sourceDirectory the directory. If this is {@code null}, the
+	 *                        current directory is used
+	 * @param metrics the collector of the metrics of the compilation
+	 */
+
+	public CompilationContext(File sourceDirectory, Metrics metrics) {
+		this.sourceDirectory = sourceDirectory;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Yields the directory where the source files of the classes are looked for.
+	 *
+	 * @return the directory, or {@code null} for the current directory
+	 */
+
+	public File getSourceDirectory() {
+		return sourceDirectory;
+	}
+
+	/**
+	 * Yields the collector of the metrics of this compilation.
+	 *
+	 * @return the collector. This is {@link Metrics#DISABLED} if no
+	 *         metrics have been required
+	 */
+
+	public Metrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Yields the table of the canonical names of the fields, constructors
+	 * and methods of this compilation.
+	 *
+	 * @return the table
+	 */
+
+	public Symbols getSymbols() {
+		return symbols;
+	}
+
+	/**
+	 * Determines if the bodies of the methods and constructors of the classes
+	 * that are not compiled explicitly, but only referenced, are parsed and
+	 * type-checked only when they are translated.
+	 *
+	 * @return true if and only if those bodies are parsed lazily
+	 */
+
+	public boolean hasLazyBodies() {
+		return lazyBodies;
+	}
+
+	/**
+	 * Requires the bodies of the methods and constructors of the classes that
+	 * are not compiled explicitly, but only referenced, to be parsed and
+	 * type-checked only when they are translated. Errors inside the bodies
+	 * that are never translated are consequently not reported. This must
+	 * be called before loading any class.
+	 *
+	 * @param lazyBodies true if and only if those bodies must be parsed lazily
+	 */
+
+	public void setLazyBodies(boolean lazyBodies) {
+		this.lazyBodies = lazyBodies;
+	}
+
+	/**
+	 * Yields the kind of lexical analyser used for the source files.
+	 *
+	 * @return the kind. This is {@link LexerKind#JLEX} by default
+	 */
+
+	public LexerKind getLexerKind() {
+		return lexerKind;
+	}
+
+	/**
+	 * Sets the kind of lexical analyser used for the source files.
+	 * This must be called before loading any class.
+	 *
+	 * @param lexerKind the kind
+	 */
+
+	public void setLexerKind(LexerKind lexerKind) {
+		this.lexerKind = lexerKind;
+	}
+
+	/**
+	 * Yields the kind of syntactical analyser used for the source files.
+	 *
+	 * @return the kind. This is {@link ParserKind#LALR} by default
+	 */
+
+	public ParserKind getParserKind() {
+		return parserKind;
+	}
+
+	/**
+	 * Sets the kind of syntactical analyser used for the source files.
+	 * This must be called before loading any class.
+	 *
+	 * @param parserKind the kind
+	 */
+
+	public void setParserKind(ParserKind parserKind) {
+		this.parserKind = parserKind;
+	}
+
+	/**
+	 * Yields the top type of the hierarchy of the reference types.
+	 *
+	 * @return the class type for {@code Object}
+	 */
+
+	public ClassType getObjectType() {
+		ClassType result = objectType;
+		return result != null ? result : ClassType.mk(this, "Object");
+	}
+
+	/**
+	 * Sets the top type of the hierarchy of the reference types.
+	 *
+	 * @param objectType the class type for {@code Object}
+	 */
+
+	void setObjectType(ClassType objectType) {
+		this.objectType = objectType;
+	}
+
+	/**
+	 * Yields the class types that have been created so far in this context.
+	 *
+	 * @return the types
+	 */
+
+	public Collection<ClassType> getClassTypes() {
+		return classTypes.values();
+	}
+
+	/**
+	 * Yields a fresh identifier for a block of code of this compilation.
+	 *
+	 * @return the identifier
+	 */
+
+	public int nextBlockId() {
+		return blocks.getAndIncrement();
+	}
+
+	/**
+	 * Records that a method has been added to a class of this context,
+	 * so that the dispatch tables built so far become stale.
+	 */
+
+	void methodAdded() {
+		methodsGeneration.incrementAndGet();
+	}
+
+	/**
+	 * Yields the generation of the methods of the classes of this context.
+	 * It changes whenever a method is added to any of those classes.
+	 *
+	 * @return the generation
+	 */
+
+	int getMethodsGeneration() {
+		return methodsGeneration.get();
+	}
+}
@@ -42,7 +42,8 @@ public class FieldSignature extends ClassMemberSignature {
     	super(clazz,abstractSyntax);
 
     	this.type = type;
-    	this.name = name;
+    	// canonical in the context, so that names can be compared by identity
+    	this.name = clazz.getContext().getSymbols().intern(name);
     }
 
     @Override
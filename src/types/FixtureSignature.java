@@ -8,9 +8,9 @@ import translation.Block;
 import absyn.CodeDeclaration;
 
 public class FixtureSignature extends CodeSignature {
-	private static int fixcounter=0;
 	public FixtureSignature(ClassType clazz, CodeDeclaration abstractSyntax) {
-		super(clazz, VoidType.INSTANCE, TypeList.EMPTY.push(clazz), "FIXTURE"+fixcounter++, abstractSyntax);
+		// fixtures are numbered inside their class, in order of declaration
+		super(clazz, VoidType.INSTANCE, TypeList.EMPTY.push(clazz), "FIXTURE"+clazz.fixturesLookup().size(), abstractSyntax);
 		// TODO Auto-generated constructor stub
 	}
 
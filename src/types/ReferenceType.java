@@ -1,5 +1,8 @@
 package types;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.apache.bcel.generic.InstructionList;
 import org.apache.bcel.generic.InstructionHandle;
 
@@ -12,6 +15,14 @@ import org.apache.bcel.generic.InstructionHandle;
 
 public abstract class ReferenceType extends ComparableType {
 
+	/**
+	 * The hash-consed lists of types having this type as head, from their tail.
+	 * They are kept here, rather than in their tail, so that they are reclaimed
+	 * with the compilation this type belongs to.
+	 */
+
+	final ConcurrentMap<TypeList, TypeList> lists = new ConcurrentHashMap<>();
+
 	/**
 	 * Adds to {@code il} the Java bytecodes which go to {@code yes}
 	 * if the the top two elements of the stack are equal.
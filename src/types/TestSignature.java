@@ -2,6 +2,7 @@ package types;
 
 import org.apache.bcel.Constants;
 import org.apache.bcel.generic.MethodGen;
+import org.apache.bcel.generic.ObjectType;
 
 import bytecode.CONST;
 import bytecode.RETURN;
@@ -28,7 +29,7 @@ public class TestSignature extends CodeSignature {
 		
 		MethodGen methodGen = new MethodGen(Constants.ACC_PRIVATE
 				| Constants.ACC_STATIC, // public
-				ClassType.mk("String").toBCEL(), // return type
+				new ObjectType(runTime.String.class.getName()), // return type: the result of the test
 				this.getParameters().toBCEL(), // parameters types, if any
 				null, // parameters names: we do not care
 				getName(), // method's name
@@ -1,8 +1,16 @@
 package types;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * A list of stack Kitten types. It is assumed that each type
- * uses as many elements as its size.
+ * uses as many elements as its size. Lists of types are hash-consed:
+ * there is a single list for each sequence of types, so that they
+ * can be compared by identity, and their size, hash code and translation
+ * into BCEL are computed only once. The lists whose head is a reference type
+ * are kept in the head, so that they are reclaimed with its compilation.
+ * The others are kept in their tail.
  *
  * @author <A HREF="mailto:fausto.spoto@univr.it">Fausto Spoto</A>
  */
@@ -28,6 +36,39 @@ public class TypeList {
 
 	private final TypeList tail;
 
+	/**
+	 * The number of elements in this list.
+	 */
+
+	private final int size;
+
+	/**
+	 * The hash code of this list.
+	 */
+
+	private final int hash;
+
+	/**
+	 * The lists having this as tail and a head that is not a reference type,
+	 * from their head. This is {@code null} until the first such list is built.
+	 */
+
+	private volatile ConcurrentMap<Type, TypeList> extensions;
+
+	/**
+	 * The translation of this list into BCEL types. This is {@code null}
+	 * until it is first required.
+	 */
+
+	private volatile org.apache.bcel.generic.Type[] bcel;
+
+	/**
+	 * The descriptor of the parameters of a Java method having the types
+	 * in this list. This is {@code null} until it is first required.
+	 */
+
+	private volatile String descriptor;
+
 	/**
 	 * Builds a list of types.
 	 *
@@ -38,6 +79,46 @@ public class TypeList {
 	private TypeList(Type head, TypeList tail) {
 		this.head = head;
 		this.tail = tail;
+
+		if (tail == null) {
+			this.size = 0;
+			this.hash = 1;
+		}
+		else {
+			this.size = tail.size + 1;
+			// the identity hash codes of the types are well distributed
+			this.hash = 31 * tail.hash + head.hashCode();
+		}
+	}
+
+	/**
+	 * Yields the unique list having the given head and this as tail.
+	 *
+	 * @param head the head
+	 * @return the list
+	 */
+
+	private TypeList cons(Type head) {
+		TypeList result;
+
+		if (head instanceof ReferenceType) {
+			ConcurrentMap<TypeList, TypeList> lists = ((ReferenceType) head).lists;
+			if ((result = lists.get(this)) == null)
+				result = lists.computeIfAbsent(this, tail -> new TypeList(head, tail));
+		}
+		else {
+			ConcurrentMap<Type, TypeList> extensions = this.extensions;
+			if (extensions == null)
+				synchronized (this) {
+					if ((extensions = this.extensions) == null)
+						this.extensions = extensions = new ConcurrentHashMap<>();
+				}
+
+			if ((result = extensions.get(head)) == null)
+				result = extensions.computeIfAbsent(head, type -> new TypeList(type, this));
+		}
+
+		return result;
 	}
 
 	/**
@@ -82,6 +163,7 @@ public class TypeList {
 
 	/**
 	 * Determines if this list of type is equal to another.
+	 * Since lists are hash-consed, this is an identity check.
 	 *
 	 * @param other the other list of types
 	 * @return true if and only if this list of type is the same as {@code other}
@@ -89,38 +171,12 @@ public class TypeList {
 
 	@Override
 	public boolean equals(Object other) {
-		if (!(other instanceof TypeList))
-			return false;
-
-		TypeList otherTL = (TypeList) other, cursor = this;
-		while (cursor != EMPTY && otherTL != EMPTY)
-			if (cursor.head != otherTL.head)
-				return false;
-			else {
-				cursor = cursor.tail;
-				otherTL = otherTL.tail;
-			}
-
-		// trailing unused elements do not affect the equality
-		while (cursor != null && cursor.head == UnusedType.INSTANCE)
-			cursor = cursor.tail;
-		while (otherTL != null && otherTL.head == UnusedType.INSTANCE)
-			otherTL = otherTL.tail;
-
-		return cursor == otherTL;
+		return this == other;
 	}
 
 	@Override
 	public int hashCode() {
-		TypeList cursor = this;
-		Type t;
-		int code = 0;
-
-		for (int i = 0; cursor != EMPTY; cursor = cursor.tail, i++)
-			if ((t = cursor.head) != UnusedType.INSTANCE)
-				code += (t.hashCode() << i);
-
-		return code;
+		return hash;
 	}
 
 	/**
@@ -131,11 +187,7 @@ public class TypeList {
 	 */
 
 	public int getSize() {
-		int s = 0;
-		for (TypeList cursor = this; cursor != EMPTY; cursor = cursor.tail)
-			s++;
-
-		return s;
+		return size;
 	}
 
 	/**
@@ -211,7 +263,7 @@ public class TypeList {
 
 		int s = type.getSize();
 		while (s-- > 0)
-			result = new TypeList(type,result);
+			result = result.cons(type);
 
 		return result;
 	}
@@ -231,12 +283,17 @@ public class TypeList {
 	}
 
 	/**
-	 * Converts this list of types into an array of BCEL types.
+	 * Converts this list of types into an array of BCEL types. The array
+	 * is computed once and shared, hence it must not be modified.
 	 *
 	 * @return an array of BCEL types corresponding to this list of Kitten types
 	 */
 
 	public org.apache.bcel.generic.Type[] toBCEL() {
+		org.apache.bcel.generic.Type[] result = bcel;
+		if (result != null)
+			return result;
+
 		TypeList cursor;
 		int pos;
 
@@ -244,7 +301,7 @@ public class TypeList {
 		for (pos = 0, cursor = this; cursor != TypeList.EMPTY; pos++)
 			cursor = cursor.pop(cursor.head);
 
-		org.apache.bcel.generic.Type[] result = new org.apache.bcel.generic.Type[pos];
+		result = new org.apache.bcel.generic.Type[pos];
 
 		// then we translate each of them into the corresponding BCEL type
 		for (pos = 0, cursor = this; cursor != TypeList.EMPTY; pos++) {
@@ -252,6 +309,25 @@ public class TypeList {
 			cursor = cursor.pop(cursor.head);
 		}
 
-		return result;
+		return bcel = result;
+	}
+
+	/**
+	 * Yields the descriptor of the parameters of a Java method having the
+	 * types in this list, such as {@code (ILjava/lang/Object;)}.
+	 *
+	 * @return the descriptor, including the parentheses
+	 */
+
+	public String getDescriptor() {
+		String result = descriptor;
+		if (result != null)
+			return result;
+
+		StringBuilder sb = new StringBuilder("(");
+		for (org.apache.bcel.generic.Type type: toBCEL())
+			sb.append(type.getSignature());
+
+		return descriptor = sb.append(')').toString();
 	}
-}
\ No newline at end of file
+}